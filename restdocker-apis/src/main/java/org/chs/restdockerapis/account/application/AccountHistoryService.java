@@ -1,24 +1,24 @@
 package org.chs.restdockerapis.account.application;
 
 import lombok.RequiredArgsConstructor;
-import org.chs.domain.account.AccountLoginHistoryRepository;
-import org.chs.domain.account.AccountLogoutHistoryRepository;
 import org.chs.domain.account.entity.AccountLoginHistoryEntity;
 import org.chs.domain.account.entity.AccountLogoutHistoryEntity;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 히스토리는 AccountHistoryWriter 가 별도의 스레드에서 모아서 저장하므로 요청 스레드에서는 SQL 을 실행하지 않는다.
+ * 저장 스레드에는 SecurityContext 가 없으므로 created_by 는 요청 스레드에서 미리 채운다.
+ */
 @Service
 @RequiredArgsConstructor
 public class AccountHistoryService {
 
-    private final AccountLoginHistoryRepository accountLoginHistoryRepository;
-    private final AccountLogoutHistoryRepository accountLogoutHistoryRepository;
+    private final AccountHistoryWriter accountHistoryWriter;
+    private final AuditorAware<String> auditorAware;
 
-    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void saveLoginHistory(String createdBy, String ipAddress, boolean failure, String failureReason) {
-        accountLoginHistoryRepository.save(
+        accountHistoryWriter.enqueue(
                 AccountLoginHistoryEntity.builder()
                         .createdBy(failure ? "NON_JOIN_USER" : createdBy)
                         .ipAddress(ipAddress)
@@ -28,10 +28,10 @@ public class AccountHistoryService {
         );
     }
 
-    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void saveLogoutHistory(String ipAddress, boolean failure, String failureReason) {
-        accountLogoutHistoryRepository.save(
+        accountHistoryWriter.enqueue(
                 AccountLogoutHistoryEntity.builder()
+                        .createdBy(auditorAware.getCurrentAuditor().orElse(null))
                         .ipAddress(ipAddress)
                         .failure(failure)
                         .failureReason(failureReason)
@@ -0,0 +1,216 @@
+package org.chs.restdockerapis.account.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.chs.domain.account.AccountLoginHistoryRepository;
+import org.chs.domain.account.AccountLogoutHistoryRepository;
+import org.chs.domain.account.entity.AccountLoginHistoryEntity;
+import org.chs.domain.account.entity.AccountLogoutHistoryEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그인, 로그아웃 히스토리를 요청 스레드가 아닌 별도의 스레드에서 모아서 저장한다.
+ *
+ * 1. 요청 스레드는 엔티티를 크기가 제한된 Queue 에 넣기만 하고 바로 반환한다.
+ * 2. Queue 가 가득 차면 히스토리를 버린다. (히스토리 저장이 메인 로직의 지연이나 실패로 이어지면 안 됨)
+ * 3. 저장 스레드는 batchSize 개가 모이거나 첫 히스토리가 들어온 뒤 flushInterval 이 지나면 하나의 트랜잭션으로 저장한다.
+ * 4. 애플리케이션 종료 시 Queue 에 남은 히스토리를 모두 저장한 뒤 종료한다.
+ *
+ * 저장 스레드는 spring.threads.virtual.enabled 가 켜져 있고 JDK 21 이상이라면 가상 스레드로 실행된다.
+ */
+@Slf4j
+@Component
+public class AccountHistoryWriter implements SmartLifecycle {
+
+    private final AccountLoginHistoryRepository accountLoginHistoryRepository;
+    private final AccountLogoutHistoryRepository accountLogoutHistoryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final BlockingQueue<Object> histories;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private final SimpleAsyncTaskExecutor writerExecutor;
+
+    private volatile boolean running = false;
+    private CountDownLatch writerTerminated;
+
+    public AccountHistoryWriter(
+            AccountLoginHistoryRepository accountLoginHistoryRepository,
+            AccountLogoutHistoryRepository accountLogoutHistoryRepository,
+            PlatformTransactionManager transactionManager,
+            Environment environment,
+            @Value("${restdocker.history.queue-capacity:10000}") int queueCapacity,
+            @Value("${restdocker.history.batch-size:100}") int batchSize,
+            @Value("${restdocker.history.flush-interval-millis:200}") long flushIntervalMillis
+    ) {
+        this.accountLoginHistoryRepository = accountLoginHistoryRepository;
+        this.accountLogoutHistoryRepository = accountLogoutHistoryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.histories = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = Duration.ofMillis(flushIntervalMillis).toNanos();
+
+        this.writerExecutor = new SimpleAsyncTaskExecutor("account-history-writer-");
+        this.writerExecutor.setDaemon(true);
+        this.writerExecutor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+    }
+
+    /** @return Queue 가 가득 차서 히스토리를 버렸다면 false */
+    public boolean enqueue(AccountLoginHistoryEntity loginHistory) {
+        return offer(loginHistory);
+    }
+
+    /** @return Queue 가 가득 차서 히스토리를 버렸다면 false */
+    public boolean enqueue(AccountLogoutHistoryEntity logoutHistory) {
+        return offer(logoutHistory);
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+
+        running = true;
+        CountDownLatch terminated = new CountDownLatch(1);
+        writerTerminated = terminated;
+        writerExecutor.execute(() -> {
+            try {
+                writeLoop();
+            } finally {
+                terminated.countDown();
+            }
+        });
+    }
+
+    @Override
+    public void stop() {
+        CountDownLatch terminated;
+        synchronized (this) {
+            if (false == running) {
+                return;
+            }
+            running = false;
+            terminated = writerTerminated;
+        }
+
+        try {
+            // 저장 스레드는 Queue 가 빌 때까지 저장한 뒤 종료된다.
+            terminated.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private boolean offer(Object history) {
+        if (histories.offer(history)) {
+            return true;
+        }
+
+        long dropped = droppedCount.incrementAndGet();
+        if (1 == dropped || 0 == dropped % 1000) {
+            log.warn("account history queue is full, dropped histories : {}", dropped);
+        }
+        return false;
+    }
+
+    private void writeLoop() {
+        List<Object> batch = new ArrayList<>(batchSize);
+
+        while (running || false == histories.isEmpty()) {
+            try {
+                collectBatch(batch);
+            } catch (InterruptedException exception) {
+                running = false;
+            }
+
+            if (false == batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void collectBatch(List<Object> batch) throws InterruptedException {
+        Object first = histories.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+        if (null == first) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            histories.drainTo(batch, batchSize - batch.size());
+
+            long remainingNanos = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remainingNanos <= 0 || false == running) {
+                return;
+            }
+
+            Object next = histories.poll(remainingNanos, TimeUnit.NANOSECONDS);
+            if (null == next) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * 로그인, 로그아웃 히스토리를 나누어 하나의 트랜잭션에서 saveAll 한다. (JDBC Batch 로 종류마다 INSERT 1번)
+     * 저장 스레드가 호출하며, Statement 수 테스트에서는 요청 스레드에서 직접 호출한다.
+     */
+    public void flush(List<Object> batch) {
+        List<AccountLoginHistoryEntity> loginHistories = new ArrayList<>();
+        List<AccountLogoutHistoryEntity> logoutHistories = new ArrayList<>();
+
+        for (Object history : batch) {
+            if (history instanceof AccountLoginHistoryEntity loginHistory) {
+                loginHistories.add(loginHistory);
+            }
+            else if (history instanceof AccountLogoutHistoryEntity logoutHistory) {
+                logoutHistories.add(logoutHistory);
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (false == loginHistories.isEmpty()) {
+                    accountLoginHistoryRepository.saveAll(loginHistories);
+                }
+                if (false == logoutHistories.isEmpty()) {
+                    accountLogoutHistoryRepository.saveAll(logoutHistories);
+                }
+            });
+        } catch (Exception exception) {
+            // 히스토리 저장 실패는 메인 로직과 무관하므로 해당 Batch 만 버리고 계속 저장한다.
+            log.warn("failed to save account histories, dropped : {}", batch.size(), exception);
+        }
+    }
+}
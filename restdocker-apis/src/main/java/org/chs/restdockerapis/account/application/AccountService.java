@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.chs.domain.account.AccountRepository;
 import org.chs.domain.account.entity.AccountEntity;
+import org.chs.domain.common.cache.AccountStateCache;
 import org.chs.domain.common.enumerate.ThirdPartyEnum;
 import org.chs.domain.network.NetworkEntityRepository;
 import org.chs.domain.network.dto.NetworkDetailElements;
@@ -19,6 +20,7 @@ import org.chs.restdockerapis.account.util.kakao.KakaoOAuthUtils;
 import org.chs.restdockerapis.account.util.naver.NaverOAuthUtils;
 import org.chs.restdockerapis.common.argument_resolver.dto.GetRequesterDto;
 import org.chs.restdockerapis.common.exception.*;
+import org.chs.restdockerapis.common.jwt.principal.AccountPrincipalCache;
 import org.chs.restdockerapis.network.application.properties.DockerZeroProperties;
 import org.chs.tokenissuer.application.TokenIssuerService;
 import org.chs.tokenissuer.common.properties.JwtProperties;
@@ -45,6 +47,8 @@ public class AccountService {
 
     private final AccountRepository accountRepository;
     private final NetworkEntityRepository dockerNetworkRepository;
+    private final AccountStateCache accountStateCache;
+    private final AccountPrincipalCache accountPrincipalCache;
 
     private final String LOG_FORMAT_INFO_HISTORY = "\n[🔵INFO] - {}\n {}: {}";
 
@@ -75,6 +79,7 @@ public class AccountService {
         account.setMyServiceToken(oAuthLoginResponse.accessToken(), oAuthLoginResponse.refreshToken());
 
         this.accountRepository.save(account);
+        this.accountPrincipalCache.evict(account.getOauthServiceId(), account.getThirdPartyType());
         this.saveLoginHistoryWithExceptionHandling(account.getOauthServiceId(), ipAddress, false, null);
 
         this.createDockerZero(account);
@@ -103,7 +108,7 @@ public class AccountService {
 
             ErrorCode exceptionCause = ErrorCode.JWT_ISSUE_EXCEPTION;
             this.saveLoginHistoryWithExceptionHandling(null, ipAddress, true, exceptionCause.getDescription());
-            throw new CustomTokenException(exceptionCause);
+            throw CustomTokenException.of(exceptionCause);
         }
     }
 
@@ -128,10 +133,11 @@ public class AccountService {
 
         // 로그아웃 시, accessToken 과 refreshToken을 사용할 수 없게 만듬
         AccountEntity account = accountRepository.findByOauthServiceIdEqualsAndThirdPartyTypeEquals(requesterInfo.id(), ThirdPartyEnum.KAKAO)
-                .orElseThrow(() -> new CustomTokenException(ErrorCode.ACCOUNT_NOT_EXIST_OAUTH_ID_EXCEPTION));
+                .orElseThrow(() -> CustomTokenException.of(ErrorCode.ACCOUNT_NOT_EXIST_OAUTH_ID_EXCEPTION));
 
         account.eliminateValidToken();
         this.accountRepository.save(account);
+        this.accountPrincipalCache.evict(account.getOauthServiceId(), account.getThirdPartyType());
         this.saveLogoutHistoryWithExceptionHandling(requesterInfo.ipAddress(), false, null);
 
         return GenericSingleResponse.<Boolean>builder()
@@ -174,6 +180,7 @@ public class AccountService {
         account.setMyServiceToken(oAuthLoginResponse.accessToken(), oAuthLoginResponse.refreshToken());
 
         this.accountRepository.save(account);
+        this.accountPrincipalCache.evict(account.getOauthServiceId(), account.getThirdPartyType());
         this.saveLoginHistoryWithExceptionHandling(account.getOauthServiceId(), ipAddress, false,null);
 
         this.createDockerZero(account);
@@ -198,7 +205,7 @@ public class AccountService {
 
             ErrorCode exceptionCause = ErrorCode.JWT_ISSUE_EXCEPTION;
             this.saveLoginHistoryWithExceptionHandling(null, ipAddress, true, exceptionCause.getDescription());
-            throw new CustomTokenException(exceptionCause);
+            throw CustomTokenException.of(exceptionCause);
         }
     }
 
@@ -223,10 +230,11 @@ public class AccountService {
 
         // 로그아웃 시, accessToken 과 refreshToken을 사용할 수 없게 만듬
         AccountEntity account = accountRepository.findByOauthServiceIdEqualsAndThirdPartyTypeEquals(requesterInfo.id(), ThirdPartyEnum.NAVER)
-                .orElseThrow(() -> new CustomTokenException(ErrorCode.ACCOUNT_NOT_EXIST_OAUTH_ID_EXCEPTION));
+                .orElseThrow(() -> CustomTokenException.of(ErrorCode.ACCOUNT_NOT_EXIST_OAUTH_ID_EXCEPTION));
 
         account.eliminateValidToken();
         accountRepository.save(account);
+        accountPrincipalCache.evict(account.getOauthServiceId(), account.getThirdPartyType());
         this.saveLogoutHistoryWithExceptionHandling(requesterInfo.ipAddress(), false, null);
 
         return GenericSingleResponse.<Boolean>builder()
@@ -297,6 +305,7 @@ public class AccountService {
      * @param request refreshToken : RestDocker 서버가 발급한 RefreshToken
      * @return accessToken : RestDocker 서버가 재발급해준 AccessToken
      */
+    @Transactional(rollbackFor = RestDockerException.class)
     public ReIssueTokenResponse reIssueToken(ReIssueTokenRequest request) {
         Map<String, Claim> tokenClaims = tokenIssuerService.verifyRefreshToken(request.refreshToken());
         AccountEntity verifiedAccount = verifiedTokenClaims(tokenClaims, request.refreshToken());
@@ -310,6 +319,7 @@ public class AccountService {
 
         verifiedAccount.reIssueAccessToken(reIssueAccessToken);
         accountRepository.save(verifiedAccount);
+        accountPrincipalCache.evict(verifiedAccount.getOauthServiceId(), verifiedAccount.getThirdPartyType());
 
         return ReIssueTokenResponse.builder()
                 .accessToken(reIssueAccessToken)
@@ -320,17 +330,17 @@ public class AccountService {
         String oauthServiceId = tokenClaims.get("oauthServiceId").asString();
         String thirdPartyType = tokenClaims.get("thirdPartyType").asString();
         if (null == oauthServiceId || null == thirdPartyType) {
-            throw new CustomTokenException(ErrorCode.ACCOUNT_NOT_EXIST_OAUTH_ID_EXCEPTION);
+            throw CustomTokenException.of(ErrorCode.ACCOUNT_NOT_EXIST_OAUTH_ID_EXCEPTION);
         }
 
         Optional<AccountEntity> optionalAccount = accountRepository.findByOauthServiceIdEqualsAndThirdPartyTypeEquals(oauthServiceId, ThirdPartyEnum.valueOf(thirdPartyType));
         if (false == optionalAccount.isPresent()) {
-            throw new CustomTokenException(ErrorCode.ACCOUNT_NOT_EXIST_OAUTH_ID_EXCEPTION);
+            throw CustomTokenException.of(ErrorCode.ACCOUNT_NOT_EXIST_OAUTH_ID_EXCEPTION);
         }
 
         AccountEntity verifiedAccount = optionalAccount.get();
         if (false == verifiedAccount.getRefreshToken().equals(requestRefreshToken)) {
-            throw new CustomTokenException(ErrorCode.REFRESH_TOKEN_NOT_MATCH_INFO_EXCEPTION);
+            throw CustomTokenException.of(ErrorCode.REFRESH_TOKEN_NOT_MATCH_INFO_EXCEPTION);
         }
 
         return verifiedAccount;
@@ -350,6 +360,7 @@ public class AccountService {
                             .enableIcc(DockerZeroProperties.ICC)
                             .build()
             );
+            accountStateCache.invalidate(account.getOauthServiceId());
         }
     }
 
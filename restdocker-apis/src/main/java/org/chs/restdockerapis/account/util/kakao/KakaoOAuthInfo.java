@@ -17,15 +17,18 @@ public class KakaoOAuthInfo {
     @Value("${oauth2.kakao.client-secret}")
     private String CLIENT_SECRET;
 
-    private String ACCESS_TOKEN_URI = "https://kauth.kakao.com/oauth/token";
+    @Value("${oauth2.kakao.access-token-uri:https://kauth.kakao.com/oauth/token}")
+    private String ACCESS_TOKEN_URI;
 
     private String AUTHORIZATION_GRANT_TYPE = "authorization_code";
 
     private String REDIRECT_URI = "https://play-with-docker-frontend.vercel.app/auth/kakao/callback";
 
-    private String ACCOUNT_INFO_URI = "https://kapi.kakao.com/v2/user/me";
+    @Value("${oauth2.kakao.account-info-uri:https://kapi.kakao.com/v2/user/me}")
+    private String ACCOUNT_INFO_URI;
 
-    private String TOKEN_REMOVE_URI = "https://kapi.kakao.com/v1/user/logout";
+    @Value("${oauth2.kakao.token-remove-uri:https://kapi.kakao.com/v1/user/logout}")
+    private String TOKEN_REMOVE_URI;
 
     private String LOGOUT_TARGET_ID_TYPE = "user_id";
 }
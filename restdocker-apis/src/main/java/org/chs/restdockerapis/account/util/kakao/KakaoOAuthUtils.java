@@ -60,9 +60,9 @@ public class KakaoOAuthUtils {
             return !Objects.isNull(jsonNode.get("id").asText());
 
         } catch (NullPointerException e){
-            throw new CustomBadRequestException(ErrorCode.NULL_POINT_EXCEPTION);
+            throw CustomBadRequestException.of(ErrorCode.NULL_POINT_EXCEPTION);
         } catch (HttpClientErrorException e) {
-            throw new CustomBadRequestException(ErrorCode.THIRD_PARTY_CLIENT_EXCEPTION);
+            throw CustomBadRequestException.of(ErrorCode.THIRD_PARTY_CLIENT_EXCEPTION);
         } catch (JsonMappingException e) {
             throw new InternalServerException(ErrorCode.JSON_MAPPING_EXCEPTION);
         } catch (JsonProcessingException e) {
@@ -97,9 +97,9 @@ public class KakaoOAuthUtils {
                     .refreshToken(jsonNode.get("refresh_token").asText())
                     .build();
         } catch (NullPointerException e){
-            throw new CustomBadRequestException(ErrorCode.NULL_POINT_EXCEPTION);
+            throw CustomBadRequestException.of(ErrorCode.NULL_POINT_EXCEPTION);
         } catch (HttpClientErrorException e) {
-            throw new CustomBadRequestException(ErrorCode.THIRD_PARTY_CLIENT_EXCEPTION);
+            throw CustomBadRequestException.of(ErrorCode.THIRD_PARTY_CLIENT_EXCEPTION);
         } catch (JsonMappingException e) {
             throw new InternalServerException(ErrorCode.JSON_MAPPING_EXCEPTION);
         } catch (JsonProcessingException e) {
@@ -131,9 +131,9 @@ public class KakaoOAuthUtils {
                     .build();
 
         } catch (NullPointerException e){
-            throw new CustomBadRequestException(ErrorCode.NULL_POINT_EXCEPTION);
+            throw CustomBadRequestException.of(ErrorCode.NULL_POINT_EXCEPTION);
         } catch (HttpClientErrorException e) {
-            throw new CustomBadRequestException(ErrorCode.THIRD_PARTY_CLIENT_EXCEPTION);
+            throw CustomBadRequestException.of(ErrorCode.THIRD_PARTY_CLIENT_EXCEPTION);
         } catch (JsonMappingException e) {
             throw new InternalServerException(ErrorCode.JSON_MAPPING_EXCEPTION);
         } catch (JsonProcessingException e) {
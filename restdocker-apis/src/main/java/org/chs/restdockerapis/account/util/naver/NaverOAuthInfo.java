@@ -19,7 +19,8 @@ public class NaverOAuthInfo {
 
     private String REDIRECT_URI = "https://restdocker.site/login/oauth2/code/naver";
 
-    private String ACCESS_TOKEN_URI = "https://nid.naver.com/oauth2.0/token";
+    @Value("${oauth2.naver.access-token-uri:https://nid.naver.com/oauth2.0/token}")
+    private String ACCESS_TOKEN_URI;
 
     private String AUTHORIZATION_GRANT_TYPE_ISSUE = "authorization_code";
 
@@ -27,7 +28,9 @@ public class NaverOAuthInfo {
 
     private String AUTHORIZATION_GRANT_TYPE_DELETE = "delete";
 
-    private String ACCOUNT_INFO_URI = "https://openapi.naver.com/v1/nid/me";
+    @Value("${oauth2.naver.account-info-uri:https://openapi.naver.com/v1/nid/me}")
+    private String ACCOUNT_INFO_URI;
 
-    private String TOKEN_REMOVE_URI = "https://nid.naver.com/oauth2.0/token";
+    @Value("${oauth2.naver.token-remove-uri:https://nid.naver.com/oauth2.0/token}")
+    private String TOKEN_REMOVE_URI;
 }
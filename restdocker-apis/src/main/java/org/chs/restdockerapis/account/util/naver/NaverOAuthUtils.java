@@ -62,9 +62,9 @@ public class NaverOAuthUtils {
             JsonNode jsonNode = objectMapper.readTree(response.getBody());
             return jsonNode.get("result").asText().equals("success");
         } catch (NullPointerException e){
-            throw new CustomBadRequestException(ErrorCode.NULL_POINT_EXCEPTION);
+            throw CustomBadRequestException.of(ErrorCode.NULL_POINT_EXCEPTION);
         } catch (HttpClientErrorException e) {
-            throw new CustomBadRequestException(ErrorCode.THIRD_PARTY_CLIENT_EXCEPTION);
+            throw CustomBadRequestException.of(ErrorCode.THIRD_PARTY_CLIENT_EXCEPTION);
         } catch (JsonMappingException e) {
             throw new InternalServerException(ErrorCode.JSON_MAPPING_EXCEPTION);
         } catch (JsonProcessingException e) {
@@ -100,9 +100,9 @@ public class NaverOAuthUtils {
                     .refreshToken(jsonNode.get("refresh_token").asText())
                     .build();
         } catch (NullPointerException e){
-            throw new CustomBadRequestException(ErrorCode.NULL_POINT_EXCEPTION);
+            throw CustomBadRequestException.of(ErrorCode.NULL_POINT_EXCEPTION);
         } catch (HttpClientErrorException e) {
-            throw new CustomBadRequestException(ErrorCode.THIRD_PARTY_CLIENT_EXCEPTION);
+            throw CustomBadRequestException.of(ErrorCode.THIRD_PARTY_CLIENT_EXCEPTION);
         } catch (JsonMappingException e) {
             throw new InternalServerException(ErrorCode.JSON_MAPPING_EXCEPTION);
         } catch (JsonProcessingException e) {
@@ -134,9 +134,9 @@ public class NaverOAuthUtils {
                     .build();
 
         } catch (NullPointerException e){
-            throw new CustomBadRequestException(ErrorCode.NULL_POINT_EXCEPTION);
+            throw CustomBadRequestException.of(ErrorCode.NULL_POINT_EXCEPTION);
         } catch (HttpClientErrorException e) {
-            throw new CustomBadRequestException(ErrorCode.THIRD_PARTY_CLIENT_EXCEPTION);
+            throw CustomBadRequestException.of(ErrorCode.THIRD_PARTY_CLIENT_EXCEPTION);
         } catch (JsonMappingException e) {
             throw new InternalServerException(ErrorCode.JSON_MAPPING_EXCEPTION);
         } catch (JsonProcessingException e) {
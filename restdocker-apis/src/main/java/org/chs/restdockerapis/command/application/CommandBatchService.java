@@ -0,0 +1,169 @@
+package org.chs.restdockerapis.command.application;
+
+import lombok.RequiredArgsConstructor;
+import org.chs.restdockerapis.command.enumerate.SubCommandEnum;
+import org.chs.restdockerapis.command.presentation.dto.*;
+import org.chs.restdockerapis.common.aop.annotation.AccountLock;
+import org.chs.restdockerapis.common.argument_resolver.dto.GetRequesterDto;
+import org.chs.restdockerapis.common.exception.CustomBadRequestException;
+import org.chs.restdockerapis.common.exception.ErrorCode;
+import org.chs.restdockerapis.common.exception.RestDockerException;
+import org.chs.restdockerapis.common.metrics.RestDockerMetrics;
+import org.chs.restdockerapis.common.util.BatchLookupCache;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class CommandBatchService {
+
+    private final CommandService commandService;
+    private final CommandExecuteService commandExecuteService;
+
+    private final BatchLookupCache batchLookupCache;
+    private final RestDockerMetrics restDockerMetrics;
+
+    /**
+     * 예상 요청 : 명령어 목록(commands) 또는 줄바꿈으로 구분된 스크립트(script)
+     *
+     * 참고사항 :
+     *          모든 명령어는 순서대로 하나의 트랜잭션 안에서 실행된다.
+     *          continueOnError 가 false(기본값) 라면 처음 실패한 명령어에서 멈춘다.
+     *          continueOnError 가 true 라면 실패한 명령어를 기록하고 나머지 명령어를 계속 실행한다.
+     *          하나라도 실패한 명령어가 있다면 배치 전체가 롤백된다. (committed = false)
+     *          스크립트의 빈 줄과 # 으로 시작하는 줄은 무시한다.
+     *          배치 안에서 반복되는 사용자 조회, 컨테이너 목록 조회는 BatchLookupCache 로 공유한다.
+     *          배치가 커밋될 때까지 같은 사용자의 다른 생성 명령어, 배치는 기다린다. (AccountLock)
+     *
+     * @param requesterInfo 사용자 기본 정보 (IP, OAuthServiceId, AccessToken, RefreshToken, ThirdPartyEnum)
+     * @param request 실행할 명령어 목록 또는 스크립트와 실패 시 계속 진행 여부
+     * @return 명령어별 실행 결과와 커밋 여부
+     */
+    @Transactional
+    @AccountLock
+    public CommandBatchResponseDto executeBatch(GetRequesterDto requesterInfo, CommandBatchRequestDto request) {
+        List<String> commands = extractCommands(request);
+        boolean continueOnError = Boolean.TRUE.equals(request.continueOnError());
+
+        List<CommandBatchStepResultDto> results = batchLookupCache.runInBatch(
+                () -> executeSteps(requesterInfo, commands, continueOnError)
+        );
+
+        boolean committed = results.stream().allMatch(CommandBatchStepResultDto::success);
+        if (false == committed && TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+        }
+
+        return CommandBatchResponseDto.builder()
+                .committed(committed)
+                .results(results)
+                .build();
+    }
+
+    private List<String> extractCommands(CommandBatchRequestDto request) {
+        boolean existCommands = null != request.commands() && false == request.commands().isEmpty();
+        boolean existScript = null != request.script() && false == request.script().isBlank();
+
+        if (existCommands == existScript) {
+            throw CustomBadRequestException.of(ErrorCode.BATCH_NEED_COMMANDS_OR_SCRIPT);
+        }
+
+        List<String> commands = existCommands ? request.commands() : splitScript(request.script());
+        if (commands.isEmpty()) {
+            throw CustomBadRequestException.of(ErrorCode.BATCH_NEED_COMMANDS_OR_SCRIPT);
+        }
+        if (CommandBatchRequestDto.MAX_COMMANDS < commands.size()) {
+            throw CustomBadRequestException.of(ErrorCode.BATCH_TOO_MANY_COMMANDS);
+        }
+
+        return commands;
+    }
+
+    private List<String> splitScript(String script) {
+        List<String> commands = new ArrayList<>();
+
+        for (String line : script.split("\\R")) {
+            String command = line.strip();
+            if (command.isEmpty() || command.startsWith("#")) {
+                continue;
+            }
+            commands.add(command);
+        }
+
+        return commands;
+    }
+
+    private List<CommandBatchStepResultDto> executeSteps(GetRequesterDto requesterInfo, List<String> commands, boolean continueOnError) {
+        List<CommandBatchStepResultDto> results = new ArrayList<>(commands.size());
+
+        for (int index = 0; index < commands.size(); index++) {
+            String command = commands.get(index);
+
+            try {
+                SeparateRequestDto separatedCommand = commandService.separateCommand(
+                        CommandAnalysisRequestDto.builder().command(command).build()
+                );
+                String url = commandService.separateApi(
+                        separatedCommand.getMainCommand(),
+                        separatedCommand.getSubCommand(),
+                        separatedCommand.getArgCommand()
+                ).url();
+
+                Object result = commandExecuteService.dispatch(requesterInfo, separatedCommand);
+
+                // 상태를 바꾸는 명령어 이후의 ps, inspect 는 변경된 컨테이너 목록을 다시 조회해야 함
+                if (false == isReadOnly(separatedCommand.getSubCommand())) {
+                    batchLookupCache.evict(BatchLookupCache.CONTAINER_LIST);
+                }
+
+                results.add(CommandBatchStepResultDto.builder()
+                        .index(index)
+                        .command(command)
+                        .url(url)
+                        .success(true)
+                        .result(result)
+                        .build());
+            } catch (RestDockerException exception) {
+                results.add(failedStep(index, command, exception.getErrorCode(), exception.getErrorCode().getDescription()));
+
+                if (false == continueOnError) {
+                    break;
+                }
+            } catch (IllegalArgumentException | InvalidDataAccessApiUsageException exception) {
+                // Repository 의 인자 검증(ex. docker pull a:b:c) 실패는 GlobalExceptionHandler 와 같이 잘못된 요청으로 기록한다
+                Throwable cause = null == exception.getCause() ? exception : exception.getCause();
+                results.add(failedStep(index, command, ErrorCode.COMMON_BAD_REQUEST_ERROR_EXCEPTION, cause.getMessage()));
+
+                if (false == continueOnError) {
+                    break;
+                }
+            }
+        }
+
+        return results;
+    }
+
+    private CommandBatchStepResultDto failedStep(int index, String command, ErrorCode errorCode, String description) {
+        batchLookupCache.evict(BatchLookupCache.CONTAINER_LIST);
+        // 실패한 명령어는 GlobalExceptionHandler 를 거치지 않으므로 여기서 에러 지표를 기록한다
+        restDockerMetrics.countError(errorCode);
+
+        return CommandBatchStepResultDto.builder()
+                .index(index)
+                .command(command)
+                .success(false)
+                .resultCode(errorCode.getResultCode())
+                .description(description)
+                .build();
+    }
+
+    private boolean isReadOnly(SubCommandEnum subCommand) {
+        return SubCommandEnum.LS.equals(subCommand) || SubCommandEnum.INSPECT.equals(subCommand);
+    }
+}
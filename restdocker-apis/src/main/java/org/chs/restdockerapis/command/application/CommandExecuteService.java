@@ -0,0 +1,97 @@
+package org.chs.restdockerapis.command.application;
+
+import lombok.RequiredArgsConstructor;
+import org.chs.restdockerapis.command.presentation.dto.CommandAnalysisRequestDto;
+import org.chs.restdockerapis.command.presentation.dto.CommandExecuteResponseDto;
+import org.chs.restdockerapis.command.presentation.dto.SeparateRequestDto;
+import org.chs.restdockerapis.common.argument_resolver.dto.GetRequesterDto;
+import org.chs.restdockerapis.common.exception.CustomBadRequestException;
+import org.chs.restdockerapis.common.exception.ErrorCode;
+import org.chs.restdockerapis.common.logging.RequestLogContext;
+import org.chs.restdockerapis.common.sql_metrics.SqlRequestStatistics;
+import org.chs.restdockerapis.container.application.ContainerService;
+import org.chs.restdockerapis.image.application.ImageService;
+import org.chs.restdockerapis.image.presentation.dto.DockerCommandRequestDto;
+import org.chs.restdockerapis.network.application.NetworkService;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class CommandExecuteService {
+
+    private final CommandService commandService;
+
+    private final ImageService imageService;
+    private final NetworkService networkService;
+    private final ContainerService containerService;
+
+    /**
+     * 예상 명령어 : docker ${MainCommand} ${SubCommand} ${ArgCommands}, 생략어 포함 (ex. docker ps, docker images, docker run)
+     *
+     * 참고사항 :
+     *          /api/v1/command/filter 로 URL 을 받은 뒤 해당 URL 로 다시 요청하는 두번의 왕복을
+     *          한번의 요청 안에서 명령어 분석과 비즈니스 로직 호출까지 처리하도록 합친다.
+     *
+     * @param requesterInfo 사용자 기본 정보 (IP, OAuthServiceId, AccessToken, RefreshToken, ThirdPartyEnum)
+     * @param request 도커 명령어 원문
+     * @return 분석된 MainCommand, SubCommand 와 해당 비즈니스 로직의 결과
+     */
+    public CommandExecuteResponseDto executeCommand(GetRequesterDto requesterInfo, CommandAnalysisRequestDto request) {
+        SeparateRequestDto separatedCommand = commandService.separateCommand(request);
+        SqlRequestStatistics.tagCommand(separatedCommand.getMainCommand(), separatedCommand.getSubCommand());
+        RequestLogContext.putCommand(separatedCommand.getMainCommand(), separatedCommand.getSubCommand());
+
+        return CommandExecuteResponseDto.builder()
+                .mainCommand(separatedCommand.getMainCommand())
+                .subCommand(separatedCommand.getSubCommand())
+                .result(dispatch(requesterInfo, separatedCommand))
+                .build();
+    }
+
+    public Object dispatch(GetRequesterDto requesterInfo, SeparateRequestDto separatedCommand) {
+        DockerCommandRequestDto request = DockerCommandRequestDto.builder()
+                .argCommands(separatedCommand.getArgCommand())
+                .build();
+
+        return switch (separatedCommand.getMainCommand()) {
+            case IMAGE -> dispatchImage(requesterInfo, separatedCommand, request);
+            case NETWORK -> dispatchNetwork(requesterInfo, separatedCommand, request);
+            case CONTAINER -> dispatchContainer(requesterInfo, separatedCommand, request);
+            default -> throw CustomBadRequestException.of(ErrorCode.NOT_CORRECT_MAINCOMMAND);
+        };
+    }
+
+    private Object dispatchImage(GetRequesterDto requesterInfo, SeparateRequestDto separatedCommand, DockerCommandRequestDto request) {
+        return switch (separatedCommand.getSubCommand()) {
+            case LS -> imageService.lsImage(requesterInfo, request);
+            case PULL -> imageService.pullImage(requesterInfo, request);
+            case INSPECT -> imageService.inspectImage(requesterInfo, request);
+            case RM -> imageService.rmImage(requesterInfo, request);
+            default -> throw CustomBadRequestException.of(ErrorCode.NOT_CORRECT_SUBCOMMAND);
+        };
+    }
+
+    private Object dispatchNetwork(GetRequesterDto requesterInfo, SeparateRequestDto separatedCommand, DockerCommandRequestDto request) {
+        return switch (separatedCommand.getSubCommand()) {
+            case LS -> networkService.lsNetwork(requesterInfo, request);
+            case INSPECT -> networkService.inspectNetwork(requesterInfo, request);
+            case CREATE -> networkService.createNetwork(requesterInfo, request);
+            case RM -> networkService.rmNetwork(requesterInfo, request);
+            default -> throw CustomBadRequestException.of(ErrorCode.NOT_CORRECT_SUBCOMMAND);
+        };
+    }
+
+    private Object dispatchContainer(GetRequesterDto requesterInfo, SeparateRequestDto separatedCommand, DockerCommandRequestDto request) {
+        return switch (separatedCommand.getSubCommand()) {
+            case LS -> containerService.lsContainer(requesterInfo, request);
+            case INSPECT -> containerService.inspectContainer(requesterInfo, request);
+            case RENAME -> containerService.renameContainer(requesterInfo, request);
+            case CREATE -> containerService.createContainer(requesterInfo, request);
+            case RUN -> containerService.runContainer(requesterInfo, request);
+            case START -> containerService.startContainer(requesterInfo.id(), request);
+            case STOP -> containerService.stopContainer(requesterInfo.id(), request);
+            case RM -> containerService.rmContainer(requesterInfo.id(), request);
+            default -> throw CustomBadRequestException.of(ErrorCode.NOT_CORRECT_SUBCOMMAND);
+        };
+    }
+}
@@ -1,8 +1,22 @@
 package org.chs.restdockerapis.command.enumerate;
 
+import java.util.List;
+
 public enum MainCommandEnum {
-    CONTAINER,
-    IMAGE,
-    NETWORK,
-    HELP
+    CONTAINER(SubCommandEnum.LS, SubCommandEnum.PS, SubCommandEnum.RENAME, SubCommandEnum.CREATE, SubCommandEnum.RUN,
+            SubCommandEnum.START, SubCommandEnum.STOP, SubCommandEnum.RM, SubCommandEnum.INSPECT),
+    IMAGE(SubCommandEnum.LS, SubCommandEnum.INSPECT, SubCommandEnum.RM, SubCommandEnum.PULL),
+    NETWORK(SubCommandEnum.LS, SubCommandEnum.INSPECT, SubCommandEnum.CREATE, SubCommandEnum.RM),
+    HELP;
+
+    // MainCommand 가 지원하는 SubCommand 목록 (CommandGrammar 가 시작 시 한번만 읽어 Trie 로 컴파일함)
+    private final List<SubCommandEnum> subCommands;
+
+    MainCommandEnum(SubCommandEnum... subCommands) {
+        this.subCommands = List.of(subCommands);
+    }
+
+    public List<SubCommandEnum> getSubCommands() {
+        return this.subCommands;
+    }
 }
@@ -0,0 +1,207 @@
+package org.chs.restdockerapis.command.grammar;
+
+import org.chs.restdockerapis.command.enumerate.MainCommandEnum;
+import org.chs.restdockerapis.command.enumerate.SubCommandEnum;
+import org.chs.restdockerapis.command.presentation.dto.SeparateRequestDto;
+import org.chs.restdockerapis.common.exception.CustomBadRequestException;
+import org.chs.restdockerapis.common.exception.ErrorCode;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MainCommandEnum / SubCommandEnum 으로부터 시작 시 한번만 컴파일되는 도커 명령어 문법
+ *
+ * 두번째 토큰(MainCommand 또는 생략어)과 세번째 토큰(SubCommand)을 각각의 Trie 로 찾고,
+ * 명령어 문자열을 왼쪽에서 오른쪽으로 한번만 훑어 SeparateRequestDto 를 만든다.
+ *
+ * 생략어 규칙
+ * 1. docker ${컨테이너 SubCommand} -> docker container ${SubCommand}  (ex. docker ps, docker run)
+ * 2. docker pull -> docker image pull
+ * 3. docker images -> docker image ls
+ * 4. docker rmi -> docker image rm
+ * 5. container 의 ps 는 ls 로 정규화
+ */
+public class CommandGrammar {
+
+    private static final String DOCKER = "docker";
+
+    private static final Map<String, CommandRoute> IMAGE_ALIASES = Map.of(
+            "pull", new CommandRoute(MainCommandEnum.IMAGE, SubCommandEnum.PULL),
+            "images", new CommandRoute(MainCommandEnum.IMAGE, SubCommandEnum.LS),
+            "rmi", new CommandRoute(MainCommandEnum.IMAGE, SubCommandEnum.RM)
+    );
+
+    private final CommandTrie<CommandRoute> secondTokenTrie;
+    private final Map<MainCommandEnum, CommandTrie<SubCommandEnum>> subCommandTries;
+
+    private CommandGrammar(CommandTrie<CommandRoute> secondTokenTrie, Map<MainCommandEnum, CommandTrie<SubCommandEnum>> subCommandTries) {
+        this.secondTokenTrie = secondTokenTrie;
+        this.subCommandTries = subCommandTries;
+    }
+
+    public static CommandGrammar compile() {
+        CommandTrie<CommandRoute> secondTokenTrie = new CommandTrie<>();
+        Map<MainCommandEnum, CommandTrie<SubCommandEnum>> subCommandTries = new EnumMap<>(MainCommandEnum.class);
+
+        for (MainCommandEnum mainCommand : MainCommandEnum.values()) {
+            if (mainCommand.getSubCommands().isEmpty()) {
+                continue;
+            }
+
+            // docker ${MainCommand} ${SubCommand}
+            secondTokenTrie.put(keyword(mainCommand), new CommandRoute(mainCommand, null));
+
+            CommandTrie<SubCommandEnum> subCommandTrie = new CommandTrie<>();
+            for (SubCommandEnum subCommand : mainCommand.getSubCommands()) {
+                subCommandTrie.put(keyword(subCommand), normalize(mainCommand, subCommand));
+            }
+            subCommandTries.put(mainCommand, subCommandTrie);
+        }
+
+        // docker ${컨테이너 SubCommand} 는 container 가 생략된 형태
+        for (SubCommandEnum subCommand : MainCommandEnum.CONTAINER.getSubCommands()) {
+            secondTokenTrie.put(keyword(subCommand), new CommandRoute(MainCommandEnum.CONTAINER, normalize(MainCommandEnum.CONTAINER, subCommand)));
+        }
+
+        IMAGE_ALIASES.forEach(secondTokenTrie::put);
+
+        return new CommandGrammar(secondTokenTrie, subCommandTries);
+    }
+
+    /**
+     * 분석 규칙
+     * 1. 공백을 건너뛰며 토큰의 시작과 끝 위치만 계산한다. (정규식, 배열 복사 없음)
+     * 2. 첫번째 토큰이 docker 가 아닌 경우를 걸러낸다.
+     * 3. 두번째 토큰이 없다면 docker Help 로 판단한다.
+     * 4. 두번째 토큰을 Trie 에서 찾아 MainCommand 와 (생략어라면) SubCommand 를 정한다.
+     * 5. SubCommand 가 정해지지 않았다면 세번째 토큰을 MainCommand 의 SubCommand Trie 에서 찾는다.
+     * 6. 남은 토큰들로 argCommand 를 추출한다.
+     *
+     * @return 지원하지 않는 MainCommand 인 경우 null
+     */
+    public SeparateRequestDto parse(String command) {
+        int length = command.length();
+
+        int tokenStart = skipWhitespace(command, 0);
+        if (tokenStart == length) {
+            throw CustomBadRequestException.of(ErrorCode.BLANK_COMMAND);
+        }
+
+        int tokenEnd = findTokenEnd(command, tokenStart);
+        if (DOCKER.length() != tokenEnd - tokenStart || false == command.startsWith(DOCKER, tokenStart)) {
+            throw CustomBadRequestException.of(ErrorCode.COMMAND_NEED_DOCKER);
+        }
+
+        tokenStart = skipWhitespace(command, tokenEnd);
+        if (tokenStart == length) {
+            return makeSeparateRequestDto(MainCommandEnum.HELP, null, null);
+        }
+
+        tokenEnd = findTokenEnd(command, tokenStart);
+        CommandRoute route = secondTokenTrie.get(command, tokenStart, tokenEnd);
+        if (null == route) {
+            return null;
+        }
+
+        SubCommandEnum subCommand = route.subCommand();
+        tokenStart = skipWhitespace(command, tokenEnd);
+
+        if (null == subCommand) {
+            if (tokenStart == length) {
+                throw CustomBadRequestException.of(ErrorCode.NOT_CORRECT_SUBCOMMAND);
+            }
+
+            tokenEnd = findTokenEnd(command, tokenStart);
+            subCommand = subCommandTries.get(route.mainCommand()).get(command, tokenStart, tokenEnd);
+            if (null == subCommand) {
+                throw CustomBadRequestException.of(ErrorCode.NOT_CORRECT_SUBCOMMAND);
+            }
+
+            tokenStart = skipWhitespace(command, tokenEnd);
+        }
+
+        return makeSeparateRequestDto(route.mainCommand(), subCommand, extractArgCommand(command, tokenStart));
+    }
+
+    /**
+     * - 로 시작하는 옵션 뒤에 - 로 시작하지 않는 토큰이 있다면 "옵션 값" 하나의 인자로 묶는다.
+     * 토큰 사이의 공백이 한칸이라면 원본 문자열을 그대로 잘라 쓰므로 인자당 문자열 하나만 만들어진다.
+     */
+    private List<String> extractArgCommand(String command, int argStart) {
+        List<String> argCommands = new ArrayList<>();
+        int length = command.length();
+
+        int tokenStart = argStart;
+        while (tokenStart < length) {
+            int tokenEnd = findTokenEnd(command, tokenStart);
+            int nextTokenStart = skipWhitespace(command, tokenEnd);
+
+            // - 옵션의 추가 인자가 있는지 확인
+            if ('-' == command.charAt(tokenStart) && nextTokenStart < length && '-' != command.charAt(nextTokenStart)) {
+                int nextTokenEnd = findTokenEnd(command, nextTokenStart);
+
+                if (1 == nextTokenStart - tokenEnd && ' ' == command.charAt(tokenEnd)) {
+                    argCommands.add(command.substring(tokenStart, nextTokenEnd));
+                } else {
+                    argCommands.add(command.substring(tokenStart, tokenEnd) + " " + command.substring(nextTokenStart, nextTokenEnd));
+                }
+
+                // 추가 인자가 저장되어 그 다음 요소는 건너 뜀
+                tokenStart = skipWhitespace(command, nextTokenEnd);
+            }
+            else {
+                argCommands.add(command.substring(tokenStart, tokenEnd));
+                tokenStart = nextTokenStart;
+            }
+        }
+
+        return argCommands;
+    }
+
+    private int skipWhitespace(String command, int index) {
+        while (index < command.length() && isWhitespace(command.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private int findTokenEnd(String command, int index) {
+        while (index < command.length() && false == isWhitespace(command.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    // 정규식 \s 와 동일한 문자 집합 : [ \t\n\x0B\f\r]
+    private boolean isWhitespace(char character) {
+        return ' ' == character || '\t' == character || '\n' == character
+                || '\u000B' == character || '\f' == character || '\r' == character;
+    }
+
+    private static String keyword(Enum<?> command) {
+        return command.name().toLowerCase();
+    }
+
+    private static SubCommandEnum normalize(MainCommandEnum mainCommand, SubCommandEnum subCommand) {
+        if (MainCommandEnum.CONTAINER.equals(mainCommand) && SubCommandEnum.PS.equals(subCommand)) {
+            return SubCommandEnum.LS;
+        }
+        return subCommand;
+    }
+
+    private SeparateRequestDto makeSeparateRequestDto(MainCommandEnum mainCommand, SubCommandEnum subCommand, List<String> argCommand) {
+        return SeparateRequestDto.builder()
+                .mainCommand(mainCommand)
+                .subCommand(subCommand)
+                .argCommand(argCommand)
+                .build();
+    }
+
+    private record CommandRoute(
+            MainCommandEnum mainCommand,
+            SubCommandEnum subCommand
+    ) {}
+}
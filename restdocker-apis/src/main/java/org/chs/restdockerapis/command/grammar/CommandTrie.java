@@ -0,0 +1,61 @@
+package org.chs.restdockerapis.command.grammar;
+
+/**
+ * 명령어 키워드(소문자 a-z)를 위한 Trie
+ *
+ * 토큰을 substring 으로 잘라내지 않고, 원본 명령어의 [start, end) 구간을 그대로 탐색한다.
+ * 키워드 등록은 CommandGrammar 생성 시 한번만 일어나며, 이후에는 읽기 전용으로 사용된다.
+ */
+public class CommandTrie<V> {
+
+    private static final int ALPHABET_SIZE = 26;
+
+    private final Node<V> root = new Node<>();
+
+    public void put(String keyword, V value) {
+        Node<V> current = root;
+
+        for (int charIndex = 0; charIndex < keyword.length(); charIndex++) {
+            int childIndex = toChildIndex(keyword.charAt(charIndex));
+            if (childIndex < 0) {
+                throw new IllegalArgumentException("명령어 키워드는 소문자 알파벳만 가능합니다 : " + keyword);
+            }
+
+            if (null == current.children[childIndex]) {
+                current.children[childIndex] = new Node<>();
+            }
+            current = current.children[childIndex];
+        }
+
+        current.value = value;
+    }
+
+    /** 등록되지 않은 키워드이거나 알파벳 이외의 문자가 포함된 경우 null */
+    public V get(CharSequence source, int start, int end) {
+        Node<V> current = root;
+
+        for (int charIndex = start; charIndex < end; charIndex++) {
+            int childIndex = toChildIndex(source.charAt(charIndex));
+            if (childIndex < 0 || null == (current = current.children[childIndex])) {
+                return null;
+            }
+        }
+
+        return current.value;
+    }
+
+    private int toChildIndex(char character) {
+        if (character < 'a' || character > 'z') {
+            return -1;
+        }
+
+        return character - 'a';
+    }
+
+    private static class Node<V> {
+        @SuppressWarnings("unchecked")
+        private final Node<V>[] children = new Node[ALPHABET_SIZE];
+
+        private V value;
+    }
+}
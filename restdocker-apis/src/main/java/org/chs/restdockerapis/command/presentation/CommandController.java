@@ -2,9 +2,17 @@ package org.chs.restdockerapis.command.presentation;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.chs.restdockerapis.command.application.CommandBatchService;
+import org.chs.restdockerapis.command.application.CommandExecuteService;
 import org.chs.restdockerapis.command.application.CommandService;
 import org.chs.restdockerapis.command.presentation.dto.CommandAnalysisRequestDto;
 import org.chs.restdockerapis.command.presentation.dto.CommandAnalysisResponseDto;
+import org.chs.restdockerapis.command.presentation.dto.CommandBatchRequestDto;
+import org.chs.restdockerapis.command.presentation.dto.CommandBatchResponseDto;
+import org.chs.restdockerapis.command.presentation.dto.CommandExecuteResponseDto;
+import org.chs.restdockerapis.common.aop.annotation.Auth;
+import org.chs.restdockerapis.common.argument_resolver.annotation.GetRequester;
+import org.chs.restdockerapis.common.argument_resolver.dto.GetRequesterDto;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -17,9 +25,23 @@ import org.springframework.web.bind.annotation.RequestMapping;
 public class CommandController {
 
     private final CommandService commandService;
+    private final CommandExecuteService commandExecuteService;
+    private final CommandBatchService commandBatchService;
 
     @PostMapping("/filter")
     public ResponseEntity<CommandAnalysisResponseDto> filteringCommand(@Valid @RequestBody CommandAnalysisRequestDto request) {
         return ResponseEntity.ok(commandService.filteringCommand(request));
     }
+
+    @Auth
+    @PostMapping("/exec")
+    public ResponseEntity<CommandExecuteResponseDto> executeCommand(@GetRequester GetRequesterDto requesterInfo, @Valid @RequestBody CommandAnalysisRequestDto request) {
+        return ResponseEntity.ok(commandExecuteService.executeCommand(requesterInfo, request));
+    }
+
+    @Auth
+    @PostMapping("/batch")
+    public ResponseEntity<CommandBatchResponseDto> executeBatch(@GetRequester GetRequesterDto requesterInfo, @Valid @RequestBody CommandBatchRequestDto request) {
+        return ResponseEntity.ok(commandBatchService.executeBatch(requesterInfo, request));
+    }
 }
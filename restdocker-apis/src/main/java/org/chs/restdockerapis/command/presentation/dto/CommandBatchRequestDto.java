@@ -0,0 +1,34 @@
+package org.chs.restdockerapis.command.presentation.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record CommandBatchRequestDto(
+        @Size(max = CommandBatchRequestDto.MAX_COMMANDS)
+        List<@NotBlank @Size(max = CommandBatchRequestDto.MAX_COMMAND_LENGTH) String> commands,
+
+        @Size(max = CommandBatchRequestDto.MAX_SCRIPT_LENGTH)
+        String script,
+
+        Boolean continueOnError
+) {
+    public static final int MAX_COMMANDS = 50;
+    public static final int MAX_COMMAND_LENGTH = 1000;
+    public static final int MAX_SCRIPT_LENGTH = MAX_COMMANDS * MAX_COMMAND_LENGTH;
+
+    // 명령어 목록(commands)과 스크립트(script) 중 하나만 보내야한다
+    @JsonIgnore
+    @AssertTrue
+    public boolean isCommandsOrScript() {
+        boolean existCommands = null != commands && false == commands.isEmpty();
+        boolean existScript = null != script && false == script.isBlank();
+
+        return existCommands != existScript;
+    }
+}
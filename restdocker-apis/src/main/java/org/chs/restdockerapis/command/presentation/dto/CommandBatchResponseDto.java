@@ -0,0 +1,11 @@
+package org.chs.restdockerapis.command.presentation.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record CommandBatchResponseDto(
+        boolean committed,
+        List<CommandBatchStepResultDto> results
+) {}
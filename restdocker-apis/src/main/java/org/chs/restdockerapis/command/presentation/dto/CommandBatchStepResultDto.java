@@ -0,0 +1,14 @@
+package org.chs.restdockerapis.command.presentation.dto;
+
+import lombok.Builder;
+
+@Builder
+public record CommandBatchStepResultDto(
+        int index,
+        String command,
+        String url,
+        boolean success,
+        Object result,
+        String resultCode,
+        String description
+) {}
@@ -0,0 +1,12 @@
+package org.chs.restdockerapis.command.presentation.dto;
+
+import lombok.Builder;
+import org.chs.restdockerapis.command.enumerate.MainCommandEnum;
+import org.chs.restdockerapis.command.enumerate.SubCommandEnum;
+
+@Builder
+public record CommandExecuteResponseDto(
+        MainCommandEnum mainCommand,
+        SubCommandEnum subCommand,
+        Object result
+) {}
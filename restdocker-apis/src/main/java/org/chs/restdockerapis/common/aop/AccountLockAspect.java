@@ -0,0 +1,80 @@
+package org.chs.restdockerapis.common.aop;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.chs.restdockerapis.common.argument_resolver.dto.GetRequesterDto;
+import org.chs.restdockerapis.common.exception.CustomBadRequestException;
+import org.chs.restdockerapis.common.exception.ErrorCode;
+import org.chs.restdockerapis.common.util.AccountLockStripes;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * @AccountLock 이 붙은 서비스 메서드를 사용자 단위의 Lock 안에서 실행한다.
+ *
+ * 1. 컨테이너 이름, IP, Subnet 의 중복 검사와 저장 사이에 같은 사용자의 다른 요청이 끼어들지 못하도록,
+ *    트랜잭션 Advice 보다 바깥에서 Lock 을 잡아 커밋이 끝난 뒤에 Lock 을 놓는다.
+ * 2. CommandMetricAspect 의 안쪽에서 실행되므로 Lock 대기 시간도 명령어 처리 시간에 포함된다.
+ * 3. timeout-millis 안에 Lock 을 얻지 못하면 무한히 기다리지 않고 ACCOUNT_LOCK_TIMEOUT 을 응답한다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class AccountLockAspect {
+
+    private final AccountLockStripes accountLockStripes;
+    private final long timeoutMillis;
+
+    public AccountLockAspect(AccountLockStripes accountLockStripes,
+                             @Value("${restdocker.account-lock.timeout-millis:5000}") long timeoutMillis) {
+        this.accountLockStripes = accountLockStripes;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Around("@annotation(org.chs.restdockerapis.common.aop.annotation.AccountLock)")
+    public Object lockAccount(ProceedingJoinPoint joinPoint) throws Throwable {
+        String oauthServiceId = extractOAuthServiceId(joinPoint.getArgs());
+        if (null == oauthServiceId) { // 사용자를 알 수 없다면 이후 검증에서 걸러지므로 Lock 없이 실행한다
+            return joinPoint.proceed();
+        }
+
+        Lock lock = accountLockStripes.lockFor(oauthServiceId);
+        acquire(lock);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void acquire(Lock lock) {
+        try {
+            if (false == lock.tryLock(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw CustomBadRequestException.of(ErrorCode.ACCOUNT_LOCK_TIMEOUT);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw CustomBadRequestException.of(ErrorCode.ACCOUNT_LOCK_TIMEOUT);
+        }
+    }
+
+    private String extractOAuthServiceId(Object[] args) {
+        if (0 == args.length) {
+            return null;
+        }
+
+        if (args[0] instanceof GetRequesterDto requesterDto) {
+            return requesterDto.id();
+        }
+        if (args[0] instanceof String oauthServiceId) {
+            return oauthServiceId;
+        }
+        return null;
+    }
+}
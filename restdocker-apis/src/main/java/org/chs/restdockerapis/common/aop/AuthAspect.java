@@ -8,6 +8,7 @@ import org.aspectj.lang.annotation.Pointcut;
 import org.chs.restdockerapis.common.argument_resolver.dto.GetRequesterDto;
 import org.chs.restdockerapis.common.exception.CustomTokenException;
 import org.chs.restdockerapis.common.exception.ErrorCode;
+import org.chs.restdockerapis.common.logging.SampledLogTurboFilter;
 import org.springframework.stereotype.Component;
 
 import java.util.Arrays;
@@ -25,11 +26,11 @@ public class AuthAspect {
 
     @Around("allController() && enableAuth()")
     public Object validToken(ProceedingJoinPoint joinPoint) throws Throwable {
-        log.info("[Valid JWT] - Location : {}", joinPoint.getSignature());
+        log.info(SampledLogTurboFilter.SAMPLED, "[Valid JWT] - Location : {}", joinPoint.getSignature());
 
         GetRequesterDto requesterDto = (GetRequesterDto) Arrays.stream(joinPoint.getArgs()).toList().get(0);
         if (null == requesterDto.oauthAccessToken()) { // JWT 가 없는 API 인 경우
-            throw new CustomTokenException(ErrorCode.API_NEED_TOKEN_EXCEPTION);
+            throw CustomTokenException.of(ErrorCode.API_NEED_TOKEN_EXCEPTION);
         }
         return joinPoint.proceed();
     }
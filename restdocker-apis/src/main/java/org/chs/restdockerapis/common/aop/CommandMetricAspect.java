@@ -0,0 +1,43 @@
+package org.chs.restdockerapis.common.aop;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.chs.restdockerapis.common.aop.annotation.CommandMetric;
+import org.chs.restdockerapis.common.exception.RestDockerException;
+import org.chs.restdockerapis.common.metrics.RestDockerMetrics;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * @CommandMetric 이 붙은 서비스 메서드의 처리 시간을 결과(success, ErrorCode 이름, 예외 이름) 와 함께 기록한다.
+ * 트랜잭션 커밋 시간까지 포함하도록 트랜잭션 Advice 보다 먼저(바깥에서) 실행한다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class CommandMetricAspect {
+
+    private final RestDockerMetrics restDockerMetrics;
+
+    @Around("@annotation(commandMetric)")
+    public Object recordCommand(ProceedingJoinPoint joinPoint, CommandMetric commandMetric) throws Throwable {
+        long startNanos = System.nanoTime();
+        String result = RestDockerMetrics.SUCCESS;
+
+        try {
+            return joinPoint.proceed();
+        } catch (RestDockerException exception) {
+            result = exception.getErrorCode().name();
+            throw exception;
+        } catch (Throwable throwable) {
+            result = throwable.getClass().getSimpleName();
+            throw throwable;
+        } finally {
+            restDockerMetrics.recordCommand(commandMetric.main(), commandMetric.sub(), result, System.nanoTime() - startNanos);
+        }
+    }
+}
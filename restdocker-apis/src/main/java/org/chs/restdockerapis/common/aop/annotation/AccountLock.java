@@ -0,0 +1,16 @@
+package org.chs.restdockerapis.common.aop.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 사용자의 컨테이너, 네트워크, 이미지를 바꾸는 서비스 메서드(생성, 삭제, 상태 변경)에 붙여, 같은 사용자의 요청을 하나씩 실행한다.
+ * 생성의 중복 검사뿐 아니라 삭제의 사용 여부 검사(ex. 컨테이너가 연결된 네트워크) 도 조회와 변경 사이에 다른 요청이 끼어들면 안 되기 때문이다.
+ * 메서드의 첫 번째 인자(GetRequesterDto 또는 OAuthServiceId)로 사용자를 구분하며, 다른 사용자의 요청은 병렬로 실행된다.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface AccountLock {
+}
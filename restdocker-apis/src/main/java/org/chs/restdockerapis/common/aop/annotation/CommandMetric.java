@@ -0,0 +1,22 @@
+package org.chs.restdockerapis.common.aop.annotation;
+
+import org.chs.restdockerapis.command.enumerate.MainCommandEnum;
+import org.chs.restdockerapis.command.enumerate.SubCommandEnum;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * docker 명령어를 처리하는 서비스 메서드에 붙여 명령어별 처리 시간을 restdocker.command 지표로 기록한다.
+ * 컨트롤러, /command/exec, /command/batch 어느 경로로 호출되어도 같은 지표로 모인다.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface CommandMetric {
+
+    MainCommandEnum main();
+
+    SubCommandEnum sub();
+}
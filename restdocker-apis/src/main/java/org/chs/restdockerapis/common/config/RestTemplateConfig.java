@@ -1,22 +1,104 @@
 package org.chs.restdockerapis.common.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.chs.restdockerapis.common.metrics.OAuthMetricsInterceptor;
+import org.chs.restdockerapis.common.metrics.RestDockerMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Kakao, Naver OAuth 호출용 RestTemplate
+ *
+ * 로그인 한번에 토큰 발급, 사용자 정보 조회 두 번의 호출이 일어나므로
+ * 매번 TCP, TLS 연결을 새로 맺지 않도록 Connection Pool 과 Keep-Alive 를 사용한다.
+ */
 @Configuration
 public class RestTemplateConfig {
 
+    private static final String POOL_METRIC_PREFIX = "restdocker.oauth.http.pool.";
+
+    @Bean
+    public PoolingHttpClientConnectionManager oAuthConnectionManager(
+            @Value("${restdocker.oauth.http.max-connections:100}") int maxConnections,
+            @Value("${restdocker.oauth.http.max-connections-per-route:20}") int maxConnectionsPerRoute,
+            @Value("${restdocker.oauth.http.connect-timeout-millis:3000}") long connectTimeoutMillis,
+            @Value("${restdocker.oauth.http.read-timeout-millis:3000}") long readTimeoutMillis,
+            @Value("${restdocker.oauth.http.time-to-live-seconds:300}") long timeToLiveSeconds
+    ) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(
+                        ConnectionConfig.custom()
+                                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                                .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                                .setTimeToLive(TimeValue.ofSeconds(timeToLiveSeconds))
+                                // 서버가 먼저 끊은 Keep-Alive 연결을 재사용하지 않도록 일정 시간 쉰 연결은 검사 후 사용한다.
+                                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                                .build()
+                )
+                .build();
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-        requestFactory.setConnectTimeout(3000);
-        requestFactory.setReadTimeout(3000);
+    public CloseableHttpClient oAuthHttpClient(
+            PoolingHttpClientConnectionManager oAuthConnectionManager,
+            @Value("${restdocker.oauth.http.read-timeout-millis:3000}") long readTimeoutMillis,
+            @Value("${restdocker.oauth.http.connection-request-timeout-millis:1000}") long connectionRequestTimeoutMillis,
+            @Value("${restdocker.oauth.http.idle-timeout-seconds:30}") long idleTimeoutSeconds
+    ) {
+        return HttpClients.custom()
+                .setConnectionManager(oAuthConnectionManager)
+                .setDefaultRequestConfig(
+                        RequestConfig.custom()
+                                .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMillis))
+                                .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                                .build()
+                )
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(idleTimeoutSeconds))
+                .build();
+    }
 
-        RestTemplate restTemplate = new RestTemplate();
-        restTemplate.setRequestFactory(requestFactory);
+    @Bean
+    public RestTemplate restTemplate(CloseableHttpClient oAuthHttpClient, RestDockerMetrics restDockerMetrics) {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(oAuthHttpClient));
+        restTemplate.getInterceptors().add(new OAuthMetricsInterceptor(restDockerMetrics));
 
         return restTemplate;
     }
+
+    /** MeterRegistry 가 있다면 OAuth Connection Pool 의 사용량을 Gauge 로 노출한다 */
+    @Bean
+    public MeterBinder oAuthConnectionPoolMetrics(PoolingHttpClientConnectionManager oAuthConnectionManager) {
+        return registry -> {
+            registerPoolGauge(registry, oAuthConnectionManager, "leased", PoolStats::getLeased);
+            registerPoolGauge(registry, oAuthConnectionManager, "available", PoolStats::getAvailable);
+            registerPoolGauge(registry, oAuthConnectionManager, "pending", PoolStats::getPending);
+            registerPoolGauge(registry, oAuthConnectionManager, "max", PoolStats::getMax);
+        };
+    }
+
+    private void registerPoolGauge(MeterRegistry registry, PoolingHttpClientConnectionManager connectionManager,
+                                   String name, ToDoubleFunction<PoolStats> value) {
+        Gauge.builder(POOL_METRIC_PREFIX + name, connectionManager, manager -> value.applyAsDouble(manager.getTotalStats()))
+                .tag("client", "oauth")
+                .register(registry);
+    }
 }
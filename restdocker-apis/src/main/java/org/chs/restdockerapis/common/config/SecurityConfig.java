@@ -4,6 +4,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.chs.domain.account.AccountRepository;
 import org.chs.restdockerapis.common.jwt.JwtAuthorizationFilter;
+import org.chs.restdockerapis.common.jwt.VerifiedTokenCache;
+import org.chs.restdockerapis.common.jwt.principal.AccountPrincipalCache;
+import org.chs.restdockerapis.common.metrics.RestDockerMetrics;
+import org.chs.tokenissuer.application.TokenIssuerService;
 import org.chs.tokenissuer.common.properties.JwtProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -29,6 +33,10 @@ public class SecurityConfig {
     private final AccountRepository accountRepository;
     private final JwtProperties jwtProperties;
     private final ObjectMapper objectMapper;
+    private final TokenIssuerService tokenIssuerService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AccountPrincipalCache accountPrincipalCache;
+    private final RestDockerMetrics restDockerMetrics;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
@@ -39,8 +47,10 @@ public class SecurityConfig {
                 .headers((header) -> header.frameOptions((frameOptions) -> frameOptions.disable())) // h2 console 에서 사용하는 X-Frame 의 Jacking 방어 => disable
                 .sessionManagement((manager) -> manager.sessionCreationPolicy(STATELESS)) // 인증과 인가에 관한 처리를 할 때 Session 을 사용하지 않는다는 의미
                 .cors((cors) -> cors.configurationSource(CorsConfigurationSource()))
-                .addFilterBefore(new JwtAuthorizationFilter(accountRepository, jwtProperties, objectMapper), UsernamePasswordAuthenticationFilter.class)
-                .authorizeHttpRequests((authorize) -> authorize.requestMatchers("/api/**", "/*.html").permitAll());
+                .addFilterBefore(new JwtAuthorizationFilter(accountRepository, jwtProperties, objectMapper, tokenIssuerService, verifiedTokenCache, accountPrincipalCache, restDockerMetrics), UsernamePasswordAuthenticationFilter.class)
+                .authorizeHttpRequests((authorize) -> authorize
+                        .requestMatchers("/api/**", "/*.html").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()); // 외부 노출은 management.server.port 로 분리
 
 
         return httpSecurity.build();
@@ -0,0 +1,37 @@
+package org.chs.restdockerapis.common.config;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.chs.restdockerapis.common.sql_metrics.SqlStatisticsListener;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 모든 DataSource 를 datasource-proxy 로 감싸 요청별 SQL 통계(SqlRequestStatistics)를 수집한다.
+ * 요청 밖에서 실행된 SQL 은 Listener 가 바로 무시하므로 감싸는 비용 외에는 추가 작업이 없다.
+ */
+@Configuration
+public class SqlMetricsConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlStatisticsDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (false == bean instanceof DataSource || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+
+                SqlStatisticsListener listener = new SqlStatisticsListener();
+                return ProxyDataSourceBuilder.create(beanName, (DataSource) bean)
+                        .listener(listener)
+                        .methodListener(listener)
+                        .proxyResultSet()
+                        .build();
+            }
+        };
+    }
+}
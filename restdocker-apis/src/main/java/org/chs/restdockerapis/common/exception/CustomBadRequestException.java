@@ -1,7 +1,11 @@
 package org.chs.restdockerapis.common.exception;
 
+import java.util.Map;
+
 public class CustomBadRequestException extends RestDockerException {
 
+    private static final Map<ErrorCode, CustomBadRequestException> PREALLOCATED = preallocate(CustomBadRequestException::new);
+
     public CustomBadRequestException(ErrorCode exceptionCode) {
         super(exceptionCode);
     }
@@ -9,4 +13,9 @@ public class CustomBadRequestException extends RestDockerException {
     public CustomBadRequestException(ErrorCode exceptionCode, String message) {
         super(exceptionCode, message);
     }
+
+    /** 사용자 입력 오류에 사용하는, 미리 만들어둔 Stack Trace 없는 예외 */
+    public static CustomBadRequestException of(ErrorCode exceptionCode) {
+        return PREALLOCATED.get(exceptionCode);
+    }
 }
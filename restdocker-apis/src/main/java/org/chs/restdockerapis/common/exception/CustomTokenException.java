@@ -1,8 +1,17 @@
 package org.chs.restdockerapis.common.exception;
 
+import java.util.Map;
+
 public class CustomTokenException extends RestDockerException {
 
+    private static final Map<ErrorCode, CustomTokenException> PREALLOCATED = preallocate(CustomTokenException::new);
+
     public CustomTokenException(ErrorCode exceptionCode) {
         super(exceptionCode);
     }
+
+    /** 토큰 누락, 만료 등에 사용하는, 미리 만들어둔 Stack Trace 없는 예외 */
+    public static CustomTokenException of(ErrorCode exceptionCode) {
+        return PREALLOCATED.get(exceptionCode);
+    }
 }
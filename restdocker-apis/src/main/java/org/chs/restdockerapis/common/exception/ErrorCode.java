@@ -52,6 +52,9 @@ public enum ErrorCode {
     BLANK_COMMAND(HttpStatus.BAD_REQUEST, "30005", "명령어가 비어있습니다"),
     NOT_CORRECT_MAINCOMMAND(HttpStatus.BAD_REQUEST, "30006", "MainCommand 가 올바르지 않습니다"),
     NOT_CORRECT_SUBCOMMAND(HttpStatus.BAD_REQUEST, "30007", "SubCommand 가 올바르지 않습니다"),
+    BATCH_NEED_COMMANDS_OR_SCRIPT(HttpStatus.BAD_REQUEST, "30008", "명령어 목록(commands)과 스크립트(script) 중 하나만 보내야합니다"),
+    BATCH_TOO_MANY_COMMANDS(HttpStatus.BAD_REQUEST, "30009", "한번에 실행할 수 있는 명령어 개수를 초과하였습니다"),
+    ACCOUNT_LOCK_TIMEOUT(HttpStatus.CONFLICT, "30010", "같은 사용자의 다른 명령어가 처리중입니다. 잠시 후 다시 시도해주세요"),
 
     THIRD_PARTY_CLIENT_EXCEPTION(HttpStatus.BAD_REQUEST, "40001", "Third Party 와의 통신중 Client 의 문제로 에러가 발생하였습니다."),
     THIRD_PARTY_AUTHORIZATION_SERVER_EXCEPTION(HttpStatus.INTERNAL_SERVER_ERROR, "40002", "Third Party 와의 통신중 인증 서버의 문제로 에러가 발생하였습니다.");
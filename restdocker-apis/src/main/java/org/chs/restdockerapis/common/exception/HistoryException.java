@@ -2,7 +2,8 @@ package org.chs.restdockerapis.common.exception;
 
 public class HistoryException extends RestDockerException{
 
+    // 히스토리 저장 실패는 서버 내부 오류이므로 Stack Trace 를 남긴다
     public HistoryException(ErrorCode exceptionCode) {
-        super(exceptionCode);
+        super(exceptionCode, true);
     }
 }
@@ -1,8 +1,17 @@
 package org.chs.restdockerapis.common.exception;
 
+import java.util.Map;
+
 public class InValidException extends RestDockerException{
 
+    private static final Map<ErrorCode, InValidException> PREALLOCATED = preallocate(InValidException::new);
+
     public InValidException(ErrorCode exceptionCode) {
         super(exceptionCode);
     }
+
+    /** Request DTO 검증 실패에 사용하는, 미리 만들어둔 Stack Trace 없는 예외 */
+    public static InValidException of(ErrorCode exceptionCode) {
+        return PREALLOCATED.get(exceptionCode);
+    }
 }
@@ -2,7 +2,8 @@ package org.chs.restdockerapis.common.exception;
 
 public class InternalServerException extends RestDockerException{
 
+    // 서버 내부 오류는 발생 위치를 추적해야 하므로 Stack Trace 를 남긴다
     public InternalServerException(ErrorCode exceptionCode) {
-        super(exceptionCode);
+        super(exceptionCode, true);
     }
 }
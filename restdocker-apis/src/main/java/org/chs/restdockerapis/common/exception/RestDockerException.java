@@ -1,30 +1,60 @@
 package org.chs.restdockerapis.common.exception;
 
 import org.chs.globalutils.dto.GlobalResponse;
-import org.springframework.core.NestedRuntimeException;
 import org.springframework.http.ResponseEntity;
 
-public abstract class RestDockerException extends NestedRuntimeException {
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
 
-    private ErrorCode exceptionCode;
-    private String message;
+/**
+ * RestDocker 의 비즈니스 예외
+ *
+ * 1. 잘못된 명령어, 인자값 같은 사용자 입력 오류는 ErrorCode 만으로 원인을 알 수 있으므로 Stack Trace 를 만들지 않는다.
+ *    (Stack Trace 생성이 예외 비용의 대부분을 차지한다)
+ * 2. 서버 내부 오류처럼 위치를 추적해야 하는 예외만 captureStackTrace = true 로 Stack Trace 를 남긴다.
+ * 3. Stack Trace, Suppressed, Cause 가 없는 예외는 상태가 바뀌지 않으므로 preallocate 로 ErrorCode 마다 하나씩 미리 만들어 재사용할 수 있다.
+ */
+public abstract class RestDockerException extends RuntimeException {
+
+    private final ErrorCode exceptionCode;
+    private final String message;
 
     protected RestDockerException(ErrorCode exceptionCode) {
-        super(exceptionCode.getDescription());
+        this(exceptionCode, false);
+    }
+
+    protected RestDockerException(ErrorCode exceptionCode, boolean captureStackTrace) {
+        super(exceptionCode.getDescription(), null, false, captureStackTrace);
         this.exceptionCode = exceptionCode;
+        this.message = null;
     }
 
     protected RestDockerException(ErrorCode exceptionCode, Throwable cause) {
-        super(exceptionCode.getResultCode(), cause);
+        super(exceptionCode.getResultCode(), cause, true, true);
         this.exceptionCode = exceptionCode;
+        this.message = null;
     }
 
     protected RestDockerException(ErrorCode exceptionCode, String message) {
-        super(message);
+        super(message, null, false, false);
         this.message = message;
         this.exceptionCode = exceptionCode;
     }
 
+    /**
+     * ErrorCode 마다 Stack Trace 가 없는 예외를 하나씩 미리 만들어둔다.
+     * 반환된 Map 은 읽기 전용이므로 여러 요청 스레드에서 동시에 같은 인스턴스를 던져도 안전하다.
+     */
+    protected static <E extends RestDockerException> Map<ErrorCode, E> preallocate(Function<ErrorCode, E> factory) {
+        Map<ErrorCode, E> exceptions = new EnumMap<>(ErrorCode.class);
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            exceptions.put(errorCode, factory.apply(errorCode));
+        }
+        return Collections.unmodifiableMap(exceptions);
+    }
+
     public ErrorCode getErrorCode() {
         return exceptionCode;
     }
@@ -1,9 +1,12 @@
 package org.chs.restdockerapis.common.exception.handler;
 
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.chs.globalutils.dto.GlobalResponse;
 import org.chs.restdockerapis.common.exception.*;
+import org.chs.restdockerapis.common.logging.SampledLogTurboFilter;
+import org.chs.restdockerapis.common.metrics.RestDockerMetrics;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
@@ -14,11 +17,14 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 
 @Slf4j
 @ControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
     private final String LOG_FORMAT_INFO = "\n[🔵INFO] - ({} {})\n{}\n {}: {}";
     private final String LOG_FORMAT_ERROR = "\n[🔴ERROR] - ({} {})";
 
+    private final RestDockerMetrics restDockerMetrics;
+
     @ExceptionHandler(CustomBadRequestException.class)
     public ResponseEntity<GlobalResponse> handlerCommonException(CustomBadRequestException customBadRequestException, HttpServletRequest request) {
         logInfo(customBadRequestException, request);
@@ -42,7 +48,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<GlobalResponse> handlerCommonException(MethodArgumentNotValidException methodArgumentNotValidException, HttpServletRequest request) {
-        InValidException inValidException = new InValidException(ErrorCode.ARGUMENT_NOT_VALID_EXCEPTION);
+        InValidException inValidException = InValidException.of(ErrorCode.ARGUMENT_NOT_VALID_EXCEPTION);
         logInfo(inValidException, request, methodArgumentNotValidException.getMessage());
 
         return inValidException.makeResponseEntity();
@@ -62,6 +68,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(InternalServerException.class)
     public ResponseEntity<GlobalResponse> handlerCommonException(InternalServerException internalServerException, HttpServletRequest request) {
+        restDockerMetrics.countError(internalServerException.getErrorCode());
         logError(internalServerException, request);
 
         return internalServerException.makeResponseEntity();
@@ -70,17 +77,21 @@ public class GlobalExceptionHandler {
     @Order(Ordered.LOWEST_PRECEDENCE)
     @ExceptionHandler(Exception.class)
     public ResponseEntity<?> handlerCommonException(Exception exception, HttpServletRequest request) {
+        restDockerMetrics.countError(ErrorCode.COMMON_SERVER_ERROR_EXCEPTION);
         logError(exception, request);
 
         return ResponseEntity.internalServerError().body(exception.getMessage());
     }
 
     private void logInfo(RestDockerException e, HttpServletRequest request) {
-        log.info(LOG_FORMAT_INFO, request.getRequestURI(), request.getMethod(), e.getErrorCode(), e.getClass().getName(), e.getMessage());
+        restDockerMetrics.countError(e.getErrorCode());
+        // 사용자 입력 오류는 요청마다 발생하므로 일부만 남기고, 건수는 restdocker.errors 지표로 확인한다
+        log.info(SampledLogTurboFilter.SAMPLED, LOG_FORMAT_INFO, request.getRequestURI(), request.getMethod(), e.getErrorCode(), e.getClass().getName(), e.getMessage());
     }
 
     private void logInfo(RestDockerException e, HttpServletRequest request, String message) {
-        log.info(LOG_FORMAT_INFO, request.getRequestURI(), request.getMethod(), e.getErrorCode(), e.getClass().getName(), message);
+        restDockerMetrics.countError(e.getErrorCode());
+        log.info(SampledLogTurboFilter.SAMPLED, LOG_FORMAT_INFO, request.getRequestURI(), request.getMethod(), e.getErrorCode(), e.getClass().getName(), message);
     }
 
     private void logInfo(InvalidDataAccessApiUsageException e, HttpServletRequest request) {
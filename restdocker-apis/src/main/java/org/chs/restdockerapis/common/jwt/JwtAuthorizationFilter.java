@@ -1,21 +1,24 @@
 package org.chs.restdockerapis.common.jwt;
 
-import com.auth0.jwt.JWT;
-import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
-import com.auth0.jwt.interfaces.Claim;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import org.chs.domain.account.AccountRepository;
 import org.chs.domain.account.entity.AccountEntity;
 import org.chs.domain.common.enumerate.ThirdPartyEnum;
 import org.chs.restdockerapis.common.exception.ErrorCode;
+import org.chs.restdockerapis.common.jwt.VerifiedTokenCache.VerifiedToken;
+import org.chs.restdockerapis.common.jwt.principal.AccountPrincipalCache;
 import org.chs.restdockerapis.common.jwt.principal.AccountPrincipalDetails;
+import org.chs.restdockerapis.common.logging.RequestLogContext;
+import org.chs.restdockerapis.common.metrics.RestDockerMetrics;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.chs.tokenissuer.application.TokenIssuerService;
 import org.chs.tokenissuer.common.properties.JwtProperties;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -36,81 +39,118 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
     private final JwtProperties jwtProperties;
     private final AccountRepository accountRepository;
     private final ObjectMapper objectMapper;
+    private final TokenIssuerService tokenIssuerService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AccountPrincipalCache accountPrincipalCache;
+    private final RestDockerMetrics restDockerMetrics;
     private Map<String, Object> body;
 
-    public JwtAuthorizationFilter(AccountRepository accountRepository, JwtProperties jwtProperties, ObjectMapper objectMapper) {
+    public JwtAuthorizationFilter(AccountRepository accountRepository, JwtProperties jwtProperties, ObjectMapper objectMapper,
+                                  TokenIssuerService tokenIssuerService, VerifiedTokenCache verifiedTokenCache,
+                                  AccountPrincipalCache accountPrincipalCache, RestDockerMetrics restDockerMetrics) {
         this.accountRepository = accountRepository;
         this.jwtProperties = jwtProperties;
         this.objectMapper = objectMapper;
+        this.tokenIssuerService = tokenIssuerService;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.accountPrincipalCache = accountPrincipalCache;
+        this.restDockerMetrics = restDockerMetrics;
         body = new HashMap<>();
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        long startNanos = System.nanoTime();
         String jwtHeader = request.getHeader(jwtProperties.getHEADER_STRING());
 
         // header가 있는지 확인
         if(null == jwtHeader || false == jwtHeader.startsWith(jwtProperties.getTOKEN_PREFIX())) {
+            recordElapsed("skip", startNanos);
             filterChain.doFilter(request, response);
             return;
         }
 
-        log.info("Authentication Filter - jwtHeader : {}", jwtHeader);
-
         String token = request.getHeader(jwtProperties.getHEADER_STRING()).replace(jwtProperties.getTOKEN_PREFIX(), "");
-        Map<String, Claim> tokenClaims = null;
-
-        try {
-            // 로그아웃 API가 안되는 상태
-            tokenClaims = JWT.require(Algorithm.HMAC512(jwtProperties.getSECRET_KEY()))
-                    .build()
-                    .verify(token)
-                    .getClaims();
-        } catch (TokenExpiredException e) {
-            logger.warn("the token is expired and not valid anymore", e);
-            sendErrorResponse(request, response, ErrorCode.JWT_EXPIRED_EXCEPTION);
-        } catch (SignatureVerificationException e) {
-            logger.warn("The Token's Signature resulted invalid when verified using the Algorithm: HmacSHA512", e);
-            sendErrorResponse(request, response, ErrorCode.JWT_EXPIRED_EXCEPTION);
+        VerifiedToken verifiedToken = verifiedTokenCache.find(token);
+        String verifyResult = "cached";
+
+        if (null == verifiedToken) {
+            try {
+                // 로그아웃 API가 안되는 상태
+                verifiedToken = verify(token);
+            } catch (TokenExpiredException e) {
+                logger.warn("the token is expired and not valid anymore", e);
+                recordElapsed("expired", startNanos);
+                sendErrorResponse(request, response, ErrorCode.JWT_EXPIRED_EXCEPTION);
+                return;
+            } catch (SignatureVerificationException e) {
+                logger.warn("The Token's Signature resulted invalid when verified using the Algorithm: HmacSHA512", e);
+                recordElapsed("invalid", startNanos);
+                sendErrorResponse(request, response, ErrorCode.JWT_EXPIRED_EXCEPTION);
+                return;
+            }
+
+            verifiedTokenCache.put(token, verifiedToken);
+            verifyResult = "verified";
         }
 
-        String oauthServiceId = tokenClaims.get("oauthServiceId").asString();
-        String thirdPartyType = tokenClaims.get("thirdPartyType").asString();
+        String oauthServiceId = verifiedToken.oauthServiceId();
+        String thirdPartyType = verifiedToken.thirdPartyType();
 
         if(null != oauthServiceId && null != thirdPartyType) {
-            log.info("Authentication Filter - 서명이 정상적으로 됨");
+            // 토큰은 인증 정보이므로 로그에 남기지 않는다
+            log.debug("Authentication Filter - 서명이 정상적으로 됨");
 
-            Optional<AccountEntity> optionalJwtTokenAccount = accountRepository.findByOauthServiceIdEqualsAndThirdPartyTypeEquals(oauthServiceId, ThirdPartyEnum.valueOf(thirdPartyType));
-            if (false == optionalJwtTokenAccount.isPresent()) {
+            ThirdPartyEnum thirdParty = ThirdPartyEnum.valueOf(thirdPartyType);
+            AccountPrincipalDetails principal = accountPrincipalCache.get(oauthServiceId, thirdParty, () -> findPrincipal(oauthServiceId, thirdParty));
+            if (null == principal) {
+                recordElapsed("unknown_account", startNanos);
                 sendErrorResponse(request, response, ErrorCode.JWT_VALID_EXCEPTION);
+                return;
             }
 
-            Authentication authentication = getAuthorities(
-                    optionalJwtTokenAccount.get().getThirdPartyAccessToken(),
-                    optionalJwtTokenAccount.get().getThirdPartyRefreshToken(),
-                    optionalJwtTokenAccount.get().getOauthServiceId(),
-                    optionalJwtTokenAccount.get().getThirdPartyType()
-            );
+            Authentication authentication = new UsernamePasswordAuthenticationToken(principal, null, null);
+            RequestLogContext.putAccount(oauthServiceId);
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
+            recordElapsed(verifyResult, startNanos);
 
             filterChain.doFilter(request, response);
         }
     }
 
-    private Authentication getAuthorities(String oAuthAccessToken, String oAuthRefreshToken, String oAuthServiceId, ThirdPartyEnum thirdPartyType) {
-        return new UsernamePasswordAuthenticationToken(
-                AccountPrincipalDetails.builder()
-                        .oAuthAccessToken(oAuthAccessToken)
-                        .oAuthRefreshToken(oAuthRefreshToken)
-                        .oAuthServiceId(oAuthServiceId)
-                        .thirdPartyType(thirdPartyType)
-                        .build(),
-                null,
-                null);
+    private VerifiedToken verify(String token) {
+        DecodedJWT decodedJWT = tokenIssuerService.verifyToken(token);
+
+        return VerifiedToken.builder()
+                .oauthServiceId(decodedJWT.getClaim("oauthServiceId").asString())
+                .thirdPartyType(decodedJWT.getClaim("thirdPartyType").asString())
+                .expiresAtMillis(null == decodedJWT.getExpiresAt() ? 0 : decodedJWT.getExpiresAt().getTime())
+                .build();
+    }
+
+    private AccountPrincipalDetails findPrincipal(String oauthServiceId, ThirdPartyEnum thirdPartyType) {
+        Optional<AccountEntity> optionalJwtTokenAccount = accountRepository.findByOauthServiceIdEqualsAndThirdPartyTypeEquals(oauthServiceId, thirdPartyType);
+        if (false == optionalJwtTokenAccount.isPresent()) {
+            return null;
+        }
+
+        AccountEntity account = optionalJwtTokenAccount.get();
+        return AccountPrincipalDetails.builder()
+                .oAuthAccessToken(account.getThirdPartyAccessToken())
+                .oAuthRefreshToken(account.getThirdPartyRefreshToken())
+                .oAuthServiceId(account.getOauthServiceId())
+                .thirdPartyType(account.getThirdPartyType())
+                .build();
+    }
+
+    // 이후 필터와 컨트롤러의 처리 시간은 제외하고 인증 필터 자체의 시간만 기록한다
+    private void recordElapsed(String result, long startNanos) {
+        restDockerMetrics.recordJwtFilter(result, System.nanoTime() - startNanos);
     }
 
     private void sendErrorResponse(HttpServletRequest request, HttpServletResponse response, ErrorCode exception) throws IOException {
+        restDockerMetrics.countError(exception);
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
 
         body.put("status", HttpServletResponse.SC_UNAUTHORIZED);
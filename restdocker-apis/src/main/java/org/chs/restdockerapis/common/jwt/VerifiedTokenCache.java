@@ -0,0 +1,97 @@
+package org.chs.restdockerapis.common.jwt;
+
+import lombok.Builder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 이미 서명 검증을 통과한 Access Token 의 Claim 캐시
+ *
+ * 1. 같은 Bearer Token 으로 다시 요청하면 HMAC 검증과 Claim 디코딩을 하지 않는다.
+ * 2. 토큰 원문 대신 SHA-256 해시를 Key 로 사용하여 메모리에 토큰을 남기지 않는다.
+ * 3. 토큰의 exp 가 지나면 캐시에 있더라도 사용하지 않으며, maxEntries 를 넘으면 가장 오래 사용되지 않은 토큰부터 버린다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    });
+
+    private final int maxEntries;
+
+    private final LinkedHashMap<String, VerifiedToken> verifiedTokens;
+
+    public VerifiedTokenCache(@Value("${restdocker.jwt.verified-token-cache.max-entries:10000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.verifiedTokens = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > VerifiedTokenCache.this.maxEntries;
+            }
+        };
+    }
+
+    /** @return 검증된 적이 있고 아직 만료되지 않은 토큰의 Claim, 없다면 null */
+    public VerifiedToken find(String token) {
+        if (0 == maxEntries) {
+            return null;
+        }
+
+        String tokenHash = hash(token);
+        synchronized (this) {
+            VerifiedToken verifiedToken = verifiedTokens.get(tokenHash);
+            if (null == verifiedToken) {
+                return null;
+            }
+
+            if (verifiedToken.isExpired(System.currentTimeMillis())) {
+                verifiedTokens.remove(tokenHash);
+                return null;
+            }
+            return verifiedToken;
+        }
+    }
+
+    public void put(String token, VerifiedToken verifiedToken) {
+        if (0 == maxEntries || verifiedToken.isExpired(System.currentTimeMillis())) {
+            return;
+        }
+
+        String tokenHash = hash(token);
+        synchronized (this) {
+            verifiedTokens.put(tokenHash, verifiedToken);
+        }
+    }
+
+    public synchronized void clear() {
+        verifiedTokens.clear();
+    }
+
+    private String hash(String token) {
+        byte[] digest = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getEncoder().encodeToString(digest);
+    }
+
+    @Builder
+    public record VerifiedToken(
+            String oauthServiceId,
+            String thirdPartyType,
+            long expiresAtMillis
+    ) {
+        private boolean isExpired(long nowMillis) {
+            return nowMillis >= expiresAtMillis;
+        }
+    }
+}
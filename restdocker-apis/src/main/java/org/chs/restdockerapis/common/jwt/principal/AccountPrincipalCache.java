@@ -0,0 +1,123 @@
+package org.chs.restdockerapis.common.jwt.principal;
+
+import org.chs.domain.common.enumerate.ThirdPartyEnum;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * JwtAuthorizationFilter 가 만드는 AccountPrincipalDetails 캐시 ((oauthServiceId, ThirdPartyEnum) 단위)
+ *
+ * 1. 크기 제한 : 최근에 사용된 순서(LRU)로 maxEntries 개의 사용자만 유지한다.
+ * 2. 만료 : 캐시에 넣은 뒤 ttl 이 지나면 다시 DB 에서 읽는다.
+ * 3. 무효화 : AccountService 의 로그인, 로그아웃, 토큰 재발급 시 해당 사용자의 Principal 을 버린다.
+ *
+ * 트랜잭션 안에서 무효화했다면 트랜잭션이 끝날 때(커밋/롤백) 한번 더 무효화하여 커밋 전에 다른 요청이 채운 오래된 값을 지운다.
+ * 조회 결과는 조회를 시작할 때 만든 PrincipalSlot 이 그대로 남아있을 때만 넣으므로,
+ * 조회 도중 무효화되었다면 (Slot 이 지워졌거나 바뀌었다면) 오래된 토큰 정보를 다시 넣지 않는다.
+ */
+@Component
+public class AccountPrincipalCache {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+
+    private final LinkedHashMap<String, PrincipalSlot> principals;
+
+    public AccountPrincipalCache(
+            @Value("${restdocker.principal-cache.max-entries:10000}") int maxEntries,
+            @Value("${restdocker.principal-cache.ttl-seconds:30}") long ttlSeconds
+    ) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        this.principals = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PrincipalSlot> eldest) {
+                return size() > AccountPrincipalCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 Principal 이 있다면 SQL 없이 반환하고, 없다면 loader 로 읽어 캐시에 넣는다.
+     * loader 가 null 을 반환하면 (사용자가 없는 경우) 캐시에 넣지 않는다.
+     */
+    public AccountPrincipalDetails get(String oauthServiceId, ThirdPartyEnum thirdPartyType, Supplier<AccountPrincipalDetails> loader) {
+        if (0 == maxEntries) {
+            return loader.get();
+        }
+
+        String key = toKey(oauthServiceId, thirdPartyType);
+        PrincipalSlot slot;
+        synchronized (this) {
+            slot = principals.get(key);
+            if (null != slot && null != slot.principal && System.nanoTime() - slot.loadedAtNanos < ttlNanos) {
+                return slot.principal;
+            }
+
+            // 처음 조회하거나 만료된 경우 새 Slot 을 만들고, 다른 요청이 조회 중인 Slot 은 같이 사용한다
+            if (null == slot || null != slot.principal) {
+                slot = new PrincipalSlot();
+                principals.put(key, slot);
+            }
+        }
+
+        AccountPrincipalDetails loaded = loader.get();
+
+        synchronized (this) {
+            if (slot == principals.get(key)) {
+                if (null == loaded) {
+                    principals.remove(key);
+                } else {
+                    slot.principal = loaded;
+                    slot.loadedAtNanos = System.nanoTime();
+                }
+            }
+        }
+
+        return loaded;
+    }
+
+    /** 사용자의 토큰 정보가 바뀌었으므로 Principal 을 버린다 */
+    public void evict(String oauthServiceId, ThirdPartyEnum thirdPartyType) {
+        if (null == oauthServiceId || null == thirdPartyType) {
+            return;
+        }
+
+        String key = toKey(oauthServiceId, thirdPartyType);
+        remove(key);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    remove(key);
+                }
+            });
+        }
+    }
+
+    public synchronized void clear() {
+        principals.clear();
+    }
+
+    private synchronized void remove(String key) {
+        principals.remove(key);
+    }
+
+    private String toKey(String oauthServiceId, ThirdPartyEnum thirdPartyType) {
+        return thirdPartyType.name() + ":" + oauthServiceId;
+    }
+
+    // 사용자별 캐시 항목, evict 로 지워진 뒤에는 다시 캐시에 들어가지 않으므로 조회 시작 시점의 세대 역할을 한다
+    private static class PrincipalSlot {
+        private AccountPrincipalDetails principal;
+        private long loadedAtNanos;
+    }
+}
@@ -0,0 +1,32 @@
+package org.chs.restdockerapis.common.logging;
+
+import org.slf4j.MDC;
+
+/**
+ * 요청 처리 중 남기는 모든 로그에 명령어, 사용자를 함께 남기도록 MDC 에 넣는다.
+ * JSON 로그에서는 각 키가 필드로, 콘솔 로그에서는 %X{키} 로 출력된다.
+ */
+public final class RequestLogContext {
+
+    public static final String MAIN_COMMAND = "mainCommand";
+    public static final String SUB_COMMAND = "subCommand";
+    public static final String ACCOUNT = "account";
+
+    private RequestLogContext() {
+    }
+
+    public static void putCommand(Object mainCommand, Object subCommand) {
+        MDC.put(MAIN_COMMAND, String.valueOf(mainCommand));
+        MDC.put(SUB_COMMAND, String.valueOf(subCommand));
+    }
+
+    public static void putAccount(String oauthServiceId) {
+        MDC.put(ACCOUNT, oauthServiceId);
+    }
+
+    public static void clear() {
+        MDC.remove(MAIN_COMMAND);
+        MDC.remove(SUB_COMMAND);
+        MDC.remove(ACCOUNT);
+    }
+}
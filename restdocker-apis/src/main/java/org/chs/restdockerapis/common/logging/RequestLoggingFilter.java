@@ -0,0 +1,79 @@
+package org.chs.restdockerapis.common.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.chs.restdockerapis.common.sql_metrics.SqlRequestStatistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * 요청이 끝나면 명령어, 사용자, 처리 시간, SQL Statement 수를 담은 요청 로그를 하나 남긴다.
+ *
+ * 1. SqlStatisticsFilter 바로 안쪽에서 실행되어, URL 로 추론된 명령어를 MDC 에 넣고 요청이 끝나면 MDC 를 비운다.
+ * 2. 정상 요청은 SAMPLED 로 일부만 남기고, 4xx, 5xx 응답과 slow-request-millis 이상 걸린 요청은 모두 남긴다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class RequestLoggingFilter extends OncePerRequestFilter {
+
+    private static final String LOG_FORMAT_REQUEST = "request completed {} {} {} {} {}";
+
+    private final long slowRequestNanos;
+
+    public RequestLoggingFilter(@Value("${restdocker.logging.slow-request-millis:1000}") long slowRequestMillis) {
+        this.slowRequestNanos = TimeUnit.MILLISECONDS.toNanos(slowRequestMillis);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        long startNanos = System.nanoTime();
+        putCommand();
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            // /command/exec 는 명령어 분석 후에 명령어가 정해지므로 다시 넣는다
+            putCommand();
+            logRequest(request, response, elapsedNanos);
+            RequestLogContext.clear();
+        }
+    }
+
+    private void putCommand() {
+        SqlRequestStatistics statistics = SqlRequestStatistics.current();
+        if (null != statistics && statistics.isTagged()) {
+            RequestLogContext.putCommand(statistics.mainCommandTag(), statistics.subCommandTag());
+        }
+    }
+
+    private void logRequest(HttpServletRequest request, HttpServletResponse response, long elapsedNanos) {
+        SqlRequestStatistics statistics = SqlRequestStatistics.current();
+        Object[] arguments = {
+                kv("method", request.getMethod()),
+                kv("uri", request.getRequestURI()),
+                kv("status", response.getStatus()),
+                kv("latencyMs", TimeUnit.NANOSECONDS.toMillis(elapsedNanos)),
+                kv("sqlStatements", null == statistics ? 0 : statistics.getStatements())
+        };
+
+        if (400 <= response.getStatus() || slowRequestNanos <= elapsedNanos) {
+            log.info(LOG_FORMAT_REQUEST, arguments);
+            return;
+        }
+
+        log.info(SampledLogTurboFilter.SAMPLED, LOG_FORMAT_REQUEST, arguments);
+    }
+}
@@ -0,0 +1,51 @@
+package org.chs.restdockerapis.common.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Locale;
+
+/**
+ * OAuth 제공자(Kakao, Naver) 호출의 지연 시간을 제공자, API 경로, 응답 코드별로 기록한다.
+ * 호출하는 API 경로는 설정값으로 고정되어 있으므로 Query String 만 제외하면 태그 수가 늘어나지 않는다.
+ */
+@RequiredArgsConstructor
+public class OAuthMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    private final RestDockerMetrics restDockerMetrics;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        long startNanos = System.nanoTime();
+        String status = "IO_ERROR";
+
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            status = String.valueOf(response.getStatusCode().value());
+            return response;
+        } finally {
+            URI uri = request.getURI();
+            restDockerMetrics.recordOAuthRequest(provider(uri.getHost()), uri.getPath(), status, System.nanoTime() - startNanos);
+        }
+    }
+
+    private String provider(String host) {
+        if (null == host) {
+            return "unknown";
+        }
+
+        String lowerHost = host.toLowerCase(Locale.ROOT);
+        if (lowerHost.contains("kakao")) {
+            return "kakao";
+        }
+        if (lowerHost.contains("naver")) {
+            return "naver";
+        }
+        return lowerHost;
+    }
+}
@@ -0,0 +1,102 @@
+package org.chs.restdockerapis.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.chs.restdockerapis.command.enumerate.MainCommandEnum;
+import org.chs.restdockerapis.command.enumerate.SubCommandEnum;
+import org.chs.restdockerapis.common.exception.ErrorCode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RestDocker 의 비즈니스 지표(명령어, 에러, JWT 인증, OAuth 호출)를 기록한다.
+ *
+ * 1. 지표 이름과 태그를 한 곳에서 관리해 Prometheus 의 시계열 수(태그 조합)가 늘어나지 않도록 한다.
+ * 2. SLO 를 설정할 수 있도록 지연 시간 Timer 는 Percentile Histogram 을 함께 내보낸다.
+ * 3. MeterRegistry 가 없는 환경(단위 테스트 등)에서는 아무것도 기록하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RestDockerMetrics {
+
+    public static final String METRIC_PREFIX = "restdocker.";
+
+    public static final String SUCCESS = "success";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    /**
+     * @param result 성공 시 success, 실패 시 ErrorCode 이름 또는 예외 클래스 이름
+     */
+    public void recordCommand(MainCommandEnum mainCommand, SubCommandEnum subCommand, String result, long elapsedNanos) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (null == registry) {
+            return;
+        }
+
+        Timer.builder(METRIC_PREFIX + "command")
+                .description("docker 명령어 처리 시간")
+                .tag("main", mainCommand.name())
+                .tag("sub", subCommand.name())
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void countError(ErrorCode errorCode) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (null == registry || null == errorCode) {
+            return;
+        }
+
+        // resultCode 는 중복된 값이 있으므로 ErrorCode 이름으로 구분한다
+        Counter.builder(METRIC_PREFIX + "errors")
+                .description("ErrorCode 별 에러 응답 수")
+                .tag("code", errorCode.name())
+                .tag("status", String.valueOf(errorCode.getHttpStatus().value()))
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * @param result skip(토큰 없음), cached(검증 결과 재사용), verified(서명 검증), expired, invalid, unknown_account
+     */
+    public void recordJwtFilter(String result, long elapsedNanos) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (null == registry) {
+            return;
+        }
+
+        Timer.builder(METRIC_PREFIX + "jwt.filter")
+                .description("JWT 인증 필터의 처리 시간 (이후 필터, 컨트롤러 제외)")
+                .tag("result", result)
+                .register(registry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param provider kakao, naver
+     * @param uri OAuth 제공자의 고정된 API 경로 (Query String 제외)
+     * @param status HTTP 상태 코드 또는 IO_ERROR
+     */
+    public void recordOAuthRequest(String provider, String uri, String status, long elapsedNanos) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (null == registry) {
+            return;
+        }
+
+        Timer.builder(METRIC_PREFIX + "oauth.request")
+                .description("OAuth 제공자 API 호출 시간")
+                .tag("provider", provider)
+                .tag("uri", uri)
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,81 @@
+package org.chs.restdockerapis.common.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.chs.domain.container.ContainerEntityRepository;
+import org.chs.domain.container.dto.ContainerStatusCount;
+import org.chs.domain.container.enumerate.ContainerStatusEnum;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+/**
+ * 사용자들의 Sandbox(컨테이너) 사용량을 상태별 Gauge 로 노출한다.
+ *
+ * 1. 사용자별 태그는 사용자 수만큼 시계열이 늘어나므로, 상태별 컨테이너 수와 해당 상태의 컨테이너를 가진 사용자 수로 노출한다.
+ *    (restdocker.sandbox.containers / restdocker.sandbox.accounts 로 사용자당 평균 컨테이너 수를 구할 수 있다)
+ * 2. 한 번의 Scrape 에서 모든 Gauge 가 읽히므로, 집계 쿼리 결과를 refresh-seconds 동안 재사용해 쿼리는 한 번만 실행한다.
+ */
+@Component
+public class SandboxMetrics implements MeterBinder {
+
+    private final ContainerEntityRepository containerEntityRepository;
+    private final long refreshNanos;
+
+    private volatile Map<ContainerStatusEnum, ContainerStatusCount> snapshot = new EnumMap<>(ContainerStatusEnum.class);
+    private volatile long refreshedAtNanos;
+    private volatile boolean refreshed;
+
+    public SandboxMetrics(ContainerEntityRepository containerEntityRepository,
+                          @Value("${restdocker.metrics.sandbox.refresh-seconds:30}") long refreshSeconds) {
+        this.containerEntityRepository = containerEntityRepository;
+        this.refreshNanos = TimeUnit.SECONDS.toNanos(refreshSeconds);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (ContainerStatusEnum status : ContainerStatusEnum.values()) {
+            registerGauge(registry, "containers", "상태별 컨테이너 수", status, ContainerStatusCount::getContainers);
+            registerGauge(registry, "accounts", "해당 상태의 컨테이너를 가진 사용자 수", status, ContainerStatusCount::getAccounts);
+        }
+    }
+
+    private void registerGauge(MeterRegistry registry, String name, String description,
+                               ContainerStatusEnum status, ToLongFunction<ContainerStatusCount> value) {
+        Gauge.builder(RestDockerMetrics.METRIC_PREFIX + "sandbox." + name, this, metrics -> {
+                    ContainerStatusCount count = metrics.currentSnapshot().get(status);
+                    return null == count ? 0 : value.applyAsLong(count);
+                })
+                .description(description)
+                .tag("status", status.name())
+                .register(registry);
+    }
+
+    Map<ContainerStatusEnum, ContainerStatusCount> currentSnapshot() {
+        if (false == refreshed || System.nanoTime() - refreshedAtNanos >= refreshNanos) {
+            refresh();
+        }
+        return snapshot;
+    }
+
+    private synchronized void refresh() {
+        // 다른 스레드가 먼저 갱신했다면 다시 조회하지 않는다
+        if (refreshed && System.nanoTime() - refreshedAtNanos < refreshNanos) {
+            return;
+        }
+
+        Map<ContainerStatusEnum, ContainerStatusCount> counts = new EnumMap<>(ContainerStatusEnum.class);
+        for (ContainerStatusCount count : containerEntityRepository.countByStatus()) {
+            counts.put(count.getStatus(), count);
+        }
+
+        snapshot = counts;
+        refreshedAtNanos = System.nanoTime();
+        refreshed = true;
+    }
+}
@@ -0,0 +1,48 @@
+package org.chs.restdockerapis.common.page;
+
+import lombok.Builder;
+import org.chs.domain.common.page.KeysetCursor;
+import org.chs.restdockerapis.common.exception.CustomBadRequestException;
+import org.chs.restdockerapis.common.exception.ErrorCode;
+
+/**
+ * ls API 의 Keyset Pagination 요청 (Query Parameter : cursor, size)
+ *
+ * cursor, size 가 모두 없다면 기존처럼 전체 목록을 한번에 응답한다.
+ * 첫 페이지는 size 만, 다음 페이지는 이전 응답의 nextCursor 를 함께 전달한다.
+ */
+@Builder
+public record KeysetPageRequestDto(
+        String cursor,
+        Integer size
+) {
+    public static final int DEFAULT_SIZE = 100;
+    public static final int MAX_SIZE = 1000;
+
+    public boolean isPaged() {
+        return null != cursor || null != size;
+    }
+
+    public KeysetCursor keysetCursor() {
+        if (null == cursor) {
+            return null;
+        }
+
+        try {
+            return KeysetCursor.decode(cursor);
+        } catch (IllegalArgumentException exception) {
+            throw CustomBadRequestException.of(ErrorCode.ARGUMENT_NOT_VALID_EXCEPTION);
+        }
+    }
+
+    public int pageSize() {
+        if (null == size) {
+            return DEFAULT_SIZE;
+        }
+
+        if (size <= 0 || size > MAX_SIZE) {
+            throw CustomBadRequestException.of(ErrorCode.ARGUMENT_NOT_VALID_EXCEPTION);
+        }
+        return size;
+    }
+}
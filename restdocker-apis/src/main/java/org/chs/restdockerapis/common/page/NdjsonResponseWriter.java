@@ -0,0 +1,66 @@
+package org.chs.restdockerapis.common.page;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * ls 결과를 NDJSON(한 줄에 한 행) 으로 응답한다.
+ *
+ * 1. 응답 스레드에서 읽기 전용 트랜잭션을 열고, Repository 의 Stream 이 JDBC Cursor 를 따라 읽는 행을 바로 응답에 쓴다.
+ * 2. 결과 전체를 List 로 모으지 않으므로 요청당 메모리가 결과 크기에 비례해서 늘어나지 않는다.
+ * 3. FLUSH_ROWS 행마다 flush 하여 클라이언트가 앞부분부터 받아볼 수 있게 한다.
+ */
+@Component
+public class NdjsonResponseWriter {
+
+    private static final int FLUSH_ROWS = 100;
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter rowWriter;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public NdjsonResponseWriter(ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.objectMapper = objectMapper;
+        // 행마다 flush 하지 않고 FLUSH_ROWS 단위로 모아서 내보낸다
+        this.rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public <T> StreamingResponseBody write(Supplier<Stream<T>> rows) {
+        return outputStream -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<T> stream = rows.get();
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                // 응답 OutputStream 은 컨테이너가 닫으며, 행 사이에는 공백 대신 줄바꿈만 쓴다
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+
+                int writtenRows = 0;
+                Iterator<T> iterator = stream.iterator();
+                while (iterator.hasNext()) {
+                    rowWriter.writeValue(generator, iterator.next());
+                    generator.writeRaw('\n');
+
+                    if (0 == ++writtenRows % FLUSH_ROWS) {
+                        generator.flush();
+                    }
+                }
+                generator.flush();
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        });
+    }
+}
@@ -0,0 +1,84 @@
+package org.chs.restdockerapis.common.sql_metrics;
+
+import lombok.Getter;
+import org.chs.restdockerapis.command.enumerate.MainCommandEnum;
+import org.chs.restdockerapis.command.enumerate.SubCommandEnum;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP 요청 하나가 실행한 SQL 의 Statement 수, JDBC 실행 시간, 행 수
+ *
+ * 1. SqlStatisticsFilter 가 요청 스레드에 열고 닫으며, 요청 밖(스케줄러, 비동기 응답 스레드)에서는 아무것도 세지 않는다.
+ * 2. JDBC Batch 는 DB 왕복 한번이므로 Statement 1개로 센다.
+ * 3. 행 수는 SELECT 로 읽은 행과 INSERT/UPDATE/DELETE 로 변경된 행의 합이다.
+ */
+@Getter
+public final class SqlRequestStatistics {
+
+    private static final String UNKNOWN_COMMAND = "none";
+
+    private static final ThreadLocal<SqlRequestStatistics> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long elapsedNanos;
+    private long rows;
+
+    private MainCommandEnum mainCommand;
+    private SubCommandEnum subCommand;
+
+    private SqlRequestStatistics() {
+    }
+
+    public static SqlRequestStatistics start() {
+        SqlRequestStatistics statistics = new SqlRequestStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /** @return 현재 요청의 통계, 요청 스레드가 아니라면 null */
+    public static SqlRequestStatistics current() {
+        return CURRENT.get();
+    }
+
+    public static void finish() {
+        CURRENT.remove();
+    }
+
+    /** 명령어 원문을 분석한 경우(/api/v1/command/exec) URL 로 추론한 명령어를 분석 결과로 바꾼다 */
+    public static void tagCommand(MainCommandEnum mainCommand, SubCommandEnum subCommand) {
+        SqlRequestStatistics statistics = CURRENT.get();
+        if (null != statistics) {
+            statistics.mainCommand = mainCommand;
+            statistics.subCommand = subCommand;
+        }
+    }
+
+    void addStatement(long elapsedNanos, long changedRows) {
+        this.statements++;
+        this.elapsedNanos += elapsedNanos;
+        this.rows += changedRows;
+    }
+
+    void addReadRow() {
+        this.rows++;
+    }
+
+    public boolean isTagged() {
+        return null != mainCommand;
+    }
+
+    public String mainCommandTag() {
+        return null == mainCommand ? UNKNOWN_COMMAND : mainCommand.name();
+    }
+
+    public String subCommandTag() {
+        return null == subCommand ? UNKNOWN_COMMAND : subCommand.name();
+    }
+
+    public String toHeaderValue() {
+        return "statements=" + statements
+                + "; time-ms=" + String.format("%.3f", elapsedNanos / (double) TimeUnit.MILLISECONDS.toNanos(1))
+                + "; rows=" + rows;
+    }
+}
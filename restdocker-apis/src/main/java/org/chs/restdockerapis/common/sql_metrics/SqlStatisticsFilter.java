@@ -0,0 +1,93 @@
+package org.chs.restdockerapis.common.sql_metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.chs.restdockerapis.command.enumerate.MainCommandEnum;
+import org.chs.restdockerapis.command.enumerate.SubCommandEnum;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 SqlRequestStatistics 를 열고, 요청이 끝나면 명령어(MainCommand, SubCommand) 별 Micrometer 지표로 기록한다.
+ *
+ * 1. JWT 인증 필터의 사용자 조회까지 포함하도록 Security 필터보다 먼저 실행한다.
+ * 2. 명령어는 /api/v1/{MainCommand}/{SubCommand} 형태의 URL 로 추론하고, /api/v1/command/exec 는 명령어 분석 결과로 바꾼다.
+ * 3. 명령어로 추론되지 않고 SQL 도 실행하지 않은 요청(정적 리소스, 문서 등)은 기록하지 않는다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+
+    public static final String METRIC_PREFIX = "restdocker.sql.";
+
+    private static final String API_PREFIX = "/api/v1/";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        SqlRequestStatistics statistics = SqlRequestStatistics.start();
+        tagCommandFromPath(request.getRequestURI());
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlRequestStatistics.finish();
+            record(statistics);
+        }
+    }
+
+    private void tagCommandFromPath(String requestUri) {
+        if (null == requestUri || false == requestUri.startsWith(API_PREFIX)) {
+            return;
+        }
+
+        String[] segments = requestUri.substring(API_PREFIX.length()).split("/");
+        if (segments.length < 2) {
+            return;
+        }
+
+        MainCommandEnum mainCommand = findEnum(MainCommandEnum.class, segments[0]);
+        SubCommandEnum subCommand = findEnum(SubCommandEnum.class, segments[1]);
+        if (null != mainCommand && null != subCommand) {
+            SqlRequestStatistics.tagCommand(mainCommand, subCommand);
+        }
+    }
+
+    private <E extends Enum<E>> E findEnum(Class<E> enumType, String segment) {
+        try {
+            return Enum.valueOf(enumType, segment.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            return null;
+        }
+    }
+
+    private void record(SqlRequestStatistics statistics) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (null == registry || (false == statistics.isTagged() && 0 == statistics.getStatements())) {
+            return;
+        }
+
+        Tags tags = Tags.of(
+                "main", statistics.mainCommandTag(),
+                "sub", statistics.subCommandTag()
+        );
+
+        registry.summary(METRIC_PREFIX + "statements", tags).record(statistics.getStatements());
+        registry.timer(METRIC_PREFIX + "time", tags).record(statistics.getElapsedNanos(), TimeUnit.NANOSECONDS);
+        registry.summary(METRIC_PREFIX + "rows", tags).record(statistics.getRows());
+    }
+}
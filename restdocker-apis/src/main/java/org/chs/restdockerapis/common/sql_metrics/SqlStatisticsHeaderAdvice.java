@@ -0,0 +1,44 @@
+package org.chs.restdockerapis.common.sql_metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 디버그 모드(restdocker.sql-metrics.debug-header=true) 에서 응답 헤더로 해당 요청의 SQL 통계를 내려준다.
+ *
+ * 헤더는 본문을 쓰기 직전에만 추가할 수 있으므로, 서비스의 트랜잭션이 끝난 뒤 호출되는 ResponseBodyAdvice 에서 추가한다.
+ */
+@ControllerAdvice
+public class SqlStatisticsHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER_NAME = "X-RestDocker-Sql";
+
+    private final boolean debugHeader;
+
+    public SqlStatisticsHeaderAdvice(@Value("${restdocker.sql-metrics.debug-header:false}") boolean debugHeader) {
+        this.debugHeader = debugHeader;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return debugHeader;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlRequestStatistics statistics = SqlRequestStatistics.current();
+        if (null != statistics) {
+            response.getHeaders().set(HEADER_NAME, statistics.toHeaderValue());
+        }
+
+        return body;
+    }
+}
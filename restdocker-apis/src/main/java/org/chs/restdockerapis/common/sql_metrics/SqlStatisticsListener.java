@@ -0,0 +1,82 @@
+package org.chs.restdockerapis.common.sql_metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * datasource-proxy 로 감싼 DataSource 의 Statement 실행과 ResultSet 읽기를 현재 요청의 SqlRequestStatistics 에 누적한다.
+ */
+public class SqlStatisticsListener implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final String START_NANOS = "restdocker.sql.start-nanos";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (null != SqlRequestStatistics.current()) {
+            execInfo.addCustomValue(START_NANOS, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlRequestStatistics statistics = SqlRequestStatistics.current();
+        if (null == statistics) {
+            return;
+        }
+
+        // datasource-proxy 의 elapsedTime 은 밀리초 단위라 짧은 쿼리가 0 으로 누적되므로 직접 잰다
+        Long startNanos = execInfo.getCustomValue(START_NANOS, Long.class);
+        long elapsedNanos = null == startNanos ? 0 : System.nanoTime() - startNanos;
+
+        statistics.addStatement(elapsedNanos, changedRows(execInfo.getResult()));
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (false == executionContext.getTarget() instanceof ResultSet
+                || false == "next".equals(executionContext.getMethod().getName())
+                || false == Boolean.TRUE.equals(executionContext.getResult())) {
+            return;
+        }
+
+        SqlRequestStatistics statistics = SqlRequestStatistics.current();
+        if (null != statistics) {
+            statistics.addReadRow();
+        }
+    }
+
+    private long changedRows(Object result) {
+        if (result instanceof Integer count) {
+            return Math.max(0, count);
+        }
+        if (result instanceof Long count) {
+            return Math.max(0, count);
+        }
+        // executeBatch 의 결과, 드라이버가 건수를 모르면 SUCCESS_NO_INFO(-2) 를 돌려주므로 음수는 제외한다
+        if (result instanceof int[] counts) {
+            long sum = 0;
+            for (int count : counts) {
+                sum += Math.max(0, count);
+            }
+            return sum;
+        }
+        if (result instanceof long[] counts) {
+            long sum = 0;
+            for (long count : counts) {
+                sum += Math.max(0, count);
+            }
+            return sum;
+        }
+        return 0;
+    }
+}
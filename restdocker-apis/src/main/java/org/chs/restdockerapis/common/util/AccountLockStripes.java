@@ -0,0 +1,51 @@
+package org.chs.restdockerapis.common.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자(OAuthServiceId) 단위의 Striped Lock
+ *
+ * 1. 사용자마다 Lock 을 만들지 않고, 고정된 개수(stripes)의 Lock 중 OAuthServiceId 의 hash 로 하나를 고른다.
+ *    사용자 수와 관계없이 메모리가 일정하고, 다른 사용자는 같은 Stripe 에 걸리지 않는 한 병렬로 실행된다.
+ * 2. ReentrantLock 이므로 배치 안에서 같은 사용자의 명령어가 다시 Lock 을 잡아도 막히지 않고,
+ *    synchronized 와 달리 가상 스레드가 대기하는 동안 캐리어 스레드를 붙잡지 않는다.
+ * 3. 한 요청은 한 사용자의 Lock 만 잡으므로 Lock 순서로 인한 Deadlock 이 생기지 않는다.
+ */
+@Component
+public class AccountLockStripes {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    public AccountLockStripes(@Value("${restdocker.account-lock.stripes:256}") int stripeCount) {
+        // hash 를 나머지 연산 대신 mask 로 자르기 위해 2의 거듭제곱으로 올린다
+        int size = 1;
+        while (size < stripeCount) {
+            size <<= 1;
+        }
+
+        this.stripes = new ReentrantLock[size];
+        for (int index = 0; index < size; index++) {
+            stripes[index] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    public Lock lockFor(String oauthServiceId) {
+        return stripes[stripeIndex(oauthServiceId)];
+    }
+
+    int stripeIndex(String oauthServiceId) {
+        int hash = oauthServiceId.hashCode();
+        // 하위 비트만 쓰므로 상위 비트를 섞어 비슷한 ID 가 같은 Stripe 에 몰리지 않도록 한다
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    int size() {
+        return stripes.length;
+    }
+}
@@ -0,0 +1,61 @@
+package org.chs.restdockerapis.common.util;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 명령어 일괄 실행(batch) 동안에만 살아있는 조회 결과 캐시
+ *
+ * 같은 배치 안에서 반복되는 사용자 조회, 컨테이너 목록 조회를 한번만 DB 에 보내기 위해 사용한다.
+ * 배치 밖(단건 요청)에서는 아무것도 저장하지 않고 항상 loader 를 그대로 호출한다.
+ */
+@Component
+public class BatchLookupCache {
+
+    public static final String ACCOUNT = "account";
+    public static final String CONTAINER_LIST = "containerList";
+
+    private final ThreadLocal<Map<String, Map<String, Object>>> lookups = new ThreadLocal<>();
+
+    /** 배치 범위를 열고 task 가 끝나면(예외 포함) 캐시를 비운다 */
+    public <T> T runInBatch(Supplier<T> task) {
+        if (null != lookups.get()) {
+            return task.get();
+        }
+
+        lookups.set(new HashMap<>());
+        try {
+            return task.get();
+        } finally {
+            lookups.remove();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T lookup(String category, String key, Supplier<T> loader) {
+        Map<String, Map<String, Object>> categories = lookups.get();
+        if (null == categories) {
+            return loader.get();
+        }
+
+        Map<String, Object> cached = categories.computeIfAbsent(category, ignored -> new HashMap<>());
+        if (cached.containsKey(key)) {
+            return (T) cached.get(key);
+        }
+
+        T loaded = loader.get();
+        cached.put(key, loaded);
+        return loaded;
+    }
+
+    /** 상태를 바꾸는 명령어 이후에는 해당 카테고리의 조회 결과를 다시 읽도록 비운다 */
+    public void evict(String category) {
+        Map<String, Map<String, Object>> categories = lookups.get();
+        if (null != categories) {
+            categories.remove(category);
+        }
+    }
+}
@@ -7,4 +7,14 @@ public interface ContainerArgProperties {
     String NETWORK = "--net";
     String IP = "--ip";
     String PORT = "-p";
+
+    String ALL = "-a";
+    String LATEST = "-l";
+    String LAST = "-n";
+    String FILTER = "--filter";
+    String FILTER_SHORT = "-f";
+
+    String FILTER_STATUS = "status";
+    String FILTER_NAME = "name";
+    String FILTER_ANCESTOR = "ancestor";
 }
@@ -1,9 +1,13 @@
 package org.chs.restdockerapis.container.application;
 
 import lombok.RequiredArgsConstructor;
+import org.chs.domain.common.cache.AccountStateCache;
+import org.chs.domain.common.page.KeysetSlice;
 import org.chs.domain.container.ContainerEntityRepository;
 import org.chs.domain.container.dto.ContainerDetailElements;
 import org.chs.domain.container.dto.ContainerElements;
+import org.chs.domain.container.dto.ContainerLsFilter;
+import org.chs.domain.container.dto.ContainerRunSnapshot;
 import org.chs.domain.container.dto.ContainerValidElementsDto;
 import org.chs.domain.container.entity.ContainerEntity;
 import org.chs.domain.container.enumerate.ContainerStatusEnum;
@@ -14,17 +18,28 @@ import org.chs.domain.network.NetworkEntityRepository;
 import org.chs.domain.network.dto.NetworkDetailElements;
 import org.chs.domain.network.entity.NetworkContainerMappingEntity;
 import org.chs.domain.network.entity.NetworkEntity;
+import org.chs.restdockerapis.command.enumerate.MainCommandEnum;
+import org.chs.restdockerapis.command.enumerate.SubCommandEnum;
+import org.chs.restdockerapis.common.aop.annotation.AccountLock;
+import org.chs.restdockerapis.common.aop.annotation.CommandMetric;
 import org.chs.restdockerapis.common.argument_resolver.dto.GetRequesterDto;
 import org.chs.restdockerapis.common.exception.CustomBadRequestException;
 import org.chs.restdockerapis.common.exception.ErrorCode;
+import org.chs.restdockerapis.common.page.KeysetPageRequestDto;
+import org.chs.restdockerapis.common.page.NdjsonResponseWriter;
+import org.chs.restdockerapis.common.util.BatchLookupCache;
 import org.chs.restdockerapis.container.presentation.dto.*;
 import org.chs.restdockerapis.image.presentation.dto.DockerCommandRequestDto;
 import org.chs.restdockerapis.network.util.AddressUtils;
+import org.chs.restdockerapis.network.util.ContainerIpAllocator;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @Transactional
@@ -35,72 +50,181 @@ public class ContainerService {
     private final NetworkEntityRepository networkEntityRepository;
     private final ContainerEntityRepository containerEntityRepository;
     private final NetworkContainerMappingEntityRepository networkContainerMappingEntityRepository;
+    private final AccountStateCache accountStateCache;
 
     private final AddressUtils addressUtils;
+    private final ContainerIpAllocator containerIpAllocator;
+    private final BatchLookupCache batchLookupCache;
+    private final NdjsonResponseWriter ndjsonResponseWriter;
 
     /**
      * 예상 명령어 : docker ps, docker container ps, docker ls, docker container ls
      * 예상 인자 :
      *          -l (가장 마지막에 생성된 컨테이너)
      *          -a (모든 상태의 컨테이너)
+     *          -n ${개수} (마지막에 생성된 순서로 개수만큼의 컨테이너)
+     *          --filter, -f ${key}=${value} (status, name, ancestor)
+     *
+     * 참고사항 :
+     *          -a 와 --filter status 가 없다면 Running 상태의 컨테이너만 조회
+     *          같은 key 의 status 필터는 OR 로 묶이며, 나머지 조건은 AND 로 묶인다
+     *          조건은 모두 SQL 로 변환되어 조건에 맞는 컨테이너만 DB 에서 읽어온다
      *
      * @param requesterInfo 사용자 기본 정보 (IP, OAuthServiceId, AccessToken, RefreshToken, ThirdPartyEnum)
      * @param request 명령어의 추가 요구사항 List(인자 값)
      * @return 요청을 보낸 사용자에 해당하고, 조건에 부합하는 모든 컨테이너
      */
     @Transactional(readOnly = true)
+    @CommandMetric(main = MainCommandEnum.CONTAINER, sub = SubCommandEnum.LS)
     public LsContainerResponseDto lsContainer(GetRequesterDto requesterInfo, DockerCommandRequestDto request) {
+        return lsContainer(requesterInfo, request, KeysetPageRequestDto.builder().build());
+    }
+
+    /**
+     * page 에 cursor 나 size 가 있다면 (create_date, pk) 기준 Keyset Pagination 으로 한 페이지만 조회한다.
+     * -l, -n 은 조회할 개수를 직접 정하므로 페이지 조회와 함께 사용할 수 없다.
+     *
+     * @param page Keyset Pagination 요청 (cursor, size)
+     * @return 조건에 부합하는 컨테이너의 한 페이지와 다음 페이지의 Cursor
+     */
+    @Transactional(readOnly = true)
+    @CommandMetric(main = MainCommandEnum.CONTAINER, sub = SubCommandEnum.LS)
+    public LsContainerResponseDto lsContainer(GetRequesterDto requesterInfo, DockerCommandRequestDto request, KeysetPageRequestDto page) {
+        ContainerLsFilter filter = castCommandToLsFilter(request.argCommands());
+
+        if (null != page && page.isPaged()) {
+            if (filter.isLatest() || null != filter.getLimit()) {
+                throw CustomBadRequestException.of(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
+            }
+
+            KeysetSlice<ContainerElements> containerSlice = containerEntityRepository.lsContainer(
+                    requesterInfo.id(), filter, page.keysetCursor(), page.pageSize()
+            );
+
+            return LsContainerResponseDto.builder()
+                    .containerElementsList(containerSlice.elements())
+                    .nextCursor(containerSlice.encodedNextCursor())
+                    .build();
+        }
+
+        List<ContainerElements> containerElementsList = filter.isUnfiltered()
+                ? findContainerList(requesterInfo.id())
+                : containerEntityRepository.lsContainer(requesterInfo.id(), filter);
+
+        return LsContainerResponseDto.builder()
+                .containerElementsList(containerElementsList)
+                .build();
+    }
+
+    /**
+     * lsContainer 와 같은 인자를 받아 조건에 부합하는 컨테이너를 NDJSON 으로 한 행씩 응답한다.
+     * 인자 검증은 응답을 시작하기 전에 끝내고, 조회는 응답을 쓰는 시점에 별도의 읽기 전용 트랜잭션에서 실행된다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public StreamingResponseBody streamContainer(GetRequesterDto requesterInfo, DockerCommandRequestDto request) {
+        ContainerLsFilter filter = castCommandToLsFilter(request.argCommands());
+        String oauthServiceId = requesterInfo.id();
+
+        return ndjsonResponseWriter.write(() -> containerEntityRepository.streamContainer(oauthServiceId, filter));
+    }
+
+    private ContainerLsFilter castCommandToLsFilter(List<String> argCommands) {
         boolean allStatus = false;
         boolean lastCreate = false;
+        Integer limit = null;
+        Set<ContainerStatusEnum> statuses = EnumSet.noneOf(ContainerStatusEnum.class);
+        String name = null;
+        String[] imageNameAndTag = null;
+
+        for (String argCommand : argCommands) {
+            String[] args = argCommand.split(" ");
 
-        for (String arg : request.argCommands()) {
-            switch (arg) {
-                case "-a" : {
-                    if (allStatus)
-                        throw new CustomBadRequestException(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
+            switch (args[0]) {
+                case ContainerArgProperties.ALL -> {
+                    if (allStatus || 1 != args.length)
+                        throw CustomBadRequestException.of(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
 
                     allStatus = true;
-                    break;
                 }
-                case "-l" : {
-                    if (lastCreate)
-                        throw new CustomBadRequestException(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
+                case ContainerArgProperties.LATEST -> {
+                    if (lastCreate || 1 != args.length)
+                        throw CustomBadRequestException.of(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
 
                     lastCreate = true;
-                    break;
                 }
-                default:
-                    throw new CustomBadRequestException(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
+                case ContainerArgProperties.LAST -> {
+                    if (null != limit || 2 != args.length)
+                        throw CustomBadRequestException.of(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
+
+                    limit = parseLimit(args[1]);
+                }
+                case ContainerArgProperties.FILTER, ContainerArgProperties.FILTER_SHORT -> {
+                    String[] keyValue = 2 == args.length ? args[1].split("=", 2) : new String[0];
+                    if (2 != keyValue.length || keyValue[1].isEmpty())
+                        throw CustomBadRequestException.of(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
+
+                    switch (keyValue[0]) {
+                        case ContainerArgProperties.FILTER_STATUS -> statuses.add(parseStatus(keyValue[1]));
+                        case ContainerArgProperties.FILTER_NAME -> {
+                            if (null != name)
+                                throw CustomBadRequestException.of(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
+
+                            name = keyValue[1];
+                        }
+                        case ContainerArgProperties.FILTER_ANCESTOR -> {
+                            if (null != imageNameAndTag)
+                                throw CustomBadRequestException.of(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
+
+                            imageNameAndTag = keyValue[1].split(":", 2);
+                        }
+                        default -> throw CustomBadRequestException.of(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
+                    }
+                }
+                default -> throw CustomBadRequestException.of(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
             }
         }
 
-        List<ContainerElements> containerElementsList = containerEntityRepository.lsContainer(requesterInfo.id());
-
-        if (false == allStatus) {
-            containerElementsList = filterContainerRunning(containerElementsList);
-        }
-        if (true == lastCreate) {
-            containerElementsList = filterLastCreateContainer(containerElementsList);
+        if (false == allStatus && statuses.isEmpty()) {
+            statuses.add(ContainerStatusEnum.Running);
         }
 
-        return LsContainerResponseDto.builder()
-                .containerElementsList(containerElementsList)
+        return ContainerLsFilter.builder()
+                .statuses(statuses)
+                .latest(lastCreate)
+                .limit(limit)
+                .name(name)
+                .imageName(null == imageNameAndTag ? null : imageNameAndTag[0])
+                .imageTag(null == imageNameAndTag || 1 == imageNameAndTag.length ? null : imageNameAndTag[1])
                 .build();
     }
 
-    private List<ContainerElements> filterContainerRunning(List<ContainerElements> containerElementsList) {
-        return containerElementsList.stream().filter(element -> {
-            if (element.getStatus().equals(ContainerStatusEnum.Running)) {
-                return true;
+    private Integer parseLimit(String limit) {
+        try {
+            int parsedLimit = Integer.parseInt(limit);
+            if (parsedLimit <= 0) {
+                throw CustomBadRequestException.of(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
+            }
+            return parsedLimit;
+        } catch (NumberFormatException exception) {
+            throw CustomBadRequestException.of(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
+        }
+    }
+
+    private ContainerStatusEnum parseStatus(String status) {
+        for (ContainerStatusEnum containerStatus : ContainerStatusEnum.values()) {
+            if (containerStatus.name().equalsIgnoreCase(status)) {
+                return containerStatus;
             }
-            return false;
-        }).toList();
+        }
+        throw CustomBadRequestException.of(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
     }
 
-    private List<ContainerElements> filterLastCreateContainer(List<ContainerElements> containerElementsList) {
-        return containerElementsList.stream()
-                .max(Comparator.comparing(ContainerElements::getCreateDate))
-                .stream().toList();
+    private List<ContainerElements> findContainerList(String oauthServiceId) {
+        return batchLookupCache.lookup(
+                BatchLookupCache.CONTAINER_LIST,
+                oauthServiceId,
+                () -> containerEntityRepository.lsContainer(oauthServiceId)
+        );
     }
 
     /**
@@ -111,6 +235,7 @@ public class ContainerService {
      * @param request 명령어의 추가 요구사항 List(인자 값)
      * @return 요청을 보낸 사용자에 해당하고, 요청 이름에 맞는 특정 컨테이너의 자세한 정보
      */
+    @CommandMetric(main = MainCommandEnum.CONTAINER, sub = SubCommandEnum.INSPECT)
     public InspectContainerResponseDto inspectContainer(GetRequesterDto requesterInfo, DockerCommandRequestDto request) {
         String containerName = getContainerNameForOneArgCommand(request.argCommands());
 
@@ -129,15 +254,28 @@ public class ContainerService {
      * @param request 명령어의 추가 요구사항 List(인자 값)
      * @return 컨테이너 이름 변경 성공유무
      */
+    @CommandMetric(main = MainCommandEnum.CONTAINER, sub = SubCommandEnum.RENAME)
+    @AccountLock
     public RenameContainerResponseDto renameContainer(GetRequesterDto requesterInfo, DockerCommandRequestDto request) {
         if (2 != request.argCommands().size()) {
-            throw new CustomBadRequestException(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
+            throw CustomBadRequestException.of(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
         }
         ContainerEntity container
                 = containerEntityRepository.findContainerByOAuthServiceAndContainerName(requesterInfo.id(), request.argCommands().get(0));
+        if (null == container) {
+            throw CustomBadRequestException.of(ErrorCode.NOT_EXIST_CONTAINER);
+        }
+
+        // (account_fk, name) 유니크 제약에 걸리기 전에 이미 사용중인 이름인지 확인한다
+        validContainerName(
+                containerEntityRepository.findValidElementsListByOAuthServiceId(requesterInfo.id()).stream()
+                        .map(ContainerValidElementsDto::getContainerName)
+                        .toList(),
+                request.argCommands().get(1)
+        );
 
         boolean renameResult = containerEntityRepository.renameContainer(
-                container.getPk(), request.argCommands().get(1)
+                requesterInfo.id(), container.getPk(), request.argCommands().get(1)
         );
 
         return RenameContainerResponseDto.builder()
@@ -164,6 +302,8 @@ public class ContainerService {
      * @param request 명령어의 추가 요구사항 List(인자 값)
      * @return 생성한 컨테이너 이름
      */
+    @CommandMetric(main = MainCommandEnum.CONTAINER, sub = SubCommandEnum.CREATE)
+    @AccountLock
     public CreateContainerResponseDto createContainer(GetRequesterDto requesterInfo, DockerCommandRequestDto request) {
         ContainerOptionDto castedContainerOptionDto = castCommandToDto(request.argCommands());
         ContainerOptionDto validedOptionDto = validContainerOption(castedContainerOptionDto, requesterInfo.id());
@@ -185,7 +325,7 @@ public class ContainerService {
             }
             else {
                 if (argCommand.contains(" ") || null != containerOption.getImageFullName()) {
-                    throw new CustomBadRequestException(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
+                    throw CustomBadRequestException.of(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
                 }
                 containerOption.setImageFullName(notExistImageTagAddLatest(argCommand));
             }
@@ -196,7 +336,7 @@ public class ContainerService {
 
     private ContainerOptionDto validContainerOption(ContainerOptionDto containerOption, String oauthServiceId) {
         if (false == containerOption.validNotExistNetwork()) {
-            throw new CustomBadRequestException(ErrorCode.ARGS_NEED_NETWORK);
+            throw CustomBadRequestException.of(ErrorCode.ARGS_NEED_NETWORK);
         }
 
         if (null == containerOption.getNetworkName()) {
@@ -225,7 +365,7 @@ public class ContainerService {
 
     private void validContainerName(List<String> containerNameList, String containerName) {
         if (containerNameList.contains(containerName)) {
-            throw new CustomBadRequestException(ErrorCode.NOT_VALID_NAME);
+            throw CustomBadRequestException.of(ErrorCode.NOT_VALID_NAME);
         }
     }
 
@@ -235,23 +375,23 @@ public class ContainerService {
         }
 
         if (false == addressUtils.validAddressFormat(containerOption.getContainerIp())) {
-            throw new CustomBadRequestException(ErrorCode.ARGUMENT_NOT_VALID_EXCEPTION);
+            throw CustomBadRequestException.of(ErrorCode.ARGUMENT_NOT_VALID_EXCEPTION);
         }
 
         if (false == validConflictContainerIp(oauthServiceId, containerOption.getNetworkName(), containerOption.getContainerIp())) {
-            throw new CustomBadRequestException(ErrorCode.NOT_VALID_PRIVATEIP);
+            throw CustomBadRequestException.of(ErrorCode.NOT_VALID_PRIVATEIP);
         }
     }
 
     private void validPortForwarding(List<String> outerPortList, ContainerOptionDto containerOption) {
         if (null != containerOption.getPortForward()) {
             if (false == addressUtils.validPortForwardingFormat(containerOption.getPortForward())) {
-                throw new CustomBadRequestException(ErrorCode.NOT_VALID_PORTFOWARDING);
+                throw CustomBadRequestException.of(ErrorCode.NOT_VALID_PORTFOWARDING);
             }
 
             String[] ports = containerOption.getPortForward().split(":");
             if (outerPortList.contains(ports[0])) {
-                throw new CustomBadRequestException(ErrorCode.NOT_VALID_PORTFOWARDING);
+                throw CustomBadRequestException.of(ErrorCode.NOT_VALID_PORTFOWARDING);
             }
         }
     }
@@ -265,24 +405,34 @@ public class ContainerService {
     private void allocationContainerIp(String oauthServiceId, ContainerOptionDto containerOption) {
         // net 이 존재하며 --ip가 없을 경우 ip를 자동할당
         NetworkDetailElements networkDetailElements = networkEntityRepository.inspectNetwork(oauthServiceId, containerOption.getNetworkName());
-        networkDetailElements.setContainerInfo(
-                containerEntityRepository.lsContainer(oauthServiceId)
-        );
+        if (null == networkDetailElements) {
+            throw CustomBadRequestException.of(ErrorCode.NOT_EXIST_NETWORK_IN_HOST);
+        }
 
-        String autoAllocationPrivateIp = addressUtils.automaticAllocationContainerIp(
-                networkDetailElements.getSubnet(),
-                null != networkDetailElements.getContainerInfo() ?
-                        networkDetailElements.getContainerInfo().stream().map(ContainerElements::getPrivateIp).toList() :
-                        null
+        // 비트맵이 없을 때는 inspectNetwork 가 함께 조회한 네트워크 소속 컨테이너의 IP 로 만든다
+        String autoAllocationPrivateIp = containerIpAllocator.allocate(
+                oauthServiceId,
+                networkDetailElements,
+                () -> attachedContainerPrivateIps(networkDetailElements)
         );
 
         if (null == autoAllocationPrivateIp) {
-            throw new CustomBadRequestException(ErrorCode.NO_SPACE_DOCKER_HOST_SUBNET);
+            throw CustomBadRequestException.of(ErrorCode.NO_SPACE_DOCKER_HOST_SUBNET);
         }
 
         containerOption.setContainerIp(autoAllocationPrivateIp);
     }
 
+    private List<String> attachedContainerPrivateIps(NetworkDetailElements networkDetailElements) {
+        if (null == networkDetailElements.getContainerInfo()) {
+            return List.of();
+        }
+
+        return networkDetailElements.getContainerInfo().stream()
+                .map(ContainerElements::getPrivateIp)
+                .toList();
+    }
+
     private String notExistImageTagAddLatest(String imageName) {
         if (false == imageName.contains(":")) {
             return imageName + ":latest";
@@ -292,37 +442,48 @@ public class ContainerService {
     }
 
     private ContainerEntity saveContainerForOptionDto(String oauthServiceId, ContainerOptionDto containerOption) {
-        String outerPort = null;
-        String innerPort = null;
-
-        if (null != containerOption.getPortForward()) {
-            String[] ports = containerOption.getPortForward().split(":");
-            if (2 != ports.length) {
-                throw new CustomBadRequestException(ErrorCode.ARGUMENT_NOT_VALID_EXCEPTION);
-            }
-            outerPort = ports[0];
-            innerPort = ports[1];
-        }
+        String[] ports = splitPortForward(containerOption);
 
         ImageEntity image = imageEntityRepository.findByOAuthServiceIdAndImageFullName(oauthServiceId, containerOption.getImageFullName());
         if (null == image) {
-            throw new CustomBadRequestException(ErrorCode.NOT_EXIST_IMAGE_IN_HOST);
+            throw CustomBadRequestException.of(ErrorCode.NOT_EXIST_IMAGE_IN_HOST);
         }
 
         NetworkEntity network = networkEntityRepository.findByOAuthServiceIdAndNetworkName(oauthServiceId, containerOption.getNetworkName());
         if (null == network) {
-            throw new CustomBadRequestException(ErrorCode.NOT_EXIST_NETWORK_IN_HOST);
+            throw CustomBadRequestException.of(ErrorCode.NOT_EXIST_NETWORK_IN_HOST);
+        }
+
+        return saveContainer(oauthServiceId, containerOption, ports, image, network, ContainerStatusEnum.Created);
+    }
+
+    private String[] splitPortForward(ContainerOptionDto containerOption) {
+        if (null == containerOption.getPortForward()) {
+            return new String[] { null, null };
         }
 
+        String[] ports = containerOption.getPortForward().split(":");
+        if (2 != ports.length) {
+            throw CustomBadRequestException.of(ErrorCode.ARGUMENT_NOT_VALID_EXCEPTION);
+        }
+        return ports;
+    }
+
+    /**
+     * 컨테이너와 네트워크 매핑을 영속화한다.
+     * pk 는 애플리케이션에서 만들기 때문에 INSERT 는 바로 실행되지 않고, flush 시점에 함께 실행된다.
+     */
+    private ContainerEntity saveContainer(String oauthServiceId, ContainerOptionDto containerOption, String[] ports,
+                                          ImageEntity image, NetworkEntity network, ContainerStatusEnum status) {
         ContainerEntity savedContainer = containerEntityRepository.save(
                 ContainerEntity.builder()
                         .image(image)
                         .name(containerOption.getName())
-                        .status(ContainerStatusEnum.Created)
+                        .status(status)
                         .stopRm(containerOption.isRm())
                         .privateIp(containerOption.getContainerIp())
-                        .outerPort(outerPort)
-                        .innerPort(innerPort)
+                        .outerPort(ports[0])
+                        .innerPort(ports[1])
                         .build()
         );
 
@@ -332,6 +493,8 @@ public class ContainerService {
                         .network(network)
                         .build()
         );
+        containerIpAllocator.reserve(oauthServiceId, network.getName(), savedContainer.getPrivateIp());
+        accountStateCache.invalidate(oauthServiceId);
 
         return savedContainer;
     }
@@ -344,15 +507,21 @@ public class ContainerService {
      * @param request 명령어의 추가 요구사항 List(인자 값)
      * @return 컨테이너 삭제 성공유무
      */
+    @CommandMetric(main = MainCommandEnum.CONTAINER, sub = SubCommandEnum.RM)
+    @AccountLock
     public RmContainerResponseDto rmContainer(String oauthServiceId, DockerCommandRequestDto request) {
         String containerName = getContainerNameForOneArgCommand(request.argCommands());
 
         ContainerEntity container = containerEntityRepository.findContainerByOAuthServiceAndContainerName(oauthServiceId, containerName);
         if (null == container) {
-            throw new CustomBadRequestException(ErrorCode.NOT_EXIST_CONTAINER);
+            throw CustomBadRequestException.of(ErrorCode.NOT_EXIST_CONTAINER);
         }
 
-        boolean rmResult = containerEntityRepository.rmContainer(container.getPk());
+        // 매핑이 삭제되기 전에 IP 를 반납할 네트워크를 찾아둔다
+        String networkName = networkContainerMappingEntityRepository.findNetworkNameByContainerPk(container.getPk());
+
+        boolean rmResult = containerEntityRepository.rmContainer(oauthServiceId, container.getPk());
+        containerIpAllocator.release(oauthServiceId, networkName, container.getPrivateIp());
 
         return RmContainerResponseDto.builder()
                 .rmResult(rmResult)
@@ -371,22 +540,88 @@ public class ContainerService {
      *
      * 참고사항 :
      *          docker run 은 docker create 와 docker start 가 합쳐진 명령어
+     *          create 후 start 를 호출하지 않고, 한번의 조회(계정 상태)로 검증한 뒤 Running 상태로 바로 저장한다
+     *          실행되는 SQL 은 계정 상태 조회 1번, 컨테이너와 매핑 INSERT 가 전부이다
      *
      * @param requesterInfo 사용자 기본 정보 (IP, OAuthServiceId, AccessToken, RefreshToken, ThirdPartyEnum)
      * @param request 명령어의 추가 요구사항 List(인자 값)
      * @return 컨테이너 생성 및 시작의 성공여부
      */
+    @CommandMetric(main = MainCommandEnum.CONTAINER, sub = SubCommandEnum.RUN)
+    @AccountLock
     public RunContainerResponseDto runContainer(GetRequesterDto requesterInfo, DockerCommandRequestDto request) {
+        ContainerOptionDto containerOption = castCommandToDto(request.argCommands());
+        if (false == containerOption.validNotExistNetwork()) {
+            throw CustomBadRequestException.of(ErrorCode.ARGS_NEED_NETWORK);
+        }
 
-        CreateContainerResponseDto createdContainer = this.createContainer(requesterInfo, request);
-        DockerCommandRequestDto argCommands = DockerCommandRequestDto.builder()
-                .argCommands(List.of(createdContainer.containerName()))
-                .build();
+        if (null == containerOption.getNetworkName()) {
+            containerOption.setBridgeNetwork();
+        }
+
+        ContainerRunSnapshot snapshot = containerEntityRepository.findRunSnapshot(
+                requesterInfo.id(), containerOption.getImageFullName(), containerOption.getNetworkName()
+        );
+
+        if (null == snapshot.getImage()) {
+            throw CustomBadRequestException.of(ErrorCode.NOT_EXIST_IMAGE_IN_HOST);
+        }
+
+        if (null == snapshot.getNetwork()) {
+            throw CustomBadRequestException.of(ErrorCode.NOT_EXIST_NETWORK_IN_HOST);
+        }
 
-        StartContainerResponseDto startContainerResponse = this.startContainer(requesterInfo.id(), argCommands);
+        validContainerName(snapshot.getContainerNames(), containerOption.getName());
+        validRunContainerIp(requesterInfo.id(), containerOption, snapshot);
+        validPortForwarding(snapshot.getOuterPorts(), containerOption);
+
+        saveContainer(
+                requesterInfo.id(),
+                containerOption,
+                splitPortForward(containerOption),
+                snapshot.getImage(),
+                snapshot.getNetwork(),
+                ContainerStatusEnum.Running
+        );
 
         return RunContainerResponseDto.builder()
-                .startResult(startContainerResponse.startResult())
+                .startResult(true)
+                .build();
+    }
+
+    private void validRunContainerIp(String oauthServiceId, ContainerOptionDto containerOption, ContainerRunSnapshot snapshot) {
+        if (null == containerOption.getContainerIp()) {
+            // 비트맵이 없을 때는 계정 상태 조회에서 함께 가져온 네트워크 소속 컨테이너의 IP 로 만든다
+            String autoAllocationPrivateIp = containerIpAllocator.allocate(
+                    oauthServiceId,
+                    toNetworkDetailElements(snapshot.getNetwork()),
+                    snapshot::getNetworkPrivateIps
+            );
+
+            if (null == autoAllocationPrivateIp) {
+                throw CustomBadRequestException.of(ErrorCode.NO_SPACE_DOCKER_HOST_SUBNET);
+            }
+
+            containerOption.setContainerIp(autoAllocationPrivateIp);
+        }
+
+        if (false == addressUtils.validAddressFormat(containerOption.getContainerIp())) {
+            throw CustomBadRequestException.of(ErrorCode.ARGUMENT_NOT_VALID_EXCEPTION);
+        }
+
+        if (snapshot.getNetworkPrivateIps().contains(containerOption.getContainerIp())) {
+            throw CustomBadRequestException.of(ErrorCode.NOT_VALID_PRIVATEIP);
+        }
+    }
+
+    private NetworkDetailElements toNetworkDetailElements(NetworkEntity network) {
+        return NetworkDetailElements.builder()
+                .name(network.getName())
+                .subnet(network.getSubnet())
+                .ipRange(network.getIpRange())
+                .gateway(network.getGateway())
+                .enableIcc(network.isEnableIcc())
+                .mtu(network.getMtu())
                 .build();
     }
 
@@ -398,15 +633,17 @@ public class ContainerService {
      * @param request 명령어의 추가 요구사항 List(인자 값)
      * @return 컨테이너 시작 성공유무
      */
+    @CommandMetric(main = MainCommandEnum.CONTAINER, sub = SubCommandEnum.START)
+    @AccountLock
     public StartContainerResponseDto startContainer(String oauthServiceId, DockerCommandRequestDto request) {
         String containerName = getContainerNameForOneArgCommand(request.argCommands());
 
         ContainerEntity targetContainer = containerEntityRepository.findContainerByOAuthServiceAndContainerName(oauthServiceId, containerName);
         if (ContainerStatusEnum.Running.equals(targetContainer.getStatus())) {
-            throw new CustomBadRequestException(ErrorCode.ALREADY_CONTAINER_IS_RUNNING);
+            throw CustomBadRequestException.of(ErrorCode.ALREADY_CONTAINER_IS_RUNNING);
         }
 
-        long updateResult = containerEntityRepository.updateContainerStatus(targetContainer.getPk(), ContainerStatusEnum.Running);
+        long updateResult = containerEntityRepository.updateContainerStatus(oauthServiceId, targetContainer.getPk(), ContainerStatusEnum.Running);
         return StartContainerResponseDto.builder()
                 .startResult(0 != updateResult)
                 .build();
@@ -422,12 +659,14 @@ public class ContainerService {
      * @param request 명령어의 추가 요구사항 List(인자 값)
      * @return 컨테이너 시작 성공유무
      */
+    @CommandMetric(main = MainCommandEnum.CONTAINER, sub = SubCommandEnum.STOP)
+    @AccountLock
     public StopContainerResponseDto stopContainer(String oauthServiceId, DockerCommandRequestDto request) {
         String containerName = getContainerNameForOneArgCommand(request.argCommands());
 
         ContainerEntity targetContainer = containerEntityRepository.findContainerByOAuthServiceAndContainerName(oauthServiceId, containerName);
         if (false == ContainerStatusEnum.Running.equals(targetContainer.getStatus())) {
-            throw new CustomBadRequestException(ErrorCode.NOT_EXIST_RUNNING_CONTAINER);
+            throw CustomBadRequestException.of(ErrorCode.NOT_EXIST_RUNNING_CONTAINER);
         }
 
         boolean updateResult = false;
@@ -440,7 +679,7 @@ public class ContainerService {
 
             updateResult = rmContainerResponse.rmResult();
         } else {
-            long updateStatusResult = containerEntityRepository.updateContainerStatus(targetContainer.getPk(), ContainerStatusEnum.Paused);
+            long updateStatusResult = containerEntityRepository.updateContainerStatus(oauthServiceId, targetContainer.getPk(), ContainerStatusEnum.Paused);
             updateResult = (0 != updateStatusResult);
         }
 
@@ -451,7 +690,7 @@ public class ContainerService {
 
     private String getContainerNameForOneArgCommand(List<String> argCommands) {
         if (1 != argCommands.size()) {
-            throw new CustomBadRequestException(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
+            throw CustomBadRequestException.of(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
         }
 
         return argCommands.get(0);
@@ -5,14 +5,18 @@ import lombok.RequiredArgsConstructor;
 import org.chs.restdockerapis.common.aop.annotation.Auth;
 import org.chs.restdockerapis.common.argument_resolver.annotation.GetRequester;
 import org.chs.restdockerapis.common.argument_resolver.dto.GetRequesterDto;
+import org.chs.restdockerapis.common.page.KeysetPageRequestDto;
 import org.chs.restdockerapis.container.application.ContainerService;
 import org.chs.restdockerapis.container.presentation.dto.*;
 import org.chs.restdockerapis.image.presentation.dto.DockerCommandRequestDto;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Controller
 @RequiredArgsConstructor
@@ -23,8 +27,14 @@ public class ContainerController {
 
     @Auth
     @PostMapping("/ls")
-    public ResponseEntity<LsContainerResponseDto> lsContainer(@GetRequester GetRequesterDto requesterInfo, @Valid @RequestBody DockerCommandRequestDto request) {
-        return ResponseEntity.ok(containerService.lsContainer(requesterInfo, request));
+    public ResponseEntity<LsContainerResponseDto> lsContainer(@GetRequester GetRequesterDto requesterInfo, @Valid @RequestBody DockerCommandRequestDto request, @ModelAttribute KeysetPageRequestDto page) {
+        return ResponseEntity.ok(containerService.lsContainer(requesterInfo, request, page));
+    }
+
+    @Auth
+    @PostMapping(value = "/ls/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamContainer(@GetRequester GetRequesterDto requesterInfo, @Valid @RequestBody DockerCommandRequestDto request) {
+        return ResponseEntity.ok(containerService.streamContainer(requesterInfo, request));
     }
 
     @Auth
@@ -1,5 +1,6 @@
 package org.chs.restdockerapis.container.presentation.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import org.chs.domain.container.dto.ContainerElements;
 
@@ -7,5 +8,8 @@ import java.util.List;
 
 @Builder
 public record LsContainerResponseDto (
-        List<ContainerElements> containerElementsList
+        List<ContainerElements> containerElementsList,
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String nextCursor
 ){}
@@ -1,6 +1,8 @@
 package org.chs.restdockerapis.image.application;
 
 import lombok.RequiredArgsConstructor;
+import org.chs.domain.common.cache.AccountStateCache;
+import org.chs.domain.common.page.KeysetSlice;
 import org.chs.domain.account.AccountRepository;
 import org.chs.domain.account.entity.AccountEntity;
 import org.chs.domain.container.ContainerEntityRepository;
@@ -10,13 +12,22 @@ import org.chs.domain.image.ImageEntityRepository;
 import org.chs.domain.image.dto.ImageDetailElements;
 import org.chs.domain.image.dto.ImageElements;
 import org.chs.domain.image.entity.ImageEntity;
+import org.chs.restdockerapis.command.enumerate.MainCommandEnum;
+import org.chs.restdockerapis.command.enumerate.SubCommandEnum;
+import org.chs.restdockerapis.common.aop.annotation.AccountLock;
+import org.chs.restdockerapis.common.aop.annotation.CommandMetric;
 import org.chs.restdockerapis.common.argument_resolver.dto.GetRequesterDto;
 import org.chs.restdockerapis.common.exception.CustomBadRequestException;
 import org.chs.restdockerapis.common.exception.ErrorCode;
+import org.chs.restdockerapis.common.page.KeysetPageRequestDto;
+import org.chs.restdockerapis.common.page.NdjsonResponseWriter;
+import org.chs.restdockerapis.common.util.BatchLookupCache;
 import org.chs.restdockerapis.common.util.ListUtils;
 import org.chs.restdockerapis.image.presentation.dto.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -27,11 +38,14 @@ import java.util.List;
 public class ImageService {
 
     private final ListUtils listUtils;
+    private final BatchLookupCache batchLookupCache;
+    private final NdjsonResponseWriter ndjsonResponseWriter;
 
     private final AccountRepository accountRepository;
     private final ImageEntityRepository dockerImageRepository;
     private final ContainerEntityRepository containerEntityRepository;
     private final DockerHubEntityRepository dockerHubEntityRepository;
+    private final AccountStateCache accountStateCache;
 
     /**
      * 예상 명령어 : docker image ls, docker images, docker image ls ${이미지 이름}, docker images ${이미지 이름}
@@ -41,10 +55,34 @@ public class ImageService {
      * @return Image 조회의 결과 List
      */
     @Transactional(readOnly = true)
+    @CommandMetric(main = MainCommandEnum.IMAGE, sub = SubCommandEnum.LS)
     public LsImageResponseDto lsImage(GetRequesterDto requesterInfo, DockerCommandRequestDto request) {
+        return lsImage(requesterInfo, request, KeysetPageRequestDto.builder().build());
+    }
+
+    /**
+     * page 에 cursor 나 size 가 있다면 (create_date, pk) 기준 Keyset Pagination 으로 한 페이지만 조회한다.
+     *
+     * @param page Keyset Pagination 요청 (cursor, size)
+     * @return Image 조회 결과의 한 페이지와 다음 페이지의 Cursor
+     */
+    @Transactional(readOnly = true)
+    @CommandMetric(main = MainCommandEnum.IMAGE, sub = SubCommandEnum.LS)
+    public LsImageResponseDto lsImage(GetRequesterDto requesterInfo, DockerCommandRequestDto request, KeysetPageRequestDto page) {
         String imageName = existArgOnlyOneImageName(request.argCommands());
         String oauthServiceId = requesterInfo.id();
 
+        if (null != page && page.isPaged()) {
+            KeysetSlice<ImageElements> imageSlice = dockerImageRepository.findAllByOauthServiceId(
+                    oauthServiceId, imageName, page.keysetCursor(), page.pageSize()
+            );
+
+            return LsImageResponseDto.builder()
+                    .lsImageList(imageSlice.elements())
+                    .nextCursor(imageSlice.encodedNextCursor())
+                    .build();
+        }
+
         List<ImageElements> imageElementList = dockerImageRepository.findAllByOauthServiceId(
                 oauthServiceId,
                 imageName
@@ -55,6 +93,18 @@ public class ImageService {
                 .build();
     }
 
+    /**
+     * lsImage 와 같은 인자를 받아 Image 를 NDJSON 으로 한 행씩 응답한다.
+     * 조회는 응답을 쓰는 시점에 별도의 읽기 전용 트랜잭션에서 실행된다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public StreamingResponseBody streamImage(GetRequesterDto requesterInfo, DockerCommandRequestDto request) {
+        String imageName = existArgOnlyOneImageName(request.argCommands());
+        String oauthServiceId = requesterInfo.id();
+
+        return ndjsonResponseWriter.write(() -> dockerImageRepository.streamAllByOauthServiceId(oauthServiceId, imageName));
+    }
+
     /**
      * 예상 명령어 : docker image pull ${이미지 이름}, docker pull ${이미지 이름}
      * 해당 요청은 서버에서 정해준 이미지만을 Pull 받을 수 있음
@@ -63,18 +113,23 @@ public class ImageService {
      * @param request ArgCommands : 명령어의 추가 요구사항 List(인자 값)
      * @return Image Pull의 결과 List
      */
+    @CommandMetric(main = MainCommandEnum.IMAGE, sub = SubCommandEnum.PULL)
+    @AccountLock
     public PullImageResponseDto pullImage(GetRequesterDto requesterInfo, DockerCommandRequestDto request) {
         String imageName = existArgOnlyOneImageName(request.argCommands());
         DockerHubEntity pulledImage = dockerHubEntityRepository.selectDockerImage(imageName);
         if (null == pulledImage) {
-            throw new CustomBadRequestException(ErrorCode.NOT_EXIST_IMAGE_IN_DOCKERHUB);
+            throw CustomBadRequestException.of(ErrorCode.NOT_EXIST_IMAGE_IN_DOCKERHUB);
         }
 
         validExistImage(requesterInfo.id(), pulledImage.getName(), pulledImage.getTag());
 
-        AccountEntity account = accountRepository
-                .findByOauthServiceIdEqualsAndThirdPartyTypeEquals(requesterInfo.id(), requesterInfo.thirdPartyType())
-                .orElseThrow(() -> new IllegalArgumentException("토큰으로 온 사용자의 정보가 없습니다."));
+        AccountEntity account = batchLookupCache.lookup(
+                        BatchLookupCache.ACCOUNT,
+                        requesterInfo.id() + ":" + requesterInfo.thirdPartyType(),
+                        () -> accountRepository.findByOauthServiceIdEqualsAndThirdPartyTypeEquals(requesterInfo.id(), requesterInfo.thirdPartyType())
+                )
+                .orElseThrow(() -> CustomBadRequestException.of(ErrorCode.ACCOUNT_NOT_EXIST_OAUTH_ID_EXCEPTION));
 
         ImageEntity savedImage = dockerImageRepository.save(
                 ImageEntity.builder()
@@ -87,6 +142,8 @@ public class ImageService {
                         .build()
         );
 
+        accountStateCache.invalidate(requesterInfo.id());
+
         return PullImageResponseDto.builder()
                 .pullImageFullName(savedImage.getFullName())
                 .build();
@@ -96,7 +153,7 @@ public class ImageService {
         ImageEntity existPulledImage
                 = dockerImageRepository.findByOAuthServiceIdAndImageFullName(oauthServiceId, imageName + ":" + imageTag);
         if (null != existPulledImage) {
-            throw new CustomBadRequestException(ErrorCode.ALREADY_EXIST_IMAGE);
+            throw CustomBadRequestException.of(ErrorCode.ALREADY_EXIST_IMAGE);
         }
     }
 
@@ -108,10 +165,11 @@ public class ImageService {
      * @return Image 의 자세한 정보
      */
     @Transactional(readOnly = true)
+    @CommandMetric(main = MainCommandEnum.IMAGE, sub = SubCommandEnum.INSPECT)
     public InspectImageResponseDto inspectImage(GetRequesterDto requesterInfo, DockerCommandRequestDto request) {
         String imageName = existArgOnlyOneImageName(request.argCommands());
         if (null == imageName) {
-            throw new CustomBadRequestException(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
+            throw CustomBadRequestException.of(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
         }
         String oauthServiceId = requesterInfo.id();
 
@@ -129,15 +187,17 @@ public class ImageService {
      * @param request ArgCommands : 명령어의 추가 요구사항 List(인자 값)
      * @return Image 삭제 성공유무
      */
+    @CommandMetric(main = MainCommandEnum.IMAGE, sub = SubCommandEnum.RM)
+    @AccountLock
     public RmImageResponseDto rmImage(GetRequesterDto requesterInfo, DockerCommandRequestDto request) {
         String imageFullName = existArgOnlyOneImageName(request.argCommands());
         if (null == imageFullName) {
-            throw new CustomBadRequestException(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
+            throw CustomBadRequestException.of(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
         }
         String oauthServiceId = requesterInfo.id();
 
         if (existContainer(oauthServiceId, imageFullName)) {
-            throw new CustomBadRequestException(ErrorCode.REMOVE_IMPOSSIBLE_IMAGE_EXIST_CONTAINER);
+            throw CustomBadRequestException.of(ErrorCode.REMOVE_IMPOSSIBLE_IMAGE_EXIST_CONTAINER);
         }
 
         boolean deleteImageResult = dockerImageRepository.rmImage(oauthServiceId, imageFullName);
@@ -153,7 +213,7 @@ public class ImageService {
 
     private String existArgOnlyOneImageName(List<String> argCommands) {
         if (listUtils.existAndNotSizeOne(argCommands)) {
-            throw new CustomBadRequestException(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
+            throw CustomBadRequestException.of(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
         }
 
         return listUtils.isBlank(argCommands) ? null : argCommands.get(0);
@@ -1,5 +1,6 @@
 package org.chs.restdockerapis.image.presentation.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import org.chs.domain.image.dto.ImageElements;
 
@@ -7,6 +8,9 @@ import java.util.List;
 
 @Builder
 public record LsImageResponseDto (
-        List<ImageElements> lsImageList
+        List<ImageElements> lsImageList,
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String nextCursor
 ){}
 
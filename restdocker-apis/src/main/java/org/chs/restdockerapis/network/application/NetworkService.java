@@ -1,24 +1,37 @@
 package org.chs.restdockerapis.network.application;
 
 import lombok.RequiredArgsConstructor;
+import org.chs.domain.common.cache.AccountStateCache;
 import org.chs.domain.account.AccountRepository;
 import org.chs.domain.account.entity.AccountEntity;
 import org.chs.domain.common.enumerate.ThirdPartyEnum;
-import org.chs.domain.container.ContainerEntityRepository;
+import org.chs.domain.common.page.KeysetSlice;
 import org.chs.domain.network.NetworkContainerMappingEntityRepository;
 import org.chs.domain.network.NetworkEntityRepository;
 import org.chs.domain.network.dto.NetworkDetailElements;
 import org.chs.domain.network.dto.NetworkElements;
 import org.chs.domain.network.entity.NetworkEntity;
+import org.chs.restdockerapis.command.enumerate.MainCommandEnum;
+import org.chs.restdockerapis.command.enumerate.SubCommandEnum;
+import org.chs.restdockerapis.common.aop.annotation.AccountLock;
+import org.chs.restdockerapis.common.aop.annotation.CommandMetric;
 import org.chs.restdockerapis.common.argument_resolver.dto.GetRequesterDto;
 import org.chs.restdockerapis.common.exception.CustomBadRequestException;
 import org.chs.restdockerapis.common.exception.ErrorCode;
+import org.chs.restdockerapis.common.page.KeysetPageRequestDto;
+import org.chs.restdockerapis.common.page.NdjsonResponseWriter;
+import org.chs.restdockerapis.common.util.BatchLookupCache;
 import org.chs.restdockerapis.common.util.ListUtils;
 import org.chs.restdockerapis.image.presentation.dto.DockerCommandRequestDto;
 import org.chs.restdockerapis.network.presentation.dto.*;
 import org.chs.restdockerapis.network.util.AddressUtils;
+import org.chs.restdockerapis.network.util.ContainerIpAllocator;
+import org.chs.restdockerapis.network.util.SubnetAllocator;
+import org.chs.restdockerapis.network.util.SubnetRangeIndex;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -27,13 +40,20 @@ import java.util.List;
 @RequiredArgsConstructor
 public class NetworkService {
 
+    // Subnet 을 지정하지 않은 네트워크에 자동 할당하는 대역의 크기
+    private static final int DEFAULT_SUBNET_PREFIX_LENGTH = 16;
+
     private final AccountRepository accountRepository;
     private final NetworkEntityRepository dockerNetworkRepository;
-    private final ContainerEntityRepository dockerContainerRepository;
     private final NetworkContainerMappingEntityRepository networkContainerMappingRepository;
+    private final AccountStateCache accountStateCache;
 
     private final ListUtils listUtils;
     private final AddressUtils addressUtils;
+    private final ContainerIpAllocator containerIpAllocator;
+    private final SubnetAllocator subnetAllocator;
+    private final BatchLookupCache batchLookupCache;
+    private final NdjsonResponseWriter ndjsonResponseWriter;
 
     /**
      * 예상 명령어 : docker network ls
@@ -44,9 +64,33 @@ public class NetworkService {
      * @return DockerNetwork 조회의 결과 List
      */
     @Transactional(readOnly = true)
+    @CommandMetric(main = MainCommandEnum.NETWORK, sub = SubCommandEnum.LS)
     public LsNetworkResponseDto lsNetwork(GetRequesterDto requesterInfo, DockerCommandRequestDto request) {
+        return lsNetwork(requesterInfo, request, KeysetPageRequestDto.builder().build());
+    }
+
+    /**
+     * page 에 cursor 나 size 가 있다면 (create_date, pk) 기준 Keyset Pagination 으로 한 페이지만 조회한다.
+     *
+     * @param page Keyset Pagination 요청 (cursor, size)
+     * @return DockerNetwork 조회 결과의 한 페이지와 다음 페이지의 Cursor
+     */
+    @Transactional(readOnly = true)
+    @CommandMetric(main = MainCommandEnum.NETWORK, sub = SubCommandEnum.LS)
+    public LsNetworkResponseDto lsNetwork(GetRequesterDto requesterInfo, DockerCommandRequestDto request, KeysetPageRequestDto page) {
         if (false == listUtils.isBlank(request.argCommands())) {
-            throw new CustomBadRequestException(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
+            throw CustomBadRequestException.of(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
+        }
+
+        if (null != page && page.isPaged()) {
+            KeysetSlice<NetworkElements> networkSlice = dockerNetworkRepository.findByOAuthServiceId(
+                    requesterInfo.id(), page.keysetCursor(), page.pageSize()
+            );
+
+            return LsNetworkResponseDto.builder()
+                    .lsNetworkElements(networkSlice.elements())
+                    .nextCursor(networkSlice.encodedNextCursor())
+                    .build();
         }
 
         List<NetworkElements> networkElementList = dockerNetworkRepository.findByOAuthServiceId(requesterInfo.id());
@@ -56,6 +100,20 @@ public class NetworkService {
                 .build();
     }
 
+    /**
+     * docker network ls 의 결과를 NDJSON 으로 한 행씩 응답한다.
+     * 조회는 응답을 쓰는 시점에 별도의 읽기 전용 트랜잭션에서 실행된다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public StreamingResponseBody streamNetwork(GetRequesterDto requesterInfo, DockerCommandRequestDto request) {
+        if (false == listUtils.isBlank(request.argCommands())) {
+            throw CustomBadRequestException.of(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
+        }
+        String oauthServiceId = requesterInfo.id();
+
+        return ndjsonResponseWriter.write(() -> dockerNetworkRepository.streamByOAuthServiceId(oauthServiceId));
+    }
+
     /**
      * 예상 명령어 : docker network inspect ${도커 네트워크 이름}
      * 예상 인자값 : 없음
@@ -65,15 +123,13 @@ public class NetworkService {
      * @return 특정 DockerNetwork 조회의 자세한 결과
      */
     @Transactional(readOnly = true)
+    @CommandMetric(main = MainCommandEnum.NETWORK, sub = SubCommandEnum.INSPECT)
     public InspectNetworkResponseDto inspectNetwork(GetRequesterDto requesterInfo, DockerCommandRequestDto request) {
         String networkName = getNetworkNameForOneArgCommand(request.argCommands());
 
+        // 네트워크에 연결된 컨테이너는 inspectNetwork 가 같은 쿼리에서 함께 조회한다
         NetworkDetailElements inspectedNetworkDetailElements = dockerNetworkRepository.inspectNetwork(requesterInfo.id(), networkName);
 
-        inspectedNetworkDetailElements.setContainerInfo(
-                dockerContainerRepository.lsContainer(requesterInfo.id())
-        );
-
         return InspectNetworkResponseDto.builder()
                 .inspectNetworkDetailElements(inspectedNetworkDetailElements)
                 .build();
@@ -101,9 +157,11 @@ public class NetworkService {
      * @param request ArgCommands : 명령어의 추가 요구사항 List(인자 값)
      * @return 생성된 DockerNetwork 정보
      */
+    @CommandMetric(main = MainCommandEnum.NETWORK, sub = SubCommandEnum.CREATE)
+    @AccountLock
     public CreateNetworkResponseDto createNetwork(GetRequesterDto requesterInfo, DockerCommandRequestDto request) {
         if (listUtils.isBlank(request.argCommands())) {
-            throw new CustomBadRequestException(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
+            throw CustomBadRequestException.of(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
         }
 
         NetworkOptionDto castednetworkOptionDto = castCommandToDto(request.argCommands());
@@ -124,13 +182,13 @@ public class NetworkService {
             if (argCommand.startsWith("-")) {
                 String[] args = argCommand.split(" ");
                 if (2 != args.length) {
-                    throw new CustomBadRequestException(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
+                    throw CustomBadRequestException.of(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
                 }
                 networkOption.putArgCommand(args);
             }
             else {
                 if (argCommand.contains(" ") || null != networkOption.getName()) {
-                    throw new CustomBadRequestException(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
+                    throw CustomBadRequestException.of(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
                 }
                 networkOption.setName(argCommand);
             }
@@ -141,7 +199,7 @@ public class NetworkService {
 
     private NetworkOptionDto validNetworkOption(NetworkOptionDto networkOption, String oauthServiceId) {
         if (false == networkOption.validNotExistSubnet()) {
-            throw new CustomBadRequestException(ErrorCode.ARGS_NEED_SUBNET);
+            throw CustomBadRequestException.of(ErrorCode.ARGS_NEED_SUBNET);
         }
 
         return validIpRange(
@@ -155,20 +213,24 @@ public class NetworkService {
     }
 
     private NetworkOptionDto validSubnet(NetworkOptionDto networkOption, String oauthServiceId) {
-        List<String> existSubnetList = getSubnetList(oauthServiceId);
-
         if (null == networkOption.getSubnet()) {
-            String subnet = addressUtils.automaticAllocationSubnet(existSubnetList);
+            // 자동 할당된 Subnet 은 기존 Subnet 과 겹치지 않음이 보장된다
+            String subnet = subnetAllocator.allocate(oauthServiceId, DEFAULT_SUBNET_PREFIX_LENGTH, SubnetRangeIndex.Fit.FIRST, () -> getSubnetList(oauthServiceId));
+            if (null == subnet) {
+                throw CustomBadRequestException.of(ErrorCode.NO_SPACE_DOCKER_HOST_SUBNET);
+            }
             String gateway = addressUtils.automaticAllocationGateway(subnet);
 
             networkOption.setAutomaticAddress(subnet, gateway);
+            return networkOption;
         }
+
         if (false == addressUtils.validAddressRangeFormat(networkOption.getSubnet())) {
-            throw new CustomBadRequestException(ErrorCode.NOT_VALID_ADDRESS_FORMAT);
+            throw CustomBadRequestException.of(ErrorCode.NOT_VALID_ADDRESS_FORMAT);
         }
 
-        if (true == addressUtils.duplicateSubnetCheck(existSubnetList, networkOption.getSubnet())) {
-            throw new CustomBadRequestException(ErrorCode.DUPLICATE_SUBNET);
+        if (false == subnetAllocator.reserve(oauthServiceId, networkOption.getSubnet(), () -> getSubnetList(oauthServiceId))) {
+            throw CustomBadRequestException.of(ErrorCode.DUPLICATE_SUBNET);
         }
 
         return networkOption;
@@ -185,10 +247,10 @@ public class NetworkService {
     private NetworkOptionDto validGateway(NetworkOptionDto networkOption) {
         if (null != networkOption.getGateway()) {
             if (false == addressUtils.validAddressFormat(networkOption.getGateway())) {
-                throw new CustomBadRequestException(ErrorCode.NOT_VALID_ADDRESS_FORMAT);
+                throw CustomBadRequestException.of(ErrorCode.NOT_VALID_ADDRESS_FORMAT);
             }
             if (false == addressUtils.validGatewayIntoSubnet(networkOption.getSubnet(), networkOption.getGateway())) {
-                throw new CustomBadRequestException(ErrorCode.MUST_GATEWAY_INTO_SUBNET);
+                throw CustomBadRequestException.of(ErrorCode.MUST_GATEWAY_INTO_SUBNET);
             }
         }
         return networkOption;
@@ -197,10 +259,10 @@ public class NetworkService {
     private NetworkOptionDto validIpRange(NetworkOptionDto networkOption) {
         if (null != networkOption.getIpRange()) {
             if (false == addressUtils.validAddressRangeFormat(networkOption.getIpRange())) {
-                throw new CustomBadRequestException(ErrorCode.NOT_VALID_ADDRESS_FORMAT);
+                throw CustomBadRequestException.of(ErrorCode.NOT_VALID_ADDRESS_FORMAT);
             }
             if (false == addressUtils.validIPRangeIntoSubnet(networkOption.getSubnet(), networkOption.getIpRange())) {
-                throw new CustomBadRequestException(ErrorCode.MUST_IPRANGE_INTO_SUBNET);
+                throw CustomBadRequestException.of(ErrorCode.MUST_IPRANGE_INTO_SUBNET);
             }
         }
         return networkOption;
@@ -208,10 +270,14 @@ public class NetworkService {
 
 
     private NetworkEntity saveNetworkForOptionDto(NetworkOptionDto networkOptionDto, String oauthServiceId, ThirdPartyEnum thirdPartyType) {
-        AccountEntity account = accountRepository.findByOauthServiceIdEqualsAndThirdPartyTypeEquals(oauthServiceId, thirdPartyType)
-                .orElseThrow(() -> new CustomBadRequestException(ErrorCode.ACCOUNT_NOT_EXIST_OAUTH_ID_EXCEPTION));
+        AccountEntity account = batchLookupCache.lookup(
+                        BatchLookupCache.ACCOUNT,
+                        oauthServiceId + ":" + thirdPartyType,
+                        () -> accountRepository.findByOauthServiceIdEqualsAndThirdPartyTypeEquals(oauthServiceId, thirdPartyType)
+                )
+                .orElseThrow(() -> CustomBadRequestException.of(ErrorCode.ACCOUNT_NOT_EXIST_OAUTH_ID_EXCEPTION));
 
-        return dockerNetworkRepository.save(
+        NetworkEntity savedNetwork = dockerNetworkRepository.save(
                 NetworkEntity.builder()
                         .account(account)
                         .name(networkOptionDto.getName())
@@ -222,6 +288,9 @@ public class NetworkService {
                         .enableIcc(null == networkOptionDto.getIcc() ? true : networkOptionDto.getIcc())
                         .build()
         );
+        accountStateCache.invalidate(oauthServiceId);
+
+        return savedNetwork;
     }
 
     /**
@@ -238,30 +307,46 @@ public class NetworkService {
      * @param request ArgCommands : 명령어의 추가 요구사항 List(인자 값)
      * @return 특정 DockerNetwork 삭제의 성공유무
      */
+    @CommandMetric(main = MainCommandEnum.NETWORK, sub = SubCommandEnum.RM)
+    @AccountLock
     public RmNetworkResponseDto rmNetwork(GetRequesterDto requesterInfo, DockerCommandRequestDto request) {
         String networkName = getNetworkNameForOneArgCommand(request.argCommands());
         if (networkName.equals("bridge")) {
-            throw new CustomBadRequestException(ErrorCode.IMPOSSIBLE_RM_BRIDGE_NETWORK);
+            throw CustomBadRequestException.of(ErrorCode.IMPOSSIBLE_RM_BRIDGE_NETWORK);
         }
 
         if (existContainer(requesterInfo.id(), networkName)) {
-            throw new CustomBadRequestException(ErrorCode.REMOVE_IMPOSSIBLE_NETWORK_EXIST_CONTAINER);
+            throw CustomBadRequestException.of(ErrorCode.REMOVE_IMPOSSIBLE_NETWORK_EXIST_CONTAINER);
         }
 
+        String subnet = findSubnet(requesterInfo.id(), networkName);
+
         boolean deleteNetworkResult = dockerNetworkRepository.rmNetwork(requesterInfo.id(), networkName);
+        containerIpAllocator.evict(requesterInfo.id(), networkName);
+        if (deleteNetworkResult) {
+            subnetAllocator.release(requesterInfo.id(), subnet);
+        }
 
         return RmNetworkResponseDto.builder()
                 .networkDeleteResult(deleteNetworkResult)
                 .build();
     }
 
+    private String findSubnet(String oauthServiceId, String networkName) {
+        return dockerNetworkRepository.findByOAuthServiceId(oauthServiceId).stream()
+                .filter(network -> networkName.equals(network.getName()))
+                .map(NetworkElements::getSubnet)
+                .findFirst()
+                .orElse(null);
+    }
+
     private boolean existContainer(String oauthServiceId, String networkName) {
         return networkContainerMappingRepository.existNetworkBindingContainer(oauthServiceId, networkName);
     }
 
     private String getNetworkNameForOneArgCommand(List<String> argCommands) {
         if (1 != argCommands.size()) {
-            throw new CustomBadRequestException(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
+            throw CustomBadRequestException.of(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
         }
 
         return argCommands.get(0);
@@ -6,17 +6,21 @@ import lombok.RequiredArgsConstructor;
 import org.chs.restdockerapis.common.aop.annotation.Auth;
 import org.chs.restdockerapis.common.argument_resolver.annotation.GetRequester;
 import org.chs.restdockerapis.common.argument_resolver.dto.GetRequesterDto;
+import org.chs.restdockerapis.common.page.KeysetPageRequestDto;
 import org.chs.restdockerapis.image.presentation.dto.DockerCommandRequestDto;
 import org.chs.restdockerapis.network.application.NetworkService;
 import org.chs.restdockerapis.network.presentation.dto.LsNetworkResponseDto;
 import org.chs.restdockerapis.network.presentation.dto.CreateNetworkResponseDto;
 import org.chs.restdockerapis.network.presentation.dto.InspectNetworkResponseDto;
 import org.chs.restdockerapis.network.presentation.dto.RmNetworkResponseDto;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Controller
 @RequiredArgsConstructor
@@ -27,8 +31,14 @@ public class NetworkController {
 
     @Auth
     @PostMapping("/ls")
-    public ResponseEntity<LsNetworkResponseDto> lsNetwork(@GetRequester GetRequesterDto requesterInfo, @Valid @RequestBody DockerCommandRequestDto request) {
-        return ResponseEntity.ok(networkService.lsNetwork(requesterInfo, request));
+    public ResponseEntity<LsNetworkResponseDto> lsNetwork(@GetRequester GetRequesterDto requesterInfo, @Valid @RequestBody DockerCommandRequestDto request, @ModelAttribute KeysetPageRequestDto page) {
+        return ResponseEntity.ok(networkService.lsNetwork(requesterInfo, request, page));
+    }
+
+    @Auth
+    @PostMapping(value = "/ls/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamNetwork(@GetRequester GetRequesterDto requesterInfo, @Valid @RequestBody DockerCommandRequestDto request) {
+        return ResponseEntity.ok(networkService.streamNetwork(requesterInfo, request));
     }
 
     @Auth
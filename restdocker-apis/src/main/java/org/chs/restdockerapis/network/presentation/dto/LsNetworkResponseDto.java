@@ -1,5 +1,6 @@
 package org.chs.restdockerapis.network.presentation.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import org.chs.domain.network.dto.NetworkElements;
 
@@ -7,5 +8,8 @@ import java.util.List;
 
 @Builder
 public record LsNetworkResponseDto(
-        List<NetworkElements> lsNetworkElements
+        List<NetworkElements> lsNetworkElements,
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String nextCursor
 ) {}
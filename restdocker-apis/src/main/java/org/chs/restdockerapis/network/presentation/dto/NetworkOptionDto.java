@@ -24,16 +24,16 @@ public class NetworkOptionDto {
             case NetworkArgProperties.OPTION -> {
                 String[] networkOption = args[1].split("=");
                 if (2 != networkOption.length) {
-                    throw new CustomBadRequestException(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
+                    throw CustomBadRequestException.of(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
                 }
 
                 switch (networkOption[0]) {
                     case NetworkOptionProperties.ICC -> this.icc = Boolean.parseBoolean(networkOption[1]);
                     case NetworkOptionProperties.MTU -> this.mtu = Integer.valueOf(networkOption[1]);
-                    default -> throw new CustomBadRequestException(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
+                    default -> throw CustomBadRequestException.of(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
                 }
             }
-            default -> throw new CustomBadRequestException(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
+            default -> throw CustomBadRequestException.of(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION);
         }
     }
 
@@ -0,0 +1,201 @@
+package org.chs.restdockerapis.network.util;
+
+import org.chs.domain.network.dto.NetworkDetailElements;
+import org.chs.restdockerapis.common.exception.CustomBadRequestException;
+import org.chs.restdockerapis.common.exception.ErrorCode;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 네트워크별 컨테이너 IP 할당 비트맵을 관리한다.
+ *
+ * 1. 비트맵은 처음 할당할 때 해당 네트워크에 매핑된 컨테이너 IP 로 한번만 만들어진다.
+ * 2. 할당 범위는 ipRange 가 있다면 ipRange, 없다면 subnet 이며 네트워크 주소, 브로드캐스트 주소, gateway 는 제외한다.
+ * 3. 매핑 삽입(할당/예약)은 즉시 반영하고, 트랜잭션이 롤백되면 비트맵을 버려 DB 에서 다시 만든다.
+ * 4. 매핑 삭제(컨테이너 삭제)는 커밋 이후에 반영하고, 네트워크 삭제 시 비트맵을 버린다.
+ */
+@Component
+public class ContainerIpAllocator {
+
+    private static final int MAX_NETWORKS = 4096;
+
+    // /8 보다 큰 대역이라도 앞에서부터 1600만개 이상의 컨테이너가 할당될 일은 없으므로 비트맵 크기를 제한한다.
+    private static final long MAX_BITMAP_SIZE = 1L << 24;
+
+    private final Map<NetworkKey, NetworkIpBitmap> bitmaps = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<NetworkKey, NetworkIpBitmap> eldest) {
+            return size() > MAX_NETWORKS;
+        }
+    };
+
+    /**
+     * @param usedPrivateIps 비트맵이 없을 때만 호출되는, 해당 네트워크에 할당된 컨테이너 IP 목록
+     * @return 할당한 IP, 남은 IP 가 없다면 null
+     */
+    public String allocate(String oauthServiceId, NetworkDetailElements network, Supplier<List<String>> usedPrivateIps) {
+        NetworkKey key = new NetworkKey(oauthServiceId, network.getName(), network.getSubnet(), network.getIpRange());
+        NetworkIpBitmap bitmap = findOrCreateBitmap(key, network, usedPrivateIps);
+
+        long allocatedAddress = bitmap.allocate();
+        if (NetworkIpBitmap.NO_ADDRESS == allocatedAddress) {
+            return null;
+        }
+
+        evictOnRollback(key);
+        return Ipv4Address.toString(allocatedAddress);
+    }
+
+    /** 사용자가 --ip 로 지정한 IP 처럼 allocate 를 거치지 않은 매핑 삽입을 비트맵에 반영한다 */
+    public void reserve(String oauthServiceId, String networkName, String privateIp) {
+        long address = toUnsignedAddress(privateIp);
+
+        synchronized (bitmaps) {
+            bitmaps.forEach((key, bitmap) -> {
+                if (key.matches(oauthServiceId, networkName)) {
+                    bitmap.reserve(address);
+                    evictOnRollback(key);
+                }
+            });
+        }
+    }
+
+    /**
+     * 컨테이너 삭제가 커밋된 뒤 컨테이너가 연결되어 있던 네트워크의 비트맵에서만 해당 IP 를 반납한다.
+     * 같은 IP 를 다른 네트워크의 컨테이너가 사용하고 있을 수 있으므로 사용자의 다른 네트워크 비트맵은 건드리지 않는다.
+     */
+    public void release(String oauthServiceId, String networkName, String privateIp) {
+        if (null == networkName || null == privateIp) {
+            return;
+        }
+
+        runAfterCommit(() -> {
+            long address = toUnsignedAddress(privateIp);
+
+            synchronized (bitmaps) {
+                bitmaps.forEach((key, bitmap) -> {
+                    if (key.matches(oauthServiceId, networkName)) {
+                        bitmap.release(address);
+                    }
+                });
+            }
+        });
+    }
+
+    public void evict(String oauthServiceId, String networkName) {
+        synchronized (bitmaps) {
+            bitmaps.keySet().removeIf(key -> key.matches(oauthServiceId, networkName));
+        }
+    }
+
+    private NetworkIpBitmap findOrCreateBitmap(NetworkKey key, NetworkDetailElements network, Supplier<List<String>> usedPrivateIps) {
+        synchronized (bitmaps) {
+            NetworkIpBitmap bitmap = bitmaps.get(key);
+            if (null != bitmap) {
+                return bitmap;
+            }
+        }
+
+        NetworkIpBitmap createdBitmap = createBitmap(network);
+        List<String> privateIps = usedPrivateIps.get();
+        if (null != privateIps) {
+            for (String privateIp : privateIps) {
+                if (null != privateIp) {
+                    createdBitmap.reserve(toUnsignedAddress(privateIp));
+                }
+            }
+        }
+
+        synchronized (bitmaps) {
+            // 다른 요청이 먼저 만들었다면 그 비트맵을 사용해야 같은 IP 를 두번 할당하지 않음
+            NetworkIpBitmap existBitmap = bitmaps.putIfAbsent(key, createdBitmap);
+            return null == existBitmap ? createdBitmap : existBitmap;
+        }
+    }
+
+    private NetworkIpBitmap createBitmap(NetworkDetailElements network) {
+        long subnet = toCidr(network.getSubnet());
+
+        long firstAddress = Ipv4Cidr.firstAddress(subnet) + 1;
+        long lastAddress = Ipv4Cidr.lastAddress(subnet) - 1;
+
+        if (null != network.getIpRange()) {
+            long ipRange = toCidr(network.getIpRange());
+            firstAddress = Math.max(firstAddress, Ipv4Cidr.firstAddress(ipRange));
+            lastAddress = Math.min(lastAddress, Ipv4Cidr.lastAddress(ipRange));
+        }
+
+        lastAddress = Math.min(lastAddress, firstAddress + MAX_BITMAP_SIZE - 1);
+
+        NetworkIpBitmap bitmap = new NetworkIpBitmap(firstAddress, lastAddress);
+        if (null != network.getGateway()) {
+            bitmap.reserve(toUnsignedAddress(network.getGateway()));
+        }
+
+        return bitmap;
+    }
+
+    private long toCidr(String cidr) {
+        long parsedCidr = Ipv4Cidr.parse(cidr);
+        if (false == Ipv4Cidr.isValid(parsedCidr)) {
+            throw CustomBadRequestException.of(ErrorCode.NOT_VALID_ADDRESS_FORMAT);
+        }
+        return parsedCidr;
+    }
+
+    private long toUnsignedAddress(String ip) {
+        long address = Ipv4Address.parse(ip);
+        if (address < 0) {
+            throw CustomBadRequestException.of(ErrorCode.NOT_VALID_ADDRESS_FORMAT);
+        }
+        return address;
+    }
+
+    private void evictOnRollback(NetworkKey key) {
+        if (false == TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (STATUS_COMMITTED != status) {
+                    synchronized (bitmaps) {
+                        bitmaps.remove(key);
+                    }
+                }
+            }
+        });
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (false == TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private record NetworkKey(
+            String oauthServiceId,
+            String networkName,
+            String subnet,
+            String ipRange
+    ) {
+        private boolean matches(String oauthServiceId, String networkName) {
+            return this.oauthServiceId.equals(oauthServiceId) && this.networkName.equals(networkName);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package org.chs.restdockerapis.network.util;
+
+/**
+ * IPv4 주소를 부호 없는 32비트 값(long)으로 다루는 유틸리티
+ *
+ * 1. split, Integer.parseInt 없이 CharSequence 를 한번만 훑어 읽으며, 실패해도 Exception 대신 음수 코드를 반환한다.
+ * 2. 문자열로 바꿀 때는 스레드마다 재사용하는 StringBuilder 에 쓴다. (String.format 사용하지 않음)
+ *
+ * 반환 값이 0 이상이면 주소, MALFORMED 이면 옥텟 수나 범위가 맞지 않음, NOT_A_NUMBER 이면 옥텟이 정수가 아님
+ */
+public final class Ipv4Address {
+
+    public static final long MALFORMED = -1L;
+    public static final long NOT_A_NUMBER = -2L;
+
+    public static final long MAX_ADDRESS = 0xFFFFFFFFL;
+
+    // parseDecimal 이 정수가 아님을 나타내는 값 (-2 같은 음수도 정상적인 결과이므로 별도의 값을 사용)
+    static final long NOT_A_DECIMAL = Long.MIN_VALUE;
+
+    private static final ThreadLocal<StringBuilder> FORMAT_BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(15));
+
+    private Ipv4Address() {}
+
+    public static long parse(CharSequence text) {
+        if (null == text) {
+            return MALFORMED;
+        }
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Description
+     *
+     * [start, end) 구간을 '.' 으로 구분된 4개의 옥텟으로 읽는다.
+     * 옥텟 하나를 읽을 때마다 지금까지의 결과를 8비트 밀고 (<<) OR 연산으로 옥텟을 붙인다.
+     * 옥텟 수가 4개가 아니라면 옥텟의 형식과 상관없이 MALFORMED 이다.
+     *
+     * example
+     * 192.168.1.1
+     * 192 -> 00000000 00000000 00000000 11000000
+     * 168 -> 00000000 00000000 11000000 10101000
+     * 1 -> 00000000 11000000 10101000 00000001
+     * 1 -> 11000000 10101000 00000001 00000001
+     */
+    public static long parse(CharSequence text, int start, int end) {
+        long address = 0;
+        int octetCount = 0;
+        boolean notANumber = false;
+        boolean outOfRange = false;
+
+        int octetStart = start;
+        for (int index = start; index <= end; index++) {
+            if (index < end && '.' != text.charAt(index)) {
+                continue;
+            }
+
+            long octet = parseDecimal(text, octetStart, index);
+            if (NOT_A_DECIMAL == octet) {
+                notANumber = true;
+            }
+            else if (octet < 0 || octet > 255) {
+                outOfRange = true;
+            }
+            else {
+                address = (address << 8) | octet;
+            }
+
+            octetCount++;
+            octetStart = index + 1;
+        }
+
+        if (4 != octetCount) {
+            return MALFORMED;
+        }
+        if (notANumber) {
+            return NOT_A_NUMBER;
+        }
+        if (outOfRange) {
+            return MALFORMED;
+        }
+        return address;
+    }
+
+    public static String toString(long address) {
+        StringBuilder buffer = FORMAT_BUFFER.get();
+        buffer.setLength(0);
+        return appendTo(buffer, address).toString();
+    }
+
+    public static StringBuilder appendTo(StringBuilder buffer, long address) {
+        return buffer.append((address >>> 24) & 0xFF).append('.')
+                .append((address >>> 16) & 0xFF).append('.')
+                .append((address >>> 8) & 0xFF).append('.')
+                .append(address & 0xFF);
+    }
+
+    /**
+     * [start, end) 구간을 부호가 붙을 수 있는 10진수로 읽는다. (Integer.parseInt 와 같은 입력을 허용)
+     *
+     * @return 읽은 값, 비어있거나 숫자가 아니거나 int 범위를 넘으면 NOT_A_DECIMAL
+     */
+    static long parseDecimal(CharSequence text, int start, int end) {
+        if (start >= end) {
+            return NOT_A_DECIMAL;
+        }
+
+        boolean negative = false;
+        char first = text.charAt(start);
+        if ('-' == first || '+' == first) {
+            negative = '-' == first;
+            start++;
+            if (start == end) {
+                return NOT_A_DECIMAL;
+            }
+        }
+
+        long value = 0;
+        for (int index = start; index < end; index++) {
+            char digit = text.charAt(index);
+            if (digit < '0' || digit > '9') {
+                return NOT_A_DECIMAL;
+            }
+
+            value = value * 10 + (digit - '0');
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                return NOT_A_DECIMAL;
+            }
+        }
+
+        if (false == negative && value > Integer.MAX_VALUE) {
+            return NOT_A_DECIMAL;
+        }
+        return negative ? -value : value;
+    }
+}
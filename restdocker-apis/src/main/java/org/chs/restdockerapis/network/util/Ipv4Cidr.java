@@ -0,0 +1,101 @@
+package org.chs.restdockerapis.network.util;
+
+/**
+ * CIDR 표기(ex. 172.17.0.0/16)를 하나의 long 에 담아 다루는 유틸리티
+ *
+ * 상위 비트에 주소, 하위 8비트에 prefix 길이를 담으므로 파싱, 범위 계산 중에 객체를 만들지 않는다.
+ * 파싱에 실패하면 Ipv4Address 와 같은 음수 코드(MALFORMED, NOT_A_NUMBER)를 반환한다.
+ */
+public final class Ipv4Cidr {
+
+    private Ipv4Cidr() {}
+
+    public static long of(long address, int prefixLength) {
+        return (address << 8) | prefixLength;
+    }
+
+    public static long parse(CharSequence text) {
+        if (null == text) {
+            return Ipv4Address.MALFORMED;
+        }
+
+        // prefix 는 길어야 두 자리이므로 뒤에서부터 '/' 를 찾음
+        int slashIndex = text.length() - 1;
+        while (slashIndex >= 0 && '/' != text.charAt(slashIndex)) {
+            slashIndex--;
+        }
+        if (slashIndex < 0) {
+            return Ipv4Address.MALFORMED;
+        }
+
+        long address = Ipv4Address.parse(text, 0, slashIndex);
+        long prefixLength = Ipv4Address.parseDecimal(text, slashIndex + 1, text.length());
+
+        if (Ipv4Address.NOT_A_NUMBER == address || Ipv4Address.NOT_A_DECIMAL == prefixLength) {
+            return Ipv4Address.NOT_A_NUMBER;
+        }
+        if (Ipv4Address.MALFORMED == address || prefixLength < 0 || prefixLength > 32) {
+            return Ipv4Address.MALFORMED;
+        }
+        return of(address, (int) prefixLength);
+    }
+
+    public static boolean isValid(long cidr) {
+        return cidr >= 0;
+    }
+
+    public static long address(long cidr) {
+        return cidr >>> 8;
+    }
+
+    public static int prefixLength(long cidr) {
+        return (int) (cidr & 0xFF);
+    }
+
+    public static long blockSize(int prefixLength) {
+        return 1L << (32 - prefixLength);
+    }
+
+    /**
+     * Description
+     *
+     * 대역의 첫번째 주소 (네트워크 주소)
+     *
+     * example
+     * prefixLength = 24
+     * blockSize - 1 = 00000000 00000000 00000000 11111111
+     * ~(blockSize - 1) = 11111111 11111111 11111111 00000000 (subnetMask)
+     *
+     * subnetMask 와의 And 연산을 통해 prefix 에 맞는 첫번째 주소를 가져옴
+     * 192.168.1.10 & 255.255.255.0 = 192.168.1.0
+     */
+    public static long firstAddress(long cidr) {
+        return address(cidr) & ~(blockSize(prefixLength(cidr)) - 1) & Ipv4Address.MAX_ADDRESS;
+    }
+
+    /** 대역의 마지막 주소 (브로드캐스트 주소) */
+    public static long lastAddress(long cidr) {
+        return firstAddress(cidr) + blockSize(prefixLength(cidr)) - 1;
+    }
+
+    /** 172.17.0.1/16 처럼 대역의 시작 주소가 아닌 표기를 걸러낸다 */
+    public static boolean isNetworkAddress(long cidr) {
+        return address(cidr) == firstAddress(cidr);
+    }
+
+    public static boolean contains(long cidr, long address) {
+        return address >= firstAddress(cidr) && address <= lastAddress(cidr);
+    }
+
+    public static boolean containsRange(long outerCidr, long innerCidr) {
+        return firstAddress(innerCidr) >= firstAddress(outerCidr)
+                && lastAddress(innerCidr) <= lastAddress(outerCidr);
+    }
+
+    public static String toString(long cidr) {
+        return Ipv4Address.appendTo(new StringBuilder(18), address(cidr))
+                .append('/')
+                .append(prefixLength(cidr))
+                .toString();
+    }
+}
@@ -0,0 +1,63 @@
+package org.chs.restdockerapis.network.util;
+
+import java.util.BitSet;
+
+/**
+ * 네트워크 하나의 컨테이너 IP 사용 여부를 비트 하나로 표현하는 할당 비트맵
+ *
+ * 주소는 부호 없는 32비트 값(long)으로 다루며, [firstAddress, lastAddress] 구간만 할당 대상이다.
+ * cursor 아래의 비트는 항상 사용 중이므로 다음 빈 IP 는 cursor 부터 64비트 단위로 찾는다. (박싱 없음, 분할상환 O(1))
+ * 가장 낮은 빈 IP 를 먼저 할당하는 기존 규칙은 그대로 유지된다.
+ */
+public class NetworkIpBitmap {
+
+    public static final long NO_ADDRESS = -1L;
+
+    private final long firstAddress;
+    private final int size;
+    private final BitSet used;
+
+    // cursor 보다 작은 인덱스는 모두 사용 중
+    private int cursor = 0;
+
+    public NetworkIpBitmap(long firstAddress, long lastAddress) {
+        this.firstAddress = firstAddress;
+        this.size = lastAddress < firstAddress ? 0 : (int) (lastAddress - firstAddress + 1);
+        this.used = new BitSet(size);
+    }
+
+    public synchronized void reserve(long address) {
+        if (contains(address)) {
+            used.set(toIndex(address));
+        }
+    }
+
+    public synchronized void release(long address) {
+        if (contains(address)) {
+            int index = toIndex(address);
+            used.clear(index);
+            cursor = Math.min(cursor, index);
+        }
+    }
+
+    /** @return 할당한 주소, 남은 주소가 없다면 NO_ADDRESS */
+    public synchronized long allocate() {
+        int index = used.nextClearBit(cursor);
+        if (index >= size) {
+            cursor = size;
+            return NO_ADDRESS;
+        }
+
+        used.set(index);
+        cursor = index + 1;
+        return firstAddress + index;
+    }
+
+    public boolean contains(long address) {
+        return address >= firstAddress && address - firstAddress < size;
+    }
+
+    private int toIndex(long address) {
+        return (int) (address - firstAddress);
+    }
+}
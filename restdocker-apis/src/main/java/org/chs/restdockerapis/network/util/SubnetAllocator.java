@@ -0,0 +1,173 @@
+package org.chs.restdockerapis.network.util;
+
+import org.chs.restdockerapis.common.exception.CustomBadRequestException;
+import org.chs.restdockerapis.common.exception.ErrorCode;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 Subnet 구간 인덱스를 관리하며 Subnet 중복 검사와 자동 할당을 담당한다.
+ *
+ * 1. 인덱스는 처음 사용할 때 사용자의 네트워크 Subnet 목록으로 한번만 만들어진다.
+ * 2. 자동 할당은 사설 대역(172.17.0.0 ~ 172.31.255.255, 192.168.0.0/16, 10.0.0.0/8) 순서로 빈 공간을 찾는다.
+ * 3. 할당/예약은 즉시 반영하고, 트랜잭션이 롤백되면 인덱스를 버려 DB 에서 다시 만든다.
+ * 4. 반납(네트워크 삭제)은 커밋 이후에 반영한다.
+ */
+@Component
+public class SubnetAllocator {
+
+    private static final int MAX_ACCOUNTS = 4096;
+
+    private static final List<AddressPool> ADDRESS_POOLS = List.of(
+            new AddressPool(0xAC110000L, 0xAC1FFFFFL),
+            new AddressPool(0xC0A80000L, 0xC0A8FFFFL),
+            new AddressPool(0x0A000000L, 0x0AFFFFFFL)
+    );
+
+    private final Map<String, SubnetRangeIndex> indexes = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, SubnetRangeIndex> eldest) {
+            return size() > MAX_ACCOUNTS;
+        }
+    };
+
+    /**
+     * @param existSubnets 인덱스가 없을 때만 호출되는, 사용자의 네트워크 Subnet 목록
+     * @return 할당한 Subnet (ex. 172.18.0.0/16), 남은 공간이 없다면 null
+     */
+    public String allocate(String oauthServiceId, int prefixLength, SubnetRangeIndex.Fit fit, Supplier<List<String>> existSubnets) {
+        if (prefixLength < 1 || prefixLength > 32) {
+            throw CustomBadRequestException.of(ErrorCode.NOT_VALID_ADDRESS_FORMAT);
+        }
+
+        SubnetRangeIndex index = findOrCreateIndex(oauthServiceId, existSubnets);
+        long blockSize = Ipv4Cidr.blockSize(prefixLength);
+
+        for (AddressPool pool : ADDRESS_POOLS) {
+            long allocatedAddress = index.allocate(pool.start(), pool.end(), blockSize, fit);
+            if (SubnetRangeIndex.NO_ADDRESS != allocatedAddress) {
+                evictOnRollback(oauthServiceId);
+                return Ipv4Cidr.toString(Ipv4Cidr.of(allocatedAddress, prefixLength));
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * 사용자가 직접 지정한 Subnet 을 인덱스에 넣는다.
+     *
+     * @return 기존 Subnet 과 겹친다면 false
+     */
+    public boolean reserve(String oauthServiceId, String subnet, Supplier<List<String>> existSubnets) {
+        SubnetRangeIndex index = findOrCreateIndex(oauthServiceId, existSubnets);
+        long subnetCidr = toCidr(subnet);
+        long start = Ipv4Cidr.firstAddress(subnetCidr);
+        long end = Ipv4Cidr.lastAddress(subnetCidr);
+
+        synchronized (index) {
+            if (index.overlaps(start, end)) {
+                return false;
+            }
+            index.insert(start, end);
+        }
+
+        evictOnRollback(oauthServiceId);
+        return true;
+    }
+
+    /** 네트워크 삭제가 커밋된 뒤 인덱스에서 Subnet 을 반납한다 */
+    public void release(String oauthServiceId, String subnet) {
+        if (null == subnet) {
+            return;
+        }
+
+        runAfterCommit(() -> {
+            SubnetRangeIndex index;
+            synchronized (indexes) {
+                index = indexes.get(oauthServiceId);
+            }
+
+            if (null != index) {
+                long subnetCidr = toCidr(subnet);
+                index.remove(Ipv4Cidr.firstAddress(subnetCidr), Ipv4Cidr.lastAddress(subnetCidr));
+            }
+        });
+    }
+
+    private SubnetRangeIndex findOrCreateIndex(String oauthServiceId, Supplier<List<String>> existSubnets) {
+        synchronized (indexes) {
+            SubnetRangeIndex index = indexes.get(oauthServiceId);
+            if (null != index) {
+                return index;
+            }
+        }
+
+        SubnetRangeIndex createdIndex = new SubnetRangeIndex();
+        List<String> subnets = existSubnets.get();
+        if (null != subnets) {
+            for (String subnet : subnets) {
+                if (null != subnet) {
+                    long subnetCidr = toCidr(subnet);
+                    createdIndex.insert(Ipv4Cidr.firstAddress(subnetCidr), Ipv4Cidr.lastAddress(subnetCidr));
+                }
+            }
+        }
+
+        synchronized (indexes) {
+            // 다른 요청이 먼저 만들었다면 그 인덱스를 사용해야 같은 Subnet 을 두번 할당하지 않음
+            SubnetRangeIndex existIndex = indexes.putIfAbsent(oauthServiceId, createdIndex);
+            return null == existIndex ? createdIndex : existIndex;
+        }
+    }
+
+    private long toCidr(String cidr) {
+        long parsedCidr = Ipv4Cidr.parse(cidr);
+        if (false == Ipv4Cidr.isValid(parsedCidr)) {
+            throw CustomBadRequestException.of(ErrorCode.NOT_VALID_ADDRESS_FORMAT);
+        }
+        return parsedCidr;
+    }
+
+    private void evictOnRollback(String oauthServiceId) {
+        if (false == TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (STATUS_COMMITTED != status) {
+                    synchronized (indexes) {
+                        indexes.remove(oauthServiceId);
+                    }
+                }
+            }
+        });
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (false == TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private record AddressPool(
+            long start,
+            long end
+    ) {}
+}
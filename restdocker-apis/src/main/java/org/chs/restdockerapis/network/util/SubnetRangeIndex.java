@@ -0,0 +1,138 @@
+package org.chs.restdockerapis.network.util;
+
+import java.util.Arrays;
+
+/**
+ * 사용자 하나가 사용중인 Subnet 대역을 시작 주소 순으로 정렬해 둔 구간 인덱스
+ *
+ * 주소는 부호 없는 32비트 값(long)으로 다루므로 255.255.255.255 근처에서도 overflow 가 나지 않는다.
+ * maxEnds[i] 는 0 ~ i 번째 구간의 끝 주소 중 가장 큰 값으로, 구간끼리 겹쳐 있어도 겹침 검사가 O(log n) 이다.
+ * 삽입/삭제는 배열을 밀고 당기므로 O(n) 이지만, 사용자당 네트워크 수는 많지 않다.
+ */
+public class SubnetRangeIndex {
+
+    public static final long NO_ADDRESS = -1L;
+
+    public enum Fit {
+        // 가장 낮은 주소의 빈 공간부터 할당한다. (Docker 와 같은 방식)
+        FIRST,
+        // 요청한 크기가 들어가는 빈 공간 중 가장 작은 공간에 할당하여 큰 빈 공간을 남겨둔다.
+        BEST
+    }
+
+    private long[] starts = new long[8];
+    private long[] ends = new long[8];
+    private long[] maxEnds = new long[8];
+    private int size = 0;
+
+    public synchronized boolean overlaps(long start, long end) {
+        int index = lastIndexStartingAtOrBefore(end);
+        return index >= 0 && maxEnds[index] >= start;
+    }
+
+    public synchronized void insert(long start, long end) {
+        ensureCapacity();
+
+        int index = lastIndexStartingAtOrBefore(start) + 1;
+        System.arraycopy(starts, index, starts, index + 1, size - index);
+        System.arraycopy(ends, index, ends, index + 1, size - index);
+        starts[index] = start;
+        ends[index] = end;
+        size++;
+
+        refreshMaxEnds(index);
+    }
+
+    /** 같은 시작, 끝 주소를 가진 구간 하나를 제거한다 */
+    public synchronized void remove(long start, long end) {
+        int index = lastIndexStartingAtOrBefore(start);
+        while (index >= 0 && starts[index] == start) {
+            if (ends[index] == end) {
+                System.arraycopy(starts, index + 1, starts, index, size - index - 1);
+                System.arraycopy(ends, index + 1, ends, index, size - index - 1);
+                size--;
+
+                refreshMaxEnds(index);
+                return;
+            }
+            index--;
+        }
+    }
+
+    /**
+     * [poolStart, poolEnd] 안에서 blockSize 단위로 정렬된 빈 공간을 찾아 인덱스에 넣는다.
+     *
+     * @return 할당한 시작 주소, 빈 공간이 없다면 NO_ADDRESS
+     */
+    public synchronized long allocate(long poolStart, long poolEnd, long blockSize, Fit fit) {
+        long bestStart = NO_ADDRESS;
+        long bestGapSize = Long.MAX_VALUE;
+
+        long gapStart = poolStart;
+        for (int index = 0; index <= size && gapStart <= poolEnd; index++) {
+            long gapEnd = index < size ? Math.min(poolEnd, starts[index] - 1) : poolEnd;
+
+            long alignedStart = alignUp(gapStart, blockSize);
+            if (alignedStart + blockSize - 1 <= gapEnd) {
+                if (Fit.FIRST == fit) {
+                    bestStart = alignedStart;
+                    break;
+                }
+
+                long gapSize = gapEnd - gapStart + 1;
+                if (gapSize < bestGapSize) {
+                    bestStart = alignedStart;
+                    bestGapSize = gapSize;
+                }
+            }
+
+            if (index < size) {
+                gapStart = Math.max(gapStart, ends[index] + 1);
+            }
+        }
+
+        if (NO_ADDRESS != bestStart) {
+            insert(bestStart, bestStart + blockSize - 1);
+        }
+        return bestStart;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private int lastIndexStartingAtOrBefore(long address) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] <= address) {
+                low = mid + 1;
+            }
+            else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+
+    private void refreshMaxEnds(int fromIndex) {
+        long maxEnd = fromIndex > 0 ? maxEnds[fromIndex - 1] : NO_ADDRESS;
+        for (int index = fromIndex; index < size; index++) {
+            maxEnd = Math.max(maxEnd, ends[index]);
+            maxEnds[index] = maxEnd;
+        }
+    }
+
+    private void ensureCapacity() {
+        if (size == starts.length) {
+            starts = Arrays.copyOf(starts, size * 2);
+            ends = Arrays.copyOf(ends, size * 2);
+            maxEnds = Arrays.copyOf(maxEnds, size * 2);
+        }
+    }
+
+    private static long alignUp(long address, long blockSize) {
+        return (address + blockSize - 1) / blockSize * blockSize;
+    }
+}
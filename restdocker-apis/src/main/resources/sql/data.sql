@@ -1,5 +1,5 @@
 INSERT INTO docker_hub(pk, create_date, update_date, name, tag, os, architecture, size)
-values('11111111-1111-1111-1111-111111111111', '2024-01-01T00:00:00', '2024-01-01T00:00:00', 'tomcat', 'latest', 'linux', 'arm64', '490702439');
+values(UNHEX(REPLACE('11111111-1111-1111-1111-111111111111', '-', '')), '2024-01-01T00:00:00', '2024-01-01T00:00:00', 'tomcat', 'latest', 'linux', 'arm64', '490702439');
 
 INSERT INTO docker_hub(pk, create_date, update_date, name, tag, os, architecture, size)
-values('22222222-2222-2222-2222-222222222222', '2024-01-07T07:00:00', '2024-01-07T07:00:00', 'mysql', 'latest', 'linux', 'arm64', '608420134');
\ No newline at end of file
+values(UNHEX(REPLACE('22222222-2222-2222-2222-222222222222', '-', '')), '2024-01-07T07:00:00', '2024-01-07T07:00:00', 'mysql', 'latest', 'linux', 'arm64', '608420134');
\ No newline at end of file
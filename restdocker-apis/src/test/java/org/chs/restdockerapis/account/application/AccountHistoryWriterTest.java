@@ -0,0 +1,126 @@
+package org.chs.restdockerapis.account.application;
+
+import org.chs.domain.account.AccountLoginHistoryRepository;
+import org.chs.domain.account.AccountLogoutHistoryRepository;
+import org.chs.domain.account.entity.AccountLoginHistoryEntity;
+import org.chs.domain.account.entity.AccountLogoutHistoryEntity;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+
+@ExtendWith(MockitoExtension.class)
+public class AccountHistoryWriterTest {
+
+    @Mock
+    private AccountLoginHistoryRepository accountLoginHistoryRepository;
+
+    @Mock
+    private AccountLogoutHistoryRepository accountLogoutHistoryRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AccountLoginHistoryEntity loginHistory(String createdBy) {
+        return AccountLoginHistoryEntity.builder()
+                .createdBy(createdBy)
+                .ipAddress("127.0.0.1")
+                .failure(false)
+                .build();
+    }
+
+    private AccountLogoutHistoryEntity logoutHistory(String createdBy) {
+        return AccountLogoutHistoryEntity.builder()
+                .createdBy(createdBy)
+                .ipAddress("127.0.0.1")
+                .failure(false)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("[AccountHistoryWriter][시나리오 테스트] 로그인, 로그아웃 히스토리를 모아서 저장한다.")
+    class WriteHistories {
+
+        @Tag("business")
+        @Test
+        @DisplayName("[AccountHistoryWriter][Business] 종료 시 Queue 에 남은 히스토리를 모두 저장한다")
+        void 종료_시_Queue_에_남은_히스토리를_모두_저장한다() {
+            // given
+            AccountHistoryWriter accountHistoryWriter = new AccountHistoryWriter(
+                    accountLoginHistoryRepository, accountLogoutHistoryRepository, transactionManager, new MockEnvironment(), 100, 100, 50
+            );
+            List<AccountLoginHistoryEntity> savedLoginHistories = new ArrayList<>();
+            BDDMockito.given(accountLoginHistoryRepository.saveAll(any()))
+                    .willAnswer(invocation -> {
+                        invocation.<Iterable<AccountLoginHistoryEntity>>getArgument(0).forEach(savedLoginHistories::add);
+                        return List.of();
+                    });
+
+            accountHistoryWriter.enqueue(loginHistory("first"));
+            accountHistoryWriter.enqueue(loginHistory("second"));
+            accountHistoryWriter.enqueue(logoutHistory("first"));
+
+            // when
+            accountHistoryWriter.start();
+            accountHistoryWriter.stop();
+
+            // then
+            ArgumentCaptor<List<AccountLogoutHistoryEntity>> savedLogoutHistories = ArgumentCaptor.forClass(List.class);
+            BDDMockito.then(accountLogoutHistoryRepository).should().saveAll(savedLogoutHistories.capture());
+
+            Assertions.assertEquals(2, savedLoginHistories.size());
+            Assertions.assertEquals(1, savedLogoutHistories.getValue().size());
+            Assertions.assertFalse(accountHistoryWriter.isRunning());
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[AccountHistoryWriter][Business] Queue 가 가득 차면 히스토리를 버린다")
+        void Queue_가_가득_차면_히스토리를_버린다() {
+            // given
+            AccountHistoryWriter accountHistoryWriter = new AccountHistoryWriter(
+                    accountLoginHistoryRepository, accountLogoutHistoryRepository, transactionManager, new MockEnvironment(), 1, 100, 50
+            );
+            accountHistoryWriter.enqueue(loginHistory("first"));
+
+            // when
+            boolean actual = accountHistoryWriter.enqueue(loginHistory("second"));
+
+            // then
+            Assertions.assertFalse(actual);
+            Assertions.assertEquals(1, accountHistoryWriter.getDroppedCount());
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[AccountHistoryWriter][Business] 저장에 실패해도 다음 히스토리는 계속 저장한다")
+        void 저장에_실패해도_다음_히스토리는_계속_저장한다() {
+            // given
+            AccountHistoryWriter accountHistoryWriter = new AccountHistoryWriter(
+                    accountLoginHistoryRepository, accountLogoutHistoryRepository, transactionManager, new MockEnvironment(), 100, 1, 50
+            );
+            BDDMockito.given(accountLoginHistoryRepository.saveAll(any()))
+                    .willThrow(new IllegalStateException("connection refused"))
+                    .willReturn(List.of());
+
+            accountHistoryWriter.enqueue(loginHistory("first"));
+            accountHistoryWriter.enqueue(loginHistory("second"));
+
+            // when
+            accountHistoryWriter.start();
+            accountHistoryWriter.stop();
+
+            // then
+            BDDMockito.then(accountLoginHistoryRepository).should(BDDMockito.times(2)).saveAll(any());
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.interfaces.Claim;
 import org.chs.domain.account.AccountRepository;
 import org.chs.domain.account.entity.AccountEntity;
+import org.chs.domain.common.cache.AccountStateCache;
 import org.chs.domain.common.enumerate.ThirdPartyEnum;
 import org.chs.domain.network.NetworkEntityRepository;
 import org.chs.domain.network.entity.NetworkEntity;
@@ -18,6 +19,7 @@ import org.chs.restdockerapis.account.util.kakao.KakaoOAuthUtils;
 import org.chs.restdockerapis.account.util.naver.NaverOAuthUtils;
 import org.chs.restdockerapis.common.argument_resolver.dto.GetRequesterDto;
 import org.chs.restdockerapis.common.exception.*;
+import org.chs.restdockerapis.common.jwt.principal.AccountPrincipalCache;
 import org.chs.tokenissuer.application.TokenIssuerService;
 import org.chs.tokenissuer.common.properties.JwtProperties;
 import org.junit.jupiter.api.*;
@@ -61,6 +63,12 @@ public class AccountServiceTest {
     @Mock
     private JwtProperties jwtProperties;
 
+    @Mock
+    private AccountStateCache accountStateCache;
+
+    @Mock
+    private AccountPrincipalCache accountPrincipalCache;
+
     // 주관적 정의 : 시나리오 테스트란 하나의 메서드를 여러 시나리오에 맞춰 테스트 하는 것을 정의하였다.
     @Nested
     @DisplayName("[Account][시나리오 테스트] 카카오 OAuth 로그인을 테스트한다.")
@@ -0,0 +1,202 @@
+package org.chs.restdockerapis.command.application;
+
+import org.chs.domain.common.enumerate.ThirdPartyEnum;
+import org.chs.restdockerapis.command.presentation.dto.CommandBatchRequestDto;
+import org.chs.restdockerapis.command.presentation.dto.CommandBatchResponseDto;
+import org.chs.restdockerapis.common.argument_resolver.dto.GetRequesterDto;
+import org.chs.restdockerapis.common.exception.CustomBadRequestException;
+import org.chs.restdockerapis.common.exception.ErrorCode;
+import org.chs.restdockerapis.common.metrics.RestDockerMetrics;
+import org.chs.restdockerapis.common.util.BatchLookupCache;
+import org.chs.restdockerapis.network.presentation.dto.CreateNetworkResponseDto;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+public class CommandBatchServiceTest {
+
+    @InjectMocks
+    private CommandBatchService commandBatchService;
+
+    @Spy
+    private CommandService commandService = new CommandService();
+
+    @Mock
+    private CommandExecuteService commandExecuteService;
+
+    @Spy
+    private BatchLookupCache batchLookupCache;
+
+    @Mock
+    private RestDockerMetrics restDockerMetrics;
+
+    private GetRequesterDto testRequestInfo = GetRequesterDto.builder()
+            .id("testOAuthServiceId")
+            .ipAddress("127.0.0.1")
+            .oauthAccessToken("testOAuthAccessToken")
+            .oauthRefreshToken("testOAuthRefreshToken")
+            .thirdPartyType(ThirdPartyEnum.KAKAO)
+            .build();
+
+    private List<String> testCommands = List.of(
+            "docker network create restdocker",
+            "docker pull nginx",
+            "docker ps"
+    );
+
+    @Nested
+    @DisplayName("[Command][시나리오 테스트] 여러 명령어를 순서대로 실행한다.")
+    class ExecuteBatch {
+
+        @BeforeEach
+        void setUpMock() {
+            CreateNetworkResponseDto createNetworkResponse = CreateNetworkResponseDto.builder()
+                    .networkName("restdocker")
+                    .build();
+
+            BDDMockito.lenient().when(commandExecuteService.dispatch(any(), any()))
+                    .thenReturn(createNetworkResponse);
+            BDDMockito.lenient().when(commandExecuteService.dispatch(any(), argThat(command -> null != command.getArgCommand() && command.getArgCommand().contains("nginx"))))
+                    .thenThrow(new CustomBadRequestException(ErrorCode.NOT_EXIST_IMAGE_IN_DOCKERHUB));
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Command][Business] 모든 명령어가 성공하면 커밋한다")
+        void 모든_명령어가_성공하면_커밋한다() {
+            // when
+            CommandBatchResponseDto actual = commandBatchService.executeBatch(
+                    testRequestInfo,
+                    CommandBatchRequestDto.builder()
+                            .commands(List.of("docker network create restdocker", "docker ps"))
+                            .build()
+            );
+
+            // then
+            Assertions.assertTrue(actual.committed());
+            Assertions.assertEquals(2, actual.results().size());
+            Assertions.assertEquals("/api/v1/network/create", actual.results().get(0).url());
+            Assertions.assertEquals("/api/v1/container/ls", actual.results().get(1).url());
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Command][Business] 기본값은 처음 실패한 명령어에서 멈춘다")
+        void 기본값은_처음_실패한_명령어에서_멈춘다() {
+            // when
+            CommandBatchResponseDto actual = commandBatchService.executeBatch(
+                    testRequestInfo,
+                    CommandBatchRequestDto.builder()
+                            .commands(testCommands)
+                            .build()
+            );
+
+            // then
+            Assertions.assertFalse(actual.committed());
+            Assertions.assertEquals(2, actual.results().size());
+            Assertions.assertTrue(actual.results().get(0).success());
+            Assertions.assertFalse(actual.results().get(1).success());
+            Assertions.assertEquals(ErrorCode.NOT_EXIST_IMAGE_IN_DOCKERHUB.getResultCode(), actual.results().get(1).resultCode());
+
+            BDDMockito.then(commandExecuteService).should(times(2)).dispatch(any(), any());
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Command][Business] continueOnError 라면 실패한 명령어 이후도 실행한다")
+        void ContinueOnError_라면_실패한_명령어_이후도_실행한다() {
+            // when
+            CommandBatchResponseDto actual = commandBatchService.executeBatch(
+                    testRequestInfo,
+                    CommandBatchRequestDto.builder()
+                            .commands(testCommands)
+                            .continueOnError(true)
+                            .build()
+            );
+
+            // then
+            Assertions.assertFalse(actual.committed());
+            Assertions.assertEquals(3, actual.results().size());
+            Assertions.assertFalse(actual.results().get(1).success());
+            Assertions.assertTrue(actual.results().get(2).success());
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Command][Business] Repository 의 인자 검증에 실패한 명령어도 실패한 명령어로 기록하고 이후를 실행한다")
+        void Repository_의_인자_검증에_실패한_명령어도_실패한_명령어로_기록하고_이후를_실행한다() {
+            // given
+            BDDMockito.given(commandExecuteService.dispatch(any(), argThat(command -> null != command.getArgCommand() && command.getArgCommand().contains("a:b:c"))))
+                    .willThrow(new InvalidDataAccessApiUsageException(
+                            "Image 이름에 콜론(:) 이 포함 되어 있습니다.",
+                            new IllegalArgumentException("Image 이름에 콜론(:) 이 포함 되어 있습니다.")
+                    ));
+
+            // when
+            CommandBatchResponseDto actual = commandBatchService.executeBatch(
+                    testRequestInfo,
+                    CommandBatchRequestDto.builder()
+                            .commands(List.of("docker network create restdocker", "docker pull a:b:c", "docker ps"))
+                            .continueOnError(true)
+                            .build()
+            );
+
+            // then
+            Assertions.assertFalse(actual.committed());
+            Assertions.assertEquals(3, actual.results().size());
+            Assertions.assertFalse(actual.results().get(1).success());
+            Assertions.assertEquals(ErrorCode.COMMON_BAD_REQUEST_ERROR_EXCEPTION.getResultCode(), actual.results().get(1).resultCode());
+            Assertions.assertEquals("Image 이름에 콜론(:) 이 포함 되어 있습니다.", actual.results().get(1).description());
+            Assertions.assertTrue(actual.results().get(2).success());
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Command][Business] 스크립트의 빈 줄과 주석은 무시한다")
+        void 스크립트의_빈_줄과_주석은_무시한다() {
+            // when
+            CommandBatchResponseDto actual = commandBatchService.executeBatch(
+                    testRequestInfo,
+                    CommandBatchRequestDto.builder()
+                            .script("# tutorial\ndocker network create restdocker\n\n  docker ps  \r\n")
+                            .build()
+            );
+
+            // then
+            Assertions.assertTrue(actual.committed());
+            Assertions.assertEquals(2, actual.results().size());
+            Assertions.assertEquals("docker ps", actual.results().get(1).command());
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Command][Business] 명령어 목록과 스크립트를 함께 보내면 Exception을 내보낸다")
+        void 명령어_목록과_스크립트를_함께_보내면_Exception을_내보낸다() {
+            // when && then
+            Assertions.assertThrows(
+                    CustomBadRequestException.class,
+                    () -> commandBatchService.executeBatch(
+                            testRequestInfo,
+                            CommandBatchRequestDto.builder()
+                                    .commands(testCommands)
+                                    .script("docker ps")
+                                    .build()
+                    )
+            );
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package org.chs.restdockerapis.command.application;
+
+import org.chs.domain.common.enumerate.ThirdPartyEnum;
+import org.chs.restdockerapis.command.enumerate.MainCommandEnum;
+import org.chs.restdockerapis.command.enumerate.SubCommandEnum;
+import org.chs.restdockerapis.command.presentation.dto.CommandAnalysisRequestDto;
+import org.chs.restdockerapis.command.presentation.dto.CommandExecuteResponseDto;
+import org.chs.restdockerapis.common.argument_resolver.dto.GetRequesterDto;
+import org.chs.restdockerapis.common.exception.CustomBadRequestException;
+import org.chs.restdockerapis.container.application.ContainerService;
+import org.chs.restdockerapis.container.presentation.dto.LsContainerResponseDto;
+import org.chs.restdockerapis.container.presentation.dto.StopContainerResponseDto;
+import org.chs.restdockerapis.image.application.ImageService;
+import org.chs.restdockerapis.image.presentation.dto.DockerCommandRequestDto;
+import org.chs.restdockerapis.network.application.NetworkService;
+import org.chs.restdockerapis.network.presentation.dto.CreateNetworkResponseDto;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+public class CommandExecuteServiceTest {
+
+    @InjectMocks
+    private CommandExecuteService commandExecuteService;
+
+    @Spy
+    private CommandService commandService = new CommandService();
+
+    @Mock
+    private ImageService imageService;
+
+    @Mock
+    private NetworkService networkService;
+
+    @Mock
+    private ContainerService containerService;
+
+    private GetRequesterDto testRequestInfo = GetRequesterDto.builder()
+            .id("testOAuthServiceId")
+            .ipAddress("127.0.0.1")
+            .oauthAccessToken("testOAuthAccessToken")
+            .oauthRefreshToken("testOAuthRefreshToken")
+            .thirdPartyType(ThirdPartyEnum.KAKAO)
+            .build();
+
+    @Nested
+    @DisplayName("[Command][시나리오 테스트] 명령어를 분석하고 알맞은 비즈니스 로직을 바로 실행한다.")
+    class ExecuteCommand {
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Command][Business] docker ps -a")
+        void Docker_Ps_는_컨테이너_조회를_실행한다() {
+            // given
+            LsContainerResponseDto lsContainerResponse = LsContainerResponseDto.builder()
+                    .containerElementsList(List.of())
+                    .build();
+
+            BDDMockito.given(containerService.lsContainer(any(), any()))
+                    .willReturn(lsContainerResponse);
+
+            // when
+            CommandExecuteResponseDto actual = commandExecuteService.executeCommand(
+                    testRequestInfo,
+                    CommandAnalysisRequestDto.builder().command("docker ps -a").build()
+            );
+
+            // then
+            Assertions.assertEquals(MainCommandEnum.CONTAINER, actual.mainCommand());
+            Assertions.assertEquals(SubCommandEnum.LS, actual.subCommand());
+            Assertions.assertEquals(lsContainerResponse, actual.result());
+
+            BDDMockito.then(containerService).should().lsContainer(
+                    testRequestInfo,
+                    DockerCommandRequestDto.builder().argCommands(List.of("-a")).build()
+            );
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Command][Business] docker network create restdocker")
+        void Docker_Network_Create_는_네트워크_생성을_실행한다() {
+            // given
+            CreateNetworkResponseDto createNetworkResponse = CreateNetworkResponseDto.builder()
+                    .networkName("restdocker")
+                    .build();
+
+            BDDMockito.given(networkService.createNetwork(any(), any()))
+                    .willReturn(createNetworkResponse);
+
+            // when
+            CommandExecuteResponseDto actual = commandExecuteService.executeCommand(
+                    testRequestInfo,
+                    CommandAnalysisRequestDto.builder().command("docker network create restdocker").build()
+            );
+
+            // then
+            Assertions.assertEquals(MainCommandEnum.NETWORK, actual.mainCommand());
+            Assertions.assertEquals(SubCommandEnum.CREATE, actual.subCommand());
+            Assertions.assertEquals(createNetworkResponse, actual.result());
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Command][Business] docker stop restdocker")
+        void Docker_Stop_은_사용자_OAuthServiceId_로_컨테이너_종료를_실행한다() {
+            // given
+            StopContainerResponseDto stopContainerResponse = StopContainerResponseDto.builder()
+                    .stopResult(true)
+                    .build();
+
+            BDDMockito.given(containerService.stopContainer(eq("testOAuthServiceId"), any()))
+                    .willReturn(stopContainerResponse);
+
+            // when
+            CommandExecuteResponseDto actual = commandExecuteService.executeCommand(
+                    testRequestInfo,
+                    CommandAnalysisRequestDto.builder().command("docker stop restdocker").build()
+            );
+
+            // then
+            Assertions.assertEquals(stopContainerResponse, actual.result());
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Command][Business] 실행할 API 가 없는 docker Help 는 Exception을 내보낸다")
+        void 실행할_API_가_없는_Docker_Help_는_Exception을_내보낸다() {
+            // when && then
+            Assertions.assertThrows(
+                    CustomBadRequestException.class,
+                    () -> commandExecuteService.executeCommand(
+                            testRequestInfo,
+                            CommandAnalysisRequestDto.builder().command("docker").build()
+                    )
+            );
+        }
+    }
+}
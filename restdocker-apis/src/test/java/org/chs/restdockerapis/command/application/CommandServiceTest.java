@@ -716,6 +716,91 @@ public class CommandServiceTest {
                     () -> commandService.filteringCommand(testRequest)
             );
         }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Command][Business] docker rmi tomcat")
+        void Docker_Rmi_ArgCommands() {
+            // given - data
+            testRequest = CommandAnalysisRequestDto.builder()
+                    .command("docker rmi tomcat")
+                    .build();
+
+            List<String> argCommands = List.of("tomcat");
+
+            expected = CommandAnalysisResponseDto.builder()
+                    .url("/api/v1/image/rm")
+                    .argCommands(argCommands)
+                    .build();
+
+            // when
+            CommandAnalysisResponseDto actual = commandService.filteringCommand(testRequest);
+
+            // then
+            Assertions.assertEquals(expected.url(), actual.url());
+            Assertions.assertEquals(expected.argCommands(), actual.argCommands());
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Command][Business] 여러 칸의 공백과 탭이 섞인 명령어도 한칸 공백과 동일하게 분석한다")
+        void 여러_칸의_공백과_탭이_섞인_명령어도_한칸_공백과_동일하게_분석한다() {
+            // given - data
+            testRequest = CommandAnalysisRequestDto.builder()
+                    .command("  docker   run\t--name   containerName --rm  -p 8080:10100   restdocker:0.0.1 ")
+                    .build();
+
+            List<String> argCommands = Arrays.asList(
+                    "--name containerName",
+                    "--rm",
+                    "-p 8080:10100",
+                    "restdocker:0.0.1"
+            );
+
+            expected = CommandAnalysisResponseDto.builder()
+                    .url("/api/v1/container/run")
+                    .argCommands(argCommands)
+                    .build();
+
+            // when
+            CommandAnalysisResponseDto actual = commandService.filteringCommand(testRequest);
+
+            // then
+            Assertions.assertEquals(expected.url(), actual.url());
+            Assertions.assertEquals(expected.argCommands(), actual.argCommands());
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Command][Business] SubCommand 가 없는 명령어를 발견하고, Exception을 내보낸다")
+        void SubCommand_가_없는_명령어를_발견하고_Exception을_내보낸다() {
+            // given - data
+            testRequest = CommandAnalysisRequestDto.builder()
+                    .command("docker network")
+                    .build();
+
+            // when && then
+            Assertions.assertThrows(
+                    CustomBadRequestException.class,
+                    () -> commandService.filteringCommand(testRequest)
+            );
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Command][Business] 공백뿐인 명령어를 발견하고, Exception을 내보낸다")
+        void 공백뿐인_명령어를_발견하고_Exception을_내보낸다() {
+            // given - data
+            testRequest = CommandAnalysisRequestDto.builder()
+                    .command("   ")
+                    .build();
+
+            // when && then
+            Assertions.assertThrows(
+                    CustomBadRequestException.class,
+                    () -> commandService.filteringCommand(testRequest)
+            );
+        }
     }
 
 }
\ No newline at end of file
@@ -1,12 +1,22 @@
 package org.chs.restdockerapis.command.presentation;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import org.chs.restdockerapis.command.application.CommandBatchService;
+import org.chs.restdockerapis.command.application.CommandExecuteService;
 import org.chs.restdockerapis.command.application.CommandService;
+import org.chs.restdockerapis.command.enumerate.MainCommandEnum;
+import org.chs.restdockerapis.command.enumerate.SubCommandEnum;
 import org.chs.restdockerapis.command.presentation.dto.CommandAnalysisRequestDto;
 import org.chs.restdockerapis.command.presentation.dto.CommandAnalysisResponseDto;
+import org.chs.restdockerapis.command.presentation.dto.CommandBatchRequestDto;
+import org.chs.restdockerapis.command.presentation.dto.CommandBatchResponseDto;
+import org.chs.restdockerapis.command.presentation.dto.CommandBatchStepResultDto;
+import org.chs.restdockerapis.command.presentation.dto.CommandExecuteResponseDto;
 import org.chs.restdockerapis.common.exception.CustomBadRequestException;
 import org.chs.restdockerapis.common.exception.ErrorCode;
 import org.chs.restdockerapis.common.structure.ControllerTest;
+import org.chs.restdockerapis.container.presentation.dto.RunContainerResponseDto;
+import org.chs.restdockerapis.network.presentation.dto.CreateNetworkResponseDto;
 import org.junit.jupiter.api.*;
 import org.mockito.BDDMockito;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -14,8 +24,10 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -30,6 +42,12 @@ public class CommandControllerTest extends ControllerTest {
     @MockBean
     private CommandService commandService;
 
+    @MockBean
+    private CommandExecuteService commandExecuteService;
+
+    @MockBean
+    private CommandBatchService commandBatchService;
+
     @Nested
     @DisplayName("[Command][성공 테스트] Command 분석 후 필터링 된 결과를 반환한다.")
     class FilteringCommandSuccess {
@@ -138,4 +156,235 @@ public class CommandControllerTest extends ControllerTest {
                     );
         }
     }
+
+    @Nested
+    @DisplayName("[Command][성공 테스트] Command 분석 후 비즈니스 로직까지 한번의 요청으로 실행한다.")
+    class ExecuteCommandSuccess {
+
+        private String testRequest = null;
+        private CommandExecuteResponseDto testResponse = null;
+
+        @BeforeEach
+        void setUpData() throws JsonProcessingException {
+            // given
+            enableAuthentication();
+
+            testRequest = objectMapper.writeValueAsString(
+                    CommandAnalysisRequestDto.builder()
+                            .command("docker run --name containerName -p 8080:10100 restdocker:0.0.1")
+                            .build()
+            );
+
+            testResponse = CommandExecuteResponseDto.builder()
+                    .mainCommand(MainCommandEnum.CONTAINER)
+                    .subCommand(SubCommandEnum.RUN)
+                    .result(
+                            RunContainerResponseDto.builder()
+                                    .startResult(true)
+                                    .build()
+                    )
+                    .build();
+        }
+
+        @AfterEach
+        void destroy() {
+            disableAuthentication();
+        }
+
+        @Tag("controller")
+        @Test
+        @DisplayName("[Command][Controller] Execute Command")
+        void 명령어_분석_후_비즈니스_로직의_결과를_한번에_반환한다() throws Exception {
+            // given
+            BDDMockito.given(commandExecuteService.executeCommand(any(), any()))
+                    .willReturn(testResponse);
+
+            // when
+            ResultActions resultActions = mockMvc.perform(post("/api/v1/command/exec")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(testRequest)
+            );
+
+            // then
+            resultActions
+                    .andExpect(status().isOk())
+                    .andDo(
+                            restDocs.document(
+                                    requestFields(
+                                            fieldWithPath("command").type(JsonFieldType.STRING).description("도커 명령어")
+                                    ),
+                                    responseFields(
+                                            fieldWithPath("mainCommand").type(JsonFieldType.STRING).description("분석된 MainCommand"),
+                                            fieldWithPath("subCommand").type(JsonFieldType.STRING).description("분석된 SubCommand"),
+                                            fieldWithPath("result").type(JsonFieldType.OBJECT).description("명령어에 해당하는 API 의 응답"),
+                                            fieldWithPath("result.startResult").type(JsonFieldType.BOOLEAN).description("컨테이너 생성 및 시작의 성공여부")
+                                    )
+                            )
+                    );
+        }
+    }
+
+    @Nested
+    @DisplayName("[Command][성공 테스트] 여러 Command 를 하나의 트랜잭션으로 순서대로 실행한 결과를 반환한다.")
+    class ExecuteBatchSuccess {
+
+        private String testRequest = null;
+        private CommandBatchResponseDto testResponse = null;
+
+        @BeforeEach
+        void setUpData() throws JsonProcessingException {
+            // given
+            enableAuthentication();
+
+            testRequest = objectMapper.writeValueAsString(
+                    CommandBatchRequestDto.builder()
+                            .script("docker network create restdocker\ndocker network create restdocker")
+                            .continueOnError(true)
+                            .build()
+            );
+
+            testResponse = CommandBatchResponseDto.builder()
+                    .committed(false)
+                    .results(List.of(
+                            CommandBatchStepResultDto.builder()
+                                    .index(0)
+                                    .command("docker network create restdocker")
+                                    .url("/api/v1/network/create")
+                                    .success(true)
+                                    .result(
+                                            CreateNetworkResponseDto.builder()
+                                                    .networkName("restdocker")
+                                                    .build()
+                                    )
+                                    .build(),
+                            CommandBatchStepResultDto.builder()
+                                    .index(1)
+                                    .command("docker network create restdocker")
+                                    .success(false)
+                                    .resultCode(ErrorCode.NOT_VALID_NAME.getResultCode())
+                                    .description(ErrorCode.NOT_VALID_NAME.getDescription())
+                                    .build()
+                    ))
+                    .build();
+        }
+
+        @AfterEach
+        void destroy() {
+            disableAuthentication();
+        }
+
+        @Tag("controller")
+        @Test
+        @DisplayName("[Command][Controller] Execute Batch")
+        void 여러_명령어를_하나의_트랜잭션으로_실행한_결과를_반환한다() throws Exception {
+            // given
+            BDDMockito.given(commandBatchService.executeBatch(any(), any()))
+                    .willReturn(testResponse);
+
+            // when
+            ResultActions resultActions = mockMvc.perform(post("/api/v1/command/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(testRequest)
+            );
+
+            // then
+            resultActions
+                    .andExpect(status().isOk())
+                    .andDo(
+                            restDocs.document(
+                                    requestFields(
+                                            fieldWithPath("commands").type(JsonFieldType.ARRAY).description("순서대로 실행할 도커 명령어 목록 (script 와 둘 중 하나)").optional(),
+                                            fieldWithPath("script").type(JsonFieldType.STRING).description("줄바꿈으로 구분된 도커 명령어 스크립트 (commands 와 둘 중 하나)").optional(),
+                                            fieldWithPath("continueOnError").type(JsonFieldType.BOOLEAN).description("실패한 명령어 이후에도 계속 실행할지 여부 (기본값 false)").optional()
+                                    ),
+                                    responseFields(
+                                            fieldWithPath("committed").type(JsonFieldType.BOOLEAN).description("배치 전체의 커밋 여부 (하나라도 실패하면 롤백)"),
+                                            fieldWithPath("results[].index").type(JsonFieldType.NUMBER).description("명령어 순번"),
+                                            fieldWithPath("results[].command").type(JsonFieldType.STRING).description("실행한 도커 명령어"),
+                                            fieldWithPath("results[].url").type(JsonFieldType.STRING).description("명령어에 해당하는 API URL").optional(),
+                                            fieldWithPath("results[].success").type(JsonFieldType.BOOLEAN).description("명령어 실행 성공여부"),
+                                            fieldWithPath("results[].result").type(JsonFieldType.OBJECT).description("명령어에 해당하는 API 의 응답").optional(),
+                                            fieldWithPath("results[].result.networkName").type(JsonFieldType.STRING).description("생성한 네트워크 이름").optional(),
+                                            fieldWithPath("results[].resultCode").type(JsonFieldType.STRING).description("실패한 명령어의 에러 코드").optional(),
+                                            fieldWithPath("results[].description").type(JsonFieldType.STRING).description("실패한 명령어의 에러 설명").optional()
+                                    )
+                            )
+                    );
+        }
+    }
+
+    @Nested
+    @DisplayName("[Command][실패 테스트] 한번에 실행할 수 있는 개수를 넘거나 형식이 잘못된 배치는 실행하지 않는다.")
+    class ExecuteBatchFail {
+
+        private String testRequest = null;
+
+        @BeforeEach
+        void setUpData() throws JsonProcessingException {
+            // given
+            enableAuthentication();
+
+            testRequest = objectMapper.writeValueAsString(
+                    CommandBatchRequestDto.builder()
+                            .commands(Collections.nCopies(CommandBatchRequestDto.MAX_COMMANDS + 1, "docker network ls"))
+                            .build()
+            );
+        }
+
+        @AfterEach
+        void destroy() {
+            disableAuthentication();
+        }
+
+        @Tag("controller")
+        @Test
+        @DisplayName("[Command][Controller] Execute Batch")
+        void 명령어_개수를_초과한_배치는_검증에서_실패한다() throws Exception {
+            // when
+            ResultActions resultActions = mockMvc.perform(post("/api/v1/command/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(testRequest)
+            );
+
+            // then
+            resultActions
+                    .andExpect(status().isBadRequest())
+                    .andExpect(result -> assertTrue(result.getResolvedException() instanceof MethodArgumentNotValidException))
+                    .andDo(
+                            restDocs.document(
+                                    requestFields(
+                                            fieldWithPath("commands").type(JsonFieldType.ARRAY).description("순서대로 실행할 도커 명령어 목록 (script 와 둘 중 하나, 최대 50개)").optional(),
+                                            fieldWithPath("script").type(JsonFieldType.STRING).description("줄바꿈으로 구분된 도커 명령어 스크립트 (commands 와 둘 중 하나)").optional(),
+                                            fieldWithPath("continueOnError").type(JsonFieldType.BOOLEAN).description("실패한 명령어 이후에도 계속 실행할지 여부 (기본값 false)").optional()
+                                    )
+                            )
+                    );
+            BDDMockito.then(commandBatchService).shouldHaveNoInteractions();
+        }
+
+        @Tag("controller")
+        @Test
+        @DisplayName("[Command][Controller] Execute Batch")
+        void 명령어_목록과_스크립트를_함께_보내면_검증에서_실패한다() throws Exception {
+            // given
+            String bothRequest = objectMapper.writeValueAsString(
+                    CommandBatchRequestDto.builder()
+                            .commands(List.of("docker network ls"))
+                            .script("docker network ls")
+                            .build()
+            );
+
+            // when
+            ResultActions resultActions = mockMvc.perform(post("/api/v1/command/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(bothRequest)
+            );
+
+            // then
+            resultActions
+                    .andExpect(status().isBadRequest())
+                    .andExpect(result -> assertTrue(result.getResolvedException() instanceof MethodArgumentNotValidException));
+            BDDMockito.then(commandBatchService).shouldHaveNoInteractions();
+        }
+    }
 }
\ No newline at end of file
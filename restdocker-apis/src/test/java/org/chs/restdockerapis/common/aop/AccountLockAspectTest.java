@@ -0,0 +1,197 @@
+package org.chs.restdockerapis.common.aop;
+
+import org.chs.restdockerapis.common.aop.annotation.AccountLock;
+import org.chs.restdockerapis.common.argument_resolver.dto.GetRequesterDto;
+import org.chs.restdockerapis.common.exception.CustomBadRequestException;
+import org.chs.restdockerapis.common.exception.ErrorCode;
+import org.chs.restdockerapis.common.util.AccountLockStripes;
+import org.junit.jupiter.api.*;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AccountLockAspectTest {
+
+    private static final int THREADS = 32;
+    private static final int REQUESTS = 200;
+
+    private StubContainerService target;
+    private StubContainerService containerService;
+
+    @BeforeEach
+    void setUp() {
+        setUp(5000);
+    }
+
+    private void setUp(long timeoutMillis) {
+        target = new StubContainerService();
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new AccountLockAspect(new AccountLockStripes(256), timeoutMillis));
+        containerService = proxyFactory.getProxy();
+    }
+
+    /**
+     * ContainerService 와 같이 조회 - 검증 - 할당 - 저장 사이에 틈이 있는 서비스
+     * Lock 이 없다면 여러 요청이 같은 조회 결과로 검증을 통과해 이름과 IP 가 중복된다.
+     */
+    static class StubContainerService {
+
+        private final Map<String, List<String>> names = new ConcurrentHashMap<>();
+        private final Map<String, List<Integer>> ips = new ConcurrentHashMap<>();
+
+        private CountDownLatch inside;
+
+        @AccountLock
+        public void createContainer(GetRequesterDto requesterInfo, String containerName) {
+            List<String> savedNames = names.computeIfAbsent(requesterInfo.id(), id -> Collections.synchronizedList(new ArrayList<>()));
+            if (savedNames.contains(containerName)) {
+                throw CustomBadRequestException.of(ErrorCode.NOT_VALID_NAME);
+            }
+            Thread.yield();
+            savedNames.add(containerName);
+        }
+
+        @AccountLock
+        public int runContainer(GetRequesterDto requesterInfo) {
+            List<Integer> savedIps = ips.computeIfAbsent(requesterInfo.id(), id -> Collections.synchronizedList(new ArrayList<>()));
+            int allocatedIp;
+            synchronized (savedIps) {
+                allocatedIp = savedIps.stream().mapToInt(Integer::intValue).max().orElse(1) + 1;
+            }
+            Thread.yield();
+            savedIps.add(allocatedIp);
+            return allocatedIp;
+        }
+
+        @AccountLock
+        public boolean waitOtherAccount(String oauthServiceId) throws InterruptedException {
+            inside.countDown();
+            return inside.await(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private GetRequesterDto requester(String oauthServiceId) {
+        return GetRequesterDto.builder()
+                .id(oauthServiceId)
+                .build();
+    }
+
+    private List<Future<?>> submitAll(ExecutorService executor, int count, Callable<?> task) throws InterruptedException {
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            futures.add(executor.submit(() -> {
+                ready.await();
+                return task.call();
+            }));
+        }
+        ready.countDown();
+
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        return futures;
+    }
+
+    @Nested
+    @DisplayName("[AccountLock][시나리오 테스트] 같은 사용자의 생성 명령어는 하나씩 실행되어 중복이 생기지 않는다.")
+    class SameAccount {
+
+        @Tag("business")
+        @Test
+        @DisplayName("[AccountLock][Aspect] 같은 이름의 컨테이너를 동시에 생성하면 하나만 생성된다")
+        void 같은_이름의_컨테이너를_동시에_생성하면_하나만_생성된다() throws Exception {
+            // given
+            AtomicInteger duplicated = new AtomicInteger();
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+            // when
+            List<Future<?>> futures = submitAll(executor, REQUESTS, () -> {
+                try {
+                    containerService.createContainer(requester("account"), "web");
+                } catch (CustomBadRequestException exception) {
+                    duplicated.incrementAndGet();
+                }
+                return null;
+            });
+
+            // then
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            Assertions.assertEquals(List.of("web"), target.names.get("account"));
+            Assertions.assertEquals(REQUESTS - 1, duplicated.get());
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[AccountLock][Aspect] 동시에 할당한 IP 는 모두 다르다")
+        void 동시에_할당한_IP_는_모두_다르다() throws Exception {
+            // given
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+            // when
+            List<Future<?>> futures = submitAll(executor, REQUESTS, () -> containerService.runContainer(requester("account")));
+
+            // then
+            Set<Object> allocatedIps = new HashSet<>();
+            for (Future<?> future : futures) {
+                allocatedIps.add(future.get());
+            }
+            Assertions.assertEquals(REQUESTS, allocatedIps.size());
+            Assertions.assertEquals(REQUESTS, new HashSet<>(target.ips.get("account")).size());
+        }
+    }
+
+    @Nested
+    @DisplayName("[AccountLock][시나리오 테스트] 다른 사용자의 명령어는 병렬로 실행된다.")
+    class OtherAccount {
+
+        @Tag("business")
+        @Test
+        @DisplayName("[AccountLock][Aspect] 다른 사용자의 명령어는 서로를 기다리지 않는다")
+        void 다른_사용자의_명령어는_서로를_기다리지_않는다() throws Exception {
+            // given
+            AccountLockStripes stripes = new AccountLockStripes(256);
+            Assertions.assertNotSame(stripes.lockFor("account-a"), stripes.lockFor("account-b"));
+
+            target.inside = new CountDownLatch(2);
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+
+            // when
+            Future<Boolean> accountA = executor.submit(() -> containerService.waitOtherAccount("account-a"));
+            Future<Boolean> accountB = executor.submit(() -> containerService.waitOtherAccount("account-b"));
+
+            // then
+            Assertions.assertTrue(accountA.get(10, TimeUnit.SECONDS));
+            Assertions.assertTrue(accountB.get(10, TimeUnit.SECONDS));
+            executor.shutdown();
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[AccountLock][Aspect] 같은 사용자의 Lock 을 얻지 못하면 ACCOUNT_LOCK_TIMEOUT 을 던진다")
+        void 같은_사용자의_Lock_을_얻지_못하면_ACCOUNT_LOCK_TIMEOUT_을_던진다() throws Exception {
+            // given
+            setUp(50);
+            target.inside = new CountDownLatch(2);
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            Future<Boolean> holder = executor.submit(() -> containerService.waitOtherAccount("account"));
+            while (2 == target.inside.getCount()) { // 다른 스레드가 Lock 을 잡을 때까지 기다린다
+                Thread.sleep(1);
+            }
+
+            // when & then
+            CustomBadRequestException exception = Assertions.assertThrows(CustomBadRequestException.class,
+                    () -> containerService.waitOtherAccount("account"));
+            Assertions.assertEquals(ErrorCode.ACCOUNT_LOCK_TIMEOUT, exception.getErrorCode());
+
+            target.inside.countDown();
+            Assertions.assertTrue(holder.get(10, TimeUnit.SECONDS));
+            executor.shutdown();
+        }
+    }
+}
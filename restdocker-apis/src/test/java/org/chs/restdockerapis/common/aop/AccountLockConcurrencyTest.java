@@ -0,0 +1,200 @@
+package org.chs.restdockerapis.common.aop;
+
+import org.chs.domain.account.entity.AccountEntity;
+import org.chs.domain.container.dto.ContainerElements;
+import org.chs.domain.network.dto.NetworkDetailElements;
+import org.chs.restdockerapis.common.exception.CustomBadRequestException;
+import org.chs.restdockerapis.common.exception.ErrorCode;
+import org.chs.restdockerapis.common.structure.IntegrationTest;
+import org.chs.restdockerapis.container.application.ContainerService;
+import org.chs.restdockerapis.image.presentation.dto.DockerCommandRequestDto;
+import org.chs.restdockerapis.network.application.NetworkService;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 같은 사용자의 명령어를 실제 서비스(Aspect, 트랜잭션, 캐시, IP 할당기)와 H2 위에서 동시에 실행한다.
+ * 검증에 걸린 요청은 DB 제약 조건이 아닌 서비스의 검증(CustomBadRequestException)으로 실패해야 한다.
+ */
+public class AccountLockConcurrencyTest extends IntegrationTest {
+
+    private static final int THREADS = 16;
+    private static final int REQUESTS = 40;
+
+    // 요청이 검증을 통과해 성공했음을 나타내는 결과
+    private static final String SUCCESS = "SUCCESS";
+
+    @Autowired
+    private ContainerService containerService;
+
+    @Autowired
+    private NetworkService networkService;
+
+    private String oauthServiceId;
+
+    @BeforeEach
+    public void AccountLockConcurrencyTest() {
+        oauthServiceId = newOAuthServiceId();
+        AccountEntity account = saveAccountWithBridge(oauthServiceId);
+        saveImage(account, "testImage", "latest");
+    }
+
+    private DockerCommandRequestDto command(String... argCommands) {
+        return DockerCommandRequestDto.builder()
+                .argCommands(List.of(argCommands))
+                .build();
+    }
+
+    /** 모든 요청을 동시에 출발시키고, 요청마다 SUCCESS 또는 실패한 ErrorCode 를 돌려준다 */
+    private List<Object> runConcurrently(List<Runnable> requests) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(1);
+
+        List<Future<Object>> futures = new ArrayList<>();
+        for (Runnable request : requests) {
+            futures.add(executor.submit(() -> {
+                ready.await();
+                try {
+                    request.run();
+                    return SUCCESS;
+                } catch (CustomBadRequestException exception) {
+                    return exception.getErrorCode();
+                }
+            }));
+        }
+        ready.countDown();
+
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS));
+
+        List<Object> results = new ArrayList<>();
+        for (Future<Object> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+
+    private List<ContainerElements> bridgeContainers() {
+        NetworkDetailElements bridge = networkEntityRepository.inspectNetwork(oauthServiceId, "bridge");
+        return bridge.getContainerInfo();
+    }
+
+    @Nested
+    @DisplayName("[AccountLock][시나리오 테스트] 같은 사용자의 docker run, create 를 동시에 실행해도 이름, IP, Port 가 중복되지 않는다.")
+    class CreateContainer {
+
+        @Tag("business")
+        @Test
+        @DisplayName("[AccountLock][성공 테스트] 동시에 생성한 컨테이너의 이름, IP, 외부 Port 는 모두 다르다")
+        void 동시에_생성한_컨테이너의_이름_IP_외부_Port_는_모두_다르다() throws Exception {
+            // given
+            List<Runnable> requests = new ArrayList<>();
+            for (int index = 0; index < REQUESTS; index++) {
+                DockerCommandRequestDto request = command("--name web" + index, "-p " + (10000 + index) + ":80", "testImage");
+                if (0 == index % 2) {
+                    requests.add(() -> containerService.runContainer(requester(oauthServiceId), request));
+                } else {
+                    requests.add(() -> containerService.createContainer(requester(oauthServiceId), request));
+                }
+            }
+
+            // when
+            List<Object> results = runConcurrently(requests);
+
+            // then
+            Assertions.assertEquals(Collections.nCopies(REQUESTS, SUCCESS), results);
+
+            List<ContainerElements> containers = bridgeContainers();
+            Assertions.assertEquals(REQUESTS, containers.size());
+            Assertions.assertEquals(REQUESTS, containers.stream().map(ContainerElements::getName).distinct().count());
+            Assertions.assertEquals(REQUESTS, containers.stream().map(ContainerElements::getPrivateIp).distinct().count());
+            Assertions.assertEquals(REQUESTS, containers.stream().map(ContainerElements::getOuterPort).distinct().count());
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[AccountLock][성공 테스트] 같은 이름의 컨테이너를 동시에 생성하면 하나만 생성되고 나머지는 NOT_VALID_NAME 으로 실패한다")
+        void 같은_이름의_컨테이너를_동시에_생성하면_하나만_생성되고_나머지는_NOT_VALID_NAME_으로_실패한다() throws Exception {
+            // given
+            List<Runnable> requests = new ArrayList<>();
+            for (int index = 0; index < REQUESTS; index++) {
+                DockerCommandRequestDto request = command("--name web", "testImage");
+                if (0 == index % 2) {
+                    requests.add(() -> containerService.runContainer(requester(oauthServiceId), request));
+                } else {
+                    requests.add(() -> containerService.createContainer(requester(oauthServiceId), request));
+                }
+            }
+
+            // when
+            List<Object> results = runConcurrently(requests);
+
+            // then
+            Assertions.assertEquals(1, Collections.frequency(results, SUCCESS));
+            Assertions.assertEquals(REQUESTS - 1, Collections.frequency(results, ErrorCode.NOT_VALID_NAME));
+            Assertions.assertEquals(1, bridgeContainers().size());
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[AccountLock][성공 테스트] 같은 외부 Port 를 동시에 사용하면 하나만 생성되고 나머지는 NOT_VALID_PORTFOWARDING 으로 실패한다")
+        void 같은_외부_Port_를_동시에_사용하면_하나만_생성되고_나머지는_NOT_VALID_PORTFOWARDING_으로_실패한다() throws Exception {
+            // given
+            List<Runnable> requests = new ArrayList<>();
+            for (int index = 0; index < REQUESTS; index++) {
+                DockerCommandRequestDto request = command("--name web" + index, "-p 8080:80", "testImage");
+                requests.add(() -> containerService.runContainer(requester(oauthServiceId), request));
+            }
+
+            // when
+            List<Object> results = runConcurrently(requests);
+
+            // then
+            Assertions.assertEquals(1, Collections.frequency(results, SUCCESS));
+            Assertions.assertEquals(REQUESTS - 1, Collections.frequency(results, ErrorCode.NOT_VALID_PORTFOWARDING));
+            Assertions.assertEquals(1, bridgeContainers().size());
+        }
+    }
+
+    @Nested
+    @DisplayName("[AccountLock][시나리오 테스트] 삭제 명령어도 같은 사용자의 생성 명령어와 하나씩 실행된다.")
+    class RemoveNetwork {
+
+        @Tag("business")
+        @Test
+        @DisplayName("[AccountLock][성공 테스트] 네트워크 삭제와 그 네트워크의 docker run 을 동시에 실행하면 하나만 성공한다")
+        void 네트워크_삭제와_그_네트워크의_docker_run_을_동시에_실행하면_하나만_성공한다() throws Exception {
+            // given
+            int networkCount = REQUESTS / 2;
+            List<Runnable> requests = new ArrayList<>();
+            for (int index = 0; index < networkCount; index++) {
+                String networkName = "testNetwork" + index;
+                networkService.createNetwork(requester(oauthServiceId), command(networkName));
+
+                DockerCommandRequestDto runRequest = command("--name web" + index, "--net " + networkName, "testImage");
+                DockerCommandRequestDto rmRequest = command(networkName);
+                requests.add(() -> containerService.runContainer(requester(oauthServiceId), runRequest));
+                requests.add(() -> networkService.rmNetwork(requester(oauthServiceId), rmRequest));
+            }
+
+            // when
+            List<Object> results = runConcurrently(requests);
+
+            // then (먼저 실행된 쪽만 성공하고, 나중에 실행된 쪽은 상대의 결과를 보고 실패한다)
+            for (int index = 0; index < networkCount; index++) {
+                Object runResult = results.get(index * 2);
+                Object rmResult = results.get(index * 2 + 1);
+
+                if (SUCCESS.equals(runResult)) {
+                    Assertions.assertEquals(ErrorCode.REMOVE_IMPOSSIBLE_NETWORK_EXIST_CONTAINER, rmResult);
+                } else {
+                    Assertions.assertEquals(ErrorCode.NOT_EXIST_NETWORK_IN_HOST, runResult);
+                    Assertions.assertEquals(SUCCESS, rmResult);
+                }
+            }
+        }
+    }
+}
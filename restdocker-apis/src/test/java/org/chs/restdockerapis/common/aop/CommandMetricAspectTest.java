@@ -0,0 +1,73 @@
+package org.chs.restdockerapis.common.aop;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.chs.restdockerapis.command.enumerate.MainCommandEnum;
+import org.chs.restdockerapis.command.enumerate.SubCommandEnum;
+import org.chs.restdockerapis.common.aop.annotation.CommandMetric;
+import org.chs.restdockerapis.common.exception.CustomBadRequestException;
+import org.chs.restdockerapis.common.exception.ErrorCode;
+import org.chs.restdockerapis.common.metrics.RestDockerMetrics;
+import org.junit.jupiter.api.*;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+public class CommandMetricAspectTest {
+
+    private SimpleMeterRegistry registry;
+    private StubContainerService containerService;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", registry);
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new StubContainerService());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new CommandMetricAspect(new RestDockerMetrics(beanFactory.getBeanProvider(MeterRegistry.class))));
+        containerService = proxyFactory.getProxy();
+    }
+
+    static class StubContainerService {
+
+        @CommandMetric(main = MainCommandEnum.CONTAINER, sub = SubCommandEnum.RUN)
+        public String runContainer(boolean fail) {
+            if (fail) {
+                throw new CustomBadRequestException(ErrorCode.NOT_EXIST_IMAGE_IN_HOST);
+            }
+            return "started";
+        }
+    }
+
+    @Nested
+    @DisplayName("[CommandMetric][시나리오 테스트] 명령어별 처리 시간을 결과와 함께 기록한다.")
+    class RecordCommand {
+
+        @Tag("business")
+        @Test
+        @DisplayName("[CommandMetric][Aspect] 성공한 명령어는 success 로 기록한다")
+        void 성공한_명령어는_success_로_기록한다() {
+            // when
+            String actual = containerService.runContainer(false);
+
+            // then
+            Assertions.assertEquals("started", actual);
+            Assertions.assertEquals(1, registry.get("restdocker.command")
+                    .tags("main", "CONTAINER", "sub", "RUN", "result", RestDockerMetrics.SUCCESS)
+                    .timer().count());
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[CommandMetric][Aspect] 실패한 명령어는 ErrorCode 이름으로 기록하고 예외를 그대로 던진다")
+        void 실패한_명령어는_ErrorCode_이름으로_기록하고_예외를_그대로_던진다() {
+            // when & then
+            Assertions.assertThrows(CustomBadRequestException.class, () -> containerService.runContainer(true));
+            Assertions.assertEquals(1, registry.get("restdocker.command")
+                    .tags("main", "CONTAINER", "sub", "RUN", "result", ErrorCode.NOT_EXIST_IMAGE_IN_HOST.name())
+                    .timer().count());
+        }
+    }
+}
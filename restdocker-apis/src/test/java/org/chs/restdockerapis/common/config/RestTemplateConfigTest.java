@@ -0,0 +1,130 @@
+package org.chs.restdockerapis.common.config;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.chs.restdockerapis.common.metrics.RestDockerMetrics;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class RestTemplateConfigTest {
+
+    private final RestTemplateConfig restTemplateConfig = new RestTemplateConfig();
+
+    private HttpServer stubOAuthServer;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private RestTemplate restTemplate;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubOAuthServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        stubOAuthServer.createContext("/oauth/token", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            exchange.getRequestBody().readAllBytes();
+
+            byte[] body = "{\"access_token\":\"testAccessToken\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        });
+        stubOAuthServer.start();
+
+        connectionManager = restTemplateConfig.oAuthConnectionManager(10, 2, 1000, 1000, 300);
+        httpClient = restTemplateConfig.oAuthHttpClient(connectionManager, 1000, 1000, 30);
+
+        meterRegistry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        restTemplate = restTemplateConfig.restTemplate(httpClient, new RestDockerMetrics(beanFactory.getBeanProvider(MeterRegistry.class)));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpClient.close();
+        stubOAuthServer.stop(0);
+    }
+
+    private String tokenUri() {
+        return "http://127.0.0.1:" + stubOAuthServer.getAddress().getPort() + "/oauth/token";
+    }
+
+    @Nested
+    @DisplayName("[RestTemplateConfig][시나리오 테스트] OAuth 호출은 Connection Pool 의 연결을 재사용한다.")
+    class OAuthConnectionPool {
+
+        @Tag("business")
+        @Test
+        @DisplayName("[RestTemplateConfig][Config] 연속된 호출은 하나의 연결을 재사용한다")
+        void 연속된_호출은_하나의_연결을_재사용한다() {
+            // given
+            LinkedMultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+            params.add("grant_type", "authorization_code");
+
+            // when
+            for (int requestCount = 0; requestCount < 5; requestCount++) {
+                ResponseEntity<String> response = restTemplate.postForEntity(tokenUri(), new HttpEntity<>(params), String.class);
+                Assertions.assertTrue(response.getStatusCode().is2xxSuccessful());
+            }
+
+            // then
+            Assertions.assertEquals(1, clientPorts.size());
+            Assertions.assertEquals(0, connectionManager.getTotalStats().getLeased());
+            Assertions.assertEquals(1, connectionManager.getTotalStats().getAvailable());
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[RestTemplateConfig][Config] Connection Pool 사용량을 Gauge 로 노출한다")
+        void Connection_Pool_사용량을_Gauge_로_노출한다() {
+            // given
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            restTemplateConfig.oAuthConnectionPoolMetrics(connectionManager).bindTo(registry);
+
+            // when
+            restTemplate.postForEntity(tokenUri(), new HttpEntity<>(new LinkedMultiValueMap<String, String>()), String.class);
+
+            // then
+            Assertions.assertEquals(1, registry.get("restdocker.oauth.http.pool.available").gauge().value());
+            Assertions.assertEquals(0, registry.get("restdocker.oauth.http.pool.leased").gauge().value());
+            Assertions.assertEquals(10, registry.get("restdocker.oauth.http.pool.max").gauge().value());
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[RestTemplateConfig][Config] OAuth 호출 시간을 API 경로와 응답 코드별로 기록한다")
+        void OAuth_호출_시간을_API_경로와_응답_코드별로_기록한다() {
+            // given
+            LinkedMultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+            params.add("grant_type", "authorization_code");
+
+            // when
+            restTemplate.postForEntity(tokenUri() + "?code=testCode", new HttpEntity<>(params), String.class);
+            restTemplate.postForEntity(tokenUri(), new HttpEntity<>(params), String.class);
+
+            // then
+            Assertions.assertEquals(2, meterRegistry.get("restdocker.oauth.request")
+                    .tags("uri", "/oauth/token", "status", "200")
+                    .timer().count());
+        }
+    }
+}
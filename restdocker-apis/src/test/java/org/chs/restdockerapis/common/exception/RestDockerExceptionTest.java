@@ -0,0 +1,56 @@
+package org.chs.restdockerapis.common.exception;
+
+import org.junit.jupiter.api.*;
+
+public class RestDockerExceptionTest {
+
+    @Nested
+    @DisplayName("[RestDockerException][시나리오 테스트] 사용자 입력 오류는 Stack Trace 없이, 서버 내부 오류는 Stack Trace 와 함께 만든다.")
+    class StackTraceCapture {
+
+        @Tag("business")
+        @Test
+        @DisplayName("[RestDockerException][Exception] 미리 만들어둔 예외는 ErrorCode 마다 같은 인스턴스이고 Stack Trace 가 없다")
+        void 미리_만들어둔_예외는_ErrorCode_마다_같은_인스턴스이고_Stack_Trace_가_없다() {
+            // when
+            CustomBadRequestException first = CustomBadRequestException.of(ErrorCode.NOT_CORRECT_SUBCOMMAND);
+            CustomBadRequestException second = CustomBadRequestException.of(ErrorCode.NOT_CORRECT_SUBCOMMAND);
+
+            // then
+            Assertions.assertSame(first, second);
+            Assertions.assertEquals(ErrorCode.NOT_CORRECT_SUBCOMMAND, first.getErrorCode());
+            Assertions.assertEquals(0, first.getStackTrace().length);
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[RestDockerException][Exception] 미리 만들어둔 예외는 다른 요청에서 상태를 바꿀 수 없다")
+        void 미리_만들어둔_예외는_다른_요청에서_상태를_바꿀_수_없다() {
+            // given
+            CustomBadRequestException exception = CustomBadRequestException.of(ErrorCode.NOT_VALID_NAME);
+
+            // when
+            exception.addSuppressed(new IllegalStateException("suppressed"));
+            exception.setStackTrace(new StackTraceElement[] { new StackTraceElement("Test", "test", "Test.java", 1) });
+
+            // then
+            Assertions.assertEquals(0, exception.getSuppressed().length);
+            Assertions.assertEquals(0, exception.getStackTrace().length);
+            Assertions.assertThrows(
+                    IllegalStateException.class,
+                    () -> exception.initCause(new IllegalStateException("cause"))
+            );
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[RestDockerException][Exception] 서버 내부 오류는 Stack Trace 를 남긴다")
+        void 서버_내부_오류는_Stack_Trace_를_남긴다() {
+            // when
+            InternalServerException actual = new InternalServerException(ErrorCode.COMMON_SERVER_ERROR_EXCEPTION);
+
+            // then
+            Assertions.assertTrue(0 < actual.getStackTrace().length);
+        }
+    }
+}
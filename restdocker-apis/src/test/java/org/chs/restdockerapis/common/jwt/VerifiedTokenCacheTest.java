@@ -0,0 +1,76 @@
+package org.chs.restdockerapis.common.jwt;
+
+import org.chs.restdockerapis.common.jwt.VerifiedTokenCache.VerifiedToken;
+import org.junit.jupiter.api.*;
+
+public class VerifiedTokenCacheTest {
+
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        verifiedTokenCache = new VerifiedTokenCache(2);
+    }
+
+    private VerifiedToken verifiedToken(String oauthServiceId, long expiresAtMillis) {
+        return VerifiedToken.builder()
+                .oauthServiceId(oauthServiceId)
+                .thirdPartyType("KAKAO")
+                .expiresAtMillis(expiresAtMillis)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("[VerifiedTokenCache][시나리오 테스트] 검증된 토큰의 Claim 을 만료 전까지 재사용한다.")
+    class FindVerifiedToken {
+
+        @Tag("business")
+        @Test
+        @DisplayName("[VerifiedTokenCache][Util] 만료되지 않은 토큰은 저장된 Claim 을 반환한다")
+        void 만료되지_않은_토큰은_저장된_Claim_을_반환한다() {
+            // given
+            VerifiedToken expected = verifiedToken("testOAuthServiceId", System.currentTimeMillis() + 60_000);
+            verifiedTokenCache.put("testAccessToken", expected);
+
+            // when
+            VerifiedToken actual = verifiedTokenCache.find("testAccessToken");
+
+            // then
+            Assertions.assertEquals(expected, actual);
+            Assertions.assertNull(verifiedTokenCache.find("otherAccessToken"));
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[VerifiedTokenCache][Util] 만료된 토큰은 저장하지 않는다")
+        void 만료된_토큰은_저장하지_않는다() {
+            // given
+            verifiedTokenCache.put("testAccessToken", verifiedToken("testOAuthServiceId", System.currentTimeMillis() - 1));
+
+            // when
+            VerifiedToken actual = verifiedTokenCache.find("testAccessToken");
+
+            // then
+            Assertions.assertNull(actual);
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[VerifiedTokenCache][Util] 최대 개수를 넘으면 가장 오래 사용되지 않은 토큰부터 버린다")
+        void 최대_개수를_넘으면_가장_오래_사용되지_않은_토큰부터_버린다() {
+            // given
+            long expiresAtMillis = System.currentTimeMillis() + 60_000;
+            verifiedTokenCache.put("firstAccessToken", verifiedToken("first", expiresAtMillis));
+            verifiedTokenCache.put("secondAccessToken", verifiedToken("second", expiresAtMillis));
+            verifiedTokenCache.find("firstAccessToken");
+
+            // when
+            verifiedTokenCache.put("thirdAccessToken", verifiedToken("third", expiresAtMillis));
+
+            // then
+            Assertions.assertNotNull(verifiedTokenCache.find("firstAccessToken"));
+            Assertions.assertNull(verifiedTokenCache.find("secondAccessToken"));
+            Assertions.assertNotNull(verifiedTokenCache.find("thirdAccessToken"));
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package org.chs.restdockerapis.common.jwt.principal;
+
+import org.chs.domain.common.enumerate.ThirdPartyEnum;
+import org.junit.jupiter.api.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AccountPrincipalCacheTest {
+
+    private AccountPrincipalCache accountPrincipalCache;
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        accountPrincipalCache = new AccountPrincipalCache(16, 60);
+        loadCount.set(0);
+    }
+
+    private AccountPrincipalDetails load(String oauthServiceId, ThirdPartyEnum thirdPartyType) {
+        loadCount.incrementAndGet();
+        return AccountPrincipalDetails.builder()
+                .oAuthServiceId(oauthServiceId)
+                .thirdPartyType(thirdPartyType)
+                .oAuthAccessToken("testOAuthAccessToken")
+                .oAuthRefreshToken("testOAuthRefreshToken")
+                .build();
+    }
+
+    @Nested
+    @DisplayName("[AccountPrincipalCache][시나리오 테스트] 사용자의 Principal 을 DB 조회 없이 재사용한다.")
+    class GetPrincipal {
+
+        @Tag("business")
+        @Test
+        @DisplayName("[AccountPrincipalCache][Util] 같은 사용자는 한번만 조회한다")
+        void 같은_사용자는_한번만_조회한다() {
+            // given
+            AccountPrincipalDetails expected = accountPrincipalCache.get("testOAuthServiceId", ThirdPartyEnum.KAKAO,
+                    () -> load("testOAuthServiceId", ThirdPartyEnum.KAKAO));
+
+            // when
+            AccountPrincipalDetails actual = accountPrincipalCache.get("testOAuthServiceId", ThirdPartyEnum.KAKAO,
+                    () -> load("testOAuthServiceId", ThirdPartyEnum.KAKAO));
+
+            // then
+            Assertions.assertSame(expected, actual);
+            Assertions.assertEquals(1, loadCount.get());
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[AccountPrincipalCache][Util] ThirdPartyType 이 다르면 다른 사용자로 조회한다")
+        void ThirdPartyType_이_다르면_다른_사용자로_조회한다() {
+            // given
+            accountPrincipalCache.get("testOAuthServiceId", ThirdPartyEnum.KAKAO, () -> load("testOAuthServiceId", ThirdPartyEnum.KAKAO));
+
+            // when
+            AccountPrincipalDetails actual = accountPrincipalCache.get("testOAuthServiceId", ThirdPartyEnum.NAVER,
+                    () -> load("testOAuthServiceId", ThirdPartyEnum.NAVER));
+
+            // then
+            Assertions.assertEquals(ThirdPartyEnum.NAVER, actual.getThirdPartyType());
+            Assertions.assertEquals(2, loadCount.get());
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[AccountPrincipalCache][Util] 무효화된 사용자는 다시 조회한다")
+        void 무효화된_사용자는_다시_조회한다() {
+            // given
+            accountPrincipalCache.get("testOAuthServiceId", ThirdPartyEnum.KAKAO, () -> load("testOAuthServiceId", ThirdPartyEnum.KAKAO));
+
+            // when
+            accountPrincipalCache.evict("testOAuthServiceId", ThirdPartyEnum.KAKAO);
+            accountPrincipalCache.get("testOAuthServiceId", ThirdPartyEnum.KAKAO, () -> load("testOAuthServiceId", ThirdPartyEnum.KAKAO));
+
+            // then
+            Assertions.assertEquals(2, loadCount.get());
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[AccountPrincipalCache][Util] 존재하지 않는 사용자는 캐시하지 않는다")
+        void 존재하지_않는_사용자는_캐시하지_않는다() {
+            // given
+            accountPrincipalCache.get("testOAuthServiceId", ThirdPartyEnum.KAKAO, () -> {
+                loadCount.incrementAndGet();
+                return null;
+            });
+
+            // when
+            AccountPrincipalDetails actual = accountPrincipalCache.get("testOAuthServiceId", ThirdPartyEnum.KAKAO,
+                    () -> load("testOAuthServiceId", ThirdPartyEnum.KAKAO));
+
+            // then
+            Assertions.assertNotNull(actual);
+            Assertions.assertEquals(2, loadCount.get());
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[AccountPrincipalCache][Util] 조회 도중 무효화되면 조회 결과를 캐시하지 않는다")
+        void 조회_도중_무효화되면_조회_결과를_캐시하지_않는다() throws Exception {
+            // given
+            CountDownLatch loading = new CountDownLatch(1);
+            CountDownLatch evicted = new CountDownLatch(1);
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+
+            Future<AccountPrincipalDetails> staleLoad = executor.submit(() -> accountPrincipalCache.get("testOAuthServiceId", ThirdPartyEnum.KAKAO, () -> {
+                AccountPrincipalDetails stale = load("testOAuthServiceId", ThirdPartyEnum.KAKAO);
+                loading.countDown();
+                awaitQuietly(evicted);
+                return stale;
+            }));
+            Assertions.assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            // when (로그인 트랜잭션이 끝나 무효화된 뒤에 이전 조회가 끝난다)
+            accountPrincipalCache.evict("testOAuthServiceId", ThirdPartyEnum.KAKAO);
+            evicted.countDown();
+            AccountPrincipalDetails stale = staleLoad.get(5, TimeUnit.SECONDS);
+            AccountPrincipalDetails actual = accountPrincipalCache.get("testOAuthServiceId", ThirdPartyEnum.KAKAO,
+                    () -> load("testOAuthServiceId", ThirdPartyEnum.KAKAO));
+
+            // then
+            Assertions.assertNotSame(stale, actual);
+            Assertions.assertEquals(2, loadCount.get());
+            executor.shutdown();
+        }
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
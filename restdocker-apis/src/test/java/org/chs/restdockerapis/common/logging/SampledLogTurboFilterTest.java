@@ -0,0 +1,73 @@
+package org.chs.restdockerapis.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.*;
+import org.slf4j.Marker;
+
+public class SampledLogTurboFilterTest {
+
+    private final Logger logger = new LoggerContext().getLogger(SampledLogTurboFilterTest.class);
+
+    private SampledLogTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new SampledLogTurboFilter();
+        filter.setRate(4);
+    }
+
+    private int countNeutral(Level level, Marker marker, String format, int logCount) {
+        int neutral = 0;
+        for (int index = 0; index < logCount; index++) {
+            if (FilterReply.NEUTRAL == filter.decide(marker, logger, level, format, null, null)) {
+                neutral++;
+            }
+        }
+        return neutral;
+    }
+
+    @Nested
+    @DisplayName("[SampledLog][시나리오 테스트] SAMPLED INFO 로그는 메시지 형식마다 rate 번에 한 번만 남긴다.")
+    class SampleInfoLog {
+
+        @Tag("business")
+        @Test
+        @DisplayName("[SampledLog][TurboFilter] SAMPLED INFO 로그는 rate 번에 한 번만 남긴다")
+        void SAMPLED_INFO_로그는_rate_번에_한_번만_남긴다() {
+            // when
+            int actual = countNeutral(Level.INFO, SampledLogTurboFilter.SAMPLED, "request completed {}", 20);
+
+            // then
+            Assertions.assertEquals(5, actual);
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[SampledLog][TurboFilter] 메시지 형식마다 따로 센다")
+        void 메시지_형식마다_따로_센다() {
+            // when
+            int first = countNeutral(Level.INFO, SampledLogTurboFilter.SAMPLED, "first {}", 1);
+            int second = countNeutral(Level.INFO, SampledLogTurboFilter.SAMPLED, "second {}", 1);
+
+            // then
+            Assertions.assertEquals(1, first);
+            Assertions.assertEquals(1, second);
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[SampledLog][TurboFilter] WARN 이상이거나 Marker 가 없는 로그는 항상 남긴다")
+        void WARN_이상이거나_Marker_가_없는_로그는_항상_남긴다() {
+            // when
+            int warn = countNeutral(Level.WARN, SampledLogTurboFilter.SAMPLED, "warn {}", 10);
+            int noMarker = countNeutral(Level.INFO, null, "info {}", 10);
+
+            // then
+            Assertions.assertEquals(10, warn);
+            Assertions.assertEquals(10, noMarker);
+        }
+    }
+}
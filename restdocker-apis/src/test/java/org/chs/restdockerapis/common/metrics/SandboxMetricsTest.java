@@ -0,0 +1,53 @@
+package org.chs.restdockerapis.common.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.chs.domain.container.ContainerEntityRepository;
+import org.chs.domain.container.dto.ContainerStatusCount;
+import org.chs.domain.container.enumerate.ContainerStatusEnum;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+public class SandboxMetricsTest {
+
+    @Mock
+    private ContainerEntityRepository containerEntityRepository;
+
+    @Nested
+    @DisplayName("[SandboxMetrics][시나리오 테스트] 상태별 Sandbox 사용량을 Gauge 로 노출한다.")
+    class BindSandboxGauges {
+
+        @Tag("business")
+        @Test
+        @DisplayName("[SandboxMetrics][Gauge] 한 번의 집계 쿼리로 상태별 컨테이너 수와 사용자 수를 노출한다")
+        void 한_번의_집계_쿼리로_상태별_컨테이너_수와_사용자_수를_노출한다() {
+            // given
+            BDDMockito.given(containerEntityRepository.countByStatus())
+                    .willReturn(List.of(
+                            ContainerStatusCount.builder().status(ContainerStatusEnum.Running).containers(5).accounts(2).build(),
+                            ContainerStatusCount.builder().status(ContainerStatusEnum.Exited).containers(1).accounts(1).build()
+                    ));
+
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            new SandboxMetrics(containerEntityRepository, 30).bindTo(registry);
+
+            // when
+            double runningContainers = registry.get("restdocker.sandbox.containers").tag("status", "Running").gauge().value();
+            double runningAccounts = registry.get("restdocker.sandbox.accounts").tag("status", "Running").gauge().value();
+            double pausedContainers = registry.get("restdocker.sandbox.containers").tag("status", "Paused").gauge().value();
+
+            // then
+            Assertions.assertEquals(5, runningContainers);
+            Assertions.assertEquals(2, runningAccounts);
+            Assertions.assertEquals(0, pausedContainers);
+            BDDMockito.then(containerEntityRepository).should(times(1)).countByStatus();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package org.chs.restdockerapis.common.sql_metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import org.chs.restdockerapis.command.enumerate.MainCommandEnum;
+import org.chs.restdockerapis.command.enumerate.SubCommandEnum;
+import org.junit.jupiter.api.*;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+public class SqlStatisticsFilterTest {
+
+    private final SqlStatisticsListener listener = new SqlStatisticsListener();
+
+    private SimpleMeterRegistry registry;
+    private SqlStatisticsFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", registry);
+        filter = new SqlStatisticsFilter(beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    private void executeStatement(Object result) {
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        listener.beforeQuery(executionInfo, List.of());
+        executionInfo.setResult(result);
+        listener.afterQuery(executionInfo, List.of());
+    }
+
+    private void readRows(int rows) throws NoSuchMethodException {
+        ResultSet resultSet = Mockito.mock(ResultSet.class);
+        for (int index = 0; index <= rows; index++) {
+            listener.afterMethod(MethodExecutionContext.Builder.create()
+                    .target(resultSet)
+                    .method(ResultSet.class.getMethod("next"))
+                    .result(index < rows)
+                    .build());
+        }
+    }
+
+    @Nested
+    @DisplayName("[SqlStatistics][시나리오 테스트] 요청별 SQL 통계를 명령어 태그와 함께 기록한다.")
+    class RecordSqlStatistics {
+
+        @Tag("business")
+        @Test
+        @DisplayName("[SqlStatistics][Filter] URL 로 추론한 명령어 태그로 Statement 수, 행 수, JDBC 시간을 기록한다")
+        void URL_로_추론한_명령어_태그로_Statement_수_행_수_JDBC_시간을_기록한다() throws Exception {
+            // given
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/container/run");
+
+            // when
+            filter.doFilter(request, new MockHttpServletResponse(), (servletRequest, servletResponse) -> {
+                try {
+                    executeStatement(Mockito.mock(ResultSet.class));
+                    readRows(2);
+                    executeStatement(1);
+                    executeStatement(new int[] { 1, 1, java.sql.Statement.SUCCESS_NO_INFO });
+                } catch (NoSuchMethodException exception) {
+                    throw new IllegalStateException(exception);
+                }
+            });
+
+            // then
+            Assertions.assertEquals(3.0, registry.get("restdocker.sql.statements")
+                    .tags("main", "CONTAINER", "sub", "RUN").summary().totalAmount());
+            Assertions.assertEquals(5.0, registry.get("restdocker.sql.rows")
+                    .tags("main", "CONTAINER", "sub", "RUN").summary().totalAmount());
+            Assertions.assertEquals(1, registry.get("restdocker.sql.time")
+                    .tags("main", "CONTAINER", "sub", "RUN").timer().count());
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[SqlStatistics][Filter] 명령어 원문 실행은 분석된 명령어 태그로 기록한다")
+        void 명령어_원문_실행은_분석된_명령어_태그로_기록한다() throws Exception {
+            // given
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/command/exec");
+
+            // when
+            filter.doFilter(request, new MockHttpServletResponse(), (servletRequest, servletResponse) -> {
+                SqlRequestStatistics.tagCommand(MainCommandEnum.IMAGE, SubCommandEnum.PULL);
+                executeStatement(1);
+            });
+
+            // then
+            Assertions.assertEquals(1.0, registry.get("restdocker.sql.statements")
+                    .tags("main", "IMAGE", "sub", "PULL").summary().totalAmount());
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[SqlStatistics][Filter] 요청이 끝난 뒤 실행된 SQL 은 세지 않는다")
+        void 요청이_끝난_뒤_실행된_SQL_은_세지_않는다() throws Exception {
+            // given
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/network/ls");
+
+            // when
+            filter.doFilter(request, new MockHttpServletResponse(), (servletRequest, servletResponse) -> executeStatement(1));
+            executeStatement(1);
+
+            // then
+            Assertions.assertNull(SqlRequestStatistics.current());
+            Assertions.assertEquals(1.0, registry.get("restdocker.sql.statements")
+                    .tags("main", "NETWORK", "sub", "LS").summary().totalAmount());
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package org.chs.restdockerapis.common.sql_metrics;
+
+import org.chs.domain.account.entity.AccountEntity;
+import org.chs.domain.account.entity.AccountLoginHistoryEntity;
+import org.chs.domain.account.entity.AccountLogoutHistoryEntity;
+import org.chs.domain.dockerhub.DockerHubEntityRepository;
+import org.chs.domain.dockerhub.entity.DockerHubEntity;
+import org.chs.globalutils.dto.TokenDto;
+import org.chs.restdockerapis.account.application.AccountHistoryWriter;
+import org.chs.restdockerapis.account.application.AccountService;
+import org.chs.restdockerapis.account.presentation.dto.ReIssueTokenRequest;
+import org.chs.restdockerapis.account.presentation.dto.ReIssueTokenResponse;
+import org.chs.restdockerapis.account.presentation.dto.common.OAuthLoginRequestDto;
+import org.chs.restdockerapis.account.presentation.dto.oauth.OAuthLoginInfoDto;
+import org.chs.restdockerapis.account.util.kakao.KakaoOAuthUtils;
+import org.chs.restdockerapis.common.structure.IntegrationTest;
+import org.chs.restdockerapis.container.application.ContainerService;
+import org.chs.restdockerapis.image.application.ImageService;
+import org.chs.restdockerapis.image.presentation.dto.DockerCommandRequestDto;
+import org.chs.restdockerapis.network.application.NetworkService;
+import org.chs.tokenissuer.application.TokenIssuerService;
+import org.junit.jupiter.api.*;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 쓰기 명령어마다 실제 서비스가 DB 로 보내는 Statement 수를 고정한다. (JDBC Batch 는 1개로 센다)
+ * 사용자의 계정 상태 캐시와 IP/Subnet 인덱스가 비어있는 첫 요청을 기준으로 한다.
+ * INSERT 가 Batch 로 묶이지 않게 되거나, 저장 전에 조회가 추가되면 실패한다.
+ */
+public class WriteStatementCountTest extends IntegrationTest {
+
+    @Autowired
+    private ContainerService containerService;
+
+    @Autowired
+    private ImageService imageService;
+
+    @Autowired
+    private NetworkService networkService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountHistoryWriter accountHistoryWriter;
+
+    @Autowired
+    private TokenIssuerService tokenIssuerService;
+
+    @Autowired
+    private DockerHubEntityRepository dockerHubEntityRepository;
+
+    @MockBean
+    private KakaoOAuthUtils kakaoOAuthUtils;
+
+    private String oauthServiceId;
+
+    private AccountEntity account;
+
+    @BeforeEach
+    public void WriteStatementCountTest() {
+        oauthServiceId = newOAuthServiceId();
+        account = saveAccountWithBridge(oauthServiceId);
+    }
+
+    private SqlRequestStatistics countStatements(Runnable writePath) {
+        SqlRequestStatistics statistics = SqlRequestStatistics.start();
+        try {
+            writePath.run();
+        } finally {
+            SqlRequestStatistics.finish();
+        }
+        return statistics;
+    }
+
+    private DockerCommandRequestDto command(String... argCommands) {
+        return DockerCommandRequestDto.builder()
+                .argCommands(List.of(argCommands))
+                .build();
+    }
+
+    @Nested
+    @DisplayName("[Container][Statement 수 테스트] 컨테이너 생성 명령어의 Statement 수를 확인한다.")
+    class ContainerWritePath {
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Container][성공 테스트] docker run 은 계정 상태 조회 1번과 컨테이너, 매핑 INSERT 로 끝난다.")
+        void docker_run_은_계정_상태_조회_1번과_컨테이너_매핑_INSERT_로_끝난다() {
+            // given
+            saveImage(account, "testImage", "latest");
+
+            // when
+            SqlRequestStatistics actual = countStatements(() ->
+                    containerService.runContainer(requester(oauthServiceId), command("--name RestDocker", "testImage"))
+            );
+
+            // then
+            Assertions.assertEquals(3, actual.getStatements());
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Container][성공 테스트] docker create 는 검증 조회 5번과 컨테이너, 매핑 INSERT 로 끝난다.")
+        void docker_create_는_검증_조회_5번과_컨테이너_매핑_INSERT_로_끝난다() {
+            // given
+            saveImage(account, "testImage", "latest");
+
+            // when
+            SqlRequestStatistics actual = countStatements(() ->
+                    containerService.createContainer(requester(oauthServiceId), command("--name RestDocker", "testImage"))
+            );
+
+            // then (컨테이너 목록, bridge 네트워크 상세, 네트워크의 IP 목록, 이미지, 네트워크 조회 + 컨테이너 INSERT + 매핑 INSERT)
+            Assertions.assertEquals(7, actual.getStatements());
+        }
+    }
+
+    @Nested
+    @DisplayName("[Network/Image][Statement 수 테스트] 네트워크, 이미지 생성 명령어의 Statement 수를 확인한다.")
+    class NetworkAndImageWritePath {
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Network][성공 테스트] docker network create 는 Subnet 목록, 계정 조회와 INSERT 1번으로 끝난다.")
+        void docker_network_create_는_Subnet_목록_계정_조회와_INSERT_1번으로_끝난다() {
+            // when
+            SqlRequestStatistics actual = countStatements(() ->
+                    networkService.createNetwork(requester(oauthServiceId), command("testNetwork"))
+            );
+
+            // then (Subnet 인덱스를 만들기 위한 네트워크 목록 + 계정 조회 + 네트워크 INSERT)
+            Assertions.assertEquals(3, actual.getStatements());
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Image][성공 테스트] docker pull 은 DockerHub, 중복 이미지, 계정 조회와 INSERT 1번으로 끝난다.")
+        void docker_pull_은_DockerHub_중복_이미지_계정_조회와_INSERT_1번으로_끝난다() {
+            // given
+            String imageName = "pulledImage" + oauthServiceId;
+            dockerHubEntityRepository.save(
+                    DockerHubEntity.builder()
+                            .name(imageName)
+                            .tag("latest")
+                            .os("testOs")
+                            .architecture("testArchitecture")
+                            .size("testSize")
+                            .build()
+            );
+
+            // when
+            SqlRequestStatistics actual = countStatements(() ->
+                    imageService.pullImage(requester(oauthServiceId), command(imageName))
+            );
+
+            // then (DockerHub 조회 + 이미 Pull 받은 이미지 조회 + 계정 조회 + 이미지 INSERT)
+            Assertions.assertEquals(4, actual.getStatements());
+        }
+    }
+
+    @Nested
+    @DisplayName("[Account][Statement 수 테스트] 로그인, 토큰 재발급, 히스토리 저장의 Statement 수를 확인한다.")
+    class AccountWritePath {
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Account][성공 테스트] 처음 로그인은 계정 조회, 계정 INSERT, bridge 조회, bridge INSERT 로 끝난다.")
+        void 처음_로그인은_계정_조회_계정_INSERT_bridge_조회_bridge_INSERT_로_끝난다() {
+            // given
+            String loginOAuthServiceId = newOAuthServiceId();
+            BDDMockito.given(kakaoOAuthUtils.oAuthLogin(ArgumentMatchers.anyString()))
+                    .willReturn(OAuthLoginInfoDto.builder()
+                            .id(loginOAuthServiceId)
+                            .nickname("testNickname")
+                            .accessToken("testThirdPartyAccessToken")
+                            .refreshToken("testThirdPartyRefreshToken")
+                            .build());
+
+            // when
+            SqlRequestStatistics actual = countStatements(() ->
+                    accountService.kakaoOAuthLogin("127.0.0.1", OAuthLoginRequestDto.builder().code("testCode").build())
+            );
+
+            // then (로그인 히스토리는 AccountHistoryWriter 가 별도의 스레드에서 저장하므로 세지 않는다)
+            Assertions.assertEquals(4, actual.getStatements());
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Account][성공 테스트] 토큰 재발급은 계정 조회와 UPDATE 1번으로 끝난다.")
+        void 토큰_재발급은_계정_조회와_UPDATE_1번으로_끝난다() {
+            // given
+            TokenDto token = tokenIssuerService.issueToken(oauthServiceId, account.getNickname(), account.getThirdPartyType().toString());
+            account.setMyServiceToken(token.accessToken(), token.refreshToken());
+            accountRepository.save(account);
+
+            // when
+            List<ReIssueTokenResponse> response = new ArrayList<>();
+            SqlRequestStatistics actual = countStatements(() ->
+                    response.add(accountService.reIssueToken(ReIssueTokenRequest.builder().refreshToken(token.refreshToken()).build()))
+            );
+
+            // then (계정 조회 + 변경 감지로 만들어진 UPDATE, 재발급한 AccessToken 이 실제로 저장되어야 한다)
+            Assertions.assertEquals(2, actual.getStatements());
+            Assertions.assertEquals(
+                    response.get(0).accessToken(),
+                    accountRepository.findByOauthServiceIdEqualsAndThirdPartyTypeEquals(oauthServiceId, account.getThirdPartyType())
+                            .orElseThrow()
+                            .getAccessToken()
+            );
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Account][성공 테스트] 로그인, 로그아웃 히스토리가 섞인 Batch 는 종류마다 INSERT 1번, 총 2번으로 끝난다.")
+        void 로그인_로그아웃_히스토리가_섞인_Batch_는_종류마다_INSERT_1번_총_2번으로_끝난다() {
+            // given (저장 스레드가 모으는 순서와 같이 로그인, 로그아웃 히스토리를 번갈아 넣는다)
+            List<Object> batch = new ArrayList<>();
+            for (int index = 0; index < 10; index++) {
+                batch.add(AccountLoginHistoryEntity.builder()
+                        .createdBy(oauthServiceId)
+                        .ipAddress("127.0.0.1")
+                        .failure(false)
+                        .build());
+                batch.add(AccountLogoutHistoryEntity.builder()
+                        .createdBy(oauthServiceId)
+                        .ipAddress("127.0.0.1")
+                        .failure(false)
+                        .build());
+            }
+
+            // when
+            SqlRequestStatistics actual = countStatements(() -> accountHistoryWriter.flush(batch));
+
+            // then (AccountLoginHistory INSERT Batch + AccountLogoutHistory INSERT Batch)
+            Assertions.assertEquals(2, actual.getStatements());
+            Assertions.assertEquals(20, actual.getRows());
+        }
+    }
+}
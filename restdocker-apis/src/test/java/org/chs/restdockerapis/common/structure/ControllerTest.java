@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.chs.domain.common.enumerate.ThirdPartyEnum;
 import org.chs.restdockerapis.common.config.RestDocsConfig;
 import org.chs.restdockerapis.common.jwt.principal.AccountPrincipalDetails;
+import org.chs.restdockerapis.common.metrics.RestDockerMetrics;
 import org.chs.restdockerapis.image.presentation.dto.DockerCommandRequestDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,7 +25,7 @@ import org.springframework.web.context.WebApplicationContext;
 import java.util.List;
 
 
-@Import(RestDocsConfig.class)
+@Import({RestDocsConfig.class, RestDockerMetrics.class})
 @ExtendWith(RestDocumentationExtension.class)
 public abstract class ControllerTest {
 
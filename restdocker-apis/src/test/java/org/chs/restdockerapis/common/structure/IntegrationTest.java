@@ -0,0 +1,83 @@
+package org.chs.restdockerapis.common.structure;
+
+import org.chs.domain.account.AccountRepository;
+import org.chs.domain.account.entity.AccountEntity;
+import org.chs.domain.common.enumerate.ThirdPartyEnum;
+import org.chs.domain.image.ImageEntityRepository;
+import org.chs.domain.image.entity.ImageEntity;
+import org.chs.domain.network.NetworkEntityRepository;
+import org.chs.domain.network.entity.NetworkEntity;
+import org.chs.restdockerapis.common.argument_resolver.dto.GetRequesterDto;
+import org.chs.restdockerapis.network.application.properties.DockerZeroProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+// 실제 서비스, Aspect, 트랜잭션을 H2 위에서 실행한다.
+// 테스트는 롤백되지 않으므로 테스트마다 새로운 사용자를 만들어 데이터와 사용자별 캐시(계정 상태, IP/Subnet 인덱스)가 겹치지 않게 한다.
+@SpringBootTest
+@ActiveProfiles("test")
+public abstract class IntegrationTest {
+
+    @Autowired
+    protected AccountRepository accountRepository;
+
+    @Autowired
+    protected ImageEntityRepository imageEntityRepository;
+
+    @Autowired
+    protected NetworkEntityRepository networkEntityRepository;
+
+    protected String newOAuthServiceId() {
+        return String.valueOf(Math.abs(UUID.randomUUID().getMostSignificantBits()));
+    }
+
+    protected GetRequesterDto requester(String oauthServiceId) {
+        return GetRequesterDto.builder()
+                .ipAddress("127.0.0.1")
+                .id(oauthServiceId)
+                .thirdPartyType(ThirdPartyEnum.KAKAO)
+                .build();
+    }
+
+    /** 로그인을 마친 사용자와 같이 계정과 bridge 네트워크를 만든다 */
+    protected AccountEntity saveAccountWithBridge(String oauthServiceId) {
+        AccountEntity account = accountRepository.save(
+                AccountEntity.builder()
+                        .thirdPartyAccessToken("testThirdPartyAccessToken")
+                        .thirdPartyRefreshToken("testThirdPartyRefreshToken")
+                        .nickname("testNickname")
+                        .oauthServiceId(oauthServiceId)
+                        .isActive(true)
+                        .thirdPartyType(ThirdPartyEnum.KAKAO)
+                        .build()
+        );
+
+        networkEntityRepository.save(
+                NetworkEntity.builder()
+                        .account(account)
+                        .name(DockerZeroProperties.NAME)
+                        .subnet(DockerZeroProperties.SUBNET)
+                        .gateway(DockerZeroProperties.GATEWAY)
+                        .mtu(DockerZeroProperties.MTU)
+                        .enableIcc(DockerZeroProperties.ICC)
+                        .build()
+        );
+        return account;
+    }
+
+    protected ImageEntity saveImage(AccountEntity account, String name, String tag) {
+        return imageEntityRepository.save(
+                ImageEntity.builder()
+                        .name(name)
+                        .tag(tag)
+                        .os("testOs")
+                        .architecture("testArchitecture")
+                        .size("testSize")
+                        .account(account)
+                        .build()
+        );
+    }
+}
@@ -1,10 +1,15 @@
 package org.chs.restdockerapis.container.application;
 
 import org.chs.domain.account.entity.AccountEntity;
+import org.chs.domain.common.cache.AccountStateCache;
 import org.chs.domain.common.enumerate.ThirdPartyEnum;
+import org.chs.domain.common.page.KeysetCursor;
+import org.chs.domain.common.page.KeysetSlice;
 import org.chs.domain.container.ContainerEntityRepository;
 import org.chs.domain.container.dto.ContainerDetailElements;
 import org.chs.domain.container.dto.ContainerElements;
+import org.chs.domain.container.dto.ContainerLsFilter;
+import org.chs.domain.container.dto.ContainerRunSnapshot;
 import org.chs.domain.container.dto.ContainerValidElementsDto;
 import org.chs.domain.container.entity.ContainerEntity;
 import org.chs.domain.container.enumerate.ContainerStatusEnum;
@@ -17,21 +22,29 @@ import org.chs.domain.network.entity.NetworkEntity;
 import org.chs.restdockerapis.common.argument_resolver.dto.GetRequesterDto;
 import org.chs.restdockerapis.common.exception.CustomBadRequestException;
 import org.chs.restdockerapis.common.exception.ErrorCode;
+import org.chs.restdockerapis.common.page.KeysetPageRequestDto;
+import org.chs.restdockerapis.common.util.BatchLookupCache;
 import org.chs.restdockerapis.container.presentation.dto.*;
 import org.chs.restdockerapis.image.presentation.dto.DockerCommandRequestDto;
 import org.chs.restdockerapis.network.util.AddressUtils;
+import org.chs.restdockerapis.network.util.ContainerIpAllocator;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 
 @ActiveProfiles("test")
 @ExtendWith(MockitoExtension.class)
@@ -55,6 +68,15 @@ public class ContainerServiceTest {
     @Mock
     private AddressUtils addressUtils;
 
+    @Mock
+    private ContainerIpAllocator containerIpAllocator;
+
+    @Mock
+    private AccountStateCache accountStateCache;
+
+    @Spy
+    private BatchLookupCache batchLookupCache;
+
     private AccountEntity account;
     private ImageEntity image;
     private NetworkEntity network;
@@ -186,7 +208,7 @@ public class ContainerServiceTest {
         @DisplayName("[Container][Business] 인자가 전달되지 않았을 때 조회를 정상적으로 성공한다.")
         void 인자가_전달되지_않았을_때_조회를_정상적으로_성공한다() {
             // given - mocking
-            BDDMockito.given(dockerContainerRepository.lsContainer(any()))
+            BDDMockito.given(dockerContainerRepository.lsContainer(any(), any()))
                     .willReturn(List.of(testContainerElements));
 
             // when
@@ -194,6 +216,60 @@ public class ContainerServiceTest {
 
             // then
             Assertions.assertEquals(testResponse.containerElementsList(), actual.containerElementsList());
+
+            ArgumentCaptor<ContainerLsFilter> filterCaptor = ArgumentCaptor.forClass(ContainerLsFilter.class);
+            BDDMockito.then(dockerContainerRepository).should().lsContainer(any(), filterCaptor.capture());
+            Assertions.assertEquals(Set.of(ContainerStatusEnum.Running), filterCaptor.getValue().getStatuses());
+            Assertions.assertFalse(filterCaptor.getValue().isLatest());
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Container][Business] -a 인자만 전달되었을 때 조건 없이 계정의 모든 컨테이너를 조회한다.")
+        void a_인자만_전달되었을_때_조건_없이_계정의_모든_컨테이너를_조회한다() {
+            // given
+            DockerCommandRequestDto allRequest = DockerCommandRequestDto.builder()
+                    .argCommands(List.of("-a"))
+                    .build();
+
+            // given - mocking
+            BDDMockito.given(dockerContainerRepository.lsContainer(any()))
+                    .willReturn(List.of(testContainerElements));
+
+            // when
+            LsContainerResponseDto actual = containerService.lsContainer(testRequestInfo, allRequest);
+
+            // then
+            Assertions.assertEquals(testResponse.containerElementsList(), actual.containerElementsList());
+            BDDMockito.then(dockerContainerRepository).should(BDDMockito.never()).lsContainer(any(), any());
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Container][Business] -n, --filter 인자가 전달되었을 때 조회 조건으로 변환한다.")
+        void n_filter_인자가_전달되었을_때_조회_조건으로_변환한다() {
+            // given
+            DockerCommandRequestDto filterRequest = DockerCommandRequestDto.builder()
+                    .argCommands(List.of("-n 2", "--filter status=exited", "-f status=paused", "--filter name=Rest", "--filter ancestor=tomcat:latest"))
+                    .build();
+
+            // given - mocking
+            BDDMockito.given(dockerContainerRepository.lsContainer(any(), any()))
+                    .willReturn(List.of(testContainerElements));
+
+            // when
+            containerService.lsContainer(testRequestInfo, filterRequest);
+
+            // then
+            ArgumentCaptor<ContainerLsFilter> filterCaptor = ArgumentCaptor.forClass(ContainerLsFilter.class);
+            BDDMockito.then(dockerContainerRepository).should().lsContainer(any(), filterCaptor.capture());
+
+            ContainerLsFilter filter = filterCaptor.getValue();
+            Assertions.assertEquals(Set.of(ContainerStatusEnum.Exited, ContainerStatusEnum.Paused), filter.getStatuses());
+            Assertions.assertEquals(2, filter.getLimit());
+            Assertions.assertEquals("Rest", filter.getName());
+            Assertions.assertEquals("tomcat", filter.getImageName());
+            Assertions.assertEquals("latest", filter.getImageTag());
         }
 
         @Tag("business")
@@ -201,7 +277,7 @@ public class ContainerServiceTest {
         @DisplayName("[Container][Business] 인자가 전달되었을 때 조회를 정상적으로 성공한다.")
         void 인자가_전달되었을_때_조회를_정상적으로_성공한다() {
             // given - mocking
-            BDDMockito.given(dockerContainerRepository.lsContainer(any()))
+            BDDMockito.given(dockerContainerRepository.lsContainer(any(), any()))
                     .willReturn(List.of(testContainerElements));
 
             // when
@@ -211,19 +287,59 @@ public class ContainerServiceTest {
             Assertions.assertEquals(testResponse.containerElementsList(), actual.containerElementsList());
         }
 
+        @Tag("business")
+        @Test
+        @DisplayName("[Container][Business] 페이지 크기가 전달되었을 때 조건에 맞는 한 페이지를 조회한다.")
+        void 페이지_크기가_전달되었을_때_조건에_맞는_한_페이지를_조회한다() {
+            // given
+            KeysetCursor nextCursor = KeysetCursor.builder()
+                    .createDate(testContainerElements.getCreateDate())
+                    .pk("018f3b5e-7c1a-7000-8000-000000000001")
+                    .build();
+
+            // given - mocking
+            BDDMockito.given(dockerContainerRepository.lsContainer(any(), any(), any(), anyInt()))
+                    .willReturn(KeysetSlice.<ContainerElements>builder()
+                            .elements(List.of(testContainerElements))
+                            .nextCursor(nextCursor)
+                            .build());
+
+            // when
+            LsContainerResponseDto actual = containerService.lsContainer(testRequestInfo, testEmptyRequest,
+                    KeysetPageRequestDto.builder().size(1).build());
+
+            // then
+            Assertions.assertEquals(testResponse.containerElementsList(), actual.containerElementsList());
+            Assertions.assertEquals(nextCursor.encode(), actual.nextCursor());
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Container][Business] -l 인자와 페이지 조회를 함께 요청하면 실패한다.")
+        void l_인자와_페이지_조회를_함께_요청하면_실패한다() {
+            // when && then
+            Assertions.assertThrows(
+                    CustomBadRequestException.class,
+                    () -> containerService.lsContainer(testRequestInfo, testLsRequest, KeysetPageRequestDto.builder().size(10).build())
+            );
+            BDDMockito.then(dockerContainerRepository).shouldHaveNoInteractions();
+        }
+
         @Tag("business")
         @Test
         @DisplayName("[Container][Business] 유효하지 않은 인자가 전달되었을 때 조회를 정상적으로 실패한다.")
         void 유효하지_않은_인자가_전달되었을_때_조회를_정상적으로_성공한다() {
-            // given - mocking
-            BDDMockito.given(dockerContainerRepository.lsContainer(any()))
-                    .willThrow(new CustomBadRequestException(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION));
+            // given
+            DockerCommandRequestDto notValidRequest = DockerCommandRequestDto.builder()
+                    .argCommands(List.of("-n zero", "--filter unknown=value"))
+                    .build();
 
             // when && then
             Assertions.assertThrows(
                     CustomBadRequestException.class,
-                    () -> containerService.lsContainer(testRequestInfo, testLsRequest)
+                    () -> containerService.lsContainer(testRequestInfo, notValidRequest)
             );
+            BDDMockito.then(dockerContainerRepository).shouldHaveNoInteractions();
         }
     }
 
@@ -319,7 +435,7 @@ public class ContainerServiceTest {
             BDDMockito.given(dockerContainerRepository.findContainerByOAuthServiceAndContainerName(any(), any()))
                     .willReturn(container);
 
-            BDDMockito.given(dockerContainerRepository.renameContainer(any(), any()))
+            BDDMockito.given(dockerContainerRepository.renameContainer(any(), any(), any()))
                     .willReturn(true);
 
             // when
@@ -329,6 +445,52 @@ public class ContainerServiceTest {
             Assertions.assertEquals(testResponse.renameResult(), actual.renameResult());
         }
 
+        @Tag("business")
+        @Test
+        @DisplayName("[Container][Business] 변경전 컨테이너가 존재하지 않을 때 정상적으로 실패한다.")
+        void 변경전_컨테이너가_존재하지_않을_때_정상적으로_실패한다() {
+            // given - mocking
+            BDDMockito.given(dockerContainerRepository.findContainerByOAuthServiceAndContainerName(any(), any()))
+                    .willReturn(null);
+
+            // when
+            CustomBadRequestException actual = Assertions.assertThrows(
+                    CustomBadRequestException.class,
+                    () -> containerService.renameContainer(testRequestInfo, testRenameRequest)
+            );
+
+            // then
+            Assertions.assertEquals(ErrorCode.NOT_EXIST_CONTAINER, actual.getErrorCode());
+            BDDMockito.then(dockerContainerRepository).should(Mockito.never()).renameContainer(any(), any(), any());
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Container][Business] 변경할 컨테이너 이름을 이미 사용중일 때 정상적으로 실패한다.")
+        void 변경할_컨테이너_이름을_이미_사용중일_때_정상적으로_실패한다() {
+            // given - mocking
+            BDDMockito.given(dockerContainerRepository.findContainerByOAuthServiceAndContainerName(any(), any()))
+                    .willReturn(container);
+
+            BDDMockito.given(dockerContainerRepository.findValidElementsListByOAuthServiceId(any()))
+                    .willReturn(List.of(
+                            ContainerValidElementsDto.builder()
+                                    .containerName("RestApiDocker")
+                                    .outerPort("18080")
+                                    .build()
+                    ));
+
+            // when
+            CustomBadRequestException actual = Assertions.assertThrows(
+                    CustomBadRequestException.class,
+                    () -> containerService.renameContainer(testRequestInfo, testRenameRequest)
+            );
+
+            // then
+            Assertions.assertEquals(ErrorCode.NOT_VALID_NAME, actual.getErrorCode());
+            BDDMockito.then(dockerContainerRepository).should(Mockito.never()).renameContainer(any(), any(), any());
+        }
+
         @Tag("business")
         @Test
         @DisplayName("[Container][Business] 변경 전후 컨테이너 이름이 오지 않았을 때 정상적으로 실패한다.")
@@ -418,7 +580,7 @@ public class ContainerServiceTest {
             BDDMockito.given(dockerNetworkRepository.inspectNetwork(any(), any()))
                     .willReturn(networkDetailElements);
 
-            BDDMockito.given(addressUtils.automaticAllocationContainerIp(any(), any()))
+            BDDMockito.given(containerIpAllocator.allocate(any(), any(), any()))
                     .willReturn("172.17.1.2");
 
             BDDMockito.given(addressUtils.validAddressFormat(any()))
@@ -465,7 +627,7 @@ public class ContainerServiceTest {
             BDDMockito.given(dockerNetworkRepository.inspectNetwork(any(), any()))
                     .willReturn(networkDetailElements);
 
-            BDDMockito.given(addressUtils.automaticAllocationContainerIp(any(), any()))
+            BDDMockito.given(containerIpAllocator.allocate(any(), any(), any()))
                     .willReturn("172.17.1.2");
 
             BDDMockito.given(addressUtils.validAddressFormat(any()))
@@ -693,6 +855,131 @@ public class ContainerServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("[Container][시나리오 테스트] 컨테이너 실행(Run)을 테스트한다.")
+    class RunContainer {
+        private ContainerRunSnapshot snapshot = null;
+
+        protected RunContainer() {
+            // given - data
+            snapshot = ContainerRunSnapshot.builder()
+                    .image(image)
+                    .network(network)
+                    .containerNames(List.of("existContainerName"))
+                    .outerPorts(List.of("18080"))
+                    .networkPrivateIps(List.of("172.17.1.1"))
+                    .build();
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Container][Business] 계정 상태 한번의 조회로 검증하고 Running 상태의 컨테이너를 바로 저장한다.")
+        void 계정_상태_한번의_조회로_검증하고_Running_상태의_컨테이너를_바로_저장한다() {
+            // given - data
+            DockerCommandRequestDto testRunRequest = DockerCommandRequestDto.builder()
+                    .argCommands(
+                            List.of(
+                                    "--name createdContainerName",
+                                    "-p 18081:8080",
+                                    "containerName:latest"
+                            )
+                    )
+                    .build();
+
+            // given - mocking
+            BDDMockito.given(dockerContainerRepository.findRunSnapshot(any(), any(), any()))
+                    .willReturn(snapshot);
+
+            BDDMockito.given(containerIpAllocator.allocate(any(), any(), any()))
+                    .willReturn("172.17.1.2");
+
+            BDDMockito.given(addressUtils.validAddressFormat(any()))
+                    .willReturn(true);
+
+            BDDMockito.given(addressUtils.validPortForwardingFormat(any()))
+                    .willReturn(true);
+
+            BDDMockito.given(dockerContainerRepository.save(any()))
+                    .willReturn(container);
+
+            // when
+            RunContainerResponseDto actual = containerService.runContainer(testRequestInfo, testRunRequest);
+
+            // then
+            ArgumentCaptor<ContainerEntity> containerCaptor = ArgumentCaptor.forClass(ContainerEntity.class);
+            BDDMockito.then(dockerContainerRepository).should().save(containerCaptor.capture());
+
+            Assertions.assertTrue(actual.startResult());
+            Assertions.assertEquals(ContainerStatusEnum.Running, containerCaptor.getValue().getStatus());
+            Assertions.assertEquals("172.17.1.2", containerCaptor.getValue().getPrivateIp());
+            Assertions.assertEquals("18081", containerCaptor.getValue().getOuterPort());
+            BDDMockito.then(dockerContainerRepository).should(Mockito.never()).updateContainerStatus(any(), any(), any());
+            BDDMockito.then(dockerContainerRepository).should(Mockito.never()).findContainerByOAuthServiceAndContainerName(any(), any());
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Container][Business] Host에 없는 이미지로 요청을 보내면 정상적으로 실패한다.")
+        void Host에_없는_이미지로_요청을_보내면_정상적으로_실패한다() {
+            // given - data
+            DockerCommandRequestDto testRunRequest = DockerCommandRequestDto.builder()
+                    .argCommands(
+                            List.of(
+                                    "--name createdContainerName",
+                                    "notExistImage:latest"
+                            )
+                    )
+                    .build();
+
+            // given - mocking
+            BDDMockito.given(dockerContainerRepository.findRunSnapshot(any(), any(), any()))
+                    .willReturn(ContainerRunSnapshot.builder()
+                            .network(network)
+                            .containerNames(List.of())
+                            .outerPorts(List.of())
+                            .networkPrivateIps(List.of())
+                            .build());
+
+            // when && then
+            Assertions.assertThrows(
+                    CustomBadRequestException.class,
+                    () -> containerService.runContainer(testRequestInfo, testRunRequest)
+            );
+            BDDMockito.then(dockerContainerRepository).should(Mockito.never()).save(any());
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Container][Business] 네트워크에 이미 할당된 내부 IP를 요청으로 보내면 정상적으로 실패한다.")
+        void 네트워크에_이미_할당된_내부IP를_요청으로_보내면_정상적으로_실패한다() {
+            // given - data
+            DockerCommandRequestDto testRunRequest = DockerCommandRequestDto.builder()
+                    .argCommands(
+                            List.of(
+                                    "--name createdContainerName",
+                                    "--net bridge",
+                                    "--ip 172.17.1.1",
+                                    "containerName:latest"
+                            )
+                    )
+                    .build();
+
+            // given - mocking
+            BDDMockito.given(dockerContainerRepository.findRunSnapshot(any(), any(), any()))
+                    .willReturn(snapshot);
+
+            BDDMockito.given(addressUtils.validAddressFormat(any()))
+                    .willReturn(true);
+
+            // when && then
+            Assertions.assertThrows(
+                    CustomBadRequestException.class,
+                    () -> containerService.runContainer(testRequestInfo, testRunRequest)
+            );
+            BDDMockito.then(dockerContainerRepository).should(Mockito.never()).save(any());
+        }
+    }
+
     @Nested
     @DisplayName("[Container][시나리오 테스트] 컨테이너 삭제를 테스트한다.")
     class RmContainer {
@@ -714,7 +1001,7 @@ public class ContainerServiceTest {
             BDDMockito.given(dockerContainerRepository.findContainerByOAuthServiceAndContainerName(any(), any()))
                     .willReturn(container);
 
-            BDDMockito.given(dockerContainerRepository.rmContainer(any()))
+            BDDMockito.given(dockerContainerRepository.rmContainer(any(), any()))
                     .willReturn(true);
 
             // when
@@ -724,6 +1011,28 @@ public class ContainerServiceTest {
             Assertions.assertEquals(testResponse.rmResult(), actual.rmResult());
         }
 
+        @Tag("business")
+        @Test
+        @DisplayName("[Container][Business] 컨테이너를 삭제하면 연결되어 있던 네트워크에만 IP 를 반납한다.")
+        void 컨테이너를_삭제하면_연결되어_있던_네트워크에만_IP_를_반납한다() {
+            // given - mocking
+            BDDMockito.given(dockerContainerRepository.findContainerByOAuthServiceAndContainerName(any(), any()))
+                    .willReturn(container);
+
+            BDDMockito.given(dockerNetworkContainerMappingRepository.findNetworkNameByContainerPk(any()))
+                    .willReturn("testNetwork");
+
+            BDDMockito.given(dockerContainerRepository.rmContainer(any(), any()))
+                    .willReturn(true);
+
+            // when
+            containerService.rmContainer(testRequestInfo.id(), testNameRequest);
+
+            // then
+            BDDMockito.then(containerIpAllocator).should()
+                    .release(testRequestInfo.id(), "testNetwork", container.getPrivateIp());
+        }
+
         @Tag("business")
         @Test
         @DisplayName("[Container][Business] 컨테이너 이름외에 추가인자가 왔을경우 정상적으로 실패한다.")
@@ -772,7 +1081,7 @@ public class ContainerServiceTest {
             BDDMockito.given(dockerContainerRepository.findContainerByOAuthServiceAndContainerName(any(), any()))
                     .willReturn(pauseContainer);
 
-            BDDMockito.given(dockerContainerRepository.updateContainerStatus(any(), any()))
+            BDDMockito.given(dockerContainerRepository.updateContainerStatus(any(), any(), any()))
                     .willReturn(1L);
 
             // when
@@ -830,7 +1139,7 @@ public class ContainerServiceTest {
             BDDMockito.given(dockerContainerRepository.findContainerByOAuthServiceAndContainerName(any(), any()))
                     .willReturn(notRmContainer);
 
-            BDDMockito.given(dockerContainerRepository.updateContainerStatus(any(), any()))
+            BDDMockito.given(dockerContainerRepository.updateContainerStatus(any(), any(), any()))
                     .willReturn(1L);
 
             // when
@@ -851,7 +1160,7 @@ public class ContainerServiceTest {
             BDDMockito.given(dockerContainerRepository.findContainerByOAuthServiceAndContainerName(any(), any()))
                     .willReturn(container);
 
-            BDDMockito.given(dockerContainerRepository.rmContainer(any()))
+            BDDMockito.given(dockerContainerRepository.rmContainer(any(), any()))
                     .willReturn(true);
 
 
@@ -27,6 +27,8 @@ import java.util.List;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -72,7 +74,7 @@ public class ContainerControllerTest extends ControllerTest {
         @DisplayName("[Container][Controller] LS Container")
         void 컨테이너_조회를_정상적으로_성공한다() throws Exception {
             // given
-            BDDMockito.given(containerService.lsContainer(any(), any()))
+            BDDMockito.given(containerService.lsContainer(any(), any(), any()))
                     .willReturn(testResponse);
 
             // when
@@ -112,7 +114,7 @@ public class ContainerControllerTest extends ControllerTest {
         @DisplayName("[Container][Controller] LS Container")
         void 인자값이_존재해도_컨테이너_조회를_정상적으로_성공한다() throws Exception {
             // given
-            BDDMockito.given(containerService.lsContainer(any(), any()))
+            BDDMockito.given(containerService.lsContainer(any(), any(), any()))
                     .willReturn(testResponse);
 
             // when
@@ -152,7 +154,7 @@ public class ContainerControllerTest extends ControllerTest {
         @DisplayName("[Container][Controller] LS Container")
         void 컨테이너_조회시_데이터가_없어도_정상적으로_성공한다() throws Exception {
             // given
-            BDDMockito.given(containerService.lsContainer(any(), any()))
+            BDDMockito.given(containerService.lsContainer(any(), any(), any()))
                     .willReturn(testEmptyResponse);
 
             // when
@@ -177,6 +179,57 @@ public class ContainerControllerTest extends ControllerTest {
                             )
                     );
         }
+
+        @Tag("controller")
+        @Test
+        @DisplayName("[Container][Controller] LS Container Keyset Pagination")
+        void 컨테이너_조회시_페이지_크기를_전달하면_다음_페이지_Cursor_를_함께_반환한다() throws Exception {
+            // given
+            LsContainerResponseDto testPageResponse = LsContainerResponseDto.builder()
+                    .containerElementsList(List.of(containerElements))
+                    .nextCursor("testNextCursor")
+                    .build();
+
+            BDDMockito.given(containerService.lsContainer(any(), any(), any()))
+                    .willReturn(testPageResponse);
+
+            // when
+            ResultActions resultActions = mockMvc.perform(post("/api/v1/container/ls")
+                    .queryParam("size", "1")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(writeCommonRequest(
+                            List.of("-a")
+                    ))
+            );
+
+            // then
+            resultActions
+                    .andExpect(status().isOk())
+                    .andDo(
+                            restDocs.document(
+                                    queryParameters(
+                                            parameterWithName("size").description("페이지 크기 (최대 1000)"),
+                                            parameterWithName("cursor").optional().description("이전 응답의 nextCursor, 없다면 첫 페이지")
+                                    ),
+                                    requestFields(
+                                            fieldWithPath("argCommands").type(JsonFieldType.ARRAY).description("도커 명령어 인자값 리스트")
+                                    ),
+                                    responseFields(
+                                            fieldWithPath("containerElementsList").type(JsonFieldType.ARRAY).description("컨테이너 구성요소 리스트 (최근에 생성된 순서)"),
+                                            fieldWithPath("containerElementsList[].createDate").type(JsonFieldType.STRING).description("컨테이너 생성시간"),
+                                            fieldWithPath("containerElementsList[].updateDate").type(JsonFieldType.STRING).description("컨테이너 수정시간"),
+                                            fieldWithPath("containerElementsList[].name").type(JsonFieldType.STRING).description("컨테이너 이름"),
+                                            fieldWithPath("containerElementsList[].imageName").type(JsonFieldType.STRING).description("컨테이너에 기반이 되는 이미지의 이름"),
+                                            fieldWithPath("containerElementsList[].imageTag").type(JsonFieldType.STRING).description("컨테이너에 기반이 되는 이미지의 태그"),
+                                            fieldWithPath("containerElementsList[].privateIp").type(JsonFieldType.STRING).description("컨테이너 사설 IP"),
+                                            fieldWithPath("containerElementsList[].outerPort").type(JsonFieldType.STRING).description("컨테이너 외부 포트"),
+                                            fieldWithPath("containerElementsList[].innerPort").type(JsonFieldType.STRING).description("컨테이너 내부 포트"),
+                                            fieldWithPath("containerElementsList[].status").type(JsonFieldType.STRING).description("컨테이너 상태 값"),
+                                            fieldWithPath("nextCursor").type(JsonFieldType.STRING).description("다음 페이지의 Cursor, 마지막 페이지라면 응답에 포함되지 않음")
+                                    )
+                            )
+                    );
+        }
     }
 
     @Nested
@@ -205,7 +258,7 @@ public class ContainerControllerTest extends ControllerTest {
         @DisplayName("[Container][Controller] LS Container")
         void 컨테이너_조회시_유효한_인자값이_아니어서_실패한다() throws Exception {
             // given
-            BDDMockito.given(containerService.lsContainer(any(), any()))
+            BDDMockito.given(containerService.lsContainer(any(), any(), any()))
                     .willThrow(new CustomBadRequestException(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION));
 
             // when
@@ -234,7 +287,7 @@ public class ContainerControllerTest extends ControllerTest {
         @DisplayName("[Container][Controller] LS Container")
         void 컨테이너_조회시_같은_인자값이_중복되어_실패한다() throws Exception {
             // given
-            BDDMockito.given(containerService.lsContainer(any(), any()))
+            BDDMockito.given(containerService.lsContainer(any(), any(), any()))
                     .willThrow(new CustomBadRequestException(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION));
 
             // when
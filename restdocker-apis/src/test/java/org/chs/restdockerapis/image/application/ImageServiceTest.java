@@ -2,7 +2,10 @@ package org.chs.restdockerapis.image.application;
 
 import org.chs.domain.account.AccountRepository;
 import org.chs.domain.account.entity.AccountEntity;
+import org.chs.domain.common.cache.AccountStateCache;
 import org.chs.domain.common.enumerate.ThirdPartyEnum;
+import org.chs.domain.common.page.KeysetCursor;
+import org.chs.domain.common.page.KeysetSlice;
 import org.chs.domain.container.ContainerEntityRepository;
 import org.chs.domain.dockerhub.DockerHubEntityRepository;
 import org.chs.domain.dockerhub.entity.DockerHubEntity;
@@ -12,13 +15,16 @@ import org.chs.domain.image.dto.ImageElements;
 import org.chs.domain.image.entity.ImageEntity;
 import org.chs.restdockerapis.common.argument_resolver.dto.GetRequesterDto;
 import org.chs.restdockerapis.common.exception.CustomBadRequestException;
+import org.chs.restdockerapis.common.page.KeysetPageRequestDto;
 import org.chs.restdockerapis.common.util.ListUtils;
+import org.chs.restdockerapis.common.util.BatchLookupCache;
 import org.chs.restdockerapis.image.presentation.dto.*;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.test.context.ActiveProfiles;
@@ -28,6 +34,9 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 
 @ActiveProfiles("test")
 @ExtendWith(MockitoExtension.class)
@@ -51,6 +60,12 @@ public class ImageServiceTest {
     @Mock
     private DockerHubEntityRepository dockerHubEntityRepository;
 
+    @Mock
+    private AccountStateCache accountStateCache;
+
+    @Spy
+    private BatchLookupCache batchLookupCache;
+
     private GetRequesterDto testRequestInfo = null;
     private GetRequesterDto testInValidRequestInfo = null;
 
@@ -130,6 +145,39 @@ public class ImageServiceTest {
             Assertions.assertEquals(testResponse.lsImageList(), actual.lsImageList());
         }
 
+        @Tag("business")
+        @Test
+        @DisplayName("[Image][Business] 페이지 크기가 있을 때, 한 페이지와 다음 페이지의 Cursor 를 반환한다.")
+        void 페이지_크기가_있을_때_한_페이지와_다음_페이지의_Cursor_를_반환한다() {
+            // given
+            KeysetCursor nextCursor = KeysetCursor.builder()
+                    .createDate(testImageElements.getCreateDate())
+                    .pk("018f3b5e-7c1a-7000-8000-000000000001")
+                    .build();
+
+            // given - mocking
+            BDDMockito.given(dockerImageRepository.findAllByOauthServiceId(any(), any(), any(), anyInt()))
+                    .willReturn(KeysetSlice.<ImageElements>builder()
+                            .elements(List.of(testImageElements))
+                            .nextCursor(nextCursor)
+                            .build());
+
+            BDDMockito.given(listUtils.existAndNotSizeOne(any()))
+                    .willReturn(false);
+
+            BDDMockito.given(listUtils.isBlank(any()))
+                    .willReturn(true);
+
+            // when
+            LsImageResponseDto actual = imageService.lsImage(testRequestInfo, testEmptyRequest,
+                    KeysetPageRequestDto.builder().size(1).build());
+
+            // then
+            Assertions.assertEquals(testResponse.lsImageList(), actual.lsImageList());
+            Assertions.assertEquals(nextCursor, KeysetCursor.decode(actual.nextCursor()));
+            BDDMockito.then(dockerImageRepository).should().findAllByOauthServiceId(any(), any(), isNull(), eq(1));
+        }
+
         @Tag("business")
         @Test
         @DisplayName("[Image][Business] 인자값이 있을 때, 이미지 조회를 정상적으로 성공한다.")
@@ -65,7 +65,7 @@ public class ImageControllerTest extends ControllerTest {
         @DisplayName("[Image][Controller] Ls Image")
         void 사용자가_Pull_받은_Image_정보를_반환한다_인자가_없는경우() throws Exception {
             // given
-            BDDMockito.given(imageService.lsImage(any(), any()))
+            BDDMockito.given(imageService.lsImage(any(), any(), any()))
                     .willReturn(testResponse);
 
             // when
@@ -99,7 +99,7 @@ public class ImageControllerTest extends ControllerTest {
         @DisplayName("[Image][Controller] Ls Image")
         void 사용자가_가지고있는_Image_정보를_반환한다_인자에_맞는_데이터가_없는경우() throws Exception {
             // given
-            BDDMockito.given(imageService.lsImage(any(), any()))
+            BDDMockito.given(imageService.lsImage(any(), any(), any()))
                     .willReturn(LsImageResponseDto.builder().build());
 
             // when
@@ -129,7 +129,7 @@ public class ImageControllerTest extends ControllerTest {
         @DisplayName("[Image][Controller] Ls Image")
         void 사용자가_Pull_받은_Image_정보를_반환한다_인자가_있는경우() throws Exception {
             // given
-            BDDMockito.given(imageService.lsImage(any(), any()))
+            BDDMockito.given(imageService.lsImage(any(), any(), any()))
                     .willReturn(testResponse);
 
             // when
@@ -168,7 +168,7 @@ public class ImageControllerTest extends ControllerTest {
         @DisplayName("[Image][Controller] Ls Image")
         void 사용자가_전달한_인자가_형식에_맞지_않는경우() throws Exception {
             // given
-            BDDMockito.given(imageService.lsImage(any(), any()))
+            BDDMockito.given(imageService.lsImage(any(), any(), any()))
                     .willThrow(new CustomBadRequestException(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION));
 
             // when
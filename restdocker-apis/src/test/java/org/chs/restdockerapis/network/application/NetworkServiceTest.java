@@ -2,8 +2,10 @@ package org.chs.restdockerapis.network.application;
 
 import org.chs.domain.account.AccountRepository;
 import org.chs.domain.account.entity.AccountEntity;
+import org.chs.domain.common.cache.AccountStateCache;
 import org.chs.domain.common.enumerate.ThirdPartyEnum;
-import org.chs.domain.container.ContainerEntityRepository;
+import org.chs.domain.common.page.KeysetCursor;
+import org.chs.domain.common.page.KeysetSlice;
 import org.chs.domain.container.dto.ContainerElements;
 import org.chs.domain.container.enumerate.ContainerStatusEnum;
 import org.chs.domain.network.NetworkContainerMappingEntityRepository;
@@ -13,18 +15,23 @@ import org.chs.domain.network.dto.NetworkElements;
 import org.chs.domain.network.entity.NetworkEntity;
 import org.chs.restdockerapis.common.argument_resolver.dto.GetRequesterDto;
 import org.chs.restdockerapis.common.exception.CustomBadRequestException;
+import org.chs.restdockerapis.common.page.KeysetPageRequestDto;
 import org.chs.restdockerapis.common.util.ListUtils;
+import org.chs.restdockerapis.common.util.BatchLookupCache;
 import org.chs.restdockerapis.image.presentation.dto.DockerCommandRequestDto;
 import org.chs.restdockerapis.network.presentation.dto.CreateNetworkResponseDto;
 import org.chs.restdockerapis.network.presentation.dto.InspectNetworkResponseDto;
 import org.chs.restdockerapis.network.presentation.dto.LsNetworkResponseDto;
 import org.chs.restdockerapis.network.presentation.dto.RmNetworkResponseDto;
 import org.chs.restdockerapis.network.util.AddressUtils;
+import org.chs.restdockerapis.network.util.ContainerIpAllocator;
+import org.chs.restdockerapis.network.util.SubnetAllocator;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -34,6 +41,8 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 
 @ActiveProfiles("test")
 @ExtendWith(MockitoExtension.class)
@@ -48,9 +57,6 @@ public class NetworkServiceTest {
     @Mock
     private NetworkEntityRepository dockerNetworkRepository;
 
-    @Mock
-    private ContainerEntityRepository dockerContainerRepository;
-
     @Mock
     private NetworkContainerMappingEntityRepository dockerNetworkContainerMappingRepository;
 
@@ -60,6 +66,18 @@ public class NetworkServiceTest {
     @Mock
     private AddressUtils addressUtils;
 
+    @Mock
+    private ContainerIpAllocator containerIpAllocator;
+
+    @Mock
+    private SubnetAllocator subnetAllocator;
+
+    @Mock
+    private AccountStateCache accountStateCache;
+
+    @Spy
+    private BatchLookupCache batchLookupCache;
+
     private GetRequesterDto testRequestInfo = null;
     private GetRequesterDto testInValidRequestInfo = null;
 
@@ -158,6 +176,51 @@ public class NetworkServiceTest {
             assertThat(compareDto(networkElements, actual.lsNetworkElements().get(0)));
         }
 
+        @Tag("business")
+        @Test
+        @DisplayName("[Network][Business] Cursor 가 있을 때, 해당 위치 다음 페이지의 도커 네트워크를 조회한다.")
+        void Cursor_가_있을_때_해당_위치_다음_페이지의_도커_네트워크를_조회한다() {
+            // given
+            KeysetCursor cursor = KeysetCursor.builder()
+                    .createDate(LocalDateTime.parse("2024-01-02T00:00:00"))
+                    .pk("018f3b5e-7c1a-7000-8000-000000000001")
+                    .build();
+
+            // given - mocking
+            BDDMockito.given(dockerNetworkRepository.findByOAuthServiceId(any(), any(), anyInt()))
+                    .willReturn(KeysetSlice.<NetworkElements>builder()
+                            .elements(List.of(networkElements))
+                            .build());
+
+            BDDMockito.given(listUtils.isBlank(any()))
+                    .willReturn(true);
+
+            // when
+            LsNetworkResponseDto actual = networkService.lsNetwork(testRequestInfo, testEmptyRequest,
+                    KeysetPageRequestDto.builder().cursor(cursor.encode()).build());
+
+            // then
+            assertThat(compareDto(networkElements, actual.lsNetworkElements().get(0)));
+            Assertions.assertNull(actual.nextCursor());
+            BDDMockito.then(dockerNetworkRepository).should().findByOAuthServiceId(any(), eq(cursor), eq(KeysetPageRequestDto.DEFAULT_SIZE));
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Network][Business] 서버가 발급하지 않은 Cursor 로 조회하면 실패한다.")
+        void 서버가_발급하지_않은_Cursor_로_조회하면_실패한다() {
+            // given - mocking
+            BDDMockito.given(listUtils.isBlank(any()))
+                    .willReturn(true);
+
+            // when & then
+            Assertions.assertThrows(
+                    CustomBadRequestException.class,
+                    () -> networkService.lsNetwork(testRequestInfo, testEmptyRequest,
+                            KeysetPageRequestDto.builder().cursor("not-valid-cursor").build())
+            );
+        }
+
         @Tag("business")
         @Test
         @DisplayName("[Network][Business] 자세한 네트워크 시, 인자값의 개수가 유효하지 않아 실패한다.")
@@ -201,6 +264,8 @@ public class NetworkServiceTest {
                     .privateIp("172.17.18.11")
                     .status(ContainerStatusEnum.Running)
                     .build();
+
+            networkDetailElements.setContainerInfo(List.of(containerElements));
         }
 
         private boolean compareDto(NetworkDetailElements elements1, NetworkDetailElements elements2) {
@@ -223,14 +288,12 @@ public class NetworkServiceTest {
             BDDMockito.given(dockerNetworkRepository.inspectNetwork(any(), any()))
                     .willReturn(networkDetailElements);
 
-            BDDMockito.given(dockerContainerRepository.lsContainer(any()))
-                    .willReturn(List.of(containerElements));
-
             // when
             InspectNetworkResponseDto actual = networkService.inspectNetwork(testRequestInfo, testNameRequest);
 
             // then
             assertThat(compareDto(networkDetailElements, actual.inspectNetworkDetailElements()));
+            Assertions.assertEquals(List.of(containerElements), actual.inspectNetworkDetailElements().getContainerInfo());
         }
 
         @Tag("business")
@@ -316,18 +379,12 @@ public class NetworkServiceTest {
             BDDMockito.given(listUtils.isBlank(any()))
                     .willReturn(false);
 
-            BDDMockito.given(addressUtils.automaticAllocationSubnet(any()))
+            BDDMockito.given(subnetAllocator.allocate(any(), anyInt(), any(), any()))
                     .willReturn("172.18.0.0/16");
 
             BDDMockito.given(addressUtils.automaticAllocationGateway(any()))
                     .willReturn("172.18.0.1");
 
-            BDDMockito.given(addressUtils.validAddressRangeFormat(any()))
-                    .willReturn(true);
-
-            BDDMockito.given(addressUtils.duplicateSubnetCheck(any(), any()))
-                    .willReturn(false);
-
             BDDMockito.given(addressUtils.validAddressFormat(any()))
                     .willReturn(true);
 
@@ -358,8 +415,8 @@ public class NetworkServiceTest {
             BDDMockito.given(addressUtils.validAddressRangeFormat(any()))
                     .willReturn(true);
 
-            BDDMockito.given(addressUtils.duplicateSubnetCheck(any(), any()))
-                    .willReturn(false);
+            BDDMockito.given(subnetAllocator.reserve(any(), any(), any()))
+                    .willReturn(true);
 
             BDDMockito.given(accountRepository.findByOauthServiceIdEqualsAndThirdPartyTypeEquals(any(), any()))
                     .willReturn(Optional.of(testAccount));
@@ -385,8 +442,8 @@ public class NetworkServiceTest {
             BDDMockito.given(addressUtils.validAddressRangeFormat(any()))
                     .willReturn(true);
 
-            BDDMockito.given(addressUtils.duplicateSubnetCheck(any(), any()))
-                    .willReturn(false);
+            BDDMockito.given(subnetAllocator.reserve(any(), any(), any()))
+                    .willReturn(true);
 
             BDDMockito.given(addressUtils.validAddressFormat(any()))
                     .willReturn(true);
@@ -418,8 +475,8 @@ public class NetworkServiceTest {
             BDDMockito.given(addressUtils.validAddressRangeFormat(any()))
                     .willReturn(true);
 
-            BDDMockito.given(addressUtils.duplicateSubnetCheck(any(), any()))
-                    .willReturn(false);
+            BDDMockito.given(subnetAllocator.reserve(any(), any(), any()))
+                    .willReturn(true);
 
             BDDMockito.given(addressUtils.validAddressFormat(any()))
                     .willReturn(true);
@@ -454,8 +511,8 @@ public class NetworkServiceTest {
             BDDMockito.given(addressUtils.validAddressRangeFormat(any()))
                     .willReturn(true);
 
-            BDDMockito.given(addressUtils.duplicateSubnetCheck(any(), any()))
-                    .willReturn(false);
+            BDDMockito.given(subnetAllocator.reserve(any(), any(), any()))
+                    .willReturn(true);
 
             BDDMockito.given(addressUtils.validAddressFormat(any()))
                     .willReturn(true);
@@ -490,8 +547,8 @@ public class NetworkServiceTest {
             BDDMockito.given(addressUtils.validAddressRangeFormat(any()))
                     .willReturn(true);
 
-            BDDMockito.given(addressUtils.duplicateSubnetCheck(any(), any()))
-                    .willReturn(false);
+            BDDMockito.given(subnetAllocator.reserve(any(), any(), any()))
+                    .willReturn(true);
 
             BDDMockito.given(addressUtils.validAddressFormat(any()))
                     .willReturn(true);
@@ -7,7 +7,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.List;
 
 @ExtendWith(MockitoExtension.class)
 public class AddressUtilsTest {
@@ -193,39 +192,6 @@ public class AddressUtilsTest {
         }
     }
 
-    @Nested
-    @DisplayName("[AddressUtil][시나리오 테스트] 현재 존재하는 서브넷들을 피해 서브넷을 자동 할당한다.")
-    class AutomaticAllocationSubnet {
-
-        @Tag("business")
-        @Test
-        @DisplayName("[AddressUtil][Util] 서브넷 자동할당을 성공한다")
-        void 서브넷_자동할당을_성공한다() {
-            // given - data
-            List<String> subnetList = List.of("172.17.0.0/16", "128.25.0.0/16", "192.168.14.0/24");
-
-            // when
-            String actual = addressUtils.automaticAllocationSubnet(subnetList);
-
-            // then
-            Assertions.assertEquals("192.169.0.0/16", actual);
-        }
-
-        @Tag("business")
-        @Test
-        @DisplayName("[AddressUtil][Util] IP 대역이 유효하지않아 실패한다.")
-        void IP_대역이_유효하지않아_실패한다() {
-            // given - data
-            List<String> subnetList = List.of("172.17.0.0|16", "128.25.0.0/16", "192.168.14.0/24");
-
-            // when & then
-            Assertions.assertThrows(
-                    NumberFormatException.class,
-                    () -> addressUtils.automaticAllocationSubnet(subnetList)
-            );
-        }
-    }
-
     @Nested
     @DisplayName("[AddressUtil][시나리오 테스트] 서브넷대역 안에 게이트웨이를 자동 할당한다.")
     class AutomaticAllocationGateway {
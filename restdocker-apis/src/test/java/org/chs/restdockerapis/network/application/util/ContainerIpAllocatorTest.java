@@ -0,0 +1,115 @@
+package org.chs.restdockerapis.network.application.util;
+
+import org.chs.domain.network.dto.NetworkDetailElements;
+import org.chs.restdockerapis.network.util.ContainerIpAllocator;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+
+public class ContainerIpAllocatorTest {
+
+    private ContainerIpAllocator containerIpAllocator;
+
+    private NetworkDetailElements testNetwork = NetworkDetailElements.builder()
+            .name("restdocker")
+            .subnet("172.18.0.0/24")
+            .gateway("172.18.0.1")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        containerIpAllocator = new ContainerIpAllocator();
+    }
+
+    @Nested
+    @DisplayName("[ContainerIpAllocator][시나리오 테스트] 네트워크별 비트맵으로 컨테이너 IP 를 할당한다.")
+    class Allocate {
+
+        @Tag("business")
+        @Test
+        @DisplayName("[ContainerIpAllocator][Util] Gateway 와 사용중인 IP 를 건너뛰고 가장 낮은 IP 를 할당한다")
+        void Gateway_와_사용중인_IP_를_건너뛰고_가장_낮은_IP_를_할당한다() {
+            // when
+            String actual = containerIpAllocator.allocate("testOAuthServiceId", testNetwork, () -> List.of("172.18.0.2", "172.18.0.4"));
+
+            // then
+            Assertions.assertEquals("172.18.0.3", actual);
+            Assertions.assertEquals("172.18.0.5", containerIpAllocator.allocate("testOAuthServiceId", testNetwork, List::of));
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[ContainerIpAllocator][Util] IPRange 가 있다면 IPRange 안에서만 할당한다")
+        void IPRange_가_있다면_IPRange_안에서만_할당한다() {
+            // given
+            NetworkDetailElements network = NetworkDetailElements.builder()
+                    .name("restdocker")
+                    .subnet("172.18.0.0/16")
+                    .ipRange("172.18.5.0/24")
+                    .gateway("172.18.0.1")
+                    .build();
+
+            // when
+            String actual = containerIpAllocator.allocate("testOAuthServiceId", network, List::of);
+
+            // then
+            Assertions.assertEquals("172.18.5.0", actual);
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[ContainerIpAllocator][Util] 반납된 IP 는 다시 가장 먼저 할당된다")
+        void 반납된_IP_는_다시_가장_먼저_할당된다() {
+            // given
+            containerIpAllocator.allocate("testOAuthServiceId", testNetwork, List::of);
+            containerIpAllocator.allocate("testOAuthServiceId", testNetwork, List::of);
+
+            // when
+            containerIpAllocator.release("testOAuthServiceId", "restdocker", "172.18.0.2");
+            String actual = containerIpAllocator.allocate("testOAuthServiceId", testNetwork, List::of);
+
+            // then
+            Assertions.assertEquals("172.18.0.2", actual);
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[ContainerIpAllocator][Util] IP 반납은 컨테이너가 연결되어 있던 네트워크에만 반영된다")
+        void IP_반납은_컨테이너가_연결되어_있던_네트워크에만_반영된다() {
+            // given (같은 Subnet 을 사용하는 두 네트워크에 같은 IP 가 할당되어 있다)
+            NetworkDetailElements otherNetwork = NetworkDetailElements.builder()
+                    .name("otherRestdocker")
+                    .subnet("172.18.0.0/24")
+                    .gateway("172.18.0.1")
+                    .build();
+            containerIpAllocator.allocate("testOAuthServiceId", testNetwork, List::of);
+            containerIpAllocator.allocate("testOAuthServiceId", otherNetwork, List::of);
+
+            // when
+            containerIpAllocator.release("testOAuthServiceId", "restdocker", "172.18.0.2");
+
+            // then (반납한 네트워크는 172.18.0.2 를 다시 할당하고, 다른 네트워크는 사용중인 172.18.0.2 를 건너뛴다)
+            Assertions.assertEquals("172.18.0.2", containerIpAllocator.allocate("testOAuthServiceId", testNetwork, List::of));
+            Assertions.assertEquals("172.18.0.3", containerIpAllocator.allocate("testOAuthServiceId", otherNetwork, List::of));
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[ContainerIpAllocator][Util] 남은 IP 가 없다면 null 을 반환한다")
+        void 남은_IP_가_없다면_null_을_반환한다() {
+            // given
+            NetworkDetailElements network = NetworkDetailElements.builder()
+                    .name("restdocker")
+                    .subnet("172.18.0.0/30")
+                    .gateway("172.18.0.1")
+                    .build();
+            containerIpAllocator.allocate("testOAuthServiceId", network, List::of);
+
+            // when
+            String actual = containerIpAllocator.allocate("testOAuthServiceId", network, List::of);
+
+            // then
+            Assertions.assertNull(actual);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package org.chs.restdockerapis.network.application.util;
+
+import org.chs.restdockerapis.network.util.Ipv4Address;
+import org.chs.restdockerapis.network.util.Ipv4Cidr;
+import org.junit.jupiter.api.*;
+
+public class Ipv4CidrTest {
+
+    @Nested
+    @DisplayName("[Ipv4][시나리오 테스트] IPv4 주소를 파싱하고 문자열로 바꾼다.")
+    class ParseAddress {
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Ipv4][Util] 주소를 파싱한 값을 다시 문자열로 바꾸면 같은 주소가 된다")
+        void 주소를_파싱한_값을_다시_문자열로_바꾸면_같은_주소가_된다() {
+            // when
+            long actual = Ipv4Address.parse("255.168.1.10");
+
+            // then
+            Assertions.assertEquals(0xFFA8010AL, actual);
+            Assertions.assertEquals("255.168.1.10", Ipv4Address.toString(actual));
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Ipv4][Util] 옥텟 수나 범위가 맞지 않으면 MALFORMED 를 반환한다")
+        void 옥텟_수나_범위가_맞지_않으면_MALFORMED_를_반환한다() {
+            // when & then
+            Assertions.assertEquals(Ipv4Address.MALFORMED, Ipv4Address.parse("172.17.0"));
+            Assertions.assertEquals(Ipv4Address.MALFORMED, Ipv4Address.parse("172.17.0.256"));
+            Assertions.assertEquals(Ipv4Address.MALFORMED, Ipv4Address.parse("가.나.다"));
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Ipv4][Util] 옥텟이 정수가 아니면 NOT_A_NUMBER 를 반환한다")
+        void 옥텟이_정수가_아니면_NOT_A_NUMBER_를_반환한다() {
+            // when & then
+            Assertions.assertEquals(Ipv4Address.NOT_A_NUMBER, Ipv4Address.parse("172.가.나.다"));
+            Assertions.assertEquals(Ipv4Address.NOT_A_NUMBER, Ipv4Address.parse("172..0.1"));
+        }
+    }
+
+    @Nested
+    @DisplayName("[Ipv4][시나리오 테스트] CIDR 표기를 파싱하고 대역을 계산한다.")
+    class ParseCidr {
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Ipv4][Util] CIDR 의 첫번째 주소와 마지막 주소를 계산한다")
+        void CIDR_의_첫번째_주소와_마지막_주소를_계산한다() {
+            // when
+            long actual = Ipv4Cidr.parse("172.17.0.1/16");
+
+            // then
+            Assertions.assertEquals(16, Ipv4Cidr.prefixLength(actual));
+            Assertions.assertEquals(Ipv4Address.parse("172.17.0.0"), Ipv4Cidr.firstAddress(actual));
+            Assertions.assertEquals(Ipv4Address.parse("172.17.255.255"), Ipv4Cidr.lastAddress(actual));
+            Assertions.assertFalse(Ipv4Cidr.isNetworkAddress(actual));
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Ipv4][Util] 0 과 32 prefix 도 overflow 없이 계산한다")
+        void 영과_32_prefix_도_overflow_없이_계산한다() {
+            // when
+            long all = Ipv4Cidr.parse("0.0.0.0/0");
+            long single = Ipv4Cidr.parse("255.255.255.255/32");
+
+            // then
+            Assertions.assertEquals(Ipv4Address.MAX_ADDRESS, Ipv4Cidr.lastAddress(all));
+            Assertions.assertEquals(Ipv4Address.MAX_ADDRESS, Ipv4Cidr.firstAddress(single));
+            Assertions.assertEquals(Ipv4Address.MAX_ADDRESS, Ipv4Cidr.lastAddress(single));
+            Assertions.assertEquals("255.255.255.255/32", Ipv4Cidr.toString(single));
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[Ipv4][Util] prefix 가 없거나 범위를 벗어나면 유효하지 않다")
+        void prefix_가_없거나_범위를_벗어나면_유효하지_않다() {
+            // when & then
+            Assertions.assertFalse(Ipv4Cidr.isValid(Ipv4Cidr.parse("172.17.0.0|16")));
+            Assertions.assertFalse(Ipv4Cidr.isValid(Ipv4Cidr.parse("172.17.0.0/33")));
+            Assertions.assertEquals(Ipv4Address.NOT_A_NUMBER, Ipv4Cidr.parse("172.17.0.0/a"));
+        }
+    }
+}
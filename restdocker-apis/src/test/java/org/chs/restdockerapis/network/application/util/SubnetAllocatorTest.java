@@ -0,0 +1,125 @@
+package org.chs.restdockerapis.network.application.util;
+
+import org.chs.restdockerapis.network.util.SubnetAllocator;
+import org.chs.restdockerapis.network.util.SubnetRangeIndex;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+
+public class SubnetAllocatorTest {
+
+    private SubnetAllocator subnetAllocator;
+
+    @BeforeEach
+    void setUp() {
+        subnetAllocator = new SubnetAllocator();
+    }
+
+    @Nested
+    @DisplayName("[SubnetAllocator][시나리오 테스트] 현재 존재하는 서브넷들을 피해 서브넷을 자동 할당한다.")
+    class Allocate {
+
+        @Tag("business")
+        @Test
+        @DisplayName("[SubnetAllocator][Util] 서브넷 자동할당을 성공한다")
+        void 서브넷_자동할당을_성공한다() {
+            // given - data
+            List<String> subnetList = List.of("172.17.0.0/16", "128.25.0.0/16", "192.168.14.0/24");
+
+            // when
+            String actual = subnetAllocator.allocate("testOAuthServiceId", 16, SubnetRangeIndex.Fit.FIRST, () -> subnetList);
+
+            // then
+            Assertions.assertEquals("172.18.0.0/16", actual);
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[SubnetAllocator][Util] 반납된 서브넷 사이의 빈 공간을 다시 할당한다")
+        void 반납된_서브넷_사이의_빈_공간을_다시_할당한다() {
+            // given
+            List<String> subnetList = List.of("172.17.0.0/16", "172.18.0.0/16", "172.19.0.0/16");
+            subnetAllocator.allocate("testOAuthServiceId", 16, SubnetRangeIndex.Fit.FIRST, () -> subnetList);
+
+            // when
+            subnetAllocator.release("testOAuthServiceId", "172.18.0.0/16");
+            String actual = subnetAllocator.allocate("testOAuthServiceId", 16, SubnetRangeIndex.Fit.FIRST, List::of);
+
+            // then
+            Assertions.assertEquals("172.18.0.0/16", actual);
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[SubnetAllocator][Util] BEST 는 요청한 크기가 들어가는 가장 작은 빈 공간에 할당한다")
+        void BEST_는_요청한_크기가_들어가는_가장_작은_빈_공간에_할당한다() {
+            // given - 172.17.0.0 ~ 172.19.255.255 는 큰 빈 공간, 172.20.1.0/24 만 비어있는 작은 빈 공간
+            List<String> subnetList = List.of("172.20.0.0/24", "172.20.2.0/23", "172.20.4.0/22", "172.20.8.0/21", "172.20.16.0/20", "172.20.32.0/19", "172.20.64.0/18", "172.20.128.0/17", "172.21.0.0/16", "172.22.0.0/15", "172.24.0.0/13");
+
+            // when
+            String firstFit = subnetAllocator.allocate("first", 24, SubnetRangeIndex.Fit.FIRST, () -> subnetList);
+            String bestFit = subnetAllocator.allocate("best", 24, SubnetRangeIndex.Fit.BEST, () -> subnetList);
+
+            // then
+            Assertions.assertEquals("172.17.0.0/24", firstFit);
+            Assertions.assertEquals("172.20.1.0/24", bestFit);
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[SubnetAllocator][Util] 사설 대역이 모두 사용중이라면 null 을 반환한다")
+        void 사설_대역이_모두_사용중이라면_null_을_반환한다() {
+            // given
+            List<String> subnetList = List.of("172.16.0.0/12", "192.168.0.0/16", "10.0.0.0/8");
+
+            // when
+            String actual = subnetAllocator.allocate("testOAuthServiceId", 16, SubnetRangeIndex.Fit.FIRST, () -> subnetList);
+
+            // then
+            Assertions.assertNull(actual);
+        }
+    }
+
+    @Nested
+    @DisplayName("[SubnetAllocator][시나리오 테스트] 직접 지정한 서브넷이 기존 서브넷과 겹치는지 확인한다.")
+    class Reserve {
+
+        @Tag("business")
+        @Test
+        @DisplayName("[SubnetAllocator][Util] 기존 서브넷과 겹치면 실패한다")
+        void 기존_서브넷과_겹치면_실패한다() {
+            // given
+            List<String> subnetList = List.of("172.17.0.0/16", "10.0.0.0/8");
+
+            // when
+            boolean actual = subnetAllocator.reserve("testOAuthServiceId", "10.20.0.0/24", () -> subnetList);
+
+            // then
+            Assertions.assertFalse(actual);
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[SubnetAllocator][Util] 겹치지 않는 서브넷은 예약되어 이후 할당에서 제외된다")
+        void 겹치지_않는_서브넷은_예약되어_이후_할당에서_제외된다() {
+            // when
+            boolean actual = subnetAllocator.reserve("testOAuthServiceId", "172.18.0.0/16", () -> List.of("172.17.0.0/16"));
+
+            // then
+            Assertions.assertTrue(actual);
+            Assertions.assertFalse(subnetAllocator.reserve("testOAuthServiceId", "172.18.3.0/24", List::of));
+            Assertions.assertEquals("172.19.0.0/16", subnetAllocator.allocate("testOAuthServiceId", 16, SubnetRangeIndex.Fit.FIRST, List::of));
+        }
+
+        @Tag("business")
+        @Test
+        @DisplayName("[SubnetAllocator][Util] 주소 공간의 끝에 있는 서브넷도 overflow 없이 검사한다")
+        void 주소_공간의_끝에_있는_서브넷도_overflow_없이_검사한다() {
+            // when
+            boolean actual = subnetAllocator.reserve("testOAuthServiceId", "255.255.255.0/24", () -> List.of("255.255.0.0/16"));
+
+            // then
+            Assertions.assertFalse(actual);
+        }
+    }
+}
@@ -66,7 +66,7 @@ public class NetworkControllerTest extends ControllerTest {
         @DisplayName("[Network][Controller] Ls Network")
         void 정상적으로_네트워크를_조회해온다() throws Exception {
             // given
-            BDDMockito.given(networkService.lsNetwork(any(), any()))
+            BDDMockito.given(networkService.lsNetwork(any(), any(), any()))
                     .willReturn(testResponse);
 
             // when
@@ -128,7 +128,7 @@ public class NetworkControllerTest extends ControllerTest {
         @DisplayName("[Network][Controller] Ls Network")
         void 원하는_네트워크를_Ls로_조회하려다_실패한다() throws Exception {
             // given
-            BDDMockito.given(networkService.lsNetwork(any(), any()))
+            BDDMockito.given(networkService.lsNetwork(any(), any(), any()))
                     .willThrow(new CustomBadRequestException(ErrorCode.ARGUMENT_COMMAND_NOT_VALID_EXCEPTION));
 
             // when
@@ -0,0 +1,168 @@
+package org.chs.restdockerbenchmarks.account;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.chs.restdockerapis.RestdockerApisApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OAuth 제공자가 느릴 때 카카오 로그인 처리량을 Platform Thread 와 Virtual Thread 로 비교하는 부하 테스트
+ *
+ * 1. 토큰 발급, 사용자 정보 조회에 각각 oauthDelayMillis 만큼 늦게 응답하는 Stub OAuth 서버를 띄운다.
+ * 2. oauth2.kakao.*-uri 를 Stub 서버로 바꾼 애플리케이션을 threadMode 에 맞춰 띄운다. (Tomcat 최대 스레드는 기본값 200)
+ * 3. 한번의 호출마다 CONCURRENCY 개의 로그인 요청을 동시에 보내고 모두 끝날 때까지 기다린다.
+ *
+ * 로그인 트랜잭션은 OAuth 호출 동안 DB Connection 을 잡고 있으므로 Hikari Pool 이 먼저 병목이 되지 않도록 크게 잡는다.
+ * virtual 모드는 JDK 21 이상에서만 실행된다. (./gradlew :restdocker-benchmarks:jmh -PjavaVersion=21 -PjmhIncludes=OAuthLoginLoad)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+public class OAuthLoginLoadBenchmark {
+
+    private static final int CONCURRENCY = 1000;
+
+    @Param({"platform", "virtual"})
+    private String threadMode;
+
+    @Param({"300"})
+    private long oauthDelayMillis;
+
+    private HttpServer stubOAuthServer;
+    private ExecutorService stubOAuthExecutor;
+    private final AtomicLong kakaoAccountSequence = new AtomicLong();
+
+    private ConfigurableApplicationContext applicationContext;
+    private HttpClient loadClient;
+    private URI loginUri;
+
+    @Setup(Level.Trial)
+    public void startApplication() throws IOException {
+        boolean virtualThreads = "virtual".equals(threadMode);
+        if (virtualThreads && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("virtual threadMode requires JDK 21+, run with -PjavaVersion=21");
+        }
+
+        startStubOAuthServer();
+        String stubUri = "http://127.0.0.1:" + stubOAuthServer.getAddress().getPort();
+
+        applicationContext = new SpringApplicationBuilder(RestdockerApisApplication.class)
+                .properties(
+                        "server.port=0",
+                        "logging.level.root=WARN",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.url=jdbc:h2:mem:login-load;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.datasource.hikari.maximum-pool-size=" + (CONCURRENCY + 10),
+                        "spring.datasource.hikari.connection-timeout=60000",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.open-in-view=false",
+                        "jwt.hmac512.secret-key=restdocker-benchmark-secret-key-restdocker-benchmark-secret-key-0000",
+                        "oauth2.kakao.client-id=benchmark",
+                        "oauth2.kakao.client-secret=benchmark",
+                        "oauth2.kakao.access-token-uri=" + stubUri + "/oauth/token",
+                        "oauth2.kakao.account-info-uri=" + stubUri + "/v2/user/me",
+                        "oauth2.naver.client-id=benchmark",
+                        "oauth2.naver.client-secret=benchmark",
+                        "restdocker.oauth.http.max-connections=" + (CONCURRENCY * 2),
+                        "restdocker.oauth.http.max-connections-per-route=" + CONCURRENCY,
+                        "restdocker.oauth.http.read-timeout-millis=60000",
+                        "restdocker.oauth.http.connection-request-timeout-millis=60000"
+                )
+                .run();
+
+        loadClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        loginUri = URI.create("http://127.0.0.1:" + applicationContext.getEnvironment().getProperty("local.server.port") + "/api/v1/account/kakao/login");
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        applicationContext.close();
+        stubOAuthServer.stop(0);
+        stubOAuthExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENCY)
+    public int login() {
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(CONCURRENCY);
+        for (int requestCount = 0; requestCount < CONCURRENCY; requestCount++) {
+            HttpRequest request = HttpRequest.newBuilder(loginUri)
+                    .timeout(Duration.ofSeconds(120))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"code\":\"benchmark\"}"))
+                    .build();
+            responses.add(loadClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+
+        int succeeded = 0;
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            if (200 == response.join().statusCode()) {
+                succeeded++;
+            }
+        }
+
+        if (CONCURRENCY != succeeded) {
+            throw new IllegalStateException("login failed : " + (CONCURRENCY - succeeded) + " / " + CONCURRENCY);
+        }
+        return succeeded;
+    }
+
+    private void startStubOAuthServer() throws IOException {
+        // Stub 서버가 병목이 되지 않도록 요청마다 스레드를 사용한다.
+        stubOAuthExecutor = Executors.newCachedThreadPool();
+
+        stubOAuthServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), CONCURRENCY);
+        stubOAuthServer.setExecutor(stubOAuthExecutor);
+        stubOAuthServer.createContext("/oauth/token", exchange ->
+                respondSlowly(exchange, "{\"access_token\":\"benchmarkAccessToken\",\"refresh_token\":\"benchmarkRefreshToken\"}"));
+        // 로그인마다 다른 사용자로 가입되도록 id 를 증가시킨다.
+        stubOAuthServer.createContext("/v2/user/me", exchange ->
+                respondSlowly(exchange, "{\"id\":" + kakaoAccountSequence.incrementAndGet() + ",\"properties\":{\"nickname\":\"benchmark\"}}"));
+        stubOAuthServer.start();
+    }
+
+    private void respondSlowly(HttpExchange exchange, String body) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+
+        try {
+            Thread.sleep(oauthDelayMillis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+
+        byte[] responseBody = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, responseBody.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(responseBody);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package org.chs.restdockerbenchmarks.command;
+
+import org.chs.restdockerapis.command.application.CommandService;
+import org.chs.restdockerapis.command.presentation.dto.CommandAnalysisRequestDto;
+import org.chs.restdockerapis.command.presentation.dto.CommandAnalysisResponseDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 명령어 원문을 MainCommand, SubCommand, ArgCommand 로 나누고 API 를 찾는 CommandService.filteringCommand
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CommandParsingBenchmark {
+
+    @Param({
+            "docker ps -a",
+            "docker network create --subnet 172.18.0.0/16 --gateway 172.18.0.1 restdocker",
+            "docker run --name restdocker --net restdocker -p 18080:8080 nginx:latest"
+    })
+    private String command;
+
+    private CommandService commandService;
+    private CommandAnalysisRequestDto request;
+
+    @Setup
+    public void setUp() {
+        commandService = new CommandService();
+        request = CommandAnalysisRequestDto.builder()
+                .command(command)
+                .build();
+    }
+
+    @Benchmark
+    public CommandAnalysisResponseDto filteringCommand() {
+        return commandService.filteringCommand(request);
+    }
+}
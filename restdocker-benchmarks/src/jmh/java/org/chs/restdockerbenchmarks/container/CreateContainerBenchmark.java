@@ -0,0 +1,153 @@
+package org.chs.restdockerbenchmarks.container;
+
+import org.chs.domain.account.AccountRepository;
+import org.chs.domain.account.entity.AccountEntity;
+import org.chs.domain.common.cache.AccountStateCache;
+import org.chs.domain.common.enumerate.ThirdPartyEnum;
+import org.chs.domain.container.ContainerEntityRepository;
+import org.chs.domain.image.ImageEntityRepository;
+import org.chs.domain.image.entity.ImageEntity;
+import org.chs.domain.network.NetworkContainerMappingEntityRepository;
+import org.chs.domain.network.NetworkEntityRepository;
+import org.chs.domain.network.entity.NetworkEntity;
+import org.chs.restdockerapis.RestdockerApisApplication;
+import org.chs.restdockerapis.common.argument_resolver.dto.GetRequesterDto;
+import org.chs.restdockerapis.container.application.ContainerService;
+import org.chs.restdockerapis.container.presentation.dto.CreateContainerResponseDto;
+import org.chs.restdockerapis.image.presentation.dto.DockerCommandRequestDto;
+import org.chs.restdockerapis.network.application.properties.DockerZeroProperties;
+import org.chs.restdockerapis.network.util.ContainerIpAllocator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내장 H2 위에서 docker create 를 처음부터 끝까지 실행한다. (명령어 인자 파싱 -> 검증 -> IP 할당 -> 저장)
+ *
+ * 1. Trial 시작 시 Application Context 를 띄우고 사용자마다 bridge 네트워크와 nginx:latest 이미지를 넣어둔다.
+ * 2. 요청마다 다음 사용자로 돌아가며 새 이름의 컨테이너를 만든다.
+ * 3. Iteration 이 끝나면 컨테이너를 모두 지워 Iteration 마다 같은 데이터 크기에서 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class CreateContainerBenchmark {
+
+    @Param({"16"})
+    private int accountCount;
+
+    private ConfigurableApplicationContext applicationContext;
+    private ContainerService containerService;
+
+    private final List<GetRequesterDto> requesters = new ArrayList<>();
+    private long sequence = 0;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        applicationContext = new SpringApplicationBuilder(RestdockerApisApplication.class)
+                .properties(
+                        "server.port=0",
+                        "logging.level.root=WARN",
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.open-in-view=false",
+                        "jwt.hmac512.secret-key=restdocker-benchmark-secret-key-restdocker-benchmark-secret-key-0000",
+                        "oauth2.kakao.client-id=benchmark",
+                        "oauth2.kakao.client-secret=benchmark",
+                        "oauth2.naver.client-id=benchmark",
+                        "oauth2.naver.client-secret=benchmark"
+                )
+                .run();
+
+        containerService = applicationContext.getBean(ContainerService.class);
+        seedAccounts();
+    }
+
+    @TearDown(Level.Iteration)
+    public void removeContainers() {
+        applicationContext.getBean(NetworkContainerMappingEntityRepository.class).deleteAllInBatch();
+        applicationContext.getBean(ContainerEntityRepository.class).deleteAllInBatch();
+
+        applicationContext.getBean(AccountStateCache.class).clear();
+        ContainerIpAllocator containerIpAllocator = applicationContext.getBean(ContainerIpAllocator.class);
+        for (GetRequesterDto requester : requesters) {
+            containerIpAllocator.evict(requester.id(), DockerZeroProperties.NAME);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public CreateContainerResponseDto createContainer() {
+        long currentSequence = sequence++;
+        GetRequesterDto requester = requesters.get((int) (currentSequence % accountCount));
+
+        return containerService.createContainer(
+                requester,
+                DockerCommandRequestDto.builder()
+                        .argCommands(List.of("--name benchmark-" + currentSequence, "nginx"))
+                        .build()
+        );
+    }
+
+    private void seedAccounts() {
+        AccountRepository accountRepository = applicationContext.getBean(AccountRepository.class);
+        NetworkEntityRepository networkEntityRepository = applicationContext.getBean(NetworkEntityRepository.class);
+        ImageEntityRepository imageEntityRepository = applicationContext.getBean(ImageEntityRepository.class);
+
+        for (int accountIndex = 0; accountIndex < accountCount; accountIndex++) {
+            AccountEntity account = accountRepository.save(
+                    AccountEntity.builder()
+                            .oauthServiceId("benchmark-" + accountIndex)
+                            .nickname("benchmark-" + accountIndex)
+                            .thirdPartyAccessToken("benchmarkAccessToken")
+                            .thirdPartyRefreshToken("benchmarkRefreshToken")
+                            .isActive(true)
+                            .thirdPartyType(ThirdPartyEnum.KAKAO)
+                            .build()
+            );
+
+            networkEntityRepository.save(
+                    NetworkEntity.builder()
+                            .account(account)
+                            .name(DockerZeroProperties.NAME)
+                            .subnet(DockerZeroProperties.SUBNET)
+                            .gateway(DockerZeroProperties.GATEWAY)
+                            .mtu(DockerZeroProperties.MTU)
+                            .enableIcc(DockerZeroProperties.ICC)
+                            .build()
+            );
+
+            imageEntityRepository.save(
+                    ImageEntity.builder()
+                            .account(account)
+                            .name("nginx")
+                            .tag("latest")
+                            .os("linux")
+                            .architecture("arm64")
+                            .size("67108864")
+                            .build()
+            );
+
+            requesters.add(
+                    GetRequesterDto.builder()
+                            .id(account.getOauthServiceId())
+                            .ipAddress("127.0.0.1")
+                            .thirdPartyType(ThirdPartyEnum.KAKAO)
+                            .build()
+            );
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.chs.restdockerbenchmarks.container;
+
+import org.chs.restdockerapis.container.presentation.dto.ContainerOptionDto;
+import org.chs.restdockerapis.network.presentation.dto.NetworkOptionDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ArgCommand 목록을 ContainerOptionDto, NetworkOptionDto 로 바꾸는 과정
+ *
+ * ContainerService, NetworkService 의 castCommandToDto 는 private 이므로 같은 반복문을 그대로 옮겨 측정한다.
+ * (Service 의 castCommandToDto 가 바뀌면 여기도 함께 바꿔야 함)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OptionDtoParsingBenchmark {
+
+    private final List<String> containerArgCommands = List.of(
+            "--name restdocker",
+            "--net restdocker",
+            "--ip 172.18.0.10",
+            "-p 18080:8080",
+            "nginx"
+    );
+
+    private final List<String> networkArgCommands = List.of(
+            "--subnet 172.18.0.0/16",
+            "--ip-range 172.18.5.0/24",
+            "--gateway 172.18.0.1",
+            "--opt com.docker.network.driver.mtu=1500",
+            "restdocker"
+    );
+
+    @Benchmark
+    public ContainerOptionDto parseContainerOption() {
+        ContainerOptionDto containerOption = new ContainerOptionDto();
+
+        for (String argCommand : containerArgCommands) {
+            if (argCommand.startsWith("-")) {
+                containerOption.putArgCommand(argCommand.split(" "));
+            }
+            else {
+                containerOption.setImageFullName(argCommand.contains(":") ? argCommand : argCommand + ":latest");
+            }
+        }
+
+        return containerOption;
+    }
+
+    @Benchmark
+    public NetworkOptionDto parseNetworkOption() {
+        NetworkOptionDto networkOption = new NetworkOptionDto();
+
+        for (String argCommand : networkArgCommands) {
+            if (argCommand.startsWith("-")) {
+                networkOption.putArgCommand(argCommand.split(" "));
+            }
+            else {
+                networkOption.setName(argCommand);
+            }
+        }
+
+        return networkOption;
+    }
+}
@@ -0,0 +1,95 @@
+package org.chs.restdockerbenchmarks.exception;
+
+import org.chs.globalutils.dto.GlobalResponse;
+import org.chs.restdockerapis.command.application.CommandService;
+import org.chs.restdockerapis.command.presentation.dto.CommandAnalysisRequestDto;
+import org.chs.restdockerapis.common.exception.CustomBadRequestException;
+import org.chs.restdockerapis.common.exception.ErrorCode;
+import org.chs.restdockerapis.common.exception.InternalServerException;
+import org.chs.restdockerapis.common.exception.RestDockerException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 입력 오류(오타가 있는 명령어)의 에러 경로
+ *
+ * 1. typoCommand : 실제 명령어 분석에서 예외를 던지고 응답을 만드는 경로 (미리 만들어둔 Stack Trace 없는 예외)
+ * 2. preallocated / stackless / stackTrace : 요청 처리 스레드의 깊은 호출 스택(depth) 에서 예외를 던질 때의 비용 비교
+ *    (stackTrace 는 변경 전처럼 예외마다 Stack Trace 를 만드는 경우이며, 현재는 서버 내부 오류에만 사용한다)
+ *
+ * 여러 요청 스레드가 동시에 에러를 만드는 상황을 보기 위해 8 개 스레드로 처리량을 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class ErrorPathBenchmark {
+
+    // Tomcat, Security Filter, Spring MVC, AOP 를 거친 서비스 호출의 대략적인 스택 깊이
+    @Param({"32", "128"})
+    private int depth;
+
+    private CommandService commandService;
+    private CommandAnalysisRequestDto typoRequest;
+
+    @Setup
+    public void setUp() {
+        commandService = new CommandService();
+        typoRequest = CommandAnalysisRequestDto.builder()
+                .command("docker imagez ls")
+                .build();
+    }
+
+    @Benchmark
+    public ResponseEntity<GlobalResponse> typoCommand() {
+        try {
+            commandService.filteringCommand(typoRequest);
+            return null;
+        } catch (RestDockerException exception) {
+            return exception.makeResponseEntity();
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<GlobalResponse> preallocated() {
+        return catchAtDepth(depth, Mode.PREALLOCATED);
+    }
+
+    @Benchmark
+    public ResponseEntity<GlobalResponse> stackless() {
+        return catchAtDepth(depth, Mode.STACKLESS);
+    }
+
+    @Benchmark
+    public ResponseEntity<GlobalResponse> stackTrace() {
+        return catchAtDepth(depth, Mode.STACK_TRACE);
+    }
+
+    private enum Mode {
+        PREALLOCATED, STACKLESS, STACK_TRACE
+    }
+
+    private ResponseEntity<GlobalResponse> catchAtDepth(int remainingDepth, Mode mode) {
+        try {
+            throwAtDepth(remainingDepth, mode);
+            return null;
+        } catch (RestDockerException exception) {
+            return exception.makeResponseEntity();
+        }
+    }
+
+    private void throwAtDepth(int remainingDepth, Mode mode) {
+        if (0 < remainingDepth) {
+            throwAtDepth(remainingDepth - 1, mode);
+            return;
+        }
+
+        throw switch (mode) {
+            case PREALLOCATED -> CustomBadRequestException.of(ErrorCode.NOT_CORRECT_MAINCOMMAND);
+            case STACKLESS -> new CustomBadRequestException(ErrorCode.NOT_CORRECT_MAINCOMMAND);
+            case STACK_TRACE -> new InternalServerException(ErrorCode.NOT_CORRECT_MAINCOMMAND);
+        };
+    }
+}
@@ -0,0 +1,141 @@
+package org.chs.restdockerbenchmarks.id;
+
+import org.chs.domain.common.id.Uuid7;
+import org.chs.domain.common.id.UuidBinaryConverter;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PK 형식에 따른 INSERT 처리량과 테이블 + 인덱스 크기 비교
+ *
+ * keyType
+ * - char36-random : 기존 방식 (GenerationType.UUID, CHAR(36))
+ * - binary16-uuid7 : 변경 방식 (UUIDv7, BINARY(16))
+ *
+ * container 테이블처럼 PK 와 FK(image_fk) 인덱스를 가진 테이블에 ROWS_PER_INVOCATION 개씩 JDBC Batch 로 넣는다.
+ * Trial 이 끝나면 테이블이 차지하는 크기를 출력한다. (H2 : DISK_SPACE_USED, MariaDB : information_schema.TABLES)
+ *
+ * 기본은 파일 기반 H2(MariaDB 모드)이며, -p jdbcUrl=jdbc:mariadb://127.0.0.1:3306/restdocker?user=root&password=... 로 MariaDB 에서도 실행할 수 있다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class PrimaryKeyInsertBenchmark {
+
+    private static final int ROWS_PER_INVOCATION = 100;
+    private static final String TABLE_NAME = "pk_benchmark_container";
+
+    @Param({"char36-random", "binary16-uuid7"})
+    private String keyType;
+
+    @Param({"jdbc:h2:file:./build/tmp/pk-benchmark;MODE=MariaDB;DATABASE_TO_LOWER=TRUE"})
+    private String jdbcUrl;
+
+    private final UuidBinaryConverter uuidBinaryConverter = new UuidBinaryConverter();
+
+    private Connection connection;
+    private PreparedStatement insertStatement;
+    private Object[] imageKeys;
+
+    @Setup(Level.Trial)
+    public void createTable() throws SQLException {
+        connection = DriverManager.getConnection(jdbcUrl, "sa", "");
+        connection.setAutoCommit(false);
+
+        String keyColumnType = isBinaryKey() ? "BINARY(16)" : "CHAR(36)";
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE_NAME);
+            statement.execute("CREATE TABLE " + TABLE_NAME + " ("
+                    + "pk " + keyColumnType + " NOT NULL PRIMARY KEY, "
+                    + "image_fk " + keyColumnType + " NOT NULL, "
+                    + "name VARCHAR(255) NOT NULL, "
+                    + "create_date TIMESTAMP NOT NULL, "
+                    + "update_date TIMESTAMP NOT NULL)");
+            statement.execute("CREATE INDEX idx_" + TABLE_NAME + "_image_fk ON " + TABLE_NAME + " (image_fk)");
+        }
+        connection.commit();
+
+        // 사용자 16명이 이미지를 하나씩 가지고 있는 상황
+        imageKeys = new Object[16];
+        for (int index = 0; index < imageKeys.length; index++) {
+            imageKeys[index] = nextKey();
+        }
+
+        insertStatement = connection.prepareStatement("INSERT INTO " + TABLE_NAME
+                + " (pk, image_fk, name, create_date, update_date) VALUES (?, ?, ?, ?, ?)");
+    }
+
+    @TearDown(Level.Trial)
+    public void printTableSize() throws SQLException {
+        long rowCount;
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + TABLE_NAME)) {
+            resultSet.next();
+            rowCount = resultSet.getLong(1);
+        }
+
+        long tableBytes = tableBytes();
+        System.out.printf("%n[%s] rows=%d, table+index bytes=%d, bytes/row=%.1f%n",
+                keyType, rowCount, tableBytes, rowCount == 0 ? 0.0 : (double) tableBytes / rowCount);
+
+        insertStatement.close();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_INVOCATION)
+    public int[] insert() throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int row = 0; row < ROWS_PER_INVOCATION; row++) {
+            insertStatement.setObject(1, nextKey());
+            insertStatement.setObject(2, imageKeys[row % imageKeys.length]);
+            insertStatement.setString(3, "benchmark-" + row);
+            insertStatement.setObject(4, now);
+            insertStatement.setObject(5, now);
+            insertStatement.addBatch();
+        }
+
+        int[] inserted = insertStatement.executeBatch();
+        connection.commit();
+        return inserted;
+    }
+
+    private boolean isBinaryKey() {
+        return "binary16-uuid7".equals(keyType);
+    }
+
+    private Object nextKey() {
+        if (isBinaryKey()) {
+            return uuidBinaryConverter.convertToDatabaseColumn(Uuid7.randomUuidString());
+        }
+        return UUID.randomUUID().toString();
+    }
+
+    private long tableBytes() throws SQLException {
+        String sizeQuery = jdbcUrl.startsWith("jdbc:h2:")
+                ? "SELECT DISK_SPACE_USED('" + TABLE_NAME + "')"
+                : "SELECT DATA_LENGTH + INDEX_LENGTH FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = '" + TABLE_NAME + "'";
+
+        try (Statement statement = connection.createStatement()) {
+            if (false == jdbcUrl.startsWith("jdbc:h2:")) {
+                statement.execute("ANALYZE TABLE " + TABLE_NAME);
+            }
+
+            try (ResultSet resultSet = statement.executeQuery(sizeQuery)) {
+                return resultSet.next() ? resultSet.getLong(1) : -1;
+            }
+        }
+    }
+}
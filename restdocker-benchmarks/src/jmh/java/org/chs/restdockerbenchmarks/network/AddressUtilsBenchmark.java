@@ -0,0 +1,53 @@
+package org.chs.restdockerbenchmarks.network;
+
+import org.chs.restdockerapis.network.util.AddressUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 네트워크 생성, 컨테이너 생성 시 옵션 검증에 사용되는 AddressUtils 의 모든 public 메서드
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AddressUtilsBenchmark {
+
+    private final AddressUtils addressUtils = new AddressUtils();
+
+    private final String subnet = "172.18.0.0/16";
+    private final String ipRange = "172.18.5.0/24";
+    private final String gateway = "172.18.0.1";
+    private final String containerIp = "172.18.5.23";
+    private final String portForward = "18080:8080";
+
+    @Benchmark
+    public boolean validIPRangeIntoSubnet() {
+        return addressUtils.validIPRangeIntoSubnet(subnet, ipRange);
+    }
+
+    @Benchmark
+    public boolean validGatewayIntoSubnet() {
+        return addressUtils.validGatewayIntoSubnet(subnet, gateway);
+    }
+
+    @Benchmark
+    public boolean validAddressRangeFormat() {
+        return addressUtils.validAddressRangeFormat(subnet);
+    }
+
+    @Benchmark
+    public boolean validAddressFormat() {
+        return addressUtils.validAddressFormat(containerIp);
+    }
+
+    @Benchmark
+    public boolean validPortForwardingFormat() {
+        return addressUtils.validPortForwardingFormat(portForward);
+    }
+
+    @Benchmark
+    public String automaticAllocationGateway() {
+        return addressUtils.automaticAllocationGateway(subnet);
+    }
+}
@@ -0,0 +1,116 @@
+package org.chs.restdockerbenchmarks.network;
+
+import org.chs.restdockerapis.network.util.AddressUtils;
+import org.chs.restdockerapis.network.util.Ipv4Address;
+import org.chs.restdockerapis.network.util.Ipv4Cidr;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * split/parseInt/String.format 기반의 기존 구현(legacy*)과 Ipv4Address, Ipv4Cidr 를 비교한다.
+ *
+ * 실행 : ./gradlew :restdocker-benchmarks:jmh
+ * gc 프로파일러의 gc.alloc.rate.norm 으로 호출당 할당량도 함께 비교한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class Ipv4ParsingBenchmark {
+
+    @Param({"172.17.0.2", "192.168.100.254"})
+    private String ip;
+
+    private String subnet;
+    private String gateway;
+    private long address;
+
+    private final AddressUtils addressUtils = new AddressUtils();
+
+    @Setup
+    public void setUp() {
+        subnet = ip.substring(0, ip.lastIndexOf('.')) + ".0/24";
+        gateway = ip.substring(0, ip.lastIndexOf('.')) + ".1";
+        address = Ipv4Address.parse(ip);
+    }
+
+    @Benchmark
+    public int legacyParseAddress() {
+        return legacyIpToInt(ip);
+    }
+
+    @Benchmark
+    public long parseAddress() {
+        return Ipv4Address.parse(ip);
+    }
+
+    @Benchmark
+    public String legacyFormatAddress() {
+        return legacyIntToIp((int) address);
+    }
+
+    @Benchmark
+    public String formatAddress() {
+        return Ipv4Address.toString(address);
+    }
+
+    @Benchmark
+    public boolean legacyValidGatewayIntoSubnet() {
+        String[] subnetWithCidr = subnet.split("/");
+        int rangeInt = legacyIpToInt(subnetWithCidr[0]);
+        int mask = -1 << (32 - Integer.parseInt(subnetWithCidr[1]));
+        int start = rangeInt & mask;
+        int end = start | ~mask;
+
+        int gatewayInt = legacyIpToInt(gateway);
+        return gatewayInt >= start && gatewayInt <= end;
+    }
+
+    @Benchmark
+    public boolean validGatewayIntoSubnet() {
+        return addressUtils.validGatewayIntoSubnet(subnet, gateway);
+    }
+
+    @Benchmark
+    public boolean legacyValidAddressFormat() {
+        String[] octets = ip.split("\\.");
+        if (4 != octets.length) {
+            return false;
+        }
+        for (String octet : octets) {
+            int value = Integer.parseInt(octet);
+            if (value < 0 || value > 255) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Benchmark
+    public boolean validAddressFormat() {
+        return addressUtils.validAddressFormat(ip);
+    }
+
+    @Benchmark
+    public long parseCidrRange() {
+        long cidr = Ipv4Cidr.parse(subnet);
+        return Ipv4Cidr.lastAddress(cidr) - Ipv4Cidr.firstAddress(cidr);
+    }
+
+    private static int legacyIpToInt(String ip) {
+        String[] octets = ip.split("\\.");
+        int result = 0;
+        for (int octetIndex = 0; octetIndex < 4; octetIndex++) {
+            result |= (Integer.parseInt(octets[octetIndex]) << (24 - (8 * octetIndex)));
+        }
+        return result;
+    }
+
+    private static String legacyIntToIp(int ipInt) {
+        return String.format("%d.%d.%d.%d",
+                (ipInt >> 24) & 0xFF,
+                (ipInt >> 16) & 0xFF,
+                (ipInt >> 8) & 0xFF,
+                ipInt & 0xFF);
+    }
+}
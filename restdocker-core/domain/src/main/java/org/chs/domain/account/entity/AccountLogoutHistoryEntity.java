@@ -22,8 +22,8 @@ public class AccountLogoutHistoryEntity extends BaseDomainHistoryEntity {
     private String failureReason;
 
     @Builder
-    public AccountLogoutHistoryEntity(String ipAddress, Boolean failure, String failureReason) {
-        super(ipAddress);
+    public AccountLogoutHistoryEntity(String ipAddress, String createdBy, Boolean failure, String failureReason) {
+        super(createdBy, ipAddress);
         this.failure = failure;
         this.failureReason = failureReason;
     }
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.chs.domain.common.id.GeneratedUuid7;
+import org.chs.domain.common.id.UuidBinaryConverter;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -16,9 +18,11 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class BaseDomainEntity {
 
+    // 시간 순서로 증가하는 UUIDv7 을 BINARY(16) 으로 저장한다. (도메인에서는 UUID 문자열로 사용)
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    @Column(name = "pk", columnDefinition = "CHAR(36)", length = 36)
+    @GeneratedUuid7
+    @Convert(converter = UuidBinaryConverter.class)
+    @Column(name = "pk", columnDefinition = "BINARY(16)", length = 16)
     private String pk;
 
     @CreatedDate
@@ -0,0 +1,180 @@
+package org.chs.domain.common.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 사용자(oauthServiceId) 별 샌드박스 상태(이미지, 네트워크, 컨테이너, 매핑) 조회 결과 캐시
+ *
+ * 1. 크기 제한 : maxAccounts 개를 넘으면 가장 오래 사용되지 않은 사용자의 상태를 버린다.
+ * 2. 유휴 만료 : idleTimeout 동안 읽히지 않은 사용자의 상태는 버린다.
+ * 3. 무효화 : Custom*RepositoryImpl 의 변경 쿼리와 엔티티 저장 시 해당 사용자의 상태를 통째로 버린다.
+ *
+ * 사용자마다 상태 객체(AccountState)를 따로 두고, 조회 결과는 조회를 시작할 때의 상태 객체에 넣는다.
+ * 조회 도중 그 사용자가 무효화되었다면 상태 객체가 이미 캐시에서 빠졌으므로 오래된 결과는 다시 읽히지 않고,
+ * 다른 사용자의 무효화나 조회와는 Lock 을 공유하지 않는다.
+ *
+ * 트랜잭션 안에서 변경이 일어난 사용자는 커밋 전까지 캐시를 거치지 않고 DB 를 직접 읽으며,
+ * 트랜잭션이 끝나면(커밋/롤백) 한번 더 무효화하여 커밋 전에 다른 요청이 채운 오래된 값을 지운다.
+ */
+@Component
+public class AccountStateCache {
+
+    public static final String CONTAINERS = "containers";
+    public static final String NETWORKS = "networks";
+    public static final String IMAGES = "images";
+    public static final String PRIVATE_IPS = "privateIps:";
+
+    private final int maxAccounts;
+    private final long idleTimeoutNanos;
+
+    private final ConcurrentHashMap<String, AccountState> states = new ConcurrentHashMap<>();
+
+    public AccountStateCache(
+            @Value("${restdocker.state-cache.max-accounts:1024}") int maxAccounts,
+            @Value("${restdocker.state-cache.idle-timeout-seconds:600}") long idleTimeoutSeconds
+    ) {
+        this.maxAccounts = maxAccounts;
+        this.idleTimeoutNanos = Duration.ofSeconds(idleTimeoutSeconds).toNanos();
+    }
+
+    /**
+     * 캐시된 값이 있다면 SQL 없이 반환하고, 없다면 loader 로 읽어 캐시에 넣는다.
+     * 반환되는 List 는 여러 요청이 공유하므로 수정할 수 없다. (요소 DTO 도 수정하지 않아야 함)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getList(String oauthServiceId, String key, Supplier<List<T>> loader) {
+        if (null == oauthServiceId || 0 == maxAccounts || isDirtyInCurrentTransaction(oauthServiceId)) {
+            return loader.get();
+        }
+
+        AccountState state = findAliveState(oauthServiceId);
+        if (null == state) {
+            state = putNewState(oauthServiceId);
+        } else {
+            Object cached = state.values.get(key);
+            if (null != cached) {
+                return (List<T>) cached;
+            }
+        }
+
+        List<T> loaded = Collections.unmodifiableList(new ArrayList<>(loader.get()));
+
+        // 조회 도중 무효화되었다면 state 는 캐시에서 빠진 객체이므로, 넣더라도 다시 읽히지 않는다
+        state.values.putIfAbsent(key, loaded);
+        return loaded;
+    }
+
+    /** 사용자의 상태가 바뀌었으므로 캐시를 버리고, 현재 트랜잭션이 끝날 때까지 캐시를 거치지 않도록 표시한다 */
+    public void invalidate(String oauthServiceId) {
+        if (null == oauthServiceId) {
+            return;
+        }
+
+        evict(oauthServiceId);
+        markDirtyInCurrentTransaction(oauthServiceId);
+    }
+
+    public void clear() {
+        states.clear();
+    }
+
+    private void evict(String oauthServiceId) {
+        states.remove(oauthServiceId);
+    }
+
+    private AccountState findAliveState(String oauthServiceId) {
+        AccountState state = states.get(oauthServiceId);
+        if (null == state) {
+            return null;
+        }
+
+        long now = System.nanoTime();
+        if (now - state.lastAccessNanos > idleTimeoutNanos) {
+            states.remove(oauthServiceId, state);
+            return null;
+        }
+
+        state.lastAccessNanos = now;
+        return state;
+    }
+
+    private AccountState putNewState(String oauthServiceId) {
+        AccountState newState = new AccountState();
+        AccountState existState = states.putIfAbsent(oauthServiceId, newState);
+        if (null != existState) {
+            return existState;
+        }
+
+        evictLeastRecentlyUsed();
+        return newState;
+    }
+
+    // 새 사용자가 들어올 때만 실행되며, maxAccounts 개 안에서 마지막 사용 시각이 가장 오래된 사용자를 버린다
+    private void evictLeastRecentlyUsed() {
+        while (states.size() > maxAccounts) {
+            Map.Entry<String, AccountState> eldest = null;
+            for (Map.Entry<String, AccountState> entry : states.entrySet()) {
+                if (null == eldest || entry.getValue().lastAccessNanos < eldest.getValue().lastAccessNanos) {
+                    eldest = entry;
+                }
+            }
+
+            if (null == eldest) {
+                return;
+            }
+            states.remove(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean isDirtyInCurrentTransaction(String oauthServiceId) {
+        if (false == TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+
+        Set<String> dirtyAccounts = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        return null != dirtyAccounts && dirtyAccounts.contains(oauthServiceId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void markDirtyInCurrentTransaction(String oauthServiceId) {
+        if (false == TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        Set<String> dirtyAccounts = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        if (null == dirtyAccounts) {
+            Set<String> newDirtyAccounts = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(this, newDirtyAccounts);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(AccountStateCache.this);
+                    newDirtyAccounts.forEach(AccountStateCache.this::evict);
+                }
+            });
+            dirtyAccounts = newDirtyAccounts;
+        }
+
+        dirtyAccounts.add(oauthServiceId);
+    }
+
+    private static class AccountState {
+        private final Map<String, Object> values = new ConcurrentHashMap<>();
+
+        private volatile long lastAccessNanos = System.nanoTime();
+    }
+}
@@ -0,0 +1,19 @@
+package org.chs.domain.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * INSERT 직전에 UUID version 7 문자열을 PK 로 할당한다. (GenerationType.UUID 대신 사용)
+ */
+@IdGeneratorType(Uuid7Generator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface GeneratedUuid7 {
+}
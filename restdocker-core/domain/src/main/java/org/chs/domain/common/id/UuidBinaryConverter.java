@@ -0,0 +1,48 @@
+package org.chs.domain.common.id;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * 도메인에서는 PK 를 UUID 문자열(36자)로 다루고, DB 에는 BINARY(16) 으로 저장한다.
+ *
+ * UUID 형식이 아닌 문자열은 null 로 바꾸어 어떤 PK 와도 일치하지 않도록 한다. (ex. pk.eq("잘못된 값") 의 결과는 0건)
+ */
+@Converter
+public class UuidBinaryConverter implements AttributeConverter<String, byte[]> {
+
+    private static final int UUID_STRING_LENGTH = 36;
+    private static final int UUID_BYTE_LENGTH = 16;
+
+    @Override
+    public byte[] convertToDatabaseColumn(String uuid) {
+        if (null == uuid || UUID_STRING_LENGTH != uuid.length()) {
+            return null;
+        }
+
+        UUID parsed;
+        try {
+            parsed = UUID.fromString(uuid);
+        } catch (IllegalArgumentException exception) {
+            return null;
+        }
+
+        return ByteBuffer.allocate(UUID_BYTE_LENGTH)
+                .putLong(parsed.getMostSignificantBits())
+                .putLong(parsed.getLeastSignificantBits())
+                .array();
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] bytes) {
+        if (null == bytes || UUID_BYTE_LENGTH != bytes.length) {
+            return null;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+}
@@ -0,0 +1,45 @@
+package org.chs.domain.common.page;
+
+import lombok.Builder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (create_date, pk) 기준 Keyset Pagination 의 위치
+ *
+ * 마지막으로 응답한 행의 create_date, pk 를 담으며, 다음 페이지는 이 값보다 "이전" 에 생성된 행부터 조회한다.
+ * 클라이언트에는 내부 구조를 알 수 없도록 Base64(URL Safe) 문자열로 전달한다.
+ */
+@Builder
+public record KeysetCursor(
+        LocalDateTime createDate,
+        String pk
+) {
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = createDate + DELIMITER + pk;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** @throws IllegalArgumentException 서버가 발급한 형태의 Cursor 가 아닌 경우 */
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.indexOf(DELIMITER);
+            if (delimiterIndex <= 0 || delimiterIndex == raw.length() - 1) {
+                throw new IllegalArgumentException("Cursor 형식이 올바르지 않습니다.");
+            }
+
+            return KeysetCursor.builder()
+                    .createDate(LocalDateTime.parse(raw.substring(0, delimiterIndex)))
+                    .pk(raw.substring(delimiterIndex + 1))
+                    .build();
+        } catch (DateTimeParseException exception) {
+            throw new IllegalArgumentException("Cursor 형식이 올바르지 않습니다.", exception);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.chs.domain.common.page;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQuery;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * ls 조회에서 공통으로 사용하는 Keyset Pagination, Streaming 조회 도우미
+ *
+ * 1. 정렬은 항상 (create_date DESC, pk DESC) 이며, pk 는 create_date 가 같은 행의 순서를 고정한다.
+ * 2. 페이지 조회는 size + 1 개를 읽어 다음 페이지 존재 여부를 판단한다. (count 쿼리 없음)
+ * 3. Stream 조회는 JDBC fetchSize 만큼씩 결과를 받아오므로 결과 크기만큼 메모리에 올리지 않는다.
+ */
+public final class KeysetQuery {
+
+    public static final int STREAM_FETCH_SIZE = 500;
+
+    private KeysetQuery() {}
+
+    public static OrderSpecifier<?>[] orderByLatest(DateTimePath<LocalDateTime> createDate, StringPath pk) {
+        return new OrderSpecifier<?>[] { createDate.desc(), pk.desc() };
+    }
+
+    /** @return cursor 보다 이전에 생성된 행의 조건, cursor 가 없다면 null (조건 없음) */
+    public static BooleanExpression beforeCursor(DateTimePath<LocalDateTime> createDate, StringPath pk, KeysetCursor cursor) {
+        if (null == cursor) {
+            return null;
+        }
+
+        return createDate.lt(cursor.createDate())
+                .or(createDate.eq(cursor.createDate()).and(pk.lt(cursor.pk())));
+    }
+
+    /**
+     * select(element, createDate, pk) 로 size + 1 개를 조회한 query 를 한 페이지로 만든다.
+     */
+    public static <T> KeysetSlice<T> fetchSlice(JPAQuery<Tuple> query, Expression<T> element,
+                                                DateTimePath<LocalDateTime> createDate, StringPath pk, int size) {
+        List<Tuple> rows = query.limit(size + 1L).fetch();
+
+        List<T> elements = new ArrayList<>(Math.min(rows.size(), size));
+        for (int index = 0; index < rows.size() && index < size; index++) {
+            elements.add(rows.get(index).get(element));
+        }
+
+        KeysetCursor nextCursor = null;
+        if (rows.size() > size) {
+            Tuple last = rows.get(size - 1);
+            nextCursor = KeysetCursor.builder()
+                    .createDate(last.get(createDate))
+                    .pk(last.get(pk))
+                    .build();
+        }
+
+        return KeysetSlice.<T>builder()
+                .elements(elements)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * 결과를 JDBC Cursor 로 조금씩 읽는 Stream, 반드시 트랜잭션 안에서 사용하고 try-with-resources 로 닫아야 한다.
+     */
+    public static <T> Stream<T> stream(JPAQuery<T> query) {
+        return query.setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+}
@@ -0,0 +1,22 @@
+package org.chs.domain.common.page;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Keyset Pagination 으로 조회한 한 페이지
+ *
+ * @param elements 최근에 생성된 순서의 행
+ * @param nextCursor 다음 페이지의 시작 위치, 마지막 페이지라면 null
+ */
+@Builder
+public record KeysetSlice<T>(
+        List<T> elements,
+        KeysetCursor nextCursor
+) {
+    /** @return 클라이언트에 전달할 다음 페이지의 Cursor, 마지막 페이지라면 null */
+    public String encodedNextCursor() {
+        return null == nextCursor ? null : nextCursor.encode();
+    }
+}
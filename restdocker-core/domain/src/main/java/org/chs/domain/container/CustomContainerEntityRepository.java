@@ -1,22 +1,34 @@
 package org.chs.domain.container;
 
 
+import org.chs.domain.common.page.KeysetCursor;
+import org.chs.domain.common.page.KeysetSlice;
 import org.chs.domain.container.dto.ContainerDetailElements;
 import org.chs.domain.container.dto.ContainerElements;
+import org.chs.domain.container.dto.ContainerLsFilter;
+import org.chs.domain.container.dto.ContainerRunSnapshot;
+import org.chs.domain.container.dto.ContainerStatusCount;
 import org.chs.domain.container.dto.ContainerValidElementsDto;
 import org.chs.domain.container.entity.ContainerEntity;
 import org.chs.domain.container.enumerate.ContainerStatusEnum;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface CustomContainerEntityRepository {
     List<ContainerElements> lsContainer(String oauthServiceId);
 
+    List<ContainerElements> lsContainer(String oauthServiceId, ContainerLsFilter filter);
+
+    KeysetSlice<ContainerElements> lsContainer(String oauthServiceId, ContainerLsFilter filter, KeysetCursor cursor, int size);
+
+    Stream<ContainerElements> streamContainer(String oauthServiceId, ContainerLsFilter filter);
+
     ContainerDetailElements inspectContainer(String oauthServiceId, String containerName);
 
-    boolean renameContainer(String containerPk, String postContainerName);
+    boolean renameContainer(String oauthServiceId, String containerPk, String postContainerName);
 
-    boolean rmContainer(String containerPk);
+    boolean rmContainer(String oauthServiceId, String containerPk);
 
     boolean existContainerForImage(String oauthServiceId, String imageName);
 
@@ -24,5 +36,9 @@ public interface CustomContainerEntityRepository {
 
     ContainerEntity findContainerByOAuthServiceAndContainerName(String oauthServiceId, String containerName);
 
-    long updateContainerStatus(String containerPk, ContainerStatusEnum containerStatusEnum);
+    long updateContainerStatus(String oauthServiceId, String containerPk, ContainerStatusEnum containerStatusEnum);
+
+    ContainerRunSnapshot findRunSnapshot(String oauthServiceId, String imageName, String networkName);
+
+    List<ContainerStatusCount> countByStatus();
 }
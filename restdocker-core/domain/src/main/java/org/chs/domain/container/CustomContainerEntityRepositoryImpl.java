@@ -1,49 +1,133 @@
 package org.chs.domain.container;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QBean;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.chs.domain.common.cache.AccountStateCache;
+import org.chs.domain.common.page.KeysetCursor;
+import org.chs.domain.common.page.KeysetQuery;
+import org.chs.domain.common.page.KeysetSlice;
 import org.chs.domain.container.dto.ContainerDetailElements;
 import org.chs.domain.container.dto.ContainerElements;
+import org.chs.domain.container.dto.ContainerLsFilter;
+import org.chs.domain.container.dto.ContainerRunSnapshot;
+import org.chs.domain.container.dto.ContainerStatusCount;
 import org.chs.domain.container.dto.ContainerValidElementsDto;
 import org.chs.domain.container.entity.ContainerEntity;
 import org.chs.domain.container.enumerate.ContainerStatusEnum;
 import org.chs.domain.network.NetworkContainerMappingEntityRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.chs.domain.account.entity.QAccountEntity.accountEntity;
 import static org.chs.domain.container.entity.QContainerEntity.containerEntity;
 import static org.chs.domain.image.entity.QImageEntity.imageEntity;
+import static org.chs.domain.network.entity.QNetworkContainerMappingEntity.networkContainerMappingEntity;
+import static org.chs.domain.network.entity.QNetworkEntity.networkEntity;
 
 @Repository
 @RequiredArgsConstructor
 public class CustomContainerEntityRepositoryImpl implements CustomContainerEntityRepository{
 
+    private static final char LIKE_ESCAPE = '!';
+
     private final JPAQueryFactory queryFactory;
     private final NetworkContainerMappingEntityRepository networkContainerMappingRepository;
+    private final AccountStateCache accountStateCache;
 
     @Override
     public List<ContainerElements> lsContainer(String oauthServiceId) {
-        return queryFactory.select(
-                Projections.fields(ContainerElements.class,
-                        containerEntity.createDate.as("createDate"),
-                        containerEntity.updateDate.as("updateDate"),
-                        containerEntity.name.as("name"),
-                        containerEntity.image.name.as("imageName"),
-                        containerEntity.image.tag.as("imageTag"),
-                        containerEntity.privateIp.as("privateIp"),
-                        containerEntity.outerPort.as("outerPort"),
-                        containerEntity.innerPort.as("innerPort"),
-                        containerEntity.status.as("status")))
+        return accountStateCache.getList(oauthServiceId, AccountStateCache.CONTAINERS, () -> selectContainerElements()
+                .where(eqOauthServiceId(oauthServiceId))
+                .fetch()
+        );
+    }
+
+    @Override
+    public List<ContainerElements> lsContainer(String oauthServiceId, ContainerLsFilter filter) {
+        if (null == filter || filter.isUnfiltered()) {
+            return lsContainer(oauthServiceId);
+        }
+
+        // 조건이 있는 조회는 계정마다 경우의 수가 많으므로 캐시하지 않고, 조건에 맞는 행만 DB 에서 읽는다
+        return filteredContainerElements(oauthServiceId, filter).fetch();
+    }
+
+    @Override
+    public KeysetSlice<ContainerElements> lsContainer(String oauthServiceId, ContainerLsFilter filter, KeysetCursor cursor, int size) {
+        QBean<ContainerElements> element = containerElementsProjection();
+
+        JPAQuery<Tuple> query = queryFactory.select(element, containerEntity.createDate, containerEntity.pk)
                 .from(containerEntity)
+                .innerJoin(containerEntity.account, accountEntity)
                 .innerJoin(containerEntity.image, imageEntity)
-                .innerJoin(imageEntity.account, accountEntity)
-                .where(eqOauthServiceId(oauthServiceId))
-                .fetch();
+                .where(lsContainerConditions(oauthServiceId, filter))
+                .where(KeysetQuery.beforeCursor(containerEntity.createDate, containerEntity.pk, cursor))
+                .orderBy(KeysetQuery.orderByLatest(containerEntity.createDate, containerEntity.pk));
+
+        return KeysetQuery.fetchSlice(query, element, containerEntity.createDate, containerEntity.pk, size);
+    }
+
+    @Override
+    public Stream<ContainerElements> streamContainer(String oauthServiceId, ContainerLsFilter filter) {
+        return KeysetQuery.stream(filteredContainerElements(oauthServiceId, filter));
+    }
+
+    private JPAQuery<ContainerElements> filteredContainerElements(String oauthServiceId, ContainerLsFilter filter) {
+        JPAQuery<ContainerElements> query = selectContainerElements()
+                .where(lsContainerConditions(oauthServiceId, filter))
+                .orderBy(KeysetQuery.orderByLatest(containerEntity.createDate, containerEntity.pk));
+
+        Integer limit = null == filter ? null : filter.isLatest() ? Integer.valueOf(1) : filter.getLimit();
+        if (null != limit) {
+            query.limit(limit);
+        }
+
+        return query;
+    }
+
+    private Predicate[] lsContainerConditions(String oauthServiceId, ContainerLsFilter filter) {
+        if (null == filter) {
+            return new Predicate[] { eqOauthServiceId(oauthServiceId) };
+        }
+
+        return new Predicate[] {
+                eqOauthServiceId(oauthServiceId),
+                inStatuses(filter.getStatuses()),
+                containsContainerName(filter.getName()),
+                eqImageName(filter.getImageName()),
+                eqImageTag(filter.getImageTag())
+        };
+    }
+
+    private JPAQuery<ContainerElements> selectContainerElements() {
+        return queryFactory.select(containerElementsProjection())
+                .from(containerEntity)
+                .innerJoin(containerEntity.account, accountEntity)
+                .innerJoin(containerEntity.image, imageEntity);
+    }
+
+    private QBean<ContainerElements> containerElementsProjection() {
+        return Projections.fields(ContainerElements.class,
+                containerEntity.createDate.as("createDate"),
+                containerEntity.updateDate.as("updateDate"),
+                containerEntity.name.as("name"),
+                containerEntity.image.name.as("imageName"),
+                containerEntity.image.tag.as("imageTag"),
+                containerEntity.privateIp.as("privateIp"),
+                containerEntity.outerPort.as("outerPort"),
+                containerEntity.innerPort.as("innerPort"),
+                containerEntity.status.as("status"));
     }
 
     @Override
@@ -65,8 +149,8 @@ public class CustomContainerEntityRepositoryImpl implements CustomContainerEntit
                                 containerEntity.stopRm.as("stopRm"),
                                 containerEntity.status.as("status")))
                 .from(containerEntity)
+                .innerJoin(containerEntity.account, accountEntity)
                 .innerJoin(containerEntity.image, imageEntity)
-                .innerJoin(imageEntity.account, accountEntity)
                 .where(
                         eqOauthServiceId(oauthServiceId),
                         eqContainerName(containerName)
@@ -75,7 +159,9 @@ public class CustomContainerEntityRepositoryImpl implements CustomContainerEntit
     }
 
     @Override
-    public boolean renameContainer(String containerPk, String postContainerName) {
+    public boolean renameContainer(String oauthServiceId, String containerPk, String postContainerName) {
+        accountStateCache.invalidate(oauthServiceId);
+
         long renameResult = queryFactory.update(containerEntity)
                 .set(containerEntity.name, postContainerName)
                 .where(
@@ -88,22 +174,19 @@ public class CustomContainerEntityRepositoryImpl implements CustomContainerEntit
 
     @Override
     public List<ContainerValidElementsDto> findValidElementsListByOAuthServiceId(String oauthServiceId) {
-        return queryFactory.select(Projections.fields(ContainerValidElementsDto.class,
-                        containerEntity.name.as("containerName"),
-                        containerEntity.outerPort.as("outerPort")
-                ))
-                .from(containerEntity)
-                .innerJoin(containerEntity.image, imageEntity)
-                .innerJoin(imageEntity.account, accountEntity)
-                .where(eqOauthServiceId(oauthServiceId))
-                .fetch();
+        // 컨테이너 이름과 외부 Port 는 lsContainer 의 결과에 포함되어 있으므로 캐시된 컨테이너 목록에서 만든다
+        return lsContainer(oauthServiceId).stream()
+                .map(container -> ContainerValidElementsDto.builder()
+                        .containerName(container.getName())
+                        .outerPort(container.getOuterPort())
+                        .build())
+                .toList();
     }
 
     @Override
     public ContainerEntity findContainerByOAuthServiceAndContainerName(String oauthServiceId, String containerName) {
         return queryFactory.selectFrom(containerEntity)
-                .innerJoin(containerEntity.image, imageEntity)
-                .innerJoin(imageEntity.account, accountEntity)
+                .innerJoin(containerEntity.account, accountEntity)
                 .where(
                         eqOauthServiceId(oauthServiceId),
                         eqContainerName(containerName)
@@ -113,7 +196,9 @@ public class CustomContainerEntityRepositoryImpl implements CustomContainerEntit
 
 
     @Override
-    public long updateContainerStatus(String containerPk, ContainerStatusEnum containerStatusEnum) {
+    public long updateContainerStatus(String oauthServiceId, String containerPk, ContainerStatusEnum containerStatusEnum) {
+        accountStateCache.invalidate(oauthServiceId);
+
         return queryFactory.update(containerEntity)
                 .set(containerEntity.status, containerStatusEnum)
                 .where(eqContainerPk(containerPk))
@@ -121,9 +206,11 @@ public class CustomContainerEntityRepositoryImpl implements CustomContainerEntit
     }
 
     @Override
-    public boolean rmContainer(String containerPk) {
+    public boolean rmContainer(String oauthServiceId, String containerPk) {
+        accountStateCache.invalidate(oauthServiceId);
+
         // 매퍼 삭제
-        long networkDeleteResult = networkContainerMappingRepository.deleteByContainerPk(containerPk);
+        long networkDeleteResult = networkContainerMappingRepository.deleteByContainerPk(oauthServiceId, containerPk);
 
         long result = queryFactory.delete(containerEntity)
                 .where(eqContainerPk(containerPk))
@@ -138,8 +225,8 @@ public class CustomContainerEntityRepositoryImpl implements CustomContainerEntit
 
         Integer fetchOne = queryFactory.selectOne()
                 .from(containerEntity)
+                .innerJoin(containerEntity.account, accountEntity)
                 .innerJoin(containerEntity.image, imageEntity)
-                .innerJoin(imageEntity.account, accountEntity)
                 .where(
                         eqOauthServiceId(oauthServiceId),
                         eqImageName(imageNameAndTag[0]),
@@ -150,6 +237,82 @@ public class CustomContainerEntityRepositoryImpl implements CustomContainerEntit
         return null != fetchOne;
     }
 
+    @Override
+    public ContainerRunSnapshot findRunSnapshot(String oauthServiceId, String imageName, String networkName) {
+        String[] imageNameAndTag = validColonImageName(imageName);
+
+        // 계정 한 행에 요청한 이미지, 네트워크와 계정의 모든 컨테이너를 붙여 컨테이너 수만큼의 행을 한번에 조회한다
+        // 매핑은 요청한 네트워크에 연결된 컨테이너에만 붙으므로, 매핑이 있는 행의 IP 가 해당 네트워크에서 사용중인 IP 이다
+        List<Tuple> rows = queryFactory.select(
+                        imageEntity,
+                        networkEntity,
+                        containerEntity.name,
+                        containerEntity.outerPort,
+                        containerEntity.privateIp,
+                        networkContainerMappingEntity.pk
+                )
+                .from(accountEntity)
+                .leftJoin(imageEntity).on(
+                        imageEntity.account.eq(accountEntity),
+                        imageEntity.name.eq(imageNameAndTag[0]),
+                        imageEntity.tag.eq(imageNameAndTag[1])
+                )
+                .leftJoin(networkEntity).on(
+                        networkEntity.account.eq(accountEntity),
+                        networkEntity.name.eq(networkName)
+                )
+                .leftJoin(containerEntity).on(containerEntity.account.eq(accountEntity))
+                .leftJoin(networkContainerMappingEntity).on(
+                        networkContainerMappingEntity.container.eq(containerEntity),
+                        networkContainerMappingEntity.network.eq(networkEntity)
+                )
+                .where(eqOauthServiceId(oauthServiceId))
+                .fetch();
+
+        List<String> containerNames = new ArrayList<>(rows.size());
+        List<String> outerPorts = new ArrayList<>(rows.size());
+        List<String> networkPrivateIps = new ArrayList<>(rows.size());
+
+        for (Tuple row : rows) {
+            String containerName = row.get(containerEntity.name);
+            if (null == containerName) {
+                continue;
+            }
+
+            containerNames.add(containerName);
+
+            String outerPort = row.get(containerEntity.outerPort);
+            if (null != outerPort) {
+                outerPorts.add(outerPort);
+            }
+
+            if (null != row.get(networkContainerMappingEntity.pk)) {
+                networkPrivateIps.add(row.get(containerEntity.privateIp));
+            }
+        }
+
+        return ContainerRunSnapshot.builder()
+                .image(rows.isEmpty() ? null : rows.get(0).get(imageEntity))
+                .network(rows.isEmpty() ? null : rows.get(0).get(networkEntity))
+                .containerNames(containerNames)
+                .outerPorts(outerPorts)
+                .networkPrivateIps(networkPrivateIps)
+                .build();
+    }
+
+    @Override
+    public List<ContainerStatusCount> countByStatus() {
+        // (account_fk, status) 인덱스만 읽어 상태별 컨테이너 수와 사용자 수를 한번에 집계한다
+        return queryFactory.select(Projections.fields(ContainerStatusCount.class,
+                        containerEntity.status.as("status"),
+                        containerEntity.count().as("containers"),
+                        containerEntity.account.pk.countDistinct().as("accounts")
+                ))
+                .from(containerEntity)
+                .groupBy(containerEntity.status)
+                .fetch();
+    }
+
     private BooleanExpression eqContainerName(String containerName) {
         if (null == containerName) {
             return null;
@@ -158,6 +321,35 @@ public class CustomContainerEntityRepositoryImpl implements CustomContainerEntit
         return containerEntity.name.eq(containerName);
     }
 
+    private BooleanExpression containsContainerName(String containerName) {
+        if (null == containerName) {
+            return null;
+        }
+
+        // 사용자가 입력한 % 와 _ 가 LIKE 의 와일드카드로 해석되지 않도록 이스케이프한다
+        return containerEntity.name.like("%" + escapeLikePattern(containerName) + "%", LIKE_ESCAPE);
+    }
+
+    private String escapeLikePattern(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 4);
+        for (int index = 0; index < value.length(); index++) {
+            char character = value.charAt(index);
+            if (LIKE_ESCAPE == character || '%' == character || '_' == character) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(character);
+        }
+        return escaped.toString();
+    }
+
+    private BooleanExpression inStatuses(Set<ContainerStatusEnum> statuses) {
+        if (null == statuses || statuses.isEmpty()) {
+            return null;
+        }
+
+        return containerEntity.status.in(statuses);
+    }
+
     private BooleanExpression eqOauthServiceId(String oauthServiceId) {
         if (null == oauthServiceId) {
             throw new IllegalArgumentException("OAuthServiceId를 가진 계정이 존재하지 않습니다.");
@@ -0,0 +1,48 @@
+package org.chs.domain.container.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.chs.domain.container.enumerate.ContainerStatusEnum;
+
+import java.util.Set;
+
+/**
+ * docker ps 의 조회 조건
+ *
+ * 모든 조건은 SQL 의 where, order by, limit 으로 변환되어 조건에 맞는 컨테이너만 DB 에서 읽어온다.
+ * 값이 null(또는 비어있는 Set) 인 조건은 적용하지 않는다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ContainerLsFilter {
+
+    private Set<ContainerStatusEnum> statuses;
+
+    /** 가장 마지막에 생성된 컨테이너 하나만 조회 (-l) */
+    private boolean latest;
+
+    /** 마지막에 생성된 순서로 limit 개만 조회 (-n) */
+    private Integer limit;
+
+    /** 컨테이너 이름에 포함된 문자열 (--filter name=) */
+    private String name;
+
+    /** 컨테이너의 이미지 이름, 태그 (--filter ancestor=) */
+    private String imageName;
+
+    private String imageTag;
+
+    /** @return 아무 조건도 없어 계정의 모든 컨테이너를 조회해야 한다면 true */
+    public boolean isUnfiltered() {
+        return (null == statuses || statuses.isEmpty())
+                && false == latest
+                && null == limit
+                && null == name
+                && null == imageName
+                && null == imageTag;
+    }
+}
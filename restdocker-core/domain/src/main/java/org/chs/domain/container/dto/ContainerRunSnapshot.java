@@ -0,0 +1,37 @@
+package org.chs.domain.container.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.chs.domain.image.entity.ImageEntity;
+import org.chs.domain.network.entity.NetworkEntity;
+
+import java.util.List;
+
+/**
+ * docker run 검증과 저장에 필요한 계정의 상태를 한번의 조회로 모은 결과
+ *
+ * image, network 는 영속 상태의 엔티티이므로 추가 조회 없이 컨테이너와 매핑을 저장할 때 그대로 사용한다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ContainerRunSnapshot {
+
+    // 요청한 이미지, 존재하지 않는다면 null
+    private ImageEntity image;
+
+    // 요청한 네트워크, 존재하지 않는다면 null
+    private NetworkEntity network;
+
+    // 계정의 모든 컨테이너 이름
+    private List<String> containerNames;
+
+    // 계정의 모든 컨테이너가 사용중인 외부 Port
+    private List<String> outerPorts;
+
+    // 요청한 네트워크에 연결된 컨테이너의 내부 IP
+    private List<String> networkPrivateIps;
+}
@@ -0,0 +1,21 @@
+package org.chs.domain.container.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.chs.domain.container.enumerate.ContainerStatusEnum;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ContainerStatusCount {
+
+    private ContainerStatusEnum status;
+
+    private long containers;
+
+    // 해당 상태의 컨테이너를 하나 이상 가진 사용자 수
+    private long accounts;
+}
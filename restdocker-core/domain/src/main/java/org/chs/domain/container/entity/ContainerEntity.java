@@ -5,6 +5,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.chs.domain.account.entity.AccountEntity;
 import org.chs.domain.common.BaseDomainEntity;
 import org.chs.domain.container.enumerate.ContainerStatusEnum;
 import org.chs.domain.image.entity.ImageEntity;
@@ -13,13 +14,20 @@ import org.chs.domain.image.entity.ImageEntity;
 @Getter
 @Table(name = "container",
         uniqueConstraints = {
+                // 컨테이너 이름은 사용자 안에서 유일하다. (이름 검증을 통과한 요청이 겹쳐도 DB 가 중복 INSERT 를 거부한다)
                 @UniqueConstraint(
-                        name = "unique__image_fk__container__name",
+                        name = "unique__container__account_fk__name",
                         columnNames = {
-                                "image_fk", "name"
+                                "account_fk", "name"
                         }
                 )
-})
+        },
+        indexes = {
+                @Index(name = "idx__container__account_fk__status", columnList = "account_fk, status"),
+                // ls 의 Keyset Pagination 정렬(create_date DESC, pk DESC)을 filesort 없이 인덱스 순서로 읽는다
+                @Index(name = "idx__container__account_fk__create_date__pk", columnList = "account_fk, create_date, pk")
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ContainerEntity extends BaseDomainEntity {
 
@@ -27,6 +35,11 @@ public class ContainerEntity extends BaseDomainEntity {
     @JoinColumn(name = "image_fk", nullable = false)
     private ImageEntity image;
 
+    // 사용자별 조회 시 image -> account 를 거치지 않도록 이미지의 소유자를 함께 저장한다. (이미지의 account_fk 와 항상 같음)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "account_fk", nullable = false)
+    private AccountEntity account;
+
     @Column(name = "name", nullable = false)
     private String name;
 
@@ -48,6 +61,7 @@ public class ContainerEntity extends BaseDomainEntity {
     @Builder
     public ContainerEntity(ImageEntity image, String name, ContainerStatusEnum status, boolean stopRm, String privateIp, String outerPort, String innerPort) {
         this.image = image;
+        this.account = null == image ? null : image.getAccount();
         this.name = name;
         this.status = status;
         this.stopRm = stopRm;
@@ -1,15 +1,22 @@
 package org.chs.domain.image;
 
 
+import org.chs.domain.common.page.KeysetCursor;
+import org.chs.domain.common.page.KeysetSlice;
 import org.chs.domain.image.dto.ImageDetailElements;
 import org.chs.domain.image.dto.ImageElements;
 import org.chs.domain.image.entity.ImageEntity;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface CustomImageEntityRepository {
     List<ImageElements> findAllByOauthServiceId(String oauthServiceId, String imageName);
 
+    KeysetSlice<ImageElements> findAllByOauthServiceId(String oauthServiceId, String imageName, KeysetCursor cursor, int size);
+
+    Stream<ImageElements> streamAllByOauthServiceId(String oauthServiceId, String imageName);
+
     ImageDetailElements inspectImage(String oauthServiceId, String imageName);
 
     boolean rmImage(String oauthServiceId, String imageFullName);
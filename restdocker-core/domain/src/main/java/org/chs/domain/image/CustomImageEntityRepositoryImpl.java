@@ -1,15 +1,24 @@
 package org.chs.domain.image;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QBean;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.chs.domain.common.cache.AccountStateCache;
+import org.chs.domain.common.page.KeysetCursor;
+import org.chs.domain.common.page.KeysetQuery;
+import org.chs.domain.common.page.KeysetSlice;
 import org.chs.domain.image.dto.ImageDetailElements;
 import org.chs.domain.image.dto.ImageElements;
 import org.chs.domain.image.entity.ImageEntity;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.chs.domain.account.entity.QAccountEntity.accountEntity;
 import static org.chs.domain.image.entity.QImageEntity.imageEntity;
@@ -20,6 +29,7 @@ import static org.chs.domain.image.entity.QImageEntity.imageEntity;
 public class CustomImageEntityRepositoryImpl implements CustomImageEntityRepository{
 
     private final JPAQueryFactory queryFactory;
+    private final AccountStateCache accountStateCache;
 
     @Override
     public ImageEntity findByOAuthServiceIdAndImageFullName(String oauthServiceId, String imageFullName) {
@@ -37,26 +47,66 @@ public class CustomImageEntityRepositoryImpl implements CustomImageEntityReposit
 
     @Override
     public List<ImageElements> findAllByOauthServiceId(String oauthServiceId, String imageName) {
-        String[] imageNameAndTag = separateColonImageName(imageName);
+        // 이름 조건이 없는 전체 조회만 캐시 (contains 조건은 DB Collation 을 따르도록 SQL 로 처리)
+        if (null == imageName) {
+            return accountStateCache.getList(oauthServiceId, AccountStateCache.IMAGES, () -> selectImageElements(oauthServiceId, null));
+        }
 
-        return queryFactory.select(
-                        Projections.fields(ImageElements.class,
-                                imageEntity.createDate.as("createDate"),
-                                imageEntity.updateDate.as("updateDate"),
-                                imageEntity.name.as("name"),
-                                imageEntity.tag.as("tag"),
-                                imageEntity.size.as("size"))
-                )
+        return selectImageElements(oauthServiceId, imageName);
+    }
+
+    @Override
+    public KeysetSlice<ImageElements> findAllByOauthServiceId(String oauthServiceId, String imageName, KeysetCursor cursor, int size) {
+        QBean<ImageElements> element = imageElementsProjection();
+
+        JPAQuery<Tuple> query = queryFactory.select(element, imageEntity.createDate, imageEntity.pk)
                 .from(imageEntity)
                 .innerJoin(imageEntity.account, accountEntity)
-                .where(
-                        eqOauthServiceId(oauthServiceId),
-                        containImageName(imageNameAndTag[0]),
-                        containImageTag(imageNameAndTag[1])
-                )
+                .where(imageElementsConditions(oauthServiceId, imageName))
+                .where(KeysetQuery.beforeCursor(imageEntity.createDate, imageEntity.pk, cursor))
+                .orderBy(KeysetQuery.orderByLatest(imageEntity.createDate, imageEntity.pk));
+
+        return KeysetQuery.fetchSlice(query, element, imageEntity.createDate, imageEntity.pk, size);
+    }
+
+    @Override
+    public Stream<ImageElements> streamAllByOauthServiceId(String oauthServiceId, String imageName) {
+        return KeysetQuery.stream(
+                queryFactory.select(imageElementsProjection())
+                        .from(imageEntity)
+                        .innerJoin(imageEntity.account, accountEntity)
+                        .where(imageElementsConditions(oauthServiceId, imageName))
+                        .orderBy(KeysetQuery.orderByLatest(imageEntity.createDate, imageEntity.pk))
+        );
+    }
+
+    private List<ImageElements> selectImageElements(String oauthServiceId, String imageName) {
+        return queryFactory.select(imageElementsProjection())
+                .from(imageEntity)
+                .innerJoin(imageEntity.account, accountEntity)
+                .where(imageElementsConditions(oauthServiceId, imageName))
                 .fetch();
     }
 
+    private Predicate[] imageElementsConditions(String oauthServiceId, String imageName) {
+        String[] imageNameAndTag = separateColonImageName(imageName);
+
+        return new Predicate[] {
+                eqOauthServiceId(oauthServiceId),
+                containImageName(imageNameAndTag[0]),
+                containImageTag(imageNameAndTag[1])
+        };
+    }
+
+    private QBean<ImageElements> imageElementsProjection() {
+        return Projections.fields(ImageElements.class,
+                imageEntity.createDate.as("createDate"),
+                imageEntity.updateDate.as("updateDate"),
+                imageEntity.name.as("name"),
+                imageEntity.tag.as("tag"),
+                imageEntity.size.as("size"));
+    }
+
     @Override
     public ImageDetailElements inspectImage(String oauthServiceId, String imageName) {
         nullCheckImageName(imageName);
@@ -97,6 +147,8 @@ public class CustomImageEntityRepositoryImpl implements CustomImageEntityReposit
                 )
                 .fetchOne();
 
+        accountStateCache.invalidate(oauthServiceId);
+
         long imageDeleteResult = queryFactory.delete(imageEntity)
                 .where(eqImagePk(selectedImage.getPk()))
                 .execute();
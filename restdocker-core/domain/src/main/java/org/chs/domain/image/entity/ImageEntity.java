@@ -18,7 +18,11 @@ import org.chs.domain.common.BaseDomainEntity;
                            "account_fk", "name", "tag"
                     }
             )
-})
+        },
+        indexes = {
+                @Index(name = "idx__image__account_fk__create_date__pk", columnList = "account_fk, create_date, pk")
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ImageEntity extends BaseDomainEntity {
 
@@ -3,11 +3,13 @@ package org.chs.domain.network;
 import java.util.List;
 
 public interface CustomNetworkContainerMappingEntityRepository {
-    long deleteByNetworkPk(String networkPk);
+    long deleteByNetworkPk(String oauthServiceId, String networkPk);
 
     boolean existNetworkBindingContainer(String oauthServiceId, String networkName);
 
     List<String> findPrivateIpByOAuthServiceIdAndNetworkName(String oauthServiceId, String networkName);
 
-    long deleteByContainerPk(String containerPk);
+    long deleteByContainerPk(String oauthServiceId, String containerPk);
+
+    String findNetworkNameByContainerPk(String containerPk);
 }
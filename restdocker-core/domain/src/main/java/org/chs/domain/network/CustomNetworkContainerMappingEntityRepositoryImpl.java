@@ -4,6 +4,7 @@ import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.chs.domain.common.cache.AccountStateCache;
 import org.chs.domain.container.dto.ContainerPrivateIpDto;
 import org.chs.domain.network.entity.NetworkContainerMappingEntity;
 import org.springframework.stereotype.Repository;
@@ -20,9 +21,12 @@ import static org.chs.domain.network.entity.QNetworkEntity.networkEntity;
 public class CustomNetworkContainerMappingEntityRepositoryImpl implements CustomNetworkContainerMappingEntityRepository{
 
     private final JPAQueryFactory queryFactory;
+    private final AccountStateCache accountStateCache;
 
     @Override
-    public long deleteByNetworkPk(String networkPk) {
+    public long deleteByNetworkPk(String oauthServiceId, String networkPk) {
+        accountStateCache.invalidate(oauthServiceId);
+
         List<NetworkContainerMappingEntity> containerPkList = queryFactory.selectFrom(networkContainerMappingEntity)
                 .where(eqNetworkPk(networkPk))
                 .fetch();
@@ -37,18 +41,29 @@ public class CustomNetworkContainerMappingEntityRepositoryImpl implements Custom
     }
 
     @Override
-    public long deleteByContainerPk(String containerPk) {
+    public long deleteByContainerPk(String oauthServiceId, String containerPk) {
+        accountStateCache.invalidate(oauthServiceId);
+
         return queryFactory.delete(networkContainerMappingEntity)
                 .where(eqContainerPk(containerPk))
                 .execute();
     }
 
+    @Override
+    public String findNetworkNameByContainerPk(String containerPk) {
+        return queryFactory.select(networkEntity.name)
+                .from(networkContainerMappingEntity)
+                .innerJoin(networkContainerMappingEntity.network, networkEntity)
+                .where(eqContainerPk(containerPk))
+                .fetchFirst();
+    }
+
     @Override
     public boolean existNetworkBindingContainer(String oauthServiceId, String networkName) {
         Integer fetchOne = queryFactory.selectOne()
                 .from(networkContainerMappingEntity)
+                .innerJoin(networkContainerMappingEntity.account, accountEntity)
                 .innerJoin(networkContainerMappingEntity.network, networkEntity)
-                .innerJoin(networkEntity.account, accountEntity)
                 .where(
                         eqOAuthServiceId(oauthServiceId),
                         eqNetworkName(networkName)
@@ -60,19 +75,20 @@ public class CustomNetworkContainerMappingEntityRepositoryImpl implements Custom
 
     @Override
     public List<String> findPrivateIpByOAuthServiceIdAndNetworkName(String oauthServiceId, String networkName) {
-        return queryFactory.select(Projections.fields(ContainerPrivateIpDto.class,
+        return accountStateCache.getList(oauthServiceId, AccountStateCache.PRIVATE_IPS + networkName, () -> queryFactory.select(Projections.fields(ContainerPrivateIpDto.class,
                         containerEntity.privateIp)
                 )
                 .from(networkContainerMappingEntity)
+                .innerJoin(networkContainerMappingEntity.account, accountEntity)
                 .innerJoin(networkContainerMappingEntity.network, networkEntity)
-                .innerJoin(networkEntity.account, accountEntity)
                 .innerJoin(networkContainerMappingEntity.container, containerEntity)
                 .where(
                         eqOAuthServiceId(oauthServiceId),
                         eqNetworkName(networkName)
                 )
                 .fetch()
-                .stream().map(ContainerPrivateIpDto::getPrivateIp).toList();
+                .stream().map(ContainerPrivateIpDto::getPrivateIp).toList()
+        );
     }
 
     private BooleanExpression eqOAuthServiceId(String oauthServiceId) {
@@ -80,7 +96,7 @@ public class CustomNetworkContainerMappingEntityRepositoryImpl implements Custom
             return null;
         }
 
-        return networkEntity.account.oauthServiceId.eq(oauthServiceId);
+        return accountEntity.oauthServiceId.eq(oauthServiceId);
     }
 
     private BooleanExpression eqNetworkName(String networkName) {
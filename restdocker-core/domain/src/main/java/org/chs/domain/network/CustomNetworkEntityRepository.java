@@ -1,14 +1,21 @@
 package org.chs.domain.network;
 
+import org.chs.domain.common.page.KeysetCursor;
+import org.chs.domain.common.page.KeysetSlice;
 import org.chs.domain.network.dto.NetworkDetailElements;
 import org.chs.domain.network.dto.NetworkElements;
 import org.chs.domain.network.entity.NetworkEntity;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface CustomNetworkEntityRepository {
     List<NetworkElements> findByOAuthServiceId(String oauthServiceId);
 
+    KeysetSlice<NetworkElements> findByOAuthServiceId(String oauthServiceId, KeysetCursor cursor, int size);
+
+    Stream<NetworkElements> streamByOAuthServiceId(String oauthServiceId);
+
     NetworkDetailElements inspectNetwork(String oauthServiceId, String networkName);
 
     boolean rmNetwork(String oauthServiceId, String networkName);
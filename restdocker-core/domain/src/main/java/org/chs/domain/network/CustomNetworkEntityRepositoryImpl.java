@@ -1,17 +1,29 @@
 package org.chs.domain.network;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QBean;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.chs.domain.common.cache.AccountStateCache;
+import org.chs.domain.common.page.KeysetCursor;
+import org.chs.domain.common.page.KeysetQuery;
+import org.chs.domain.common.page.KeysetSlice;
+import org.chs.domain.container.dto.ContainerElements;
 import org.chs.domain.network.dto.NetworkDetailElements;
 import org.chs.domain.network.dto.NetworkElements;
 import org.chs.domain.network.entity.NetworkEntity;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.chs.domain.account.entity.QAccountEntity.accountEntity;
+import static org.chs.domain.container.entity.QContainerEntity.containerEntity;
+import static org.chs.domain.image.entity.QImageEntity.imageEntity;
+import static org.chs.domain.network.entity.QNetworkContainerMappingEntity.networkContainerMappingEntity;
 import static org.chs.domain.network.entity.QNetworkEntity.networkEntity;
 
 @Repository
@@ -20,6 +32,7 @@ public class CustomNetworkEntityRepositoryImpl implements CustomNetworkEntityRep
 
     private final JPAQueryFactory queryFactory;
     private final NetworkContainerMappingEntityRepository networkContainerMappingEntityRepository;
+    private final AccountStateCache accountStateCache;
 
     @Override
     public NetworkEntity findByOAuthServiceIdAndNetworkName(String oauthServiceId, String networkName) {
@@ -35,45 +48,106 @@ public class CustomNetworkEntityRepositoryImpl implements CustomNetworkEntityRep
     @Override
     public List<NetworkElements> findByOAuthServiceId(String oauthServiceId) {
 
-        return queryFactory.select(
-                Projections.fields(NetworkElements.class,
-                        networkEntity.createDate.as("createDate"),
-                        networkEntity.updateDate.as("updateDate"),
-                        networkEntity.name.as("name"),
-                        networkEntity.subnet.as("subnet"),
-                        networkEntity.ipRange.as("ipRange"),
-                        networkEntity.gateway.as("gateway"))
-                )
+        return accountStateCache.getList(oauthServiceId, AccountStateCache.NETWORKS, () -> queryFactory.select(networkElementsProjection())
                 .from(networkEntity)
                 .innerJoin(networkEntity.account, accountEntity)
                 .where(
                         eqOauthServiceId(oauthServiceId)
                 )
-                .fetch();
+                .fetch()
+        );
+    }
+
+    @Override
+    public KeysetSlice<NetworkElements> findByOAuthServiceId(String oauthServiceId, KeysetCursor cursor, int size) {
+        QBean<NetworkElements> element = networkElementsProjection();
+
+        JPAQuery<Tuple> query = queryFactory.select(element, networkEntity.createDate, networkEntity.pk)
+                .from(networkEntity)
+                .innerJoin(networkEntity.account, accountEntity)
+                .where(
+                        eqOauthServiceId(oauthServiceId),
+                        KeysetQuery.beforeCursor(networkEntity.createDate, networkEntity.pk, cursor)
+                )
+                .orderBy(KeysetQuery.orderByLatest(networkEntity.createDate, networkEntity.pk));
+
+        return KeysetQuery.fetchSlice(query, element, networkEntity.createDate, networkEntity.pk, size);
+    }
+
+    @Override
+    public Stream<NetworkElements> streamByOAuthServiceId(String oauthServiceId) {
+        return KeysetQuery.stream(
+                queryFactory.select(networkElementsProjection())
+                        .from(networkEntity)
+                        .innerJoin(networkEntity.account, accountEntity)
+                        .where(
+                                eqOauthServiceId(oauthServiceId)
+                        )
+                        .orderBy(KeysetQuery.orderByLatest(networkEntity.createDate, networkEntity.pk))
+        );
+    }
+
+    private QBean<NetworkElements> networkElementsProjection() {
+        return Projections.fields(NetworkElements.class,
+                networkEntity.createDate.as("createDate"),
+                networkEntity.updateDate.as("updateDate"),
+                networkEntity.name.as("name"),
+                networkEntity.subnet.as("subnet"),
+                networkEntity.ipRange.as("ipRange"),
+                networkEntity.gateway.as("gateway"));
     }
 
     @Override
     public NetworkDetailElements inspectNetwork(String oauthServiceId, String networkName) {
         nullCheckNetworkName(networkName);
 
-        return queryFactory.select(
-                        Projections.fields(NetworkDetailElements.class,
-                                networkEntity.createDate.as("createDate"),
-                                networkEntity.updateDate.as("updateDate"),
-                                networkEntity.name.as("name"),
-                                networkEntity.subnet.as("subnet"),
-                                networkEntity.ipRange.as("ipRange"),
-                                networkEntity.gateway.as("gateway"),
-                                networkEntity.enableIcc.as("enableIcc"),
-                                networkEntity.mtu.as("mtu"))
-                )
+        // 네트워크와 컨테이너의 같은 이름 필드(createDate, name 등)가 select 절의 alias 로 겹치지 않도록 필드 이름과 다른 경우에만 alias 를 사용한다
+        QBean<NetworkDetailElements> network = Projections.fields(NetworkDetailElements.class,
+                networkEntity.createDate,
+                networkEntity.updateDate,
+                networkEntity.name,
+                networkEntity.subnet,
+                networkEntity.ipRange,
+                networkEntity.gateway,
+                networkEntity.enableIcc,
+                networkEntity.mtu);
+
+        QBean<ContainerElements> container = Projections.fields(ContainerElements.class,
+                containerEntity.createDate,
+                containerEntity.updateDate,
+                containerEntity.name,
+                imageEntity.name.as("imageName"),
+                imageEntity.tag.as("imageTag"),
+                containerEntity.privateIp,
+                containerEntity.outerPort,
+                containerEntity.innerPort,
+                containerEntity.status);
+
+        // 네트워크 행과 해당 네트워크에 연결된 컨테이너만 한번의 쿼리로 조회한다. (연결된 컨테이너가 없다면 네트워크 행 하나)
+        List<Tuple> rows = queryFactory.select(network, container, containerEntity.pk)
                 .from(networkEntity)
                 .innerJoin(networkEntity.account, accountEntity)
+                .leftJoin(networkContainerMappingEntity).on(networkContainerMappingEntity.network.eq(networkEntity))
+                .leftJoin(networkContainerMappingEntity.container, containerEntity)
+                .leftJoin(containerEntity.image, imageEntity)
                 .where(
                         eqOauthServiceId(oauthServiceId),
                         eqNetworkName(networkName)
                 )
-                .fetchOne();
+                .fetch();
+
+        if (rows.isEmpty()) {
+            return null;
+        }
+
+        NetworkDetailElements networkDetailElements = rows.get(0).get(network);
+        networkDetailElements.setContainerInfo(
+                rows.stream()
+                        .filter(row -> null != row.get(containerEntity.pk))
+                        .map(row -> row.get(container))
+                        .toList()
+        );
+        return networkDetailElements;
     }
 
     @Override
@@ -88,8 +162,10 @@ public class CustomNetworkEntityRepositoryImpl implements CustomNetworkEntityRep
                 )
                 .fetchOne();
 
+        accountStateCache.invalidate(oauthServiceId);
+
         long networkContainerMappingDeleteResult =
-                networkContainerMappingEntityRepository.deleteByNetworkPk(network.getPk());
+                networkContainerMappingEntityRepository.deleteByNetworkPk(oauthServiceId, network.getPk());
 
         long networkDeleteResult = queryFactory.delete(networkEntity)
                 .where(eqNetworkPk(network.getPk()))
@@ -5,12 +5,24 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.chs.domain.account.entity.AccountEntity;
 import org.chs.domain.common.BaseDomainEntity;
 import org.chs.domain.container.entity.ContainerEntity;
 
 @Entity
 @Getter
-@Table(name = "network_container")
+@Table(name = "network_container",
+        uniqueConstraints = {
+                // 하나의 네트워크 안에서 내부 IP 는 유일하다. (IP 검증을 통과한 요청이 겹쳐도 DB 가 중복 INSERT 를 거부한다)
+                @UniqueConstraint(
+                        name = "unique__network_container__network_fk__private_ip",
+                        columnNames = {
+                                "network_fk", "private_ip"
+                        }
+                )
+        },
+        indexes = @Index(name = "idx__network_container__account_fk__network_fk", columnList = "account_fk, network_fk")
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class NetworkContainerMappingEntity extends BaseDomainEntity {
 
@@ -22,9 +34,20 @@ public class NetworkContainerMappingEntity extends BaseDomainEntity {
     @JoinColumn(name = "network_fk", nullable = false)
     private NetworkEntity network;
 
+    // 사용자별 조회 시 network -> account 를 거치지 않도록 네트워크의 소유자를 함께 저장한다. (네트워크, 컨테이너의 account_fk 와 항상 같음)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "account_fk", nullable = false)
+    private AccountEntity account;
+
+    // 네트워크별 IP 유일 제약을 걸 수 있도록 연결 시점의 컨테이너 내부 IP 를 함께 저장한다. (컨테이너의 private_ip 와 항상 같음)
+    @Column(name = "private_ip", nullable = false)
+    private String privateIp;
+
     @Builder
     public NetworkContainerMappingEntity(ContainerEntity container, NetworkEntity network) {
         this.container = container;
         this.network = network;
+        this.account = null == network ? null : network.getAccount();
+        this.privateIp = null == container ? null : container.getPrivateIp();
     }
 }
@@ -18,7 +18,11 @@ import org.chs.domain.common.BaseDomainEntity;
                                 "account_fk", "name"
                         }
                 )
-})
+        },
+        indexes = {
+                @Index(name = "idx__network__account_fk__create_date__pk", columnList = "account_fk, create_date, pk")
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class NetworkEntity extends BaseDomainEntity {
 
@@ -0,0 +1,138 @@
+package org.chs.domain.common.cache;
+
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class AccountStateCacheTest {
+
+    private AtomicInteger loadCount;
+
+    private Supplier<List<String>> countingLoader(List<String> result) {
+        return () -> {
+            loadCount.incrementAndGet();
+            return result;
+        };
+    }
+
+    @BeforeEach
+    void setUp() {
+        loadCount = new AtomicInteger();
+    }
+
+    @Nested
+    @DisplayName("[Cache][성공 테스트] 사용자별 상태를 캐시하고 무효화한다.")
+    class GetList {
+
+        @Tag("domain")
+        @Test
+        @DisplayName("[Cache][성공 테스트] 같은 사용자의 같은 조회는 한번만 loader 를 호출한다.")
+        void 같은_사용자의_같은_조회는_한번만_loader_를_호출한다() {
+            // given
+            AccountStateCache accountStateCache = new AccountStateCache(16, 600);
+
+            // when
+            accountStateCache.getList("testOAuthServiceId", AccountStateCache.CONTAINERS, countingLoader(List.of("RestDocker")));
+            List<String> actual = accountStateCache.getList("testOAuthServiceId", AccountStateCache.CONTAINERS, countingLoader(List.of("RestDocker")));
+
+            // then
+            Assertions.assertEquals(List.of("RestDocker"), actual);
+            Assertions.assertEquals(1, loadCount.get());
+        }
+
+        @Tag("domain")
+        @Test
+        @DisplayName("[Cache][성공 테스트] 무효화된 사용자는 다시 loader 를 호출한다.")
+        void 무효화된_사용자는_다시_loader_를_호출한다() {
+            // given
+            AccountStateCache accountStateCache = new AccountStateCache(16, 600);
+            accountStateCache.getList("testOAuthServiceId", AccountStateCache.CONTAINERS, countingLoader(List.of("RestDocker")));
+
+            // when
+            accountStateCache.invalidate("testOAuthServiceId");
+            List<String> actual = accountStateCache.getList("testOAuthServiceId", AccountStateCache.CONTAINERS, countingLoader(List.of()));
+
+            // then
+            Assertions.assertTrue(actual.isEmpty());
+            Assertions.assertEquals(2, loadCount.get());
+        }
+
+        @Tag("domain")
+        @Test
+        @DisplayName("[Cache][성공 테스트] 최대 사용자 수를 넘으면 가장 오래 사용되지 않은 사용자를 버린다.")
+        void 최대_사용자_수를_넘으면_가장_오래_사용되지_않은_사용자를_버린다() {
+            // given
+            AccountStateCache accountStateCache = new AccountStateCache(2, 600);
+            accountStateCache.getList("first", AccountStateCache.NETWORKS, countingLoader(List.of("bridge")));
+            accountStateCache.getList("second", AccountStateCache.NETWORKS, countingLoader(List.of("bridge")));
+            accountStateCache.getList("first", AccountStateCache.NETWORKS, countingLoader(List.of("bridge")));
+
+            // when
+            accountStateCache.getList("third", AccountStateCache.NETWORKS, countingLoader(List.of("bridge")));
+            accountStateCache.getList("first", AccountStateCache.NETWORKS, countingLoader(List.of("bridge")));
+            accountStateCache.getList("second", AccountStateCache.NETWORKS, countingLoader(List.of("bridge")));
+
+            // then
+            Assertions.assertEquals(4, loadCount.get());
+        }
+
+        @Tag("domain")
+        @Test
+        @DisplayName("[Cache][성공 테스트] 유휴 시간이 지난 사용자는 다시 loader 를 호출한다.")
+        void 유휴_시간이_지난_사용자는_다시_loader_를_호출한다() throws InterruptedException {
+            // given
+            AccountStateCache accountStateCache = new AccountStateCache(16, 0);
+            accountStateCache.getList("testOAuthServiceId", AccountStateCache.IMAGES, countingLoader(List.of("nginx")));
+            Thread.sleep(1);
+
+            // when
+            accountStateCache.getList("testOAuthServiceId", AccountStateCache.IMAGES, countingLoader(List.of("nginx")));
+
+            // then
+            Assertions.assertEquals(2, loadCount.get());
+        }
+
+        @Tag("domain")
+        @Test
+        @DisplayName("[Cache][성공 테스트] 조회 도중 무효화가 일어나면 조회 결과를 캐시하지 않는다.")
+        void 조회_도중_무효화가_일어나면_조회_결과를_캐시하지_않는다() {
+            // given
+            AccountStateCache accountStateCache = new AccountStateCache(16, 600);
+
+            // when
+            accountStateCache.getList("testOAuthServiceId", AccountStateCache.CONTAINERS, () -> {
+                loadCount.incrementAndGet();
+                accountStateCache.invalidate("testOAuthServiceId");
+                return List.of("stale");
+            });
+            accountStateCache.getList("testOAuthServiceId", AccountStateCache.CONTAINERS, countingLoader(List.of("fresh")));
+
+            // then
+            Assertions.assertEquals(2, loadCount.get());
+        }
+
+        @Tag("domain")
+        @Test
+        @DisplayName("[Cache][성공 테스트] 다른 사용자의 무효화는 조회 중인 사용자의 결과를 버리지 않는다.")
+        void 다른_사용자의_무효화는_조회_중인_사용자의_결과를_버리지_않는다() {
+            // given
+            AccountStateCache accountStateCache = new AccountStateCache(16, 600);
+            accountStateCache.getList("otherOAuthServiceId", AccountStateCache.CONTAINERS, countingLoader(List.of("other")));
+
+            // when
+            accountStateCache.getList("testOAuthServiceId", AccountStateCache.CONTAINERS, () -> {
+                loadCount.incrementAndGet();
+                accountStateCache.invalidate("otherOAuthServiceId");
+                return List.of("RestDocker");
+            });
+            List<String> actual = accountStateCache.getList("testOAuthServiceId", AccountStateCache.CONTAINERS, countingLoader(List.of()));
+            accountStateCache.getList("otherOAuthServiceId", AccountStateCache.CONTAINERS, countingLoader(List.of("other")));
+
+            // then (testOAuthServiceId 는 캐시된 결과를 읽고, 무효화된 otherOAuthServiceId 만 다시 읽는다)
+            Assertions.assertEquals(List.of("RestDocker"), actual);
+            Assertions.assertEquals(3, loadCount.get());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+package org.chs.domain.common.id;
+
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+public class Uuid7Test {
+
+    @Nested
+    @DisplayName("[Id][성공 테스트] 시간 순서로 정렬되는 UUIDv7 을 생성한다.")
+    class RandomUuid {
+
+        @Tag("domain")
+        @Test
+        @DisplayName("[Id][성공 테스트] version 7, variant 2 의 UUID 를 생성한다.")
+        void version_7_variant_2_의_UUID_를_생성한다() {
+            // when
+            UUID actual = Uuid7.randomUuid();
+
+            // then
+            Assertions.assertEquals(7, actual.version());
+            Assertions.assertEquals(2, actual.variant());
+        }
+
+        @Tag("domain")
+        @Test
+        @DisplayName("[Id][성공 테스트] 연속으로 생성한 UUID 는 문자열과 바이트 순서 모두 증가한다.")
+        void 연속으로_생성한_UUID_는_문자열과_바이트_순서_모두_증가한다() {
+            // given
+            UuidBinaryConverter converter = new UuidBinaryConverter();
+            List<String> generated = new ArrayList<>();
+
+            // when
+            for (int count = 0; count < 10_000; count++) {
+                generated.add(Uuid7.randomUuidString());
+            }
+
+            // then
+            for (int index = 1; index < generated.size(); index++) {
+                Assertions.assertTrue(generated.get(index - 1).compareTo(generated.get(index)) < 0);
+                Assertions.assertTrue(Arrays.compareUnsigned(
+                        converter.convertToDatabaseColumn(generated.get(index - 1)),
+                        converter.convertToDatabaseColumn(generated.get(index))) < 0);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("[Id][성공/실패 테스트] UUID 문자열과 BINARY(16) 을 변환한다.")
+    class UuidBinaryConvert {
+
+        private final UuidBinaryConverter converter = new UuidBinaryConverter();
+
+        @Tag("domain")
+        @Test
+        @DisplayName("[Id][성공 테스트] UUID 를 16byte 로 저장하고 같은 문자열로 복원한다.")
+        void UUID_를_16byte_로_저장하고_같은_문자열로_복원한다() {
+            // given
+            String uuid = Uuid7.randomUuidString();
+
+            // when
+            byte[] stored = converter.convertToDatabaseColumn(uuid);
+            String actual = converter.convertToEntityAttribute(stored);
+
+            // then
+            Assertions.assertEquals(16, stored.length);
+            Assertions.assertEquals(uuid, actual);
+        }
+
+        @Tag("domain")
+        @Test
+        @DisplayName("[Id][실패 테스트] UUID 형식이 아닌 문자열은 null 로 변환한다.")
+        void UUID_형식이_아닌_문자열은_null_로_변환한다() {
+            // when
+            byte[] actual = converter.convertToDatabaseColumn(Uuid7.randomUuidString() + "@");
+
+            // then
+            Assertions.assertNull(actual);
+            Assertions.assertNull(converter.convertToDatabaseColumn("restdocker"));
+        }
+    }
+}
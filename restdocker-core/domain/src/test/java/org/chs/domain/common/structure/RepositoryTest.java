@@ -1,6 +1,9 @@
 package org.chs.domain.common.structure;
 
+import org.chs.domain.common.cache.AccountStateCache;
 import org.chs.domain.common.config.TestQueryDslConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
@@ -8,6 +11,15 @@ import org.springframework.test.context.ActiveProfiles;
 // JUnit 을 통한 테스트에서 Select 을 제외한 모든 쿼리는 Rollback 된다.
 @DataJpaTest //Repository 객체를 의존주입 받을 수 있게 해주는 어노테이션
 @ActiveProfiles("test")
-@Import(TestQueryDslConfig.class)
+@Import({TestQueryDslConfig.class, AccountStateCache.class})
 public abstract class RepositoryTest {
+
+    @Autowired
+    protected AccountStateCache accountStateCache;
+
+    // 테스트마다 롤백되는 데이터가 이전 테스트의 캐시로 남지 않도록 비운다.
+    @BeforeEach
+    void clearAccountStateCache() {
+        accountStateCache.clear();
+    }
 }
@@ -3,22 +3,34 @@ package org.chs.domain.container;
 import org.chs.domain.account.AccountRepository;
 import org.chs.domain.account.entity.AccountEntity;
 import org.chs.domain.common.enumerate.ThirdPartyEnum;
+import org.chs.domain.common.page.KeysetSlice;
 import org.chs.domain.common.structure.RepositoryTest;
 import org.chs.domain.container.dto.ContainerDetailElements;
 import org.chs.domain.container.dto.ContainerElements;
+import org.chs.domain.container.dto.ContainerLsFilter;
+import org.chs.domain.container.dto.ContainerRunSnapshot;
+import org.chs.domain.container.dto.ContainerStatusCount;
 import org.chs.domain.container.dto.ContainerValidElementsDto;
 import org.chs.domain.container.entity.ContainerEntity;
 import org.chs.domain.container.enumerate.ContainerStatusEnum;
 import org.chs.domain.image.ImageEntityRepository;
 import org.chs.domain.image.entity.ImageEntity;
+import org.chs.domain.network.NetworkContainerMappingEntityRepository;
+import org.chs.domain.network.NetworkEntityRepository;
+import org.chs.domain.network.entity.NetworkContainerMappingEntity;
+import org.chs.domain.network.entity.NetworkEntity;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 public class ContainerRepositoryTest extends RepositoryTest {
 
@@ -31,6 +43,12 @@ public class ContainerRepositoryTest extends RepositoryTest {
     @Autowired
     private ContainerEntityRepository containerEntityRepository;
 
+    @Autowired
+    private NetworkEntityRepository networkEntityRepository;
+
+    @Autowired
+    private NetworkContainerMappingEntityRepository networkContainerMappingEntityRepository;
+
     private AccountEntity account;
     private ImageEntity image;
     private ContainerEntity container;
@@ -134,6 +152,181 @@ public class ContainerRepositoryTest extends RepositoryTest {
             // then
             Assertions.assertEquals(List.of(), actual);
         }
+
+        @Tag("domain")
+        @Test
+        @DisplayName("[Container][성공 테스트] 컨테이너에 저장된 이미지 소유자(account_fk)로 다른 사용자의 컨테이너는 제외한다.")
+        void 컨테이너에_저장된_이미지_소유자로_다른_사용자의_컨테이너는_제외한다() {
+            // given
+            AccountEntity otherAccount = AccountEntity.builder()
+                    .thirdPartyAccessToken("otherThirdPartyAccessToken")
+                    .thirdPartyRefreshToken("otherThirdPartyRefreshToken")
+                    .nickname("otherNick")
+                    .oauthServiceId("otherOAuthServiceId")
+                    .isActive(true)
+                    .thirdPartyType(ThirdPartyEnum.KAKAO)
+                    .build();
+            ImageEntity otherImage = ImageEntity.builder()
+                    .name("testImageName")
+                    .os("testOs")
+                    .architecture("testArchitecture")
+                    .tag("testTag")
+                    .size("testSize")
+                    .account(otherAccount)
+                    .build();
+            ContainerEntity otherContainer = ContainerEntity.builder()
+                    .name("OtherRestDocker")
+                    .image(otherImage)
+                    .privateIp("172.17.1.2")
+                    .status(ContainerStatusEnum.Running)
+                    .stopRm(true)
+                    .build();
+
+            otherAccount.setDateTimeForTest(LocalDateTime.now(), LocalDateTime.now());
+            otherImage.setDateTimeForTest(LocalDateTime.now(), LocalDateTime.now());
+            otherContainer.setDateTimeForTest(LocalDateTime.now(), LocalDateTime.now());
+
+            accountRepository.save(otherAccount);
+            imageEntityRepository.save(otherImage);
+            containerEntityRepository.save(otherContainer);
+
+            // when
+            List<ContainerElements> actual = containerEntityRepository
+                    .lsContainer("testOAuthServiceId");
+
+            // then
+            Assertions.assertSame(otherAccount, otherContainer.getAccount());
+            Assertions.assertEquals(1, actual.size());
+            Assertions.assertEquals("RestDocker", actual.get(0).getName());
+        }
+
+        @Tag("domain")
+        @Test
+        @DisplayName("[Container][성공 테스트] 조회 조건(상태, 이름, 이미지)에 맞는 컨테이너만 조회한다.")
+        void 조회_조건에_맞는_컨테이너만_조회한다() {
+            // given
+            ContainerEntity exitedContainer = ContainerEntity.builder()
+                    .name("ExitedRestDocker")
+                    .image(image)
+                    .privateIp("172.17.1.3")
+                    .status(ContainerStatusEnum.Exited)
+                    .stopRm(false)
+                    .build();
+            exitedContainer.setDateTimeForTest(LocalDateTime.now(), LocalDateTime.now());
+            containerEntityRepository.save(exitedContainer);
+
+            // when
+            List<ContainerElements> runningOnly = containerEntityRepository.lsContainer("testOAuthServiceId",
+                    ContainerLsFilter.builder().statuses(Set.of(ContainerStatusEnum.Running)).build());
+            List<ContainerElements> nameAndImage = containerEntityRepository.lsContainer("testOAuthServiceId",
+                    ContainerLsFilter.builder().name("Exited").imageName("testImageName").imageTag("testTag").build());
+            List<ContainerElements> otherImage = containerEntityRepository.lsContainer("testOAuthServiceId",
+                    ContainerLsFilter.builder().imageName("otherImageName").build());
+
+            // then
+            Assertions.assertEquals(List.of("RestDocker"), runningOnly.stream().map(ContainerElements::getName).toList());
+            Assertions.assertEquals(List.of("ExitedRestDocker"), nameAndImage.stream().map(ContainerElements::getName).toList());
+            Assertions.assertEquals(List.of(), otherImage);
+        }
+
+        @Tag("domain")
+        @Test
+        @DisplayName("[Container][성공 테스트] 이름 조건의 % 와 _ 는 와일드카드가 아닌 문자로 비교한다.")
+        void 이름_조건의_퍼센트와_언더스코어는_와일드카드가_아닌_문자로_비교한다() {
+            // given
+            ContainerEntity underscoreContainer = ContainerEntity.builder()
+                    .name("Rest_Docker")
+                    .image(image)
+                    .privateIp("172.17.1.3")
+                    .status(ContainerStatusEnum.Running)
+                    .stopRm(false)
+                    .build();
+            underscoreContainer.setDateTimeForTest(LocalDateTime.now(), LocalDateTime.now());
+            containerEntityRepository.save(underscoreContainer);
+
+            // when
+            List<ContainerElements> percent = containerEntityRepository.lsContainer("testOAuthServiceId",
+                    ContainerLsFilter.builder().name("%").build());
+            List<ContainerElements> underscore = containerEntityRepository.lsContainer("testOAuthServiceId",
+                    ContainerLsFilter.builder().name("Rest_").build());
+
+            // then
+            Assertions.assertEquals(List.of(), percent);
+            Assertions.assertEquals(List.of("Rest_Docker"), underscore.stream().map(ContainerElements::getName).toList());
+        }
+
+        @Tag("domain")
+        @Test
+        @DisplayName("[Container][성공 테스트] Keyset Pagination 으로 최근에 생성된 순서대로 나누어 조회한다.")
+        void Keyset_Pagination_으로_최근에_생성된_순서대로_나누어_조회한다() {
+            // given
+            saveContainerCreatedAt("OldRestDocker", "172.17.1.3", LocalDateTime.now().minusDays(1));
+            saveContainerCreatedAt("NewRestDocker", "172.17.1.4", LocalDateTime.now().plusDays(1));
+
+            // when
+            KeysetSlice<ContainerElements> firstPage = containerEntityRepository.lsContainer("testOAuthServiceId", null, null, 2);
+            KeysetSlice<ContainerElements> secondPage = containerEntityRepository.lsContainer("testOAuthServiceId", null, firstPage.nextCursor(), 2);
+
+            // then
+            Assertions.assertEquals(List.of("NewRestDocker", "RestDocker"), firstPage.elements().stream().map(ContainerElements::getName).toList());
+            Assertions.assertNotNull(firstPage.nextCursor());
+            Assertions.assertEquals(List.of("OldRestDocker"), secondPage.elements().stream().map(ContainerElements::getName).toList());
+            Assertions.assertNull(secondPage.nextCursor());
+        }
+
+        @Tag("domain")
+        @Test
+        @DisplayName("[Container][성공 테스트] Stream 으로 조건에 맞는 컨테이너를 최근에 생성된 순서대로 조회한다.")
+        void Stream_으로_조건에_맞는_컨테이너를_최근에_생성된_순서대로_조회한다() {
+            // given
+            saveContainerCreatedAt("OldRestDocker", "172.17.1.3", LocalDateTime.now().minusDays(1));
+            saveContainerCreatedAt("NewRestDocker", "172.17.1.4", LocalDateTime.now().plusDays(1));
+
+            // when
+            List<String> actual;
+            try (Stream<ContainerElements> containers = containerEntityRepository.streamContainer("testOAuthServiceId", null)) {
+                actual = containers.map(ContainerElements::getName).toList();
+            }
+
+            // then
+            Assertions.assertEquals(List.of("NewRestDocker", "RestDocker", "OldRestDocker"), actual);
+        }
+
+        private void saveContainerCreatedAt(String name, String privateIp, LocalDateTime createDate) {
+            ContainerEntity savedContainer = ContainerEntity.builder()
+                    .name(name)
+                    .image(image)
+                    .privateIp(privateIp)
+                    .status(ContainerStatusEnum.Running)
+                    .stopRm(false)
+                    .build();
+            savedContainer.setDateTimeForTest(createDate, createDate);
+            containerEntityRepository.save(savedContainer);
+        }
+
+        @Tag("domain")
+        @Test
+        @DisplayName("[Container][성공 테스트] -l 조건은 가장 마지막에 생성된 컨테이너 하나만 조회한다.")
+        void l_조건은_가장_마지막에_생성된_컨테이너_하나만_조회한다() {
+            // given
+            ContainerEntity latestContainer = ContainerEntity.builder()
+                    .name("LatestRestDocker")
+                    .image(image)
+                    .privateIp("172.17.1.3")
+                    .status(ContainerStatusEnum.Exited)
+                    .stopRm(false)
+                    .build();
+            latestContainer.setDateTimeForTest(LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(1));
+            containerEntityRepository.save(latestContainer);
+
+            // when
+            List<ContainerElements> actual = containerEntityRepository.lsContainer("testOAuthServiceId",
+                    ContainerLsFilter.builder().latest(true).build());
+
+            // then
+            Assertions.assertEquals(1, actual.size());
+            Assertions.assertEquals("LatestRestDocker", actual.get(0).getName());
+        }
     }
 
     @Nested
@@ -232,7 +425,7 @@ public class ContainerRepositoryTest extends RepositoryTest {
 
             // when
             boolean actual = containerEntityRepository
-                    .renameContainer(containerPk, postContainerName);
+                    .renameContainer("testOAuthServiceId", containerPk, postContainerName);
 
             // then
             Assertions.assertTrue(actual);
@@ -277,6 +470,133 @@ public class ContainerRepositoryTest extends RepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("[Container][성공/실패 테스트] docker run 에 필요한 계정 상태를 한번에 조회한다.")
+    class FindRunSnapshot {
+
+        private NetworkEntity bridgeNetwork;
+
+        @BeforeEach
+        void FindRunSnapshot() {
+            bridgeNetwork = saveNetwork("bridge", "172.17.0.0/16");
+            saveMapping(container, bridgeNetwork);
+
+            NetworkEntity otherNetwork = saveNetwork("otherNetwork", "172.18.0.0/16");
+            ContainerEntity otherContainer = ContainerEntity.builder()
+                    .name("OtherContainer")
+                    .image(image)
+                    .privateIp("172.18.0.2")
+                    .status(ContainerStatusEnum.Created)
+                    .stopRm(false)
+                    .build();
+            otherContainer.setDateTimeForTest(LocalDateTime.now(), LocalDateTime.now());
+            containerEntityRepository.save(otherContainer);
+            saveMapping(otherContainer, otherNetwork);
+        }
+
+        private NetworkEntity saveNetwork(String name, String subnet) {
+            NetworkEntity network = NetworkEntity.builder()
+                    .account(account)
+                    .name(name)
+                    .subnet(subnet)
+                    .enableIcc(true)
+                    .mtu(1500)
+                    .build();
+            network.setDateTimeForTest(LocalDateTime.now(), LocalDateTime.now());
+
+            return networkEntityRepository.save(network);
+        }
+
+        private void saveMapping(ContainerEntity mappedContainer, NetworkEntity network) {
+            NetworkContainerMappingEntity mapping = NetworkContainerMappingEntity.builder()
+                    .container(mappedContainer)
+                    .network(network)
+                    .build();
+            mapping.setDateTimeForTest(LocalDateTime.now(), LocalDateTime.now());
+
+            networkContainerMappingEntityRepository.save(mapping);
+        }
+
+        @Tag("domain")
+        @Test
+        @DisplayName("[Container][성공 테스트] 이미지, 네트워크와 계정의 컨테이너 이름, 외부 Port, 네트워크의 내부 IP 를 반환한다.")
+        void 이미지_네트워크와_계정의_컨테이너_이름_외부Port_네트워크의_내부IP를_반환한다() {
+            // given
+            String oauthServiceId = "testOAuthServiceId";
+
+            // when
+            ContainerRunSnapshot actual = containerEntityRepository
+                    .findRunSnapshot(oauthServiceId, "testImageName:testTag", "bridge");
+
+            // then
+            Assertions.assertEquals(image.getPk(), actual.getImage().getPk());
+            Assertions.assertEquals(bridgeNetwork.getPk(), actual.getNetwork().getPk());
+            assertThat(actual.getContainerNames()).containsExactlyInAnyOrder("RestDocker", "OtherContainer");
+            assertThat(actual.getOuterPorts()).containsExactly("18080");
+            assertThat(actual.getNetworkPrivateIps()).containsExactly("172.17.1.1");
+        }
+
+        @Tag("domain")
+        @Test
+        @DisplayName("[Container][성공 테스트] 이미지, 네트워크가 존재하지 않아도 계정의 컨테이너 정보는 반환한다.")
+        void 이미지_네트워크가_존재하지_않아도_계정의_컨테이너_정보는_반환한다() {
+            // given
+            String oauthServiceId = "testOAuthServiceId";
+
+            // when
+            ContainerRunSnapshot actual = containerEntityRepository
+                    .findRunSnapshot(oauthServiceId, "notExistImage", "notExistNetwork");
+
+            // then
+            Assertions.assertNull(actual.getImage());
+            Assertions.assertNull(actual.getNetwork());
+            assertThat(actual.getContainerNames()).containsExactlyInAnyOrder("RestDocker", "OtherContainer");
+            Assertions.assertTrue(actual.getNetworkPrivateIps().isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("[Container][성공 테스트] 상태별 컨테이너 수와 사용자 수를 집계한다.")
+    class CountByStatus {
+
+        @Tag("domain")
+        @Test
+        @DisplayName("[Container][성공 테스트] 상태별로 컨테이너 수와 해당 상태의 컨테이너를 가진 사용자 수를 반환한다.")
+        void 상태별로_컨테이너_수와_해당_상태의_컨테이너를_가진_사용자_수를_반환한다() {
+            // given
+            ContainerEntity otherContainer = ContainerEntity.builder()
+                    .name("OtherContainer")
+                    .image(image)
+                    .privateIp("172.17.1.2")
+                    .status(ContainerStatusEnum.Running)
+                    .stopRm(false)
+                    .build();
+            otherContainer.setDateTimeForTest(LocalDateTime.now(), LocalDateTime.now());
+            containerEntityRepository.save(otherContainer);
+
+            ContainerEntity exitedContainer = ContainerEntity.builder()
+                    .name("ExitedContainer")
+                    .image(image)
+                    .privateIp("172.17.1.3")
+                    .status(ContainerStatusEnum.Exited)
+                    .stopRm(false)
+                    .build();
+            exitedContainer.setDateTimeForTest(LocalDateTime.now(), LocalDateTime.now());
+            containerEntityRepository.save(exitedContainer);
+
+            // when
+            List<ContainerStatusCount> actual = containerEntityRepository.countByStatus();
+
+            // then
+            assertThat(actual)
+                    .extracting(ContainerStatusCount::getStatus, ContainerStatusCount::getContainers, ContainerStatusCount::getAccounts)
+                    .containsExactlyInAnyOrder(
+                            tuple(ContainerStatusEnum.Running, 2L, 1L),
+                            tuple(ContainerStatusEnum.Exited, 1L, 1L)
+                    );
+        }
+    }
+
     @Nested
     @DisplayName("[Container][성공/실패 테스트] OAuthServiceId와 ContainerName으로 Container를 반환한다.")
     class FindContainerByOAuthServiceAndContainerName {
@@ -340,7 +660,7 @@ public class ContainerRepositoryTest extends RepositoryTest {
 
             // when
             long actual = containerEntityRepository
-                    .updateContainerStatus(containerPk, containerStatus);
+                    .updateContainerStatus("testOAuthServiceId", containerPk, containerStatus);
 
             // then
             Assertions.assertEquals(1L, actual);
@@ -356,7 +676,7 @@ public class ContainerRepositoryTest extends RepositoryTest {
 
             // when
             long actual = containerEntityRepository
-                    .updateContainerStatus(containerPk, containerStatus);
+                    .updateContainerStatus("testOAuthServiceId", containerPk, containerStatus);
 
             // then
             Assertions.assertEquals(0L, actual);
@@ -376,12 +696,29 @@ public class ContainerRepositoryTest extends RepositoryTest {
 
             // when
             boolean actual = containerEntityRepository
-                    .rmContainer(containerPk);
+                    .rmContainer("testOAuthServiceId", containerPk);
 
             // then
             Assertions.assertTrue(actual);
         }
 
+        @Tag("domain")
+        @Test
+        @DisplayName("[Container][성공 테스트] 삭제 후에는 캐시된 컨테이너 목록이 아닌 DB 를 다시 조회한다.")
+        void 삭제_후에는_캐시된_컨테이너_목록이_아닌_DB_를_다시_조회한다() {
+            // given
+            String oauthServiceId = "testOAuthServiceId";
+            List<ContainerElements> cachedContainers = containerEntityRepository.lsContainer(oauthServiceId);
+
+            // when
+            containerEntityRepository.rmContainer(oauthServiceId, container.getPk());
+            List<ContainerElements> actual = containerEntityRepository.lsContainer(oauthServiceId);
+
+            // then
+            Assertions.assertEquals(1, cachedContainers.size());
+            Assertions.assertTrue(actual.isEmpty());
+        }
+
         @Tag("domain")
         @Test
         @DisplayName("[Container][실패 테스트] 데이터가 DB에 존재하지않아 삭제에 실패한다.")
@@ -391,10 +728,47 @@ public class ContainerRepositoryTest extends RepositoryTest {
 
             // when
             boolean actual = containerEntityRepository
-                    .rmContainer(containerPk);
+                    .rmContainer("testOAuthServiceId", containerPk);
 
             // then
             Assertions.assertFalse(actual);
         }
     }
+
+    @Nested
+    @DisplayName("[Container][실패 테스트] 사용자 안에서 컨테이너 이름은 유일하다.")
+    class UniqueContainerName {
+
+        @Tag("domain")
+        @Test
+        @DisplayName("[Container][실패 테스트] 다른 이미지로 만들어도 같은 사용자의 같은 이름 컨테이너는 저장에 실패한다.")
+        void 다른_이미지로_만들어도_같은_사용자의_같은_이름_컨테이너는_저장에_실패한다() {
+            // given
+            ImageEntity otherImage = ImageEntity.builder()
+                    .name("otherImageName")
+                    .os("testOs")
+                    .architecture("testArchitecture")
+                    .tag("testTag")
+                    .size("testSize")
+                    .account(account)
+                    .build();
+            otherImage.setDateTimeForTest(LocalDateTime.now(), LocalDateTime.now());
+            imageEntityRepository.save(otherImage);
+
+            ContainerEntity duplicatedContainer = ContainerEntity.builder()
+                    .name("RestDocker")
+                    .image(otherImage)
+                    .privateIp("172.17.1.2")
+                    .status(ContainerStatusEnum.Created)
+                    .stopRm(false)
+                    .build();
+            duplicatedContainer.setDateTimeForTest(LocalDateTime.now(), LocalDateTime.now());
+
+            // when && then
+            Assertions.assertThrows(
+                    DataIntegrityViolationException.class,
+                    () -> containerEntityRepository.saveAndFlush(duplicatedContainer)
+            );
+        }
+    }
 }
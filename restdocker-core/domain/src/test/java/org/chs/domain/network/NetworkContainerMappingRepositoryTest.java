@@ -13,6 +13,7 @@ import org.chs.domain.network.entity.NetworkContainerMappingEntity;
 import org.chs.domain.network.entity.NetworkEntity;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -170,4 +171,37 @@ public class NetworkContainerMappingRepositoryTest extends RepositoryTest {
             Assertions.assertEquals(List.of(), actual);
         }
     }
+
+    @Nested
+    @DisplayName("[NetworkContainerMapping][실패 테스트] 네트워크 안에서 내부 IP 는 유일하다.")
+    class UniquePrivateIp {
+
+        @Tag("domain")
+        @Test
+        @DisplayName("[NetworkContainerMapping][실패 테스트] 같은 네트워크에 같은 IP 의 컨테이너를 연결하면 저장에 실패한다.")
+        void 같은_네트워크에_같은_IP_의_컨테이너를_연결하면_저장에_실패한다() {
+            // given
+            ContainerEntity duplicatedIpContainer = ContainerEntity.builder()
+                    .name("OtherRestDocker")
+                    .image(image)
+                    .privateIp("172.17.1.1")
+                    .status(ContainerStatusEnum.Created)
+                    .stopRm(false)
+                    .build();
+            duplicatedIpContainer.setDateTimeForTest(LocalDateTime.now(), LocalDateTime.now());
+            containerEntityRepository.save(duplicatedIpContainer);
+
+            NetworkContainerMappingEntity duplicatedIpMapping = NetworkContainerMappingEntity.builder()
+                    .container(duplicatedIpContainer)
+                    .network(network)
+                    .build();
+            duplicatedIpMapping.setDateTimeForTest(LocalDateTime.now(), LocalDateTime.now());
+
+            // when && then
+            Assertions.assertThrows(
+                    DataIntegrityViolationException.class,
+                    () -> networkContainerMappingRepository.saveAndFlush(duplicatedIpMapping)
+            );
+        }
+    }
 }
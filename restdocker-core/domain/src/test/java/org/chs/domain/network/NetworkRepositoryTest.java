@@ -5,8 +5,13 @@ import org.chs.domain.account.entity.AccountEntity;
 import org.chs.domain.common.enumerate.ThirdPartyEnum;
 import org.chs.domain.common.structure.RepositoryTest;
 import org.chs.domain.container.ContainerEntityRepository;
+import org.chs.domain.container.entity.ContainerEntity;
+import org.chs.domain.container.enumerate.ContainerStatusEnum;
+import org.chs.domain.image.ImageEntityRepository;
+import org.chs.domain.image.entity.ImageEntity;
 import org.chs.domain.network.dto.NetworkDetailElements;
 import org.chs.domain.network.dto.NetworkElements;
+import org.chs.domain.network.entity.NetworkContainerMappingEntity;
 import org.chs.domain.network.entity.NetworkEntity;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,6 +36,9 @@ public class NetworkRepositoryTest extends RepositoryTest {
     @Autowired
     private AccountRepository accountRepository;
 
+    @Autowired
+    private ImageEntityRepository imageEntityRepository;
+
     private AccountEntity testAccount;
     private NetworkEntity testNetwork;
 
@@ -152,6 +160,68 @@ public class NetworkRepositoryTest extends RepositoryTest {
             assertThat(compareEntityToDto(testNetwork, actual));
         }
 
+        @Tag("domain")
+        @Test
+        @DisplayName("[Network][성공 테스트] Inspect Network - 해당 네트워크에 연결된 컨테이너만 함께 조회한다.")
+        void 해당_네트워크에_연결된_컨테이너만_함께_조회한다() {
+            // given
+            ImageEntity image = ImageEntity.builder()
+                    .name("testImageName")
+                    .os("testOs")
+                    .architecture("testArchitecture")
+                    .tag("testTag")
+                    .size("testSize")
+                    .account(testAccount)
+                    .build();
+            image.setDateTimeForTest(LocalDateTime.now(), LocalDateTime.now());
+            imageEntityRepository.save(image);
+
+            ContainerEntity attachedContainer = saveContainer("attachedContainer", "172.17.0.2", image);
+            saveContainer("detachedContainer", "172.18.0.2", image);
+
+            NetworkContainerMappingEntity mapping = NetworkContainerMappingEntity.builder()
+                    .container(attachedContainer)
+                    .network(testNetwork)
+                    .build();
+            mapping.setDateTimeForTest(LocalDateTime.now(), LocalDateTime.now());
+            networkContainerMappingEntityRepository.save(mapping);
+
+            // when
+            NetworkDetailElements actual = networkEntityRepository
+                    .inspectNetwork(testAccount.getOauthServiceId(), testNetwork.getName());
+
+            // then
+            Assertions.assertEquals(testNetwork.getName(), actual.getName());
+            Assertions.assertEquals(1, actual.getContainerInfo().size());
+            Assertions.assertEquals("attachedContainer", actual.getContainerInfo().get(0).getName());
+            Assertions.assertEquals("172.17.0.2", actual.getContainerInfo().get(0).getPrivateIp());
+            Assertions.assertEquals("testImageName", actual.getContainerInfo().get(0).getImageName());
+        }
+
+        @Tag("domain")
+        @Test
+        @DisplayName("[Network][성공 테스트] Inspect Network - 연결된 컨테이너가 없다면 비어있는 컨테이너 목록을 반환한다.")
+        void 연결된_컨테이너가_없다면_비어있는_컨테이너_목록을_반환한다() {
+            // when
+            NetworkDetailElements actual = networkEntityRepository
+                    .inspectNetwork(testAccount.getOauthServiceId(), testNetwork.getName());
+
+            // then
+            Assertions.assertEquals(List.of(), actual.getContainerInfo());
+        }
+
+        private ContainerEntity saveContainer(String name, String privateIp, ImageEntity image) {
+            ContainerEntity container = ContainerEntity.builder()
+                    .name(name)
+                    .image(image)
+                    .privateIp(privateIp)
+                    .status(ContainerStatusEnum.Running)
+                    .stopRm(false)
+                    .build();
+            container.setDateTimeForTest(LocalDateTime.now(), LocalDateTime.now());
+            return containerEntityRepository.save(container);
+        }
+
         @Tag("domain")
         @Test
         @DisplayName("[Network][실패 테스트] Inspect Network - OAuthServiceId이 Null인 경우 조회에 실패한다.")
@@ -1,8 +1,10 @@
 package org.chs.tokenissuer.application;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.interfaces.Claim;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import org.chs.globalutils.dto.TokenDto;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +22,10 @@ public class TokenIssuerService {
     private Map<String, Object> header;
     private final JwtProperties jwtProperties;
 
+    // Algorithm 과 JWTVerifier 는 thread-safe 하므로 처음 사용할 때 한번만 만들어 재사용한다.
+    private volatile Algorithm algorithm;
+    private volatile JWTVerifier jwtVerifier;
+
     @PostConstruct
     public void initialize() {
         header = new HashMap<>();
@@ -46,13 +52,34 @@ public class TokenIssuerService {
                 .withClaim("oauthServiceId", oauthServiceId)
                 .withClaim("nickname", nickname)
                 .withExpiresAt(new Date(System.currentTimeMillis() + expiredDate))
-                .sign(Algorithm.HMAC512(jwtProperties.getSECRET_KEY()));
+                .sign(getAlgorithm());
     }
 
     public Map<String, Claim> verifyRefreshToken(String requestRefreshToken) {
-        return JWT.require(Algorithm.HMAC512(jwtProperties.getSECRET_KEY()))
-                .build()
-                .verify(requestRefreshToken)
-                .getClaims();
+        return verifyToken(requestRefreshToken).getClaims();
+    }
+
+    /**
+     * 서명과 만료시간을 검증한다.
+     * 검증에 실패하면 JWTVerificationException (TokenExpiredException, SignatureVerificationException 등) 을 내보낸다.
+     */
+    public DecodedJWT verifyToken(String token) {
+        JWTVerifier verifier = jwtVerifier;
+        if (null == verifier) {
+            verifier = JWT.require(getAlgorithm()).build();
+            jwtVerifier = verifier;
+        }
+
+        return verifier.verify(token);
+    }
+
+    private Algorithm getAlgorithm() {
+        Algorithm hmac512 = algorithm;
+        if (null == hmac512) {
+            hmac512 = Algorithm.HMAC512(jwtProperties.getSECRET_KEY());
+            algorithm = hmac512;
+        }
+
+        return hmac512;
     }
 }